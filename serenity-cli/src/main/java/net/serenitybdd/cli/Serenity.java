@@ -72,6 +72,11 @@ public class Serenity {
             metaVar = "<string>")
     String tags;
 
+    @Option(name = "--reports",
+            usage = "Comma-separated list of extended reports to generate (e.g. single-page-html), if they are on the classpath",
+            metaVar = "<string>")
+    String reports;
+
 
     private final PrintWriter printWriter;
 
@@ -111,7 +116,7 @@ public class Serenity {
                 (project != null) ? project : workingDirectoryName(),
                 issueTrackerUrl,
                 jiraUrl, jiraProject, jiraUsername, jiraPassword, jiraWorkflowActive, jiraWorkflow,
-                requirementsDirectory.toAbsolutePath().toFile().toString(), tags);
+                requirementsDirectory.toAbsolutePath().toFile().toString(), tags, reports);
 
         reporter.execute();
 
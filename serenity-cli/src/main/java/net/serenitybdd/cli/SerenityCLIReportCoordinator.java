@@ -1,6 +1,7 @@
 package net.serenitybdd.cli;
 
 import net.serenitybdd.cli.reporters.CLIAggregateReportGenerator;
+import net.serenitybdd.cli.reporters.CLIExtendedReportGenerator;
 import net.serenitybdd.cli.reporters.CLIIssueTrackerUpdater;
 import net.serenitybdd.cli.reporters.CLIReportGenerator;
 
@@ -29,6 +30,23 @@ public class SerenityCLIReportCoordinator {
                                         String jiraWorkflow,
                                         String requirementsDirectory,
                                         String tags) {
+        this(sourceDirectory, destinationDirectory, project, issueTrackerUrl, jiraUrl, jiraProject, jiraUsername,
+                jiraPassword, jiraWorkflowActive, jiraWorkflow, requirementsDirectory, tags, null);
+    }
+
+    public SerenityCLIReportCoordinator(Path sourceDirectory,
+                                        Path destinationDirectory,
+                                        String project,
+                                        String issueTrackerUrl,
+                                        String jiraUrl,
+                                        String jiraProject,
+                                        String jiraUsername,
+                                        String jiraPassword,
+                                        String jiraWorkflowActive,
+                                        String jiraWorkflow,
+                                        String requirementsDirectory,
+                                        String tags,
+                                        String reports) {
         this.sourceDirectory = sourceDirectory;
         this.destinationDirectory = destinationDirectory;
 
@@ -36,6 +54,7 @@ public class SerenityCLIReportCoordinator {
                 new CLIAggregateReportGenerator(sourceDirectory, destinationDirectory, project, issueTrackerUrl,
                         jiraUrl, jiraProject, jiraUsername, jiraPassword,
                         requirementsDirectory, tags),
+                new CLIExtendedReportGenerator(destinationDirectory, reports),
                 new CLIIssueTrackerUpdater(jiraWorkflow, jiraWorkflowActive)
         ));
     }
@@ -0,0 +1,45 @@
+package net.serenitybdd.cli.reporters;
+
+import com.google.common.base.Splitter;
+import net.thucydides.core.reports.ExtendedReport;
+import net.thucydides.core.reports.ExtendedReports;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Generates the extended reports (such as the single page HTML summary) named on the command line,
+ * from test outcomes that are loaded once and shared between the reports.
+ */
+public class CLIExtendedReportGenerator implements CLIReportGenerator {
+
+    private final Path destinationDirectory;
+    private final String reports;
+
+    public CLIExtendedReportGenerator(Path destinationDirectory, String reports) {
+        this.destinationDirectory = destinationDirectory;
+        this.reports = reports;
+    }
+
+    @Override
+    public void generateReportsFrom(Path sourceDirectory) throws IOException {
+        if (isBlank(reports)) {
+            return;
+        }
+        List<String> extendedReportTypes = Splitter.on(",").trimResults().omitEmptyStrings().splitToList(reports);
+        List<ExtendedReport> extendedReports = ExtendedReports.named(extendedReportTypes);
+        extendedReports.forEach(
+                report -> {
+                    report.setSourceDirectory(sourceDirectory);
+                    report.setOutputDirectory(destinationDirectory);
+                }
+        );
+        List<Path> generatedReports = ExtendedReports.generateAllFrom(extendedReports, sourceDirectory);
+        for (int i = 0; i < extendedReports.size(); i++) {
+            System.out.println("  - " + extendedReports.get(i).getDescription() + ": " + generatedReports.get(i).toUri());
+        }
+    }
+}
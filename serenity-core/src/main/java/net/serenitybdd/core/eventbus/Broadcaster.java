@@ -2,6 +2,8 @@ package net.serenitybdd.core.eventbus;
 
 import com.google.common.eventbus.EventBus;
 
+import java.util.Optional;
+
 public class Broadcaster {
 
     static private ThreadLocal<EventBus> eventBusThreadLocal = new ThreadLocal<>();
@@ -17,4 +19,22 @@ public class Broadcaster {
         eventBusThreadLocal.remove();
     }
 
+    /**
+     * The event bus of the current thread, if it has one, without creating a new one.
+     */
+    public static Optional<EventBus> eventBusOfCurrentThread() {
+        return Optional.ofNullable(eventBusThreadLocal.get());
+    }
+
+    /**
+     * Use the given event bus in the current thread, or a new one the next time it is needed if the event bus is null.
+     */
+    public static void useEventBus(EventBus eventBus) {
+        if (eventBus == null) {
+            eventBusThreadLocal.remove();
+        } else {
+            eventBusThreadLocal.set(eventBus);
+        }
+    }
+
 }
@@ -227,10 +227,8 @@ public class WebElementFacadeImpl implements WebElementFacade, net.thucydides.co
         WebElement nestedElement;
         if (driverIsDisabled()) {
             nestedElement = this;
-        } else if (isXPath(xpathOrCssSelector)) {
-            nestedElement = getElement().findElement((By.xpath(xpathOrCssSelector)));
         } else {
-            nestedElement = getElement().findElement((By.cssSelector(xpathOrCssSelector)));
+            nestedElement = getElement().findElement(xpathOrCss(xpathOrCssSelector));
         }
 
         return wrapWebElement(driver, nestedElement, timeoutInMilliseconds(), waitForTimeoutInMilliseconds, "element located by " + xpathOrCssSelector);
@@ -257,12 +255,7 @@ public class WebElementFacadeImpl implements WebElementFacade, net.thucydides.co
             return new ListOfWebElementFacades(new ArrayList<>());
         }
 
-        List<WebElement> nestedElements;
-        if (isXPath(xpathOrCssSelector)) {
-            nestedElements = findElements((By.xpath(xpathOrCssSelector)));
-        } else {
-            nestedElements = findElements((By.cssSelector(xpathOrCssSelector)));
-        }
+        List<WebElement> nestedElements = findElements(xpathOrCss(xpathOrCssSelector));
 
         return webElementFacadesFrom(nestedElements);
     }
@@ -271,6 +264,10 @@ public class WebElementFacadeImpl implements WebElementFacade, net.thucydides.co
         return thenFindAll(withArguments(xpathOrCssSelector, arguments));
     }
 
+    private By xpathOrCss(String xpathOrCssSelector) {
+        return isXPath(xpathOrCssSelector) ? By.xpath(xpathOrCssSelector) : By.cssSelector(xpathOrCssSelector);
+    }
+
     private ListOfWebElementFacades webElementFacadesFrom(List<WebElement> nestedElements) {
         List<WebElementFacade> results = new ArrayList<>();
         for (WebElement element : nestedElements) {
@@ -0,0 +1,48 @@
+package net.serenitybdd.core.parallel;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors for tasks that are started from within a test, such as Screenplay tasks performed in parallel.
+ * When the JVM supports virtual threads (Java 21 and later), tasks run on virtual threads, so that a test can start
+ * many concurrent tasks cheaply. On older JVMs, or if virtual threads are disabled, tasks run on platform threads.
+ * Either way, no more than the given number of tasks run at the same time.
+ */
+public class TaskExecutors {
+
+    private static final Optional<ThreadFactory> VIRTUAL_THREAD_FACTORY = virtualThreadFactory();
+
+    private TaskExecutors() {}
+
+    public static boolean virtualThreadsAreSupported() {
+        return VIRTUAL_THREAD_FACTORY.isPresent();
+    }
+
+    /**
+     * @param useVirtualThreads use virtual threads if the JVM supports them
+     * @param maxParallelTasks the maximum number of tasks that can run at the same time
+     */
+    public static ExecutorService newTaskExecutor(boolean useVirtualThreads, int maxParallelTasks) {
+        if (useVirtualThreads && VIRTUAL_THREAD_FACTORY.isPresent()) {
+            return Executors.newFixedThreadPool(maxParallelTasks, VIRTUAL_THREAD_FACTORY.get());
+        }
+        return Executors.newFixedThreadPool(maxParallelTasks);
+    }
+
+    /**
+     * The build targets Java 11, so virtual threads are looked up at runtime rather than called directly.
+     */
+    private static Optional<ThreadFactory> virtualThreadFactory() {
+        try {
+            Object virtualThreadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return Optional.of((ThreadFactory) factory.invoke(virtualThreadBuilder));
+        } catch (ReflectiveOperationException | RuntimeException virtualThreadsNotAvailable) {
+            return Optional.empty();
+        }
+    }
+}
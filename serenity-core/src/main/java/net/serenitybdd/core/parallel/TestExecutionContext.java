@@ -0,0 +1,126 @@
+package net.serenitybdd.core.parallel;
+
+import com.google.common.eventbus.EventBus;
+import net.serenitybdd.core.Serenity;
+import net.serenitybdd.core.eventbus.Broadcaster;
+import net.serenitybdd.core.photography.DarkroomFileSystem;
+import net.serenitybdd.core.photography.PhotoSession;
+import net.serenitybdd.core.photography.ScreenshotPhoto;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepInterceptor;
+import net.thucydides.core.steps.session.TestSession;
+import net.thucydides.core.steps.session.TestSessionContext;
+
+import java.nio.file.FileSystem;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * The per-test state that a task needs when it runs on a different thread from the test that started it.
+ * Serenity keeps most test state in thread-local variables, so a context is captured on the test thread and then
+ * explicitly attached to the thread that runs each task, for the duration of that task only. Whatever state the
+ * thread had before the task is restored afterwards, so tasks can run on short-lived virtual threads or on reused
+ * pool threads without leaking state from one task to another.
+ * <p>
+ * Tasks report their events through the step event bus, Cucumber test session and event broadcaster of the test that
+ * started them, and share its screenshot file system and expected exception type. Each task gets its own copy of
+ * the session variables of the test, so the steps of each actor are still recorded separately by the {@link Agency}.
+ */
+public class TestExecutionContext {
+
+    private final ThreadState testState;
+
+    private TestExecutionContext(ThreadState testState) {
+        this.testState = testState;
+    }
+
+    /**
+     * Capture the context of the test running in the current thread.
+     */
+    public static TestExecutionContext ofCurrentTest() {
+        ThreadState testState = ThreadState.ofCurrentThread();
+        testState.sessionVariables.remove(Agent.IN_THE_CURRENT_SESSION);
+        return new TestExecutionContext(testState);
+    }
+
+    public Runnable propagateTo(Runnable task) {
+        return () -> {
+            ThreadState previousState = ThreadState.ofCurrentThread();
+            testState.attachToCurrentThread();
+            try {
+                task.run();
+            } finally {
+                previousState.attachToCurrentThread();
+            }
+        };
+    }
+
+    public <T> Callable<T> propagateTo(Callable<T> task) {
+        return () -> {
+            ThreadState previousState = ThreadState.ofCurrentThread();
+            testState.attachToCurrentThread();
+            try {
+                return task.call();
+            } finally {
+                previousState.attachToCurrentThread();
+            }
+        };
+    }
+
+    /**
+     * The thread-local test state of a thread.
+     */
+    private static class ThreadState {
+        private final Map<Object, Object> sessionVariables;
+        private final Optional<StepEventBus> stepEventBus;
+        private final TestSessionContext testSessionContext;
+        private final Optional<EventBus> broadcaster;
+        private final Optional<FileSystem> darkroomFileSystem;
+        private final Optional<ScreenshotPhoto> previousScreenshot;
+        private final long previousScreenshotTimestamp;
+        private final Optional<Class> expectedExceptionType;
+
+        private ThreadState(Map<Object, Object> sessionVariables,
+                            Optional<StepEventBus> stepEventBus,
+                            TestSessionContext testSessionContext,
+                            Optional<EventBus> broadcaster,
+                            Optional<FileSystem> darkroomFileSystem,
+                            Optional<ScreenshotPhoto> previousScreenshot,
+                            long previousScreenshotTimestamp,
+                            Optional<Class> expectedExceptionType) {
+            this.sessionVariables = sessionVariables;
+            this.stepEventBus = stepEventBus;
+            this.testSessionContext = testSessionContext;
+            this.broadcaster = broadcaster;
+            this.darkroomFileSystem = darkroomFileSystem;
+            this.previousScreenshot = previousScreenshot;
+            this.previousScreenshotTimestamp = previousScreenshotTimestamp;
+            this.expectedExceptionType = expectedExceptionType;
+        }
+
+        static ThreadState ofCurrentThread() {
+            return new ThreadState(new HashMap<>(Serenity.getCurrentSession()),
+                    StepEventBus.eventBusOfCurrentThread(),
+                    TestSession.getTestSessionContext(),
+                    Broadcaster.eventBusOfCurrentThread(),
+                    DarkroomFileSystem.ofCurrentThread(),
+                    PhotoSession.getPreviousScreenshot(),
+                    PhotoSession.getPreviousScreenshotTimestamp(),
+                    StepInterceptor.getExpectedExceptionType());
+        }
+
+        void attachToCurrentThread() {
+            Serenity.getCurrentSession().clear();
+            Serenity.getCurrentSession().putAll(sessionVariables);
+            StepEventBus.overrideEventBusWith(stepEventBus.orElse(null));
+            TestSession.useTestSessionContext(testSessionContext);
+            Broadcaster.useEventBus(broadcaster.orElse(null));
+            DarkroomFileSystem.use(darkroomFileSystem.orElse(null));
+            PhotoSession.setPreviousScreenshot(previousScreenshot.orElse(null), previousScreenshotTimestamp);
+            expectedExceptionType.ifPresentOrElse(StepInterceptor::setExpectedExceptionType,
+                                                  StepInterceptor::resetExpectedExceptionType);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.FileSystem;
+import java.util.Optional;
 
 public class DarkroomFileSystem {
     private static ThreadLocal<FileSystem> fileSystemThreadLocal = new ThreadLocal<>();
@@ -22,4 +23,22 @@ public class DarkroomFileSystem {
     public static void close() {
         fileSystemThreadLocal.remove();
     }
+
+    /**
+     * The file system of the current thread, if it has one, without creating a new one.
+     */
+    public static Optional<FileSystem> ofCurrentThread() {
+        return Optional.ofNullable(fileSystemThreadLocal.get());
+    }
+
+    /**
+     * Use the given file system in the current thread, or a new one the next time it is needed if the file system is null.
+     */
+    public static void use(FileSystem fileSystem) {
+        if (fileSystem == null) {
+            fileSystemThreadLocal.remove();
+        } else {
+            fileSystemThreadLocal.set(fileSystem);
+        }
+    }
 }
@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import static net.serenitybdd.core.photography.ScreenshotNegative.prepareNegativeIn;
 
@@ -110,4 +111,29 @@ public class PhotoSession {
     private Path screenshotPathFor(byte[] screenshotData) {
         return outputDirectory.resolve(filenameFor(screenshotData));
     }
+
+    /**
+     * The screenshot most recently taken in the current thread, if any.
+     */
+    public static Optional<ScreenshotPhoto> getPreviousScreenshot() {
+        return Optional.ofNullable(previousScreenshot.get());
+    }
+
+    public static long getPreviousScreenshotTimestamp() {
+        return previousScreenshotTimestamp.get();
+    }
+
+    /**
+     * Record the screenshot most recently taken for the test running in the current thread, and when it was taken.
+     * A null screenshot means that no screenshot has been taken yet.
+     */
+    public static void setPreviousScreenshot(ScreenshotPhoto screenshot, long timestamp) {
+        if (screenshot == null) {
+            previousScreenshot.remove();
+            previousScreenshotTimestamp.remove();
+        } else {
+            previousScreenshot.set(screenshot);
+            previousScreenshotTimestamp.set(timestamp);
+        }
+    }
 }
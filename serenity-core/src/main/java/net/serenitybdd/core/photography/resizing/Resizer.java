@@ -8,25 +8,43 @@ import org.openqa.selenium.Dimension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 
 import static net.thucydides.model.ThucydidesSystemProperty.*;
 
 public class Resizer implements PhotoFilter {
 
+    /**
+     * Most screenshots of a test run have the same size, so each thread keeps the image it last resized into
+     * and draws the next resized screenshot of the same size into it.
+     */
+    private static final ThreadLocal<BufferedImage> RESIZED_IMAGE_BUFFER = new ThreadLocal<>();
+
     private final EnvironmentVariables environmentVariables;
 
     private final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
 
     public Resizer() {
-        this.environmentVariables = ConfiguredEnvironment.getEnvironmentVariables();
+        this(ConfiguredEnvironment.getEnvironmentVariables());
+    }
+
+    public Resizer(EnvironmentVariables environmentVariables) {
+        this.environmentVariables = environmentVariables;
     }
 
     @Override
@@ -47,20 +65,61 @@ public class Resizer implements PhotoFilter {
 
     private void saveResizedScreenshotTo(Path temporaryPath) throws IOException {
         BufferedImage resizedImage;
-        try (InputStream images = Files.newInputStream(temporaryPath)) {
-            BufferedImage image = ImageIO.read(images);
+        try (ImageInputStream input = ImageIO.createImageInputStream(temporaryPath.toFile())) {
+            ImageReader reader = imageReaderFor(input, temporaryPath);
+            try {
+                reader.setInput(input, true, true);
+
+                // The image size is read from the header, so images that already have the right size are not decoded
+                Dimension imageSize = new Dimension(reader.getWidth(0), reader.getHeight(0));
+                Dimension targetSize = targetSizeInProportionTo(imageSize);
+
+                if (imageSize.equals(targetSize)) {
+                    return;
+                }
+                resizedImage = resizeIntoBuffer(reader.read(0), targetSize.width, targetSize.height);
+            } finally {
+                reader.dispose();
+            }
+        }
+        writePng(resizedImage, temporaryPath);
+    }
 
-            Dimension imageSize = sizeOf(image);
-            Dimension targetSize = targetSizeInProportionTo(imageSize);
+    private ImageReader imageReaderFor(ImageInputStream input, Path imagePath) throws IOException {
+        Iterator<ImageReader> readers = (input == null) ? null : ImageIO.getImageReaders(input);
+        if (readers == null || !readers.hasNext()) {
+            throw new IOException("Could not read the screenshot image in " + imagePath);
+        }
+        return readers.next();
+    }
 
-            if (imageSize.equals(targetSize)) {
-                return;
-            }
-            resizedImage = resize(image, targetSize.width, targetSize.height);
+    private void writePng(BufferedImage image, Path path) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path));
+             ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), pngWriteParametersFor(writer));
+        } finally {
+            writer.dispose();
         }
-        try (OutputStream resizedImageStream = Files.newOutputStream(temporaryPath)) {
-            ImageIO.write(resizedImage, "png", resizedImageStream);
+    }
+
+    private ImageWriteParam pngWriteParametersFor(ImageWriter writer) {
+        ImageWriteParam parameters = writer.getDefaultWriteParam();
+        int compressionLevel = SERENITY_SCREENSHOT_PNG_COMPRESSION_LEVEL.integerFrom(environmentVariables, -1);
+        if (compressionLevel >= 0 && parameters.canWriteCompressed()) {
+            parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parameters.setCompressionQuality(compressionQualityFor(Math.min(compressionLevel, 9)));
         }
+        return parameters;
+    }
+
+    /**
+     * The PNG writer turns the compression quality back into a deflate level by truncation,
+     * so the quality is nudged down slightly to make sure it lands on the requested level.
+     */
+    private static float compressionQualityFor(int compressionLevel) {
+        return Math.max(0.0f, (9 - compressionLevel) / 9.0f - 0.01f);
     }
 
     private Dimension targetSizeInProportionTo(Dimension imageSize) {
@@ -69,13 +128,25 @@ public class Resizer implements PhotoFilter {
         return new Dimension(targetWidth, targetHeight);
     }
 
-    private Dimension sizeOf(BufferedImage image) {
-        return new Dimension(image.getData().getWidth(), image.getData().getHeight());
+    public static BufferedImage resize(BufferedImage image, int width, int height) {
+        return drawScaled(image, new BufferedImage(width, height, imageTypeOf(image)));
     }
 
-    public static BufferedImage resize(BufferedImage image, int width, int height) {
-        int type = image.getType() == 0 ? BufferedImage.TYPE_INT_ARGB : image.getType();
-        BufferedImage resizedImage = new BufferedImage(width, height, type);
+    private static BufferedImage resizeIntoBuffer(BufferedImage image, int width, int height) {
+        int type = imageTypeOf(image);
+        BufferedImage buffer = RESIZED_IMAGE_BUFFER.get();
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height || buffer.getType() != type) {
+            buffer = new BufferedImage(width, height, type);
+            RESIZED_IMAGE_BUFFER.set(buffer);
+        }
+        return drawScaled(image, buffer);
+    }
+
+    private static int imageTypeOf(BufferedImage image) {
+        return image.getType() == 0 ? BufferedImage.TYPE_INT_ARGB : image.getType();
+    }
+
+    private static BufferedImage drawScaled(BufferedImage image, BufferedImage resizedImage) {
         Graphics2D g = resizedImage.createGraphics();
         g.setComposite(AlphaComposite.Src);
 
@@ -88,7 +159,7 @@ public class Resizer implements PhotoFilter {
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
                 RenderingHints.VALUE_ANTIALIAS_ON);
 
-        g.drawImage(image, 0, 0, width, height, null);
+        g.drawImage(image, 0, 0, resizedImage.getWidth(), resizedImage.getHeight(), null);
         g.dispose();
         return resizedImage;
     }
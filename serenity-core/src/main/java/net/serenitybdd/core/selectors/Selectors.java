@@ -1,19 +1,67 @@
 package net.serenitybdd.core.selectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.openqa.selenium.By;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathFactory;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class Selectors {
 
+    /**
+     * The same selectors tend to be resolved many times in a test suite, so both the XPath/CSS classification
+     * and the resulting By objects (which are immutable) are kept in bounded caches.
+     */
+    private static final int MAX_CACHED_SELECTORS = 4096;
+
+    private static final Cache<String, Boolean> XPATH_CLASSIFICATIONS = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SELECTORS).build();
+
+    private static final Cache<String, By> SELECTOR_LOCATORS = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SELECTORS).build();
+
+    /**
+     * XPath objects are not thread-safe, but creating one involves a costly XPathFactory lookup.
+     */
+    private static final ThreadLocal<XPath> XPATH_COMPILER = ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+
     public static boolean isXPath(String xpathExpression) {
-        XPathFactory factory = XPathFactory.newInstance();
-        XPath xpath = factory.newXPath();
+        if (xpathExpression == null) {
+            return false;
+        }
+        Boolean isXPath = XPATH_CLASSIFICATIONS.getIfPresent(xpathExpression);
+        if (isXPath == null) {
+            isXPath = !isObviouslyCss(xpathExpression) && compilesAsXPath(xpathExpression);
+            XPATH_CLASSIFICATIONS.put(xpathExpression, isXPath);
+        }
+        return isXPath;
+    }
+
+    /**
+     * No XPath expression can start with '#', '[' or ':', or with a '.' directly followed by a name
+     * (as in a CSS class selector), so these can be recognised without compiling them.
+     */
+    private static boolean isObviouslyCss(String selector) {
+        String trimmedSelector = selector.trim();
+        if (trimmedSelector.isEmpty()) {
+            return false;
+        }
+        char firstCharacter = trimmedSelector.charAt(0);
+        if (firstCharacter == '#' || firstCharacter == '[' || firstCharacter == ':') {
+            return true;
+        }
+        return firstCharacter == '.'
+                && trimmedSelector.length() > 1
+                && (Character.isLetter(trimmedSelector.charAt(1)) || trimmedSelector.charAt(1) == '_' || trimmedSelector.charAt(1) == '-');
+    }
+
+    private static boolean compilesAsXPath(String xpathExpression) {
         try {
-            xpath.compile(xpathExpression);
+            XPATH_COMPILER.get().compile(xpathExpression);
         } catch (Exception e) {
             return false;
         }
@@ -29,6 +77,36 @@ public class Selectors {
     }
 
     public static By xpathOrCssSelector(String xpathOrCssSelector) {
+        By locator = SELECTOR_LOCATORS.getIfPresent(xpathOrCssSelector);
+        if (locator == null) {
+            locator = locatorFor(xpathOrCssSelector);
+            SELECTOR_LOCATORS.put(xpathOrCssSelector, locator);
+        }
+        return locator;
+    }
+
+    /**
+     * A single locator matching the elements of any of the given selectors, so that the presence of any of them
+     * can be checked in one call to the browser. This is only possible if the selectors are all CSS (combined
+     * into a selector group) or all XPath (combined into a union), and do not use explicit prefixes.
+     * Note that the combined locator returns matching elements in document order, not selector order.
+     */
+    public static Optional<By> combinedXPathOrCssSelector(String... xpathOrCssSelectors) {
+        if (xpathOrCssSelectors.length == 0 || Arrays.stream(xpathOrCssSelectors).anyMatch(Selectors::hasPrefix)) {
+            return Optional.empty();
+        }
+        if (Arrays.stream(xpathOrCssSelectors).allMatch(Selectors::isXPath)) {
+            return Optional.of(By.xpath(Arrays.stream(xpathOrCssSelectors)
+                    .map(selector -> "(" + selector + ")")
+                    .collect(Collectors.joining(" | "))));
+        }
+        if (Arrays.stream(xpathOrCssSelectors).noneMatch(Selectors::isXPath)) {
+            return Optional.of(By.cssSelector(String.join(", ", xpathOrCssSelectors)));
+        }
+        return Optional.empty();
+    }
+
+    private static By locatorFor(String xpathOrCssSelector) {
         if (hasPrefix(xpathOrCssSelector)) {
             return SELECTORS.get(prefixOf(xpathOrCssSelector)).apply(xpathOrCssSelector);
         }
@@ -0,0 +1,298 @@
+package net.serenitybdd.core.webdriver.browserpools;
+
+import net.thucydides.model.util.EnvironmentVariables;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of started browsers, so that tests do not need to wait for a new browser to start.
+ * <p>
+ * Browsers are pooled by key (typically the driver type and its options). When a test releases a browser,
+ * it is cleaned up and kept for the next test that asks for the same kind of browser, unless the pool is full
+ * or the browser has been used for too many tests. Idle browsers are checked before they are handed out again,
+ * and are closed if they do not respond or have been idle for too long.
+ */
+public class BrowserPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserPool.class);
+
+    private final int maxIdleBrowsers;
+    private final int maxReuse;
+    private final long maxIdleNanos;
+    private final LongSupplier nanoClock;
+    private final EnvironmentVariables environmentVariables;
+
+    private final Map<String, Deque<PooledBrowser>> idleBrowsers = new HashMap<>();
+    private final Map<WebDriver, PooledBrowser> browsersInUse = new ConcurrentHashMap<>();
+    private final Set<String> warmedUpKeys = new HashSet<>();
+    private int idleBrowserCount;
+    private boolean closed;
+    private ExecutorService warmUpExecutor;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder browsersReused = new LongAdder();
+    private final LongAdder browsersStarted = new LongAdder();
+    private final LongAdder browsersDiscarded = new LongAdder();
+    private final LongAdder totalAcquisitionNanos = new LongAdder();
+    private final AtomicLong maxAcquisitionNanos = new AtomicLong();
+
+    /**
+     * @param environmentVariables the configuration that released browsers are restored to (implicit wait and window size)
+     */
+    public BrowserPool(int maxIdleBrowsers, int maxReuse, Duration maxIdleTime, EnvironmentVariables environmentVariables) {
+        this(maxIdleBrowsers, maxReuse, maxIdleTime, environmentVariables, System::nanoTime);
+    }
+
+    BrowserPool(int maxIdleBrowsers, int maxReuse, Duration maxIdleTime, EnvironmentVariables environmentVariables, LongSupplier nanoClock) {
+        this.maxIdleBrowsers = maxIdleBrowsers;
+        this.maxReuse = Math.max(1, maxReuse);
+        this.maxIdleNanos = maxIdleTime.toNanos();
+        this.environmentVariables = environmentVariables;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns a healthy idle browser for this key if there is one, or starts a new one otherwise.
+     * The browser must be handed back to the pool with {@link #release(WebDriver)} rather than closed.
+     */
+    public WebDriver acquire(String key, Supplier<WebDriver> newBrowser) {
+        return acquire(key, newBrowser, browser -> {});
+    }
+
+    /**
+     * @param afterQuitting called once the pool has closed a browser started by {@code newBrowser}, so that anything
+     *                      set up along with the browser can be shut down at the same time
+     */
+    public WebDriver acquire(String key, Supplier<WebDriver> newBrowser, Consumer<WebDriver> afterQuitting) {
+        long start = nanoClock.getAsLong();
+        evictIdleBrowsers();
+
+        PooledBrowser browser = nextHealthyIdleBrowserFor(key);
+        if (browser != null) {
+            browsersReused.increment();
+        } else {
+            browser = PooledBrowser.startedBy(key, newBrowser, afterQuitting);
+            browsersStarted.increment();
+        }
+        browser.uses++;
+        browsersInUse.put(browser.driver, browser);
+
+        recordAcquisitionTime(nanoClock.getAsLong() - start);
+        return browser.driver;
+    }
+
+    /**
+     * Hands a browser back to the pool once a test has finished with it.
+     * The browser is either cleaned up and kept for a later test, or closed.
+     *
+     * @return false if the browser does not come from this pool, and should be closed by the caller.
+     */
+    public boolean release(WebDriver driver) {
+        PooledBrowser browser = browsersInUse.remove(driver);
+        if (browser == null) {
+            return false;
+        }
+        if (browser.uses >= maxReuse || !CleanBrowser.reset(driver, browser.originalWindow, environmentVariables) || !offer(browser)) {
+            discard(browser);
+        }
+        return true;
+    }
+
+    /**
+     * Forget a browser that the caller closes itself, for example after an error.
+     */
+    public void remove(WebDriver driver) {
+        browsersInUse.remove(driver);
+    }
+
+    /**
+     * Starts browsers in the background, so that the first tests do not have to wait for them.
+     * Each kind of browser is only warmed up once.
+     */
+    public void warmUp(String key, Supplier<WebDriver> newBrowser, int browserCount) {
+        warmUp(key, newBrowser, browser -> {}, browserCount);
+    }
+
+    public synchronized void warmUp(String key, Supplier<WebDriver> newBrowser, Consumer<WebDriver> afterQuitting, int browserCount) {
+        if (closed || browserCount <= 0 || !warmedUpKeys.add(key)) {
+            return;
+        }
+        if (warmUpExecutor == null) {
+            warmUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "serenity-browser-pool-warm-up");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        for (int i = 0; i < Math.min(browserCount, maxIdleBrowsers); i++) {
+            warmUpExecutor.execute(() -> {
+                try {
+                    PooledBrowser browser = PooledBrowser.startedBy(key, newBrowser, afterQuitting);
+                    browsersStarted.increment();
+                    if (!offer(browser)) {
+                        discard(browser);
+                    }
+                } catch (RuntimeException couldNotStartBrowser) {
+                    LOGGER.warn("Could not start a browser to warm up the browser pool ({})", couldNotStartBrowser.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Closes the browsers that have been idle for longer than the configured idle time.
+     */
+    public void evictIdleBrowsers() {
+        List<PooledBrowser> expiredBrowsers = new ArrayList<>();
+        long now = nanoClock.getAsLong();
+        synchronized (this) {
+            for (Deque<PooledBrowser> browsers : idleBrowsers.values()) {
+                for (Iterator<PooledBrowser> iterator = browsers.iterator(); iterator.hasNext(); ) {
+                    PooledBrowser browser = iterator.next();
+                    if (now - browser.idleSince > maxIdleNanos) {
+                        iterator.remove();
+                        idleBrowserCount--;
+                        expiredBrowsers.add(browser);
+                    }
+                }
+            }
+        }
+        expiredBrowsers.forEach(this::discard);
+    }
+
+    /**
+     * Closes all the idle browsers. Browsers still in use are closed when they are released.
+     */
+    public void shutdown() {
+        List<PooledBrowser> remainingBrowsers = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            if (warmUpExecutor != null) {
+                warmUpExecutor.shutdownNow();
+            }
+            idleBrowsers.values().forEach(remainingBrowsers::addAll);
+            idleBrowsers.clear();
+            idleBrowserCount = 0;
+        }
+        remainingBrowsers.forEach(this::discard);
+        LOGGER.debug("Browser pool closed: {}", getMetrics());
+    }
+
+    public BrowserPoolMetrics getMetrics() {
+        int idleCount;
+        synchronized (this) {
+            idleCount = idleBrowserCount;
+        }
+        return new BrowserPoolMetrics(acquisitions.sum(),
+                browsersReused.sum(),
+                browsersStarted.sum(),
+                browsersDiscarded.sum(),
+                idleCount,
+                Duration.ofNanos(totalAcquisitionNanos.sum()),
+                Duration.ofNanos(maxAcquisitionNanos.get()));
+    }
+
+    private PooledBrowser nextHealthyIdleBrowserFor(String key) {
+        PooledBrowser browser;
+        while ((browser = nextIdleBrowserFor(key)) != null) {
+            if (CleanBrowser.isHealthy(browser.driver)) {
+                return browser;
+            }
+            discard(browser);
+        }
+        return null;
+    }
+
+    private synchronized PooledBrowser nextIdleBrowserFor(String key) {
+        Deque<PooledBrowser> browsers = idleBrowsers.get(key);
+        if (browsers == null || browsers.isEmpty()) {
+            return null;
+        }
+        idleBrowserCount--;
+        return browsers.pollFirst();
+    }
+
+    private synchronized boolean offer(PooledBrowser browser) {
+        if (closed || idleBrowserCount >= maxIdleBrowsers) {
+            return false;
+        }
+        browser.idleSince = nanoClock.getAsLong();
+        idleBrowsers.computeIfAbsent(browser.key, key -> new ArrayDeque<>()).addFirst(browser);
+        idleBrowserCount++;
+        return true;
+    }
+
+    private void discard(PooledBrowser browser) {
+        browsersDiscarded.increment();
+        try {
+            browser.driver.quit();
+        } catch (WebDriverException e) {
+            LOGGER.debug("Error while closing a pooled browser ({})", e.getMessage());
+        }
+        try {
+            browser.afterQuitting.accept(browser.driver);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error while shutting down the services of a pooled browser ({})", e.getMessage());
+        }
+    }
+
+    private void recordAcquisitionTime(long elapsedNanos) {
+        acquisitions.increment();
+        totalAcquisitionNanos.add(elapsedNanos);
+        maxAcquisitionNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    private static class PooledBrowser {
+        private final String key;
+        private final WebDriver driver;
+        private final String originalWindow;
+        private final Consumer<WebDriver> afterQuitting;
+        private int uses;
+        private long idleSince;
+
+        private PooledBrowser(String key, WebDriver driver, String originalWindow, Consumer<WebDriver> afterQuitting) {
+            this.key = key;
+            this.driver = driver;
+            this.originalWindow = originalWindow;
+            this.afterQuitting = afterQuitting;
+        }
+
+        /**
+         * The window that the browser opened with is recorded straight away, as it is the one to keep when
+         * the browser is cleaned up, and the browser does not list its windows in any particular order.
+         */
+        static PooledBrowser startedBy(String key, Supplier<WebDriver> newBrowser, Consumer<WebDriver> afterQuitting) {
+            WebDriver driver = newBrowser.get();
+            return new PooledBrowser(key, driver, originalWindowOf(driver), afterQuitting);
+        }
+
+        private static String originalWindowOf(WebDriver driver) {
+            try {
+                return driver.getWindowHandle();
+            } catch (RuntimeException windowHandlesNotSupported) {
+                return null;
+            }
+        }
+    }
+}
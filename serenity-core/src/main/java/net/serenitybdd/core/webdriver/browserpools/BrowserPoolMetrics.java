@@ -0,0 +1,82 @@
+package net.serenitybdd.core.webdriver.browserpools;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of how a {@link BrowserPool} has been used so far.
+ */
+public class BrowserPoolMetrics {
+
+    private final long acquisitions;
+    private final long browsersReused;
+    private final long browsersStarted;
+    private final long browsersDiscarded;
+    private final int idleBrowsers;
+    private final Duration totalAcquisitionTime;
+    private final Duration maxAcquisitionTime;
+
+    BrowserPoolMetrics(long acquisitions,
+                       long browsersReused,
+                       long browsersStarted,
+                       long browsersDiscarded,
+                       int idleBrowsers,
+                       Duration totalAcquisitionTime,
+                       Duration maxAcquisitionTime) {
+        this.acquisitions = acquisitions;
+        this.browsersReused = browsersReused;
+        this.browsersStarted = browsersStarted;
+        this.browsersDiscarded = browsersDiscarded;
+        this.idleBrowsers = idleBrowsers;
+        this.totalAcquisitionTime = totalAcquisitionTime;
+        this.maxAcquisitionTime = maxAcquisitionTime;
+    }
+
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    /**
+     * Acquisitions that were served by an idle browser from the pool.
+     */
+    public long getBrowsersReused() {
+        return browsersReused;
+    }
+
+    /**
+     * Browsers started by the pool, either when a test needed one and none was idle, or to warm up the pool.
+     */
+    public long getBrowsersStarted() {
+        return browsersStarted;
+    }
+
+    /**
+     * Browsers closed because they were unhealthy, reached their reuse limit, stayed idle too long,
+     * or because the pool was full.
+     */
+    public long getBrowsersDiscarded() {
+        return browsersDiscarded;
+    }
+
+    public int getIdleBrowsers() {
+        return idleBrowsers;
+    }
+
+    public Duration getAverageAcquisitionTime() {
+        return (acquisitions == 0) ? Duration.ZERO : totalAcquisitionTime.dividedBy(acquisitions);
+    }
+
+    public Duration getMaxAcquisitionTime() {
+        return maxAcquisitionTime;
+    }
+
+    @Override
+    public String toString() {
+        return "acquisitions=" + acquisitions
+                + ", reused=" + browsersReused
+                + ", started=" + browsersStarted
+                + ", discarded=" + browsersDiscarded
+                + ", idle=" + idleBrowsers
+                + ", average acquisition time=" + getAverageAcquisitionTime().toMillis() + "ms"
+                + ", max acquisition time=" + maxAcquisitionTime.toMillis() + "ms";
+    }
+}
@@ -0,0 +1,51 @@
+package net.serenitybdd.core.webdriver.browserpools;
+
+import net.thucydides.model.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static net.thucydides.model.ThucydidesSystemProperty.*;
+
+/**
+ * Gives access to the browser pool shared by all the tests in this JVM, if one is configured
+ * with the {@code serenity.browser.pool.size} property.
+ */
+public class BrowserPools {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserPools.class);
+
+    private static volatile BrowserPool sharedPool;
+
+    public static Optional<BrowserPool> configuredIn(EnvironmentVariables environmentVariables) {
+        if (sharedPool == null && SERENITY_BROWSER_POOL_SIZE.integerFrom(environmentVariables, 0) <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(sharedPoolFor(environmentVariables));
+    }
+
+    /**
+     * The number of browsers to start in the background when the pool is first used.
+     */
+    public static int warmUpSizeIn(EnvironmentVariables environmentVariables) {
+        return SERENITY_BROWSER_POOL_WARMUP.integerFrom(environmentVariables, 0);
+    }
+
+    private static synchronized BrowserPool sharedPoolFor(EnvironmentVariables environmentVariables) {
+        if (sharedPool == null) {
+            BrowserPool pool = new BrowserPool(
+                    SERENITY_BROWSER_POOL_SIZE.integerFrom(environmentVariables, 0),
+                    SERENITY_BROWSER_POOL_MAX_REUSE.integerFrom(environmentVariables, 50),
+                    Duration.ofSeconds(SERENITY_BROWSER_POOL_MAX_IDLE.integerFrom(environmentVariables, 300)),
+                    environmentVariables);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                pool.shutdown();
+                LOGGER.info("Browser pool usage: {}", pool.getMetrics());
+            }));
+            sharedPool = pool;
+        }
+        return sharedPool;
+    }
+}
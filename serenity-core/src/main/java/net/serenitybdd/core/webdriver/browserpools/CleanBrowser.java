@@ -0,0 +1,76 @@
+package net.serenitybdd.core.webdriver.browserpools;
+
+import net.serenitybdd.core.SystemTimeouts;
+import net.thucydides.core.webdriver.WebDriverFactory;
+import net.thucydides.core.webdriver.redimension.RedimensionBrowser;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Checks that a pooled browser still responds, and removes what a previous test left behind in it
+ * (cookies, web storage, extra windows, and any change to its implicit wait or window size) before it is used again.
+ */
+public class CleanBrowser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CleanBrowser.class);
+
+    private static final String CLEAR_WEB_STORAGE
+            = "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    public static boolean isHealthy(WebDriver driver) {
+        return WebDriverFactory.isAlive(driver);
+    }
+
+    /**
+     * @param originalWindow the handle of the window the browser started with, which is the only one kept open
+     * @return false if the browser could not be cleaned up, in which case it should not be reused.
+     */
+    public static boolean reset(WebDriver driver, String originalWindow, EnvironmentVariables environmentVariables) {
+        try {
+            closeExtraWindowsOf(driver, originalWindow);
+            driver.manage().deleteAllCookies();
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_WEB_STORAGE);
+            }
+            driver.get("about:blank");
+            restoreDefaultSettingsOf(driver, environmentVariables);
+            return true;
+        } catch (RuntimeException couldNotResetBrowser) {
+            LOGGER.debug("Could not reset browser for reuse ({})", couldNotResetBrowser.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * The next test expects the implicit wait that the timeout stack starts from, and the configured window size.
+     */
+    private static void restoreDefaultSettingsOf(WebDriver driver, EnvironmentVariables environmentVariables) {
+        long defaultImplicitWait = new SystemTimeouts(environmentVariables).getImplicitTimeout();
+        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(defaultImplicitWait));
+        new RedimensionBrowser(environmentVariables).withDriver(driver);
+    }
+
+    private static void closeExtraWindowsOf(WebDriver driver, String originalWindow) {
+        Set<String> windowHandles = new HashSet<>(driver.getWindowHandles());
+        if (windowHandles.isEmpty() || windowHandles.equals(Collections.singleton(originalWindow))) {
+            return;
+        }
+        if (originalWindow == null || !windowHandles.contains(originalWindow)) {
+            throw new IllegalStateException("The window the browser started with is no longer open");
+        }
+        windowHandles.remove(originalWindow);
+        for (String extraWindow : windowHandles) {
+            driver.switchTo().window(extraWindow);
+            driver.close();
+        }
+        driver.switchTo().window(originalWindow);
+    }
+}
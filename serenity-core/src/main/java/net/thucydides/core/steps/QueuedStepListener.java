@@ -0,0 +1,250 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.model.domain.DataTable;
+import net.thucydides.model.domain.Story;
+import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.TestResult;
+import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
+import net.thucydides.model.steps.AsynchronousStepListener;
+import net.thucydides.model.steps.ExecutedStepDescription;
+import net.thucydides.model.steps.StepFailure;
+import net.thucydides.model.steps.StepListener;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Passes the events received on the test thread to an {@link AsynchronousStepListener} through a
+ * {@link StepListenerDispatcher}, so that the listener is notified in the background.
+ */
+class QueuedStepListener implements StepListener {
+
+    private final StepListener listener;
+    private final StepListenerDispatcher dispatcher;
+
+    QueuedStepListener(AsynchronousStepListener listener, StepListenerDispatcher dispatcher) {
+        this.listener = listener;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void testSuiteStarted(Class<?> storyClass) {
+        dispatcher.dispatch(() -> listener.testSuiteStarted(storyClass));
+    }
+
+    @Override
+    public void testSuiteStarted(Story story) {
+        dispatcher.dispatch(() -> listener.testSuiteStarted(story));
+    }
+
+    @Override
+    public void testSuiteStarted(Class<?> testClass, String testCaseName) {
+        dispatcher.dispatch(() -> listener.testSuiteStarted(testClass, testCaseName));
+    }
+
+    @Override
+    public void testSuiteFinished() {
+        dispatcher.dispatch(listener::testSuiteFinished);
+    }
+
+    @Override
+    public void testStarted(String description) {
+        dispatcher.dispatch(() -> listener.testStarted(description));
+    }
+
+    @Override
+    public void testStarted(String description, ZonedDateTime startTime) {
+        dispatcher.dispatch(() -> listener.testStarted(description, startTime));
+    }
+
+    @Override
+    public void testStarted(String description, String id) {
+        dispatcher.dispatch(() -> listener.testStarted(description, id));
+    }
+
+    @Override
+    public void testStarted(String testName, String testMethod, String id, String scenarioId) {
+        dispatcher.dispatch(() -> listener.testStarted(testName, testMethod, id, scenarioId));
+    }
+
+    @Override
+    public void testStarted(String description, String id, ZonedDateTime startTime) {
+        dispatcher.dispatch(() -> listener.testStarted(description, id, startTime));
+    }
+
+    @Override
+    public void testFinished(TestOutcome result) {
+        dispatcher.dispatch(() -> listener.testFinished(result));
+    }
+
+    @Override
+    public void testFinished(TestOutcome result, boolean isInDataDrivenTest) {
+        dispatcher.dispatch(() -> listener.testFinished(result, isInDataDrivenTest));
+    }
+
+    @Override
+    public void testFinished(TestOutcome result, boolean isInDataDrivenTest, ZonedDateTime finishTime) {
+        dispatcher.dispatch(() -> listener.testFinished(result, isInDataDrivenTest, finishTime));
+    }
+
+    @Override
+    public void testRetried() {
+        dispatcher.dispatch(listener::testRetried);
+    }
+
+    @Override
+    public void stepStarted(ExecutedStepDescription description) {
+        dispatcher.dispatch(() -> listener.stepStarted(description));
+    }
+
+    @Override
+    public void stepStarted(ExecutedStepDescription description, ZonedDateTime startTime) {
+        dispatcher.dispatch(() -> listener.stepStarted(description, startTime));
+    }
+
+    @Override
+    public void skippedStepStarted(ExecutedStepDescription description) {
+        dispatcher.dispatch(() -> listener.skippedStepStarted(description));
+    }
+
+    @Override
+    public void stepFailed(StepFailure failure) {
+        dispatcher.dispatch(() -> listener.stepFailed(failure));
+    }
+
+    @Override
+    public void stepFailed(StepFailure failure, List<ScreenshotAndHtmlSource> screenshotList, boolean isInDataDrivenTest) {
+        dispatcher.dispatch(() -> listener.stepFailed(failure, screenshotList, isInDataDrivenTest));
+    }
+
+    @Override
+    public void stepFailed(StepFailure failure, List<ScreenshotAndHtmlSource> screenshotList, boolean isInDataDrivenTest, ZonedDateTime timestamp) {
+        dispatcher.dispatch(() -> listener.stepFailed(failure, screenshotList, isInDataDrivenTest, timestamp));
+    }
+
+    @Override
+    public void lastStepFailed(StepFailure failure) {
+        dispatcher.dispatch(() -> listener.lastStepFailed(failure));
+    }
+
+    @Override
+    public void stepIgnored() {
+        dispatcher.dispatch(listener::stepIgnored);
+    }
+
+    @Override
+    public void stepPending() {
+        dispatcher.dispatch(() -> listener.stepPending());
+    }
+
+    @Override
+    public void stepPending(String message) {
+        dispatcher.dispatch(() -> listener.stepPending(message));
+    }
+
+    @Override
+    public void stepFinished() {
+        dispatcher.dispatch(() -> listener.stepFinished());
+    }
+
+    @Override
+    public void stepFinished(List<ScreenshotAndHtmlSource> screenshotList) {
+        dispatcher.dispatch(() -> listener.stepFinished(screenshotList));
+    }
+
+    @Override
+    public void stepFinished(List<ScreenshotAndHtmlSource> screenshotList, ZonedDateTime time) {
+        dispatcher.dispatch(() -> listener.stepFinished(screenshotList, time));
+    }
+
+    @Override
+    public void testFailed(TestOutcome testOutcome, Throwable cause) {
+        dispatcher.dispatch(() -> listener.testFailed(testOutcome, cause));
+    }
+
+    @Override
+    public void testIgnored() {
+        dispatcher.dispatch(listener::testIgnored);
+    }
+
+    @Override
+    public void testSkipped() {
+        dispatcher.dispatch(listener::testSkipped);
+    }
+
+    @Override
+    public void testAborted() {
+        dispatcher.dispatch(listener::testAborted);
+    }
+
+    @Override
+    public void testPending() {
+        dispatcher.dispatch(listener::testPending);
+    }
+
+    @Override
+    public void testIsManual() {
+        dispatcher.dispatch(listener::testIsManual);
+    }
+
+    @Override
+    public void notifyScreenChange() {
+        dispatcher.dispatch(listener::notifyScreenChange);
+    }
+
+    @Override
+    public void useExamplesFrom(DataTable table) {
+        dispatcher.dispatch(() -> listener.useExamplesFrom(table));
+    }
+
+    @Override
+    public void addNewExamplesFrom(DataTable table) {
+        dispatcher.dispatch(() -> listener.addNewExamplesFrom(table));
+    }
+
+    @Override
+    public void exampleStarted(Map<String, String> data) {
+        dispatcher.dispatch(() -> listener.exampleStarted(data));
+    }
+
+    @Override
+    public void exampleStarted(Map<String, String> data, ZonedDateTime time) {
+        dispatcher.dispatch(() -> listener.exampleStarted(data, time));
+    }
+
+    @Override
+    public void exampleStarted(Map<String, String> data, String exampleName) {
+        dispatcher.dispatch(() -> listener.exampleStarted(data, exampleName));
+    }
+
+    @Override
+    public void exampleStarted(Map<String, String> data, String exampleName, ZonedDateTime time) {
+        dispatcher.dispatch(() -> listener.exampleStarted(data, exampleName, time));
+    }
+
+    @Override
+    public void exampleFinished() {
+        dispatcher.dispatch(listener::exampleFinished);
+    }
+
+    @Override
+    public void assumptionViolated(String message) {
+        dispatcher.dispatch(() -> listener.assumptionViolated(message));
+    }
+
+    @Override
+    public void testRunFinished() {
+        dispatcher.dispatch(listener::testRunFinished);
+    }
+
+    @Override
+    public void takeScreenshots(List<ScreenshotAndHtmlSource> screenshots) {
+        dispatcher.dispatch(() -> listener.takeScreenshots(screenshots));
+    }
+
+    @Override
+    public void takeScreenshots(TestResult testResult, List<ScreenshotAndHtmlSource> screenshots) {
+        dispatcher.dispatch(() -> listener.takeScreenshots(testResult, screenshots));
+    }
+}
@@ -16,6 +16,7 @@ import net.thucydides.model.environment.TestLocalEnvironmentVariables;
 import net.thucydides.core.events.TestLifecycleEvents;
 import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
 import net.thucydides.core.steps.session.TestSession;
+import net.thucydides.model.steps.AsynchronousStepListener;
 import net.thucydides.model.steps.ExecutedStepDescription;
 import net.thucydides.model.steps.StepFailure;
 import net.thucydides.model.steps.StepListener;
@@ -27,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -141,6 +143,15 @@ public class StepEventBus {
 
     private Set<StepListener> customListeners;
 
+    /**
+     * Delivers events to the listeners that implement AsynchronousStepListener, when asynchronous listeners are enabled.
+     */
+    private Boolean asynchronousListenersEnabled;
+    private StepListenerDispatcher listenerDispatcher;
+    private final Map<StepListener, StepListener> queuedListeners = new ConcurrentHashMap<>();
+
+    private static final Duration ASYNCHRONOUS_LISTENER_TIMEOUT = Duration.ofSeconds(30);
+
     private boolean stepFailed;
     private boolean suspendedTest;
     private boolean assumptionViolated;
@@ -309,9 +320,39 @@ public class StepEventBus {
     protected List<StepListener> getAllListeners() {
         List<StepListener> allListeners = registeredListeners();
         allListeners.addAll(getCustomListeners());
+        if (listenerDispatcher() != null) {
+            allListeners.replaceAll(this::queuedIfAsynchronous);
+        }
         return NewList.copyOf(allListeners);
     }
 
+    private synchronized StepListenerDispatcher listenerDispatcher() {
+        if (asynchronousListenersEnabled == null) {
+            asynchronousListenersEnabled = StepListenerDispatcher.isEnabledIn(environmentVariables);
+            if (asynchronousListenersEnabled) {
+                listenerDispatcher = StepListenerDispatcher.configuredIn(environmentVariables);
+            }
+        }
+        return listenerDispatcher;
+    }
+
+    private StepListener queuedIfAsynchronous(StepListener listener) {
+        if (listener instanceof AsynchronousStepListener) {
+            return queuedListeners.computeIfAbsent(listener,
+                    asynchronousListener -> new QueuedStepListener((AsynchronousStepListener) asynchronousListener, listenerDispatcher));
+        }
+        return listener;
+    }
+
+    /**
+     * Make sure the asynchronous listeners have received all the events of a test before it is reported as finished.
+     */
+    private void awaitAsynchronousListeners() {
+        if (listenerDispatcher != null) {
+            listenerDispatcher.awaitDelivery(ASYNCHRONOUS_LISTENER_TIMEOUT);
+        }
+    }
+
     private List<StepListener> registeredListeners() {
         List<StepListener> listeners = new ArrayList<>(registeredListeners);
 
@@ -473,6 +514,7 @@ public class StepEventBus {
         } catch(Throwable testFailedInTeardownOperations) {
             getBaseStepListener().stepFailedWithException(testFailedInTeardownOperations);
         }
+        awaitAsynchronousListeners();
 
         TestLifecycleEvents.postEvent(TestLifecycleEvents.testFinished());
 
@@ -490,6 +532,7 @@ public class StepEventBus {
         for (StepListener stepListener : getAllListeners()) {
             stepListener.testRunFinished();
         }
+        awaitAsynchronousListeners();
     }
 
     public void testFinished() {
@@ -514,6 +557,7 @@ public class StepEventBus {
         for (StepListener stepListener : getAllListeners()) {
             stepListener.testFinished(result);
         }
+        awaitAsynchronousListeners();
         TestLifecycleEvents.postEvent(TestLifecycleEvents.testFinished());
         clear();
     }
@@ -522,6 +566,7 @@ public class StepEventBus {
         for (StepListener stepListener : getAllListeners()) {
             stepListener.testRetried();
         }
+        awaitAsynchronousListeners();
         clear();
     }
 
@@ -856,6 +901,7 @@ public class StepEventBus {
         for (StepListener stepListener : getAllListeners()) {
             stepListener.testSuiteFinished();
         }
+        awaitAsynchronousListeners();
         TestLifecycleEvents.postEvent(TestLifecycleEvents.testSuiteFinished());
         storyUnderTest = null;
     }
@@ -864,6 +910,7 @@ public class StepEventBus {
         for (StepListener stepListener : getAllListeners()) {
             stepListener.testRunFinished();
         }
+        awaitAsynchronousListeners();
     }
 
     public void updateCurrentStepTitle(String stepTitle) {
@@ -1068,6 +1115,13 @@ public class StepEventBus {
         stepEventBusThreadLocal.set(stepEventBus);
     }
 
+    /**
+     * The event bus of the current thread, if it has one. Unlike getEventBus(), this never creates a new event bus.
+     */
+    public static Optional<StepEventBus> eventBusOfCurrentThread() {
+        return Optional.ofNullable(stepEventBusThreadLocal.get());
+    }
+
     public void castActor(String name) {
         if ((getBaseStepListener() != null) && (getBaseStepListener().latestTestOutcome() != null)) {
             getBaseStepListener().latestTestOutcome().ifPresent(
@@ -1,11 +1,9 @@
 package net.thucydides.core.steps;
 
 import com.google.common.base.Preconditions;
-import com.google.common.base.Splitter;
 import net.bytebuddy.implementation.bind.annotation.*;
 import net.serenitybdd.annotations.*;
 import net.serenitybdd.core.Serenity;
-import net.serenitybdd.core.SkipNested;
 import net.serenitybdd.core.steps.HasCustomFieldValues;
 import net.serenitybdd.markers.CanBeSilent;
 import net.serenitybdd.markers.IsHidden;
@@ -23,9 +21,7 @@ import net.thucydides.model.adapters.TestFramework;
 import net.thucydides.model.domain.TestResult;
 import net.thucydides.model.domain.stacktrace.StackTraceSanitizer;
 import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
-import net.thucydides.model.steps.AnnotatedStepDescription;
 import net.thucydides.model.steps.ExecutedStepDescription;
-import net.thucydides.model.steps.ScreenplayInspector;
 import net.thucydides.model.steps.StepFailure;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
@@ -33,15 +29,13 @@ import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
-import static java.util.Arrays.asList;
 import static net.thucydides.model.ThucydidesSystemProperty.MANUAL_TASK_INSTRUMENTATION;
 
 /**
@@ -67,6 +61,10 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
         expectedExceptionType.remove();
     }
 
+    public static Optional<Class> getExpectedExceptionType() {
+        return Optional.ofNullable(expectedExceptionType.get());
+    }
+
     private final List<StepInterceptionListener> listeners = new ArrayList<>();
 
     CleanupMethodLocator cleanupMethodLocator;
@@ -86,36 +84,29 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
             @AllArguments Object[] args,
             @SuperMethod Method zuper
     ) throws Throwable {
+        StepMethodMetadata metadata = StepMethodMetadata.of(method);
         Object result;
-        if (baseClassMethod(method, target) || isAStepThatMayThrowAnException(method)) {
+        if (baseClassMethod(metadata, method, target) || isAStepThatMayThrowAnException(method)) {
             result = runBaseObjectMethod(target, method, args, zuper);
         } else {
-            result = testStepResult(target, method, args, zuper);
+            result = testStepResult(metadata, target, method, args, zuper);
         }
         return result;
     }
 
-    private final List<String> OBJECT_METHODS
-            = Arrays.asList("toString",
-            "equals",
-            "hashcode",
-            "clone",
-            "notify",
-            "notifyAll",
-            "wait",
-            "finalize",
-            "getMetaClass");
-
-    private boolean baseClassMethod(final Method method, Object obj) {
+    /**
+     * The cheap checks come first, so that core language methods and methods from other libraries
+     * never need to look at the call stack.
+     */
+    private boolean baseClassMethod(final StepMethodMetadata metadata, final Method method, Object obj) {
         Class callingClass = obj.getClass();
-        boolean isACoreLanguageMethod = (OBJECT_METHODS.contains(method.getName()));
-        boolean methodDoesNotComeFromThisClassOrARelatedParentClass = !declaredInSameDomain(method, callingClass);
-        boolean isSilentMethod = isSilent(callingClass, method, obj);
-        boolean isHiddenMethod = isHidden(callingClass);
-        return (isACoreLanguageMethod || methodDoesNotComeFromThisClassOrARelatedParentClass || isSilentMethod || isHiddenMethod);
+        return metadata.isCoreLanguageMethod()
+                || !metadata.isDeclaredInSameDomainAs(callingClass)
+                || isHidden(callingClass)
+                || isSilent(callingClass, method, metadata, obj);
     }
 
-    private boolean isSilent(Class callingClass, Method method, Object obj) {
+    private boolean isSilent(Class callingClass, Method method, StepMethodMetadata metadata, Object obj) {
         if (IsSilent.class.isAssignableFrom(callingClass)) {
             return true;
         }
@@ -128,20 +119,20 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
             return true;
         }
 
-        if (isNestedInSilentTask()) {
+        if (isNotAStepAnnotatedMethodWhenManualInstrumentationIsActive(metadata)) {
             return true;
         }
 
-        return isNotAStepAnnotatedMethodWhenManualInstrumentationIsActive(method);
+        return isNestedInSilentTask();
     }
 
     private boolean isHidden(Class<?> callingClass) {
         return IsHidden.class.isAssignableFrom(callingClass);
     }
 
-    private boolean isNotAStepAnnotatedMethodWhenManualInstrumentationIsActive(Method method) {
+    private boolean isNotAStepAnnotatedMethodWhenManualInstrumentationIsActive(StepMethodMetadata metadata) {
         if (manualTaskInstrumentation()) {
-            return method.getAnnotation(Step.class) == null;
+            return !metadata.isStepAnnotated();
         }
         return false;
     }
@@ -150,53 +141,16 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
         return (MANUAL_TASK_INSTRUMENTATION.booleanFrom(environmentVariables, false));
     }
 
-    private boolean isNestedInSilentTask() {
-        return asList(new Exception().getStackTrace())
-                .stream()
-                .anyMatch(element -> element.getMethodName().equals("performSilently"));
-    }
-
-    private boolean declaredInSameDomain(Method method, final Class callingClass) {
-        return domainPackageOf(getRoot(method)).equals(domainPackageOf(callingClass));
-    }
-
-    private String domainPackageOf(Class callingClass) {
-        Package classPackage = callingClass.getPackage();
-        String classPackageName = (classPackage != null) ? classPackage.getName() : "";
-        return packageDomainName(classPackageName);
-    }
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
-    private String packageDomainName(String methodPackage) {
-        List<String> packages = Splitter.on(".").omitEmptyStrings().splitToList(methodPackage);
-
-        if (packages.size() == 0) {
-            return "";
-        } else if (packages.size() == 1) {
-            return packages.get(0);
-        } else {
-            return packages.get(0) + "." + packages.get(1);
-        }
-    }
-
-    private String domainPackageOf(Method method) {
-        Package methodPackage = method.getDeclaringClass().getPackage();
-        String methodPackageName = (methodPackage != null) ? methodPackage.getName() : "";
-        return packageDomainName(methodPackageName);
-    }
-
-    private Method getRoot(Method method) {
-        try {
-            method.getClass().getDeclaredField("root").setAccessible(true);
-            return (Method) method.getClass().getDeclaredField("root").get(method);
-        } catch (IllegalAccessException | NoSuchFieldException e) {
-            return method;
-        }
+    private boolean isNestedInSilentTask() {
+        return STACK_WALKER.walk(frames -> frames.anyMatch(frame -> frame.getMethodName().equals("performSilently")));
     }
 
-    private Object testStepResult(final Object obj, final Method method,
+    private Object testStepResult(final StepMethodMetadata metadata, final Object obj, final Method method,
                                   final Object[] args, final Method zuperMethod) throws Throwable {
 
-        if (!isATestStep(method)) {
+        if (!metadata.isTestStep()) {
             return runNormalMethod(obj, method, args, zuperMethod);
         }
 
@@ -248,12 +202,12 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
     private Object skipTestStep(Object obj, Method method, Object[] args, Method zuperMethod) throws Exception {
         Object skippedReturnObject = runSkippedMethod(obj, method, args, zuperMethod);
         notifyStepSkippedFor(method, args);
-        LOGGER.debug("SKIPPED STEP: {}", StepName.fromStepAnnotationIn(method).orElse(method.getName()));
+        LOGGER.debug("SKIPPED STEP: {}", stepNameOf(method));
         return appropriateReturnObject(skippedReturnObject, obj, method);
     }
 
     private Object runSkippedMethod(Object obj, Method method, Object[] args, Method zuperMethod) {
-        LOGGER.trace("Running test step " + StepName.fromStepAnnotationIn(method).orElse(method.getName()));
+        LOGGER.trace("Running test step " + stepNameOf(method));
         if (TestSession.isSessionStarted()) {
             SuspendWebdriverCallsEvent suspendWebdriverCallsEvent = new SuspendWebdriverCallsEvent();
             TestSession.addEvent(suspendWebdriverCallsEvent);
@@ -286,11 +240,7 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
     }
 
     private boolean shouldRunNestedMethodsIn(Method method) {
-        return !(TestAnnotations.shouldSkipNested(method) || shouldSkipNestedIn(method.getDeclaringClass()));
-    }
-
-    private boolean shouldSkipNestedIn(Class testStepClass) {
-        return (SkipNested.class.isAssignableFrom(testStepClass));
+        return !StepMethodMetadata.of(method).shouldSkipNestedMethods();
     }
 
     private Object appropriateReturnObject(final Object returnedValue, final Object obj, final Method method) {
@@ -306,37 +256,7 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
     }
 
     private PrimitiveReturnType returnTypeOf(final Method method) {
-        Class<?> returnType = method.getReturnType();
-        if (returnType == String.class) {
-            return PrimitiveReturnType.STRING;
-        }
-
-        if (Long.class.isAssignableFrom(returnType) || returnType.getName().equals("long")) {
-            return PrimitiveReturnType.LONG;
-        }
-
-        if (Integer.class.isAssignableFrom(returnType) || returnType.getName().equals("int")) {
-            return PrimitiveReturnType.INTEGER;
-        }
-
-        if (Double.class.isAssignableFrom(returnType) || returnType.getName().equals("double")) {
-            return PrimitiveReturnType.DOUBLE;
-        }
-
-        if (Float.class.isAssignableFrom(returnType) || returnType.getName().equals("float")) {
-            return PrimitiveReturnType.FLOAT;
-        }
-
-        if (Boolean.class.isAssignableFrom(returnType) || returnType.getName().equals("boolean")) {
-            return PrimitiveReturnType.BOOLEAN;
-        }
-
-        if (returnType.getName().equals("void")) {
-            return PrimitiveReturnType.VOID;
-        }
-
-        return PrimitiveReturnType.UNSUPPORTED;
-
+        return StepMethodMetadata.of(method).getReturnType();
     }
 
     Object appropriateReturnObject(final Object obj, final Method method) {
@@ -440,41 +360,28 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
         notifyOfStepFailure(obj, method, args, assertionError);
     }
 
-    private boolean isAnnotatedWithAValidStepAnnotation(final Method method) {
-        Annotation[] annotations = method.getAnnotations();
-        for (Annotation annotation : annotations) {
-            if (isAThucydidesStep(annotation) || (AnnotatedStepDescription.isACompatibleStep(annotation))) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean isAStepThatMayThrowAnException(final Method method) {
         return expectedExceptionType.get() != null;
     }
 
-    private boolean isAThucydidesStep(Annotation annotation) {
-        return (annotation instanceof Step) || (annotation instanceof StepGroup);
+    private boolean isIgnored(final Method method) {
+        return StepMethodMetadata.of(method).isIgnored();
     }
 
-    private boolean isATestStep(final Method method) {
-        return isAnnotatedWithAValidStepAnnotation(method) || ScreenplayInspector.isAScreenplayPerformAsMethod(method);
-    }
-
-    private boolean isIgnored(final Method method) {
-        return TestAnnotations.isIgnored(method);
+    private String stepNameOf(final Method method) {
+        return StepMethodMetadata.of(method).getStepName();
     }
 
     private Object runTestStep(final Object obj, final Method method,
                                final Object[] args, final Method zuperMethod) throws Throwable {
 
-        String callingClass = testContext();
-        LOGGER.debug("STARTING STEP: {} - {}", callingClass, StepName.fromStepAnnotationIn(method).orElse(method.getName()));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("STARTING STEP: {} - {}", testContext(), stepNameOf(method));
+        }
         Object result = null;
         try {
             result = executeTestStepMethod(obj, method, args, zuperMethod, result);
-            LOGGER.debug("STEP DONE: {}", StepName.fromStepAnnotationIn(method).orElse(method.getName()));
+            LOGGER.debug("STEP DONE: {}", stepNameOf(method));
         } catch (AssertionError failedAssertion) {
             error = failedAssertion;
             logStepFailure(obj, method, args, failedAssertion);
@@ -496,7 +403,7 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
             return;
         }
         notifyOfStepFailure(object, method, args, assertionError);
-        LOGGER.debug("STEP FAILED: {} - {}", StepName.fromStepAnnotationIn(method).orElse(method.getName()), assertionError.getMessage());
+        LOGGER.debug("STEP FAILED: {} - {}", stepNameOf(method), assertionError.getMessage());
     }
 
     private Object executeTestStepMethod(Object obj, Method method, Object[] args, Method zuperMethod, Object result) throws Throwable {
@@ -537,7 +444,7 @@ public class StepInterceptor implements MethodErrorReporter, Interceptor {
     }
 
     private boolean isPending(final Method method) {
-        return (method.getAnnotation(Pending.class) != null);
+        return StepMethodMetadata.of(method).isPending();
     }
 
     private void notifyStepFinishedFor(final Method method, final Object[] args) {
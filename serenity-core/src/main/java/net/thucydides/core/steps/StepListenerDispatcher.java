@@ -0,0 +1,135 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.model.ThucydidesSystemProperty;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers the events of one test to its asynchronous step listeners.
+ * <p>
+ * Events are queued in a bounded queue and delivered in order by a shared pool of dispatcher threads. Only one
+ * dispatcher thread works on a given queue at a time, so the listeners of a test see its events in the order
+ * they happened. When the queue is full, the test thread either waits for room or drops the event, depending on
+ * the serenity.step.listeners.async.when.full property.
+ */
+public class StepListenerDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepListenerDispatcher.class);
+
+    private static final ExecutorService DISPATCHER_THREADS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "serenity-step-listener-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public enum WhenFull {
+        BLOCK, DROP
+    }
+
+    private final BlockingQueue<Runnable> events;
+    private final WhenFull whenFull;
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean(false);
+    private final LongAdder droppedEvents = new LongAdder();
+
+    public StepListenerDispatcher(int queueSize, WhenFull whenFull) {
+        this.events = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.whenFull = whenFull;
+    }
+
+    public static boolean isEnabledIn(EnvironmentVariables environmentVariables) {
+        return ThucydidesSystemProperty.SERENITY_STEP_LISTENERS_ASYNC.booleanFrom(environmentVariables, false);
+    }
+
+    public static StepListenerDispatcher configuredIn(EnvironmentVariables environmentVariables) {
+        int queueSize = ThucydidesSystemProperty.SERENITY_STEP_LISTENERS_ASYNC_QUEUE_SIZE.integerFrom(environmentVariables, 1024);
+        String whenFull = ThucydidesSystemProperty.SERENITY_STEP_LISTENERS_ASYNC_WHEN_FULL.from(environmentVariables, "block");
+        return new StepListenerDispatcher(queueSize, "drop".equalsIgnoreCase(whenFull) ? WhenFull.DROP : WhenFull.BLOCK);
+    }
+
+    public void dispatch(Runnable event) {
+        if (!enqueue(event)) {
+            droppedEvents.increment();
+            LOGGER.debug("Step listener queue is full: event dropped");
+        }
+        scheduleDelivery();
+    }
+
+    private boolean enqueue(Runnable event) {
+        if (whenFull == WhenFull.DROP) {
+            return events.offer(event);
+        }
+        try {
+            events.put(event);
+            return true;
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void scheduleDelivery() {
+        if (deliveryScheduled.compareAndSet(false, true)) {
+            DISPATCHER_THREADS.execute(this::deliverQueuedEvents);
+        }
+    }
+
+    private void deliverQueuedEvents() {
+        try {
+            Runnable event;
+            while ((event = events.poll()) != null) {
+                try {
+                    event.run();
+                } catch (Throwable listenerFailure) {
+                    LOGGER.warn("Asynchronous step listener failed: {}", listenerFailure.getMessage(), listenerFailure);
+                }
+            }
+        } finally {
+            deliveryScheduled.set(false);
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+        // An event may have been queued after the queue was found empty but before the delivery was marked as finished
+        if (!events.isEmpty()) {
+            scheduleDelivery();
+        }
+    }
+
+    /**
+     * Waits until every event queued so far has been delivered, or until the timeout expires.
+     *
+     * @return false if some events had still not been delivered when the timeout expired.
+     */
+    public boolean awaitDelivery(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (!events.isEmpty() || deliveryScheduled.get()) {
+                long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+                if (remainingMillis <= 0) {
+                    LOGGER.warn("Asynchronous step listeners are still busy after {} seconds", timeout.getSeconds());
+                    return false;
+                }
+                try {
+                    wait(remainingMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+}
@@ -0,0 +1,166 @@
+package net.thucydides.core.steps;
+
+import com.google.common.base.Splitter;
+import net.serenitybdd.annotations.Pending;
+import net.serenitybdd.annotations.Step;
+import net.serenitybdd.annotations.StepGroup;
+import net.serenitybdd.annotations.TestAnnotations;
+import net.serenitybdd.core.SkipNested;
+import net.thucydides.core.steps.StepInterceptor.PrimitiveReturnType;
+import net.thucydides.model.steps.AnnotatedStepDescription;
+import net.thucydides.model.steps.ScreenplayInspector;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What the step interceptor needs to know about a method, read once using reflection.
+ * <p>
+ * The metadata only depends on the method itself, so it is shared by all the step library proxies created by the
+ * {@link StepFactory}, across tests and threads.
+ */
+class StepMethodMetadata {
+
+    private static final Map<Method, StepMethodMetadata> METADATA = new ConcurrentHashMap<>();
+
+    private static final ClassValue<String> DOMAIN_PACKAGES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            Package classPackage = type.getPackage();
+            return packageDomainName((classPackage != null) ? classPackage.getName() : "");
+        }
+    };
+
+    private static final List<String> OBJECT_METHODS
+            = Arrays.asList("toString",
+            "equals",
+            "hashcode",
+            "clone",
+            "notify",
+            "notifyAll",
+            "wait",
+            "finalize",
+            "getMetaClass");
+
+    private final boolean coreLanguageMethod;
+    private final String domainPackage;
+    private final boolean testStep;
+    private final boolean stepAnnotated;
+    private final boolean pending;
+    private final boolean ignored;
+    private final boolean nestedMethodsSkipped;
+    private final String stepName;
+    private final PrimitiveReturnType returnType;
+
+    private StepMethodMetadata(Method method) {
+        this.coreLanguageMethod = method.getDeclaringClass() == Object.class || OBJECT_METHODS.contains(method.getName());
+        this.domainPackage = domainPackageOf(method.getDeclaringClass());
+        this.stepAnnotated = method.getAnnotation(Step.class) != null;
+        this.testStep = isAnnotatedWithAValidStepAnnotation(method) || ScreenplayInspector.isAScreenplayPerformAsMethod(method);
+        this.pending = method.getAnnotation(Pending.class) != null;
+        this.ignored = TestAnnotations.isIgnored(method);
+        this.nestedMethodsSkipped = TestAnnotations.shouldSkipNested(method)
+                || SkipNested.class.isAssignableFrom(method.getDeclaringClass());
+        this.stepName = StepName.fromStepAnnotationIn(method).orElse(method.getName());
+        this.returnType = returnTypeOf(method);
+    }
+
+    static StepMethodMetadata of(Method method) {
+        return METADATA.computeIfAbsent(method, StepMethodMetadata::new);
+    }
+
+    static String domainPackageOf(Class<?> type) {
+        return DOMAIN_PACKAGES.get(type);
+    }
+
+    private static String packageDomainName(String methodPackage) {
+        List<String> packages = Splitter.on(".").omitEmptyStrings().splitToList(methodPackage);
+
+        if (packages.size() == 0) {
+            return "";
+        } else if (packages.size() == 1) {
+            return packages.get(0);
+        } else {
+            return packages.get(0) + "." + packages.get(1);
+        }
+    }
+
+    private static boolean isAnnotatedWithAValidStepAnnotation(final Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            if ((annotation instanceof Step) || (annotation instanceof StepGroup)
+                    || AnnotatedStepDescription.isACompatibleStep(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PrimitiveReturnType returnTypeOf(final Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (returnType == String.class) {
+            return PrimitiveReturnType.STRING;
+        }
+        if (Long.class.isAssignableFrom(returnType) || returnType == long.class) {
+            return PrimitiveReturnType.LONG;
+        }
+        if (Integer.class.isAssignableFrom(returnType) || returnType == int.class) {
+            return PrimitiveReturnType.INTEGER;
+        }
+        if (Double.class.isAssignableFrom(returnType) || returnType == double.class) {
+            return PrimitiveReturnType.DOUBLE;
+        }
+        if (Float.class.isAssignableFrom(returnType) || returnType == float.class) {
+            return PrimitiveReturnType.FLOAT;
+        }
+        if (Boolean.class.isAssignableFrom(returnType) || returnType == boolean.class) {
+            return PrimitiveReturnType.BOOLEAN;
+        }
+        if (returnType == void.class) {
+            return PrimitiveReturnType.VOID;
+        }
+        return PrimitiveReturnType.UNSUPPORTED;
+    }
+
+    /**
+     * Methods inherited from Object, or Groovy's getMetaClass(), are never reported as steps.
+     */
+    boolean isCoreLanguageMethod() {
+        return coreLanguageMethod;
+    }
+
+    boolean isDeclaredInSameDomainAs(Class<?> callingClass) {
+        return domainPackage.equals(domainPackageOf(callingClass));
+    }
+
+    boolean isTestStep() {
+        return testStep;
+    }
+
+    boolean isStepAnnotated() {
+        return stepAnnotated;
+    }
+
+    boolean isPending() {
+        return pending;
+    }
+
+    boolean isIgnored() {
+        return ignored;
+    }
+
+    boolean shouldSkipNestedMethods() {
+        return nestedMethodsSkipped;
+    }
+
+    String getStepName() {
+        return stepName;
+    }
+
+    PrimitiveReturnType getReturnType() {
+        return returnType;
+    }
+}
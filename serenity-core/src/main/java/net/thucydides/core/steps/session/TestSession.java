@@ -40,6 +40,18 @@ public class TestSession {
         return sessionContext.get();
     }
 
+    /**
+     * Use the given test session context in the current thread, for example to let a task started by a test
+     * report its events to the session of that test.
+     */
+    public static void useTestSessionContext(TestSessionContext testSessionContext) {
+        if (testSessionContext == null) {
+            sessionContext.remove();
+        } else {
+            sessionContext.set(testSessionContext);
+        }
+    }
+
     public static void cleanupSession() {
         sessionContext.get().getStepEventBusEvents().clear();
     }
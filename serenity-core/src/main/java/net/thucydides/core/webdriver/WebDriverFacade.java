@@ -3,6 +3,8 @@ package net.thucydides.core.webdriver;
 import io.appium.java_client.android.AndroidDriver;
 import net.serenitybdd.core.SystemTimeouts;
 import net.serenitybdd.core.di.SerenityInfrastructure;
+import net.serenitybdd.core.webdriver.browserpools.BrowserPool;
+import net.serenitybdd.core.webdriver.browserpools.BrowserPools;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.webdriver.stubs.*;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
@@ -28,6 +30,7 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -170,6 +173,7 @@ public class WebDriverFacade implements WebDriver, JavascriptExecutor, HasCapabi
 
     private void forcedQuit() {
         try {
+            BrowserPools.configuredIn(getEnvironmentVariables()).ifPresent(browserPool -> browserPool.remove(getDriverInstance()));
             getDriverInstance().quit();
             proxiedWebDriver = null;
         } catch (WebDriverException e) {
@@ -186,6 +190,10 @@ public class WebDriverFacade implements WebDriver, JavascriptExecutor, HasCapabi
             if (StepEventBus.getParallelEventBus().isDryRun()) {
                 return new WebDriverStub();
             } else {
+                Optional<BrowserPool> browserPool = BrowserPools.configuredIn(getEnvironmentVariables());
+                if (browserPool.isPresent()) {
+                    return pooledDriverInstanceFrom(browserPool.get());
+                }
                 webDriverFactory.setupFixtureServices();
                 return webDriverFactory.newWebdriverInstance(driverClass, options, getEnvironmentVariables());
             }
@@ -194,6 +202,29 @@ public class WebDriverFacade implements WebDriver, JavascriptExecutor, HasCapabi
         }
     }
 
+    private WebDriver pooledDriverInstanceFrom(BrowserPool browserPool) {
+        // The default driver options are thread-local, so they are resolved here rather than on the warm-up thread
+        String resolvedOptions = (options.isEmpty()) ? ThucydidesWebDriverSupport.getDefaultDriverOptions().orElse(options) : options;
+        String browserType = driverClass.getName() + ":" + resolvedOptions;
+        EnvironmentVariables environmentVariables = getEnvironmentVariables();
+        // Fixture services are set up and shut down with each browser the pool starts and closes, not each time it is reused
+        Supplier<WebDriver> newBrowser = () -> {
+            webDriverFactory.setupFixtureServices();
+            return webDriverFactory.newWebdriverInstance(driverClass, resolvedOptions, environmentVariables);
+        };
+        Consumer<WebDriver> afterQuitting = browser -> webDriverFactory.shutdownFixtureServices();
+
+        WebDriver driver = browserPool.acquire(browserType, newBrowser, afterQuitting);
+        browserPool.warmUp(browserType, newBrowser, afterQuitting, BrowserPools.warmUpSizeIn(environmentVariables));
+        return driver;
+    }
+
+    private boolean releasedToBrowserPool(WebDriver driver) {
+        return BrowserPools.configuredIn(getEnvironmentVariables())
+                .map(browserPool -> browserPool.release(driver))
+                .orElse(false);
+    }
+
     public <X> X getScreenshotAs(final OutputType<X> target) {
         if (proxyInstanciated() && driverCanTakeScreenshots()) {
             try {
@@ -326,8 +357,10 @@ public class WebDriverFacade implements WebDriver, JavascriptExecutor, HasCapabi
     public void quit() {
         if (proxyInstanciated()) {
             try {
-                getDriverInstance().quit();
-                webDriverFactory.shutdownFixtureServices();
+                if (!releasedToBrowserPool(getDriverInstance())) {
+                    getDriverInstance().quit();
+                    webDriverFactory.shutdownFixtureServices();
+                }
                 webDriverFactory.releaseTimoutFor(getDriverInstance());
 
             } catch (WebDriverException e) {
@@ -0,0 +1,116 @@
+package net.serenitybdd.core.parallel
+
+import net.serenitybdd.core.Serenity
+import net.serenitybdd.core.eventbus.Broadcaster
+import net.thucydides.core.steps.StepEventBus
+import net.thucydides.core.steps.StepInterceptor
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class WhenPropagatingTheTestExecutionContext extends Specification {
+
+    def executor = Executors.newSingleThreadExecutor()
+
+    def cleanup() {
+        executor.shutdown()
+        Serenity.getCurrentSession().clear()
+        StepInterceptor.resetExpectedExceptionType()
+        Broadcaster.unregisterAllListeners()
+    }
+
+    def "tasks should see the session variables of the test that started them"() {
+        given:
+        Serenity.setSessionVariable("flight").to("NY-LDN")
+        def context = TestExecutionContext.ofCurrentTest()
+        when:
+        def flight = executor.submit(context.propagateTo({ Serenity.sessionVariableCalled("flight") } as Callable)).get()
+        then:
+        flight == "NY-LDN"
+    }
+
+    def "session variables should not leak from one task to the next on the same thread"() {
+        given:
+        def context = TestExecutionContext.ofCurrentTest()
+        executor.submit(context.propagateTo({ Serenity.setSessionVariable("cart").to("3 items") } as Runnable)).get()
+        when:
+        def cart = executor.submit({ Serenity.sessionVariableCalled("cart") } as Callable).get()
+        then:
+        cart == null
+    }
+
+    def "the agent of the test thread should not be propagated to the tasks"() {
+        given:
+        Serenity.setSessionVariable(Agent.IN_THE_CURRENT_SESSION).to("Tracy")
+        def context = TestExecutionContext.ofCurrentTest()
+        when:
+        def agent = executor.submit(context.propagateTo({ Serenity.sessionVariableCalled(Agent.IN_THE_CURRENT_SESSION) } as Callable)).get()
+        then:
+        agent == null
+    }
+
+    def "tasks should report their events through the event buses of the test that started them"() {
+        given:
+        def testEventBus = StepEventBus.getEventBus()
+        def testBroadcaster = Broadcaster.getEventBus()
+        def context = TestExecutionContext.ofCurrentTest()
+        when:
+        def taskEventBuses = executor.submit(context.propagateTo({
+            [StepEventBus.getEventBus(), Broadcaster.getEventBus()]
+        } as Callable)).get()
+        then:
+        taskEventBuses[0].is(testEventBus)
+        taskEventBuses[1].is(testBroadcaster)
+    }
+
+    def "tasks should know which exception the test expects"() {
+        given:
+        StepInterceptor.setExpectedExceptionType(IllegalStateException)
+        def context = TestExecutionContext.ofCurrentTest()
+        when:
+        def expectedException = executor.submit(context.propagateTo({ StepInterceptor.getExpectedExceptionType() } as Callable)).get()
+        then:
+        expectedException == Optional.of(IllegalStateException)
+    }
+
+    def "the thread should get its own state back once the task is finished"() {
+        given:
+        def threadEventBus = executor.submit({
+            StepEventBus.overrideEventBusWith(StepEventBus.eventBusFor(null))
+            StepEventBus.eventBusOfCurrentThread().get()
+        } as Callable).get()
+        def context = TestExecutionContext.ofCurrentTest()
+        when:
+        executor.submit(context.propagateTo({ StepInterceptor.setExpectedExceptionType(IllegalStateException) } as Runnable)).get()
+        def stateAfterTheTask = executor.submit({
+            [StepEventBus.eventBusOfCurrentThread().orElse(null), StepInterceptor.getExpectedExceptionType()]
+        } as Callable).get()
+        then:
+        stateAfterTheTask[0].is(threadEventBus)
+        stateAfterTheTask[1] == Optional.empty()
+    }
+
+    @Unroll
+    def "no more than the maximum number of tasks should run at the same time (virtual threads: #useVirtualThreads)"() {
+        given:
+        def taskExecutor = TaskExecutors.newTaskExecutor(useVirtualThreads, 2)
+        def runningTasks = new AtomicInteger()
+        def mostTasksRunningAtOnce = new AtomicInteger()
+        def task = {
+            mostTasksRunningAtOnce.accumulateAndGet(runningTasks.incrementAndGet(), { a, b -> Math.max(a, b) })
+            Thread.sleep(50)
+            runningTasks.decrementAndGet()
+        } as Runnable
+        when:
+        (1..6).collect { taskExecutor.submit(task) }.each { it.get() }
+        then:
+        mostTasksRunningAtOnce.get() <= 2
+        cleanup:
+        taskExecutor.shutdown()
+        where:
+        useVirtualThreads << [true, false]
+    }
+}
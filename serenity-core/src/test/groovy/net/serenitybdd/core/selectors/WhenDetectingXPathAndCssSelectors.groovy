@@ -30,10 +30,29 @@ class WhenDetectingXPathAndCssSelectors extends Specification {
         '[target=_blank]'                 | false
         'a[href$=".pdf"]'                 | false
         'p::first-line'                   | false
+        ':first-child'                    | false
+        '.5'                              | true
         // The folloi
 // Fails:        'a:active'                        | false
 // Fails:        'div > p'                         | false
 // Fails:        'element+element'                 | false
 // Fails:        'p:nth-child(2)'                  | false
     }
+
+    def "should give the same classification when a selector is checked repeatedly"() {
+        expect:
+        (1..3).every { Selectors.isXPath("//div[@id='main']") }
+        (1..3).every { !Selectors.isXPath(".main") }
+    }
+
+    def "should not treat a missing selector as XPath"() {
+        expect:
+        !Selectors.isXPath(null)
+    }
+
+    def "should reuse the By objects created for the same selector"() {
+        expect:
+        Selectors.xpathOrCssSelector("//div[@id='main']").is(Selectors.xpathOrCssSelector("//div[@id='main']"))
+        Selectors.xpathOrCssSelector("css:.main").toString() == "By.cssSelector: .main"
+    }
 }
@@ -0,0 +1,267 @@
+package net.serenitybdd.core.webdriver.browserpools
+
+import net.serenitybdd.core.pages.DefaultTimeouts
+import net.thucydides.core.webdriver.stubs.ManageStub
+import net.thucydides.core.webdriver.stubs.TargetLocatorStub
+import net.thucydides.core.webdriver.stubs.TimeoutsStub
+import net.thucydides.core.webdriver.stubs.WebDriverStub
+import net.thucydides.model.environment.MockEnvironmentVariables
+import org.openqa.selenium.WebDriver
+import org.openqa.selenium.WebDriverException
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+class WhenPoolingBrowsers extends Specification {
+
+    static class FakeBrowser extends WebDriverStub {
+        boolean healthy = true
+        boolean quit = false
+        int scriptsExecuted = 0
+        String currentUrl = "http://localhost/page"
+        long implicitWaitInMillis = 0
+        String originalWindow = "original-window"
+        Set<String> openWindows = new LinkedHashSet<>([originalWindow])
+        String currentWindow = originalWindow
+
+        @Override
+        String getWindowHandle() {
+            return currentWindow
+        }
+
+        @Override
+        Set<String> getWindowHandles() {
+            return new LinkedHashSet<>(openWindows)
+        }
+
+        @Override
+        WebDriver.TargetLocator switchTo() {
+            def browser = this
+            return new TargetLocatorStub(this) {
+                @Override
+                WebDriver window(String nameOrHandle) {
+                    browser.currentWindow = nameOrHandle
+                    return browser
+                }
+            }
+        }
+
+        @Override
+        void close() {
+            openWindows.remove(currentWindow)
+        }
+
+        @Override
+        String getCurrentUrl() {
+            if (!healthy) {
+                throw new WebDriverException("browser has crashed")
+            }
+            return currentUrl
+        }
+
+        @Override
+        void get(String url) {
+            currentUrl = url
+        }
+
+        @Override
+        Object executeScript(String script, Object... args) {
+            scriptsExecuted++
+            return null
+        }
+
+        @Override
+        void quit() {
+            quit = true
+        }
+
+        @Override
+        WebDriver.Options manage() {
+            def browser = this
+            return new ManageStub() {
+                @Override
+                WebDriver.Timeouts timeouts() {
+                    return new TimeoutsStub() {
+                        @Override
+                        WebDriver.Timeouts implicitlyWait(long time, TimeUnit unit) {
+                            browser.implicitWaitInMillis = unit.toMillis(time)
+                            return this
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    def clock = new AtomicLong()
+    def startedBrowsers = Collections.synchronizedList([])
+    def newBrowser = { ->
+        def browser = new FakeBrowser()
+        startedBrowsers << browser
+        browser
+    }
+
+    def pool = new BrowserPool(2, 3, Duration.ofSeconds(60), new MockEnvironmentVariables(), { clock.get() })
+
+    def "a released browser should be cleaned up and reused by the next test"() {
+        given:
+        def firstBrowser = pool.acquire("chrome", newBrowser)
+        firstBrowser.get("http://localhost/somewhere")
+        when:
+        pool.release(firstBrowser)
+        def secondBrowser = pool.acquire("chrome", newBrowser)
+        then:
+        secondBrowser.is(firstBrowser)
+        startedBrowsers.size() == 1
+        firstBrowser.currentUrl == "about:blank"
+        firstBrowser.scriptsExecuted == 1
+        and:
+        pool.metrics.acquisitions == 2
+        pool.metrics.browsersReused == 1
+        pool.metrics.browsersStarted == 1
+    }
+
+    def "a released browser should get back the implicit wait that the next test starts with"() {
+        given:
+        def browser = pool.acquire("chrome", newBrowser)
+        browser.implicitWaitInMillis = 30000
+        when:
+        pool.release(browser)
+        then:
+        browser.implicitWaitInMillis == DefaultTimeouts.DEFAULT_IMPLICIT_WAIT_TIMEOUT.toMillis()
+    }
+
+    def "a released browser should only keep the window it started with open"() {
+        given:
+        def browser = pool.acquire("chrome", newBrowser)
+        browser.openWindows = new LinkedHashSet<>(["popup-1", browser.originalWindow, "popup-2"])
+        browser.currentWindow = "popup-2"
+        when:
+        pool.release(browser)
+        then:
+        browser.openWindows == [browser.originalWindow] as Set
+        browser.currentWindow == browser.originalWindow
+        pool.acquire("chrome", newBrowser).is(browser)
+    }
+
+    def "a browser whose original window has been closed should not be reused"() {
+        given:
+        def browser = pool.acquire("chrome", newBrowser)
+        browser.openWindows = new LinkedHashSet<>(["popup-1", "popup-2"])
+        when:
+        pool.release(browser)
+        then:
+        browser.quit
+        pool.metrics.idleBrowsers == 0
+    }
+
+    def "services set up with a browser should only be shut down once the pool closes the browser"() {
+        given:
+        def shutDownBrowsers = []
+        def browser = pool.acquire("chrome", newBrowser, { shutDownBrowsers << it })
+        when:
+        2.times {
+            pool.release(browser)
+            browser = pool.acquire("chrome", newBrowser, { shutDownBrowsers << it })
+        }
+        then:
+        shutDownBrowsers.isEmpty()
+        when:
+        pool.release(browser)
+        then:
+        shutDownBrowsers == [browser]
+    }
+
+    def "browsers should only be reused for the same kind of browser"() {
+        given:
+        pool.release(pool.acquire("chrome", newBrowser))
+        when:
+        def firefox = pool.acquire("firefox", newBrowser)
+        then:
+        startedBrowsers.size() == 2
+        firefox.is(startedBrowsers[1])
+    }
+
+    def "unhealthy browsers should be closed instead of being reused"() {
+        given:
+        def browser = pool.acquire("chrome", newBrowser)
+        pool.release(browser)
+        browser.healthy = false
+        when:
+        def nextBrowser = pool.acquire("chrome", newBrowser)
+        then:
+        !nextBrowser.is(browser)
+        browser.quit
+        pool.metrics.browsersDiscarded == 1
+    }
+
+    def "browsers should be closed once they reach their reuse limit"() {
+        given:
+        def browser = pool.acquire("chrome", newBrowser)
+        when:
+        3.times {
+            pool.release(browser)
+            browser = pool.acquire("chrome", newBrowser)
+        }
+        then:
+        startedBrowsers.size() == 2
+        startedBrowsers[0].quit
+        !startedBrowsers[1].quit
+    }
+
+    def "browsers that stay idle for too long should be evicted"() {
+        given:
+        def browser = pool.acquire("chrome", newBrowser)
+        pool.release(browser)
+        when:
+        clock.set(Duration.ofSeconds(61).toNanos())
+        pool.evictIdleBrowsers()
+        then:
+        browser.quit
+        pool.metrics.idleBrowsers == 0
+    }
+
+    def "the pool should not keep more idle browsers than its size"() {
+        given:
+        def browsers = (1..3).collect { pool.acquire("chrome", newBrowser) }
+        when:
+        def released = browsers.collect { pool.release(it) }
+        then:
+        released == [true, true, true]
+        pool.metrics.idleBrowsers == 2
+        browsers.count { it.quit } == 1
+    }
+
+    def "browsers that do not come from the pool should be left to the caller"() {
+        expect:
+        !pool.release(new FakeBrowser())
+    }
+
+    def "idle browsers should be closed when the pool shuts down"() {
+        given:
+        def idleBrowser = pool.acquire("chrome", newBrowser)
+        def browserInUse = pool.acquire("chrome", newBrowser)
+        pool.release(idleBrowser)
+        when:
+        pool.shutdown()
+        pool.release(browserInUse)
+        then:
+        idleBrowser.quit
+        browserInUse.quit
+    }
+
+    def "the pool can be warmed up in the background"() {
+        when:
+        pool.warmUp("chrome", newBrowser, 2)
+        def deadline = System.currentTimeMillis() + 5000
+        while (pool.metrics.idleBrowsers < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+        then:
+        pool.metrics.idleBrowsers == 2
+        startedBrowsers.contains(pool.acquire("chrome", newBrowser))
+        startedBrowsers.size() == 2
+    }
+}
@@ -0,0 +1,101 @@
+package net.thucydides.core.requirements
+
+import net.thucydides.model.environment.MockEnvironmentVariables
+import net.thucydides.model.requirements.DefaultCapabilityTypes
+import net.thucydides.model.requirements.FileSystemRequirementsTagProvider
+import net.thucydides.model.requirements.model.FeatureBackgroundNarrative
+import net.thucydides.model.requirements.model.Requirement
+import net.thucydides.model.requirements.model.cucumber.CucumberParser
+import net.thucydides.model.requirements.model.cucumber.FeatureDefinitionCache
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.file.Files
+
+class WhenLoadingRequirementsInParallel extends Specification {
+
+    def setup() {
+        DefaultCapabilityTypes.instance().clear()
+        FeatureDefinitionCache.clear()
+    }
+
+    def cleanup() {
+        FeatureDefinitionCache.clear()
+    }
+
+    def requirementTreeIn(String directory, boolean parallel) {
+        def environmentVariables = new MockEnvironmentVariables()
+        environmentVariables.setProperty("serenity.requirements.parallel.loading", Boolean.toString(parallel))
+        return new FileSystemRequirementsTagProvider(directory, 0, environmentVariables).getRequirements()
+                                                                                        .collect { describe(it) }
+    }
+
+    def describe(Requirement requirement) {
+        return [requirement.name, requirement.type, requirement.path, requirement.displayName, requirement.children.collect { describe(it) }]
+    }
+
+    @Unroll
+    def "should build the same requirements tree when the requirements in #directory are read in parallel"() {
+        when:
+        def sequentialTree = requirementTreeIn(directory, false)
+        def parallelTree = requirementTreeIn(directory, true)
+        then:
+        !sequentialTree.isEmpty()
+        parallelTree == sequentialTree
+        where:
+        directory << ["sample-story-directories/capabilities_and_features",
+                      "sample-story-directories/feature_files",
+                      "stories"]
+    }
+
+    def "should reuse feature definitions stored by an earlier run while the feature file is unchanged"() {
+        given:
+        def cacheDirectory = Files.createTempDirectory("feature-definitions").toFile()
+        cacheDirectory.deleteOnExit()
+        def featureFile = Files.createTempFile("grow_apples", ".feature").toFile()
+        featureFile.deleteOnExit()
+        featureFile.text = "Feature: Grow apples\n  Scenario: Pick an apple\n    Given an apple tree\n"
+        and:
+        def environmentVariables = new MockEnvironmentVariables()
+        environmentVariables.setProperty("serenity.requirements.cache.directory", cacheDirectory.absolutePath)
+        def parser = new CucumberParser(environmentVariables)
+        when: "the feature file is first read"
+        def firstDefinition = new FeatureDefinitionCache(environmentVariables).loadFeatureDefinition(featureFile, parser)
+        then: "its definition is stored in the cache directory"
+        firstDefinition.get().title.get() == "Grow apples"
+        def storedDefinitions = cacheDirectory.listFiles().findAll { it.name.endsWith(".json") }
+        storedDefinitions.size() == 1
+        when: "a later run reads the same feature file"
+        FeatureDefinitionCache.clear()
+        storedDefinitions[0].text = storedDefinitions[0].text.replace("Grow apples", "Grow pears")
+        def reusedDefinition = new FeatureDefinitionCache(environmentVariables).loadFeatureDefinition(featureFile, parser)
+        then: "the stored definition is used rather than the feature file"
+        reusedDefinition.get().title.get() == "Grow pears"
+        when: "the feature file changes"
+        featureFile.text = "Feature: Grow oranges\n  Scenario: Pick an orange\n    Given an orange tree\n"
+        def updatedDefinition = new FeatureDefinitionCache(environmentVariables).loadFeatureDefinition(featureFile, parser)
+        then: "the feature file is read again"
+        updatedDefinition.get().title.get() == "Grow oranges"
+    }
+
+    def "should give each caller its own copy of a cached feature definition"() {
+        given:
+        def featureFile = Files.createTempFile("grow_lemons", ".feature").toFile()
+        featureFile.deleteOnExit()
+        featureFile.text = "@fruit\nFeature: Grow lemons\n  Scenario: Pick a lemon\n    Given a lemon tree\n"
+        def environmentVariables = new MockEnvironmentVariables()
+        def parser = new CucumberParser(environmentVariables)
+        def cache = new FeatureDefinitionCache(environmentVariables)
+        when:
+        def firstDefinition = cache.loadFeatureDefinition(featureFile, parser).get()
+        firstDefinition.withBackground(new FeatureBackgroundNarrative("Changed", "by the first caller"))
+        firstDefinition.scenarios.clear()
+        firstDefinition.tags.clear()
+        def secondDefinition = cache.loadFeatureDefinition(featureFile, parser).get()
+        then:
+        !secondDefinition.is(firstDefinition)
+        !secondDefinition.background().isPresent()
+        secondDefinition.scenarios == ["Pick a lemon"]
+        secondDefinition.tags*.name.contains("fruit")
+    }
+}
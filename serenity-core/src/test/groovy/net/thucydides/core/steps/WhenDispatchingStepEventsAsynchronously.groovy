@@ -0,0 +1,97 @@
+package net.thucydides.core.steps
+
+import net.thucydides.model.configuration.SystemPropertiesConfiguration
+import net.thucydides.model.environment.MockEnvironmentVariables
+import net.thucydides.model.steps.AsynchronousStepListener
+import net.thucydides.model.steps.ExecutedStepDescription
+import net.thucydides.model.steps.StepListenerAdapter
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class WhenDispatchingStepEventsAsynchronously extends Specification {
+
+    static class SlowListener extends StepListenerAdapter implements AsynchronousStepListener {
+        def finishedSteps = new CopyOnWriteArrayList<String>()
+
+        @Override
+        void stepStarted(ExecutedStepDescription description) {
+            Thread.sleep(5)
+            finishedSteps << description.title
+        }
+    }
+
+    def "events should be delivered in order, away from the test thread"() {
+        given:
+        def dispatcher = new StepListenerDispatcher(16, StepListenerDispatcher.WhenFull.BLOCK)
+        def deliveredEvents = new CopyOnWriteArrayList<Integer>()
+        def deliveryThreads = new CopyOnWriteArrayList<String>()
+        when:
+        (1..500).each { event ->
+            dispatcher.dispatch({
+                deliveredEvents << event
+                deliveryThreads << Thread.currentThread().name
+            } as Runnable)
+        }
+        dispatcher.awaitDelivery(Duration.ofSeconds(10))
+        then:
+        deliveredEvents == (1..500).toList()
+        !deliveryThreads.contains(Thread.currentThread().name)
+    }
+
+    def "waiting for delivery should wait for slow listeners to finish"() {
+        given:
+        def dispatcher = new StepListenerDispatcher(16, StepListenerDispatcher.WhenFull.BLOCK)
+        def slowListener = new SlowListener()
+        def listener = new QueuedStepListener(slowListener, dispatcher)
+        when:
+        (1..20).each { listener.stepStarted(ExecutedStepDescription.withTitle("step $it")) }
+        def delivered = dispatcher.awaitDelivery(Duration.ofSeconds(10))
+        then:
+        delivered
+        slowListener.finishedSteps.size() == 20
+    }
+
+    def "events can be dropped rather than slowing down the test when the queue is full"() {
+        given:
+        def dispatcher = new StepListenerDispatcher(1, StepListenerDispatcher.WhenFull.DROP)
+        def firstEventStarted = new CountDownLatch(1)
+        def releaseFirstEvent = new CountDownLatch(1)
+        dispatcher.dispatch({
+            firstEventStarted.countDown()
+            releaseFirstEvent.await(10, TimeUnit.SECONDS)
+        } as Runnable)
+        firstEventStarted.await(10, TimeUnit.SECONDS)
+        when:
+        dispatcher.dispatch({} as Runnable)
+        dispatcher.dispatch({} as Runnable)
+        releaseFirstEvent.countDown()
+        dispatcher.awaitDelivery(Duration.ofSeconds(10))
+        then:
+        dispatcher.droppedEventCount == 1
+    }
+
+    def "only listeners that declare themselves asynchronous should be queued, and only when asynchronous listeners are enabled"() {
+        given:
+        def environmentVariables = new MockEnvironmentVariables()
+        environmentVariables.setProperty("serenity.step.listeners.async", enabled)
+        def eventBus = new StepEventBus(environmentVariables, new SystemPropertiesConfiguration(environmentVariables))
+        def asynchronousListener = new SlowListener()
+        def synchronousListener = new StepListenerAdapter()
+        eventBus.registerListener(asynchronousListener)
+        eventBus.registerListener(synchronousListener)
+        when:
+        def listeners = eventBus.getAllListeners()
+        then:
+        listeners.contains(synchronousListener)
+        listeners.any { it instanceof QueuedStepListener } == queued
+        listeners.contains(asynchronousListener) == !queued
+        where:
+        enabled | queued
+        "true"  | true
+        "false" | false
+    }
+}
@@ -0,0 +1,75 @@
+package net.serenitybdd.core.photography.resizing;
+
+import net.serenitybdd.annotations.BlurLevel;
+import net.serenitybdd.core.photography.ScreenshotNegative;
+import net.thucydides.model.environment.MockEnvironmentVariables;
+import net.thucydides.model.util.FileSystemUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the throughput and output size of the PNG compression levels when resizing representative screenshots.
+ * Not a rigorous benchmark, and not part of the unit test suite: run it on demand with
+ * {@code mvn test -Dtest=ScreenshotResizingBenchmark}.
+ */
+public class ScreenshotResizingBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotResizingBenchmark.class);
+
+    private static final int ROUNDS = 5;
+
+    private static final List<String> SAMPLE_SCREENSHOTS = Arrays.asList(
+            "/screenshots/google_page_1.png",
+            "/screenshots/google_page_2.png",
+            "/screenshots/google_page_3.png",
+            "/screenshots/amazon.png");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void report_the_resizing_throughput_and_output_size_for_each_compression_level() throws IOException {
+        for (int compressionLevel : new int[]{-1, 1, 6, 9}) {
+            Resizer resizer = resizerFor(800, compressionLevel);
+            long totalBytes = 0;
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                for (String sampleScreenshot : SAMPLE_SCREENSHOTS) {
+                    Path screenshot = copyOf(sampleScreenshot);
+                    resizer.process(new ScreenshotNegative(screenshot, screenshot, BlurLevel.NONE));
+                    totalBytes += Files.size(screenshot);
+                }
+            }
+            long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            int screenshots = ROUNDS * SAMPLE_SCREENSHOTS.size();
+            LOGGER.info("Compression level {}: {} screenshots/s, {} bytes per screenshot on average",
+                    compressionLevel, screenshots * 1000 / elapsedMillis, totalBytes / screenshots);
+        }
+    }
+
+    private Resizer resizerFor(int width, int compressionLevel) {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.resized.image.width", Integer.toString(width));
+        if (compressionLevel >= 0) {
+            environmentVariables.setProperty("serenity.screenshot.png.compression.level", Integer.toString(compressionLevel));
+        }
+        return new Resizer(environmentVariables);
+    }
+
+    private Path copyOf(String sampleScreenshot) throws IOException {
+        File source = FileSystemUtils.getResourceAsFile(sampleScreenshot);
+        Path copy = temporaryFolder.newFile().toPath();
+        return Files.copy(source.toPath(), copy, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
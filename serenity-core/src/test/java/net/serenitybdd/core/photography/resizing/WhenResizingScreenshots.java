@@ -0,0 +1,86 @@
+package net.serenitybdd.core.photography.resizing;
+
+import net.serenitybdd.annotations.BlurLevel;
+import net.serenitybdd.core.photography.ScreenshotNegative;
+import net.thucydides.model.environment.MockEnvironmentVariables;
+import net.thucydides.model.util.FileSystemUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class WhenResizingScreenshots {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void should_scale_screenshots_down_to_the_configured_width() throws IOException {
+        Path screenshot = copyOf("/screenshots/google_page_1.png");
+
+        resizerFor(600, -1).process(negativeFor(screenshot));
+
+        BufferedImage resizedImage = ImageIO.read(screenshot.toFile());
+        assertThat(resizedImage.getWidth(), is(600));
+        assertThat(resizedImage.getHeight(), is(394));
+    }
+
+    @Test
+    public void should_leave_screenshots_that_already_have_the_right_width_untouched() throws IOException {
+        Path screenshot = copyOf("/screenshots/google_page_1.png");
+        FileTime originalModificationTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(screenshot, originalModificationTime);
+        byte[] originalContent = Files.readAllBytes(screenshot);
+
+        resizerFor(1200, -1).process(negativeFor(screenshot));
+
+        assertThat(Files.getLastModifiedTime(screenshot), is(originalModificationTime));
+        assertThat(Arrays.equals(Files.readAllBytes(screenshot), originalContent), is(true));
+    }
+
+    @Test
+    public void should_write_smaller_screenshots_with_higher_compression_levels() throws IOException {
+        long uncompressedSize = resizedSizeOf("/screenshots/google_page_1.png", 0);
+        long compressedSize = resizedSizeOf("/screenshots/google_page_1.png", 9);
+
+        assertThat(compressedSize, lessThan(uncompressedSize));
+    }
+
+    private long resizedSizeOf(String sampleScreenshot, int compressionLevel) throws IOException {
+        Path screenshot = copyOf(sampleScreenshot);
+        resizerFor(800, compressionLevel).process(negativeFor(screenshot));
+        return Files.size(screenshot);
+    }
+
+    private Resizer resizerFor(int width, int compressionLevel) {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.resized.image.width", Integer.toString(width));
+        if (compressionLevel >= 0) {
+            environmentVariables.setProperty("serenity.screenshot.png.compression.level", Integer.toString(compressionLevel));
+        }
+        return new Resizer(environmentVariables);
+    }
+
+    private ScreenshotNegative negativeFor(Path screenshot) {
+        return new ScreenshotNegative(screenshot, screenshot, BlurLevel.NONE);
+    }
+
+    private Path copyOf(String sampleScreenshot) throws IOException {
+        File source = FileSystemUtils.getResourceAsFile(sampleScreenshot);
+        Path copy = temporaryFolder.newFile().toPath();
+        return Files.copy(source.toPath(), copy, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,81 @@
+package net.thucydides.core.steps;
+
+import net.serenitybdd.annotations.Pending;
+import net.serenitybdd.annotations.Step;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class WhenReadingStepMethodMetadata {
+
+    public static class SampleSteps {
+        @Step("the user logs in as {0}")
+        public void logs_in_as(String user) {}
+
+        @Step(callNestedMethods = false)
+        @Pending
+        public int a_pending_step() {
+            return 1;
+        }
+
+        public String getName() {
+            return "name";
+        }
+
+        @Override
+        public String toString() {
+            return "sample steps";
+        }
+    }
+
+    private Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return SampleSteps.class.getMethod(name, parameterTypes);
+    }
+
+    @Test
+    public void metadata_should_be_computed_once_per_method() throws Exception {
+        assertThat(StepMethodMetadata.of(method("logs_in_as", String.class)),
+                is(sameInstance(StepMethodMetadata.of(method("logs_in_as", String.class)))));
+    }
+
+    @Test
+    public void should_read_the_step_annotations() throws Exception {
+        StepMethodMetadata metadata = StepMethodMetadata.of(method("logs_in_as", String.class));
+
+        assertThat(metadata.isTestStep(), is(true));
+        assertThat(metadata.isStepAnnotated(), is(true));
+        assertThat(metadata.isPending(), is(false));
+        assertThat(metadata.shouldSkipNestedMethods(), is(false));
+        assertThat(metadata.getStepName(), is("the user logs in as {0}"));
+        assertThat(metadata.getReturnType(), is(StepInterceptor.PrimitiveReturnType.VOID));
+    }
+
+    @Test
+    public void should_know_if_a_step_is_pending_and_skips_nested_methods() throws Exception {
+        StepMethodMetadata metadata = StepMethodMetadata.of(method("a_pending_step"));
+
+        assertThat(metadata.isPending(), is(true));
+        assertThat(metadata.shouldSkipNestedMethods(), is(true));
+        assertThat(metadata.getStepName(), is("a_pending_step"));
+        assertThat(metadata.getReturnType(), is(StepInterceptor.PrimitiveReturnType.INTEGER));
+    }
+
+    @Test
+    public void getters_and_object_methods_should_not_be_steps() throws Exception {
+        assertThat(StepMethodMetadata.of(method("getName")).isTestStep(), is(false));
+        assertThat(StepMethodMetadata.of(method("toString")).isCoreLanguageMethod(), is(true));
+        assertThat(StepMethodMetadata.of(method("hashCode")).isCoreLanguageMethod(), is(true));
+    }
+
+    @Test
+    public void methods_should_belong_to_the_domain_of_their_top_level_packages() throws Exception {
+        StepMethodMetadata metadata = StepMethodMetadata.of(method("getName"));
+
+        assertThat(metadata.isDeclaredInSameDomainAs(StepFactory.class), is(true));
+        assertThat(metadata.isDeclaredInSameDomainAs(String.class), is(false));
+    }
+}
@@ -19,254 +19,260 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.stream.Collectors.toList;
 
 
 
+/**
+ * The state of the scenarios of a feature file, for a reporter that receives Cucumber events from many threads.
+ * <p>
+ * The steps of a test case are queued in a {@link TestCaseSteps}, which is only used by the thread running that test
+ * case. Scenario-level state, which the examples of a scenario outline share, lives in a {@link ScenarioState} per
+ * scenario id. Only the lookups of these objects and the feature-level aggregation use concurrent collections, so
+ * events for different scenarios never wait for each other.
+ */
 public class ScenarioContextParallel {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioContextParallel.class);
 
-    private final Map<String,List<StepEventBusEvent>> highPriorityEventBusEvents = Collections.synchronizedMap(new HashMap<>());
-    private final Map<UUID,Queue<Step>> stepQueue = Collections.synchronizedMap(new HashMap<>());
-    private final Map<UUID,Queue<TestStep>> testStepQueue = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String,Boolean> examplesRunningMap = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String,Boolean> addingScenarioOutlineStepsMap = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String,DataTable> tableMap = Collections.synchronizedMap(new HashMap<>());
-    //map1: keys are scenario ids
-    //map2: keys are line numbers, entries are example rows (key=header, value=rowValue )
-    private final Map<String,Map<Long, Map<String, String>>> exampleRowsMap = Collections.synchronizedMap(new HashMap<>());
-    //keys are line numbers
-    private Map<Long, List<Tag>> exampleTags;
-
-    private final Map<String,AtomicInteger> exampleCountMap = Collections.synchronizedMap(new HashMap<>());
-
-    //key- ScenarioId
-    private final Map<String,Boolean> waitingToProcessBackgroundSteps = Collections.synchronizedMap(new HashMap<>());
+    // key - scenarioId
+    private final Map<String, ScenarioState> scenarios = new ConcurrentHashMap<>();
 
-    private final List<String> currentScenarioIdList = Collections.synchronizedList(new ArrayList<>());
+    // key - test case id
+    private final Map<UUID, TestCaseSteps> testCases = new ConcurrentHashMap<>();
 
-    //key - scenarioId
-    private final Map<String,Scenario> currentScenarioDefinitionMap = Collections.synchronizedMap(new HashMap<>());
+    //keys are line numbers
+    private volatile Map<Long, List<Tag>> exampleTags;
 
-    private final Map<String,String> currentScenarioMap =  Collections.synchronizedMap(new HashMap<>());
+    private final Set<String> currentScenarioIds = ConcurrentHashMap.newKeySet();
 
-    private List<Tag> featureTags = new ArrayList<>();
+    private volatile List<Tag> featureTags = new ArrayList<>();
 
     private final FeaturePathFormatter featurePathFormatter = new FeaturePathFormatter();
 
-    private final List<BaseStepListener> baseStepListeners;
-
+    private final List<BaseStepListener> baseStepListeners = new CopyOnWriteArrayList<>();
 
     // key-line in feature file; value - list with StepBusEvents corresponding to this line.
-    private final Map<Integer,List<StepEventBusEvent>> allTestEventsByLine = Collections.synchronizedMap(new TreeMap<>());
+    private final Map<Integer,List<StepEventBusEvent>> allTestEventsByLine = new ConcurrentSkipListMap<>();
 
     private final URI scenarioContextURI;
 
-    private StepEventBus stepEventBus;
-
-    // key - scenarioId
-    private final Map<String,List<Tag>> scenarioTags = Collections.synchronizedMap(new HashMap<>());
-
+    private volatile StepEventBus stepEventBus;
 
     public ScenarioContextParallel(URI scenarioContextURI) {
-        this.baseStepListeners = Collections.synchronizedList(new ArrayList<>());
         this.scenarioContextURI = scenarioContextURI;
         this.stepEventBus = stepEventBus(scenarioContextURI);
     }
 
-    public synchronized Scenario currentScenarioOutline(String scenarioId) {
-        return currentScenarioDefinitionMap.get(scenarioId);
+    private ScenarioState scenario(String scenarioId) {
+        return scenarios.computeIfAbsent(Objects.toString(scenarioId, ""), id -> new ScenarioState());
     }
 
-    public synchronized Queue<Step> getStepQueue(TestCase testCase) {
-        stepQueue.computeIfAbsent(testCase.getId(), k -> new LinkedList<>());
-        return stepQueue.get(testCase.getId());
+    private TestCaseSteps stepsOf(TestCase testCase) {
+        return testCases.computeIfAbsent(testCase.getId(), id -> new TestCaseSteps());
     }
 
-    public synchronized Queue<TestStep> getTestStepQueue(TestCase testCase/*String scenarioId*/) {
-        testStepQueue.computeIfAbsent(testCase.getId(), k -> new LinkedList<>());
-        return testStepQueue.get(testCase.getId());
+    public Scenario currentScenarioOutline(String scenarioId) {
+        return scenario(scenarioId).definition;
     }
 
-    public synchronized boolean examplesAreRunning(String scenarioId) {
-        if(!examplesRunningMap.containsKey(scenarioId)) {
-            return false;
-        }
-        return examplesRunningMap.get(scenarioId);
+    public Queue<Step> getStepQueue(TestCase testCase) {
+        return stepsOf(testCase).steps;
+    }
+
+    public Queue<TestStep> getTestStepQueue(TestCase testCase) {
+        return stepsOf(testCase).testSteps;
     }
 
-    public synchronized Map<Long, Map<String, String>> getExampleRows(String scenarioId) {
-        return exampleRowsMap.get(scenarioId);
+    public boolean examplesAreRunning(String scenarioId) {
+        return scenario(scenarioId).examplesRunning;
     }
 
-    public synchronized void setExampleRows(String scenarioId,Map<Long, Map<String, String>> exampleRows) {
-        this.exampleRowsMap.put(scenarioId,exampleRows);
+    public Map<Long, Map<String, String>> getExampleRows(String scenarioId) {
+        return scenario(scenarioId).exampleRows;
     }
 
-    public synchronized Map<Long, List<Tag>> getExampleTags() {
+    public void setExampleRows(String scenarioId,Map<Long, Map<String, String>> exampleRows) {
+        scenario(scenarioId).exampleRows = exampleRows;
+    }
+
+    /**
+     * The example rows of a scenario outline, keyed by line number, created the first time they are needed.
+     */
+    public Map<Long, Map<String, String>> exampleRowsFor(String scenarioId) {
+        return scenario(scenarioId).exampleRows();
+    }
+
+    public Map<Long, List<Tag>> getExampleTags() {
         return exampleTags;
     }
 
     //TODO - use a map with scenarioId as key
-    public synchronized void setExampleTags(Map<Long, List<Tag>> exampleTags) {
+    public void setExampleTags(Map<Long, List<Tag>> exampleTags) {
         this.exampleTags =  exampleTags;
     }
 
-    public synchronized int getExampleCount(String scenarioId)  {
-        if (exampleCountMap.containsKey(scenarioId)) {
-            return exampleCountMap.get(scenarioId).get();
+    /**
+     * The tags of the example rows in this feature, keyed by line number, created the first time they are needed.
+     */
+    public Map<Long, List<Tag>> exampleTags() {
+        Map<Long, List<Tag>> tags = exampleTags;
+        if (tags == null) {
+            synchronized (this) {
+                if (exampleTags == null) {
+                    exampleTags = new ConcurrentHashMap<>();
+                }
+                tags = exampleTags;
+            }
         }
-        return 0;
+        return tags;
     }
 
-    public synchronized int decrementExampleCount(String scenarioId) {
-        if(exampleCountMap.get(scenarioId) != null) {
-            return exampleCountMap.get(scenarioId).decrementAndGet();
-        }
+    public int getExampleCount(String scenarioId)  {
+        AtomicInteger exampleCount = scenario(scenarioId).exampleCount;
+        return (exampleCount != null) ? exampleCount.get() : 0;
+    }
+
+    public int decrementExampleCount(String scenarioId) {
+        AtomicInteger exampleCount = scenario(scenarioId).exampleCount;
         //single example
-        return 0;
+        return (exampleCount != null) ? exampleCount.decrementAndGet() : 0;
     }
 
-    public synchronized DataTable getTable(String scenarioId) {
-        return tableMap.get(scenarioId);
+    public DataTable getTable(String scenarioId) {
+        return scenario(scenarioId).table;
     }
 
-    public synchronized boolean isWaitingToProcessBackgroundSteps(String scenarioId) {
-        return waitingToProcessBackgroundSteps.getOrDefault(scenarioId, false);
+    public boolean isWaitingToProcessBackgroundSteps(String scenarioId) {
+        return scenario(scenarioId).waitingToProcessBackgroundSteps;
     }
 
-    public synchronized void addCurrentScenarioId(String scenarioId) {
+    public void addCurrentScenarioId(String scenarioId) {
         if(scenarioId != null) {
-            currentScenarioIdList.add(scenarioId);
+            currentScenarioIds.add(scenarioId);
         }
         else {
-            currentScenarioIdList.clear();
+            currentScenarioIds.clear();
         }
     }
 
-    public synchronized Scenario getCurrentScenarioDefinition(String scenarioId) {
-        return currentScenarioDefinitionMap.get(scenarioId);
+    public Scenario getCurrentScenarioDefinition(String scenarioId) {
+        return scenario(scenarioId).definition;
     }
 
-    public synchronized String getCurrentScenario(String scenarioId) {
-        return currentScenarioMap.get(scenarioId);
+    public String getCurrentScenario(String scenarioId) {
+        return scenario(scenarioId).currentScenario;
     }
 
-    public synchronized void setCurrentScenario(String scenarioId,String currentScenario) {
-        this.currentScenarioMap.put(scenarioId,currentScenario);
+    public void setCurrentScenario(String scenarioId,String currentScenario) {
+        scenario(scenarioId).currentScenario = currentScenario;
     }
 
-    public synchronized List<Tag> getFeatureTags() {
+    public List<Tag> getFeatureTags() {
         return featureTags;
     }
 
-    public synchronized boolean isAddingScenarioOutlineSteps(String scenarioId) {
-        return addingScenarioOutlineStepsMap.get(scenarioId) != null ? addingScenarioOutlineStepsMap.get(scenarioId) : false;
+    public boolean isAddingScenarioOutlineSteps(String scenarioId) {
+        return scenario(scenarioId).addingScenarioOutlineSteps;
     }
 
-    public synchronized void doneAddingScenarioOutlineSteps(String scenarioId) {
-        this.addingScenarioOutlineStepsMap.put(scenarioId,false);
+    public void doneAddingScenarioOutlineSteps(String scenarioId) {
+        scenario(scenarioId).addingScenarioOutlineSteps = false;
     }
 
-    public synchronized void setFeatureTags(List<Tag> tags) {
+    public void setFeatureTags(List<Tag> tags) {
         this.featureTags = new ArrayList<>(tags);
     }
 
-    public synchronized void setCurrentScenarioDefinitionFrom(String scenarioId,TestSourcesModel.AstNode astNode) {
-        this.currentScenarioDefinitionMap.put(scenarioId, TestSourcesModel.getScenarioDefinition(astNode));
+    public void setCurrentScenarioDefinitionFrom(String scenarioId,TestSourcesModel.AstNode astNode) {
+        scenario(scenarioId).definition = TestSourcesModel.getScenarioDefinition(astNode);
     }
 
-    public synchronized boolean isAScenarioOutline(String scenarioId) {
-        return currentScenarioDefinitionMap.get(scenarioId) != null  &&
-                currentScenarioDefinitionMap.get(scenarioId).getExamples().size() > 0;
+    public boolean isAScenarioOutline(String scenarioId) {
+        Scenario definition = scenario(scenarioId).definition;
+        return definition != null && definition.getExamples().size() > 0;
     }
 
-    public synchronized void startNewExample(String scenarioId) {
-        examplesRunningMap.put(scenarioId,true);
-        addingScenarioOutlineStepsMap.put(scenarioId,true);
+    public void startNewExample(String scenarioId) {
+        ScenarioState scenario = scenario(scenarioId);
+        scenario.examplesRunning = true;
+        scenario.addingScenarioOutlineSteps = true;
     }
 
-    public synchronized void setExamplesRunning(String scenarioId,boolean examplesRunning) {
-        examplesRunningMap.put(scenarioId, examplesRunning);
+    public void setExamplesRunning(String scenarioId,boolean examplesRunning) {
+        scenario(scenarioId).examplesRunning = examplesRunning;
     }
 
-    /*public synchronized List<Tag> getScenarioTags() {
-        return currentScenarioDefinition.getTags();
-    }
-
-    public synchronized String getScenarioName() {
-        return currentScenarioDefinition.getName();
-    }
-
-    public synchronized List<Examples> getScenarioExamples() {
-        return currentScenarioDefinition.getExamples();
-    }*/
-
-    public synchronized void clearStepQueue(TestCase testCase/*String scenarioId*/) {
-        getStepQueue(testCase).clear();
+    /**
+     * Called when a test case is finished: its steps are not needed anymore.
+     */
+    public void clearStepQueue(TestCase testCase) {
+        testCases.remove(testCase.getId());
     }
 
-    public synchronized void clearStepQueue() {
-        //TODO check
-        stepQueue.clear();
-        //simpleStepQueue.clear();
+    public void clearStepQueue() {
+        testCases.values().forEach(testCase -> testCase.steps.clear());
     }
 
-    public synchronized void clearTestStepQueue() {
-        testStepQueue.clear();
-        //simpleStepTestQueue.clear();
+    public void clearTestStepQueue() {
+        testCases.values().forEach(testCase -> testCase.testSteps.clear());
     }
 
-    public synchronized void queueStep(TestCase testCase/*String scenarioId,*/,Step step) {
+    public void queueStep(TestCase testCase,Step step) {
         getStepQueue(testCase).add(step);
     }
 
-    public synchronized void queueTestStep(/*String scenarioId*/TestCase testCase,TestStep testStep) {
+    public void queueTestStep(TestCase testCase,TestStep testStep) {
         getTestStepQueue(testCase).add(testStep);
     }
 
-    public synchronized Step getCurrentStep(TestCase testCase/*String scenarioId*/) {
-        return getStepQueue(testCase/*scenarioId*/).peek();
+    public Step getCurrentStep(TestCase testCase) {
+        return getStepQueue(testCase).peek();
     }
 
-    public synchronized Step nextStep(TestCase testCase/*String scenarioId*/) {
-        return getStepQueue(testCase/*scenarioId*/).poll();
+    public Step nextStep(TestCase testCase) {
+        return getStepQueue(testCase).poll();
     }
 
-    public synchronized TestStep nextTestStep(TestCase testCase/*String scenarioId*/) {
-        return getTestStepQueue(testCase/*scenarioId*/).poll();
+    public TestStep nextTestStep(TestCase testCase) {
+        return getTestStepQueue(testCase).poll();
     }
 
-    public synchronized boolean noStepsAreQueued(/*String scenarioId*/TestCase testCase) {
-        return getStepQueue(testCase/*scenarioId*/).isEmpty();
+    public boolean noStepsAreQueued(TestCase testCase) {
+        return getStepQueue(testCase).isEmpty();
     }
 
-    public synchronized boolean hasScenarioId(String scenarioId) {
-        return (currentScenarioIdList.contains(scenarioId));
+    public boolean hasScenarioId(String scenarioId) {
+        return currentScenarioIds.contains(scenarioId);
     }
 
-    public synchronized void setTable(String scenarioId,DataTable table) {
-        this.tableMap.put(scenarioId,table);
-        exampleCountMap.put(scenarioId,new AtomicInteger(table.getSize()));
+    public void setTable(String scenarioId,DataTable table) {
+        scenario(scenarioId).setTable(table);
     }
 
-    public synchronized void addTableRows(String scenarioId,List<String> headers,
+    public void addTableRows(String scenarioId,List<String> headers,
                              List<Map<String, String>> rows,
                              String name,
                              String description,
                              Map<Integer, Long> lineNumbersOfEachRow) {
-        DataTable table = tableMap.get(scenarioId);
-        table.startNewDataSet(name, description);
-
-        AtomicInteger rowNumber = new AtomicInteger();
-        rows.forEach(
-                row -> table.appendRow(newRow(headers, lineNumbersOfEachRow, rowNumber.getAndIncrement(), row))
-        );
-        table.updateLineNumbers(lineNumbersOfEachRow);
-        exampleCountMap.put(scenarioId,new AtomicInteger(table.getSize()));
+        ScenarioState scenario = scenario(scenarioId);
+        synchronized (scenario) {
+            DataTable table = scenario.table;
+            table.startNewDataSet(name, description);
+
+            AtomicInteger rowNumber = new AtomicInteger();
+            rows.forEach(
+                    row -> table.appendRow(newRow(headers, lineNumbersOfEachRow, rowNumber.getAndIncrement(), row))
+            );
+            table.updateLineNumbers(lineNumbersOfEachRow);
+            scenario.exampleCount = new AtomicInteger(table.getSize());
+        }
     }
 
     @NotNull
@@ -283,21 +289,23 @@ public class ScenarioContextParallel {
         return headers.stream().map(row::get).collect(toList());
     }
 
-    public synchronized void addTableTags(String scenarioId,List<TestTag> tags) {
-        DataTable table = tableMap.get(scenarioId);
-        table.addTagsToLatestDataSet(tags);
+    public void addTableTags(String scenarioId,List<TestTag> tags) {
+        ScenarioState scenario = scenario(scenarioId);
+        synchronized (scenario) {
+            scenario.table.addTagsToLatestDataSet(tags);
+        }
     }
 
-    public synchronized void clearTable() {
-        tableMap.clear();
+    public void clearTable() {
+        scenarios.values().forEach(scenario -> scenario.setTable(null));
     }
 
-    private synchronized StepEventBus stepEventBus(URI featurePath) {
+    private StepEventBus stepEventBus(URI featurePath) {
         URI prefixedPath = featurePathFormatter.featurePathWithPrefixIfNecessary(featurePath);
         return StepEventBus.eventBusFor(prefixedPath);
     }
 
-    public synchronized StepEventBus stepEventBus() {
+    public StepEventBus stepEventBus() {
         return this.stepEventBus;
     }
 
@@ -311,13 +319,13 @@ public class ScenarioContextParallel {
     }
 
 
-    public synchronized void collectAllBaseStepListeners(List<BaseStepListener>  allBaseStepListeners){
+    public void collectAllBaseStepListeners(List<BaseStepListener>  allBaseStepListeners){
         allBaseStepListeners.addAll(baseStepListeners);
     }
 
 
     public void setWaitingToProcessBackgroundSteps(String scenarioId, boolean waitingToProcessBackgroundSteps) {
-        this.waitingToProcessBackgroundSteps.put(scenarioId,waitingToProcessBackgroundSteps);
+        scenario(scenarioId).waitingToProcessBackgroundSteps = waitingToProcessBackgroundSteps;
     }
 
     /**
@@ -328,8 +336,7 @@ public class ScenarioContextParallel {
      */
     public void addHighPriorityStepEventBusEvent(String scenarioId, StepEventBusEvent event) {
         LOGGER.debug("SRP:addHighPriorityStepEventBusEvent " + event + " " +  Thread.currentThread() + " " + scenarioId);
-        List<StepEventBusEvent> eventList = highPriorityEventBusEvents.computeIfAbsent(scenarioId,k->Collections.synchronizedList(new LinkedList<>()));
-        eventList.add(event);
+        scenario(scenarioId).highPriorityEvents.add(event);
         event.setStepEventBus(stepEventBus);
     }
 
@@ -371,13 +378,13 @@ public class ScenarioContextParallel {
         LOGGER.debug("SRP:PLAY session events for line   " + lineNumber);
         Optional<StepEventBusEvent> eventWithScenarioId = stepEventBusEvents.stream().filter(event -> !event.getScenarioId().isEmpty()).findFirst();
         LOGGER.debug("SRP:EventWithscenarioId   " + eventWithScenarioId);
-        if(eventWithScenarioId.isPresent() && highPriorityEventBusEvents.get(eventWithScenarioId.get().getScenarioId()) != null){
-            List<StepEventBusEvent> highPriorityEvents = highPriorityEventBusEvents.get(eventWithScenarioId.get().getScenarioId());
-            for(StepEventBusEvent currentStepBusEvent : highPriorityEvents) {
+        if(eventWithScenarioId.isPresent()){
+            Queue<StepEventBusEvent> highPriorityEvents = scenario(eventWithScenarioId.get().getScenarioId()).highPriorityEvents;
+            StepEventBusEvent currentStepBusEvent;
+            while ((currentStepBusEvent = highPriorityEvents.poll()) != null) {
                LOGGER.trace("SRP:PLAY session high priority event  " + currentStepBusEvent);
                currentStepBusEvent.play();
             }
-            highPriorityEventBusEvents.remove(eventWithScenarioId.get().getScenarioId());
         }
         for(StepEventBusEvent currentStepBusEvent : stepEventBusEvents) {
            LOGGER.trace("SRP:PLAY session event  " + currentStepBusEvent + " " +  Thread.currentThread() + " " + currentStepBusEvent.hashCode());
@@ -386,11 +393,51 @@ public class ScenarioContextParallel {
     }
 
     public List<Tag> getScenarioTags(String scenarioId) {
-        return scenarioTags.get(scenarioId);
+        return scenario(scenarioId).tags;
     }
 
     public void setScenarioTags(String scenarioId,List<Tag> scenarioTags) {
-        this.scenarioTags.put(scenarioId,scenarioTags);
+        scenario(scenarioId).tags = scenarioTags;
+    }
+
+    /**
+     * The steps of a single test case, only used by the thread that runs it.
+     */
+    private static class TestCaseSteps {
+        private final Queue<Step> steps = new LinkedList<>();
+        private final Queue<TestStep> testSteps = new LinkedList<>();
+    }
+
+    /**
+     * The state of a scenario, shared by the examples of a scenario outline. The example table is only changed
+     * while holding the lock of its scenario state.
+     */
+    private static class ScenarioState {
+        private volatile Scenario definition;
+        private volatile String currentScenario;
+        private volatile List<Tag> tags;
+        private volatile boolean examplesRunning;
+        private volatile boolean addingScenarioOutlineSteps;
+        private volatile boolean waitingToProcessBackgroundSteps;
+        private volatile DataTable table;
+        private volatile AtomicInteger exampleCount;
+        //keys are line numbers, entries are example rows (key=header, value=rowValue )
+        private volatile Map<Long, Map<String, String>> exampleRows;
+        private final Queue<StepEventBusEvent> highPriorityEvents = new ConcurrentLinkedQueue<>();
+
+        synchronized void setTable(DataTable table) {
+            this.table = table;
+            if (table != null) {
+                this.exampleCount = new AtomicInteger(table.getSize());
+            }
+        }
+
+        synchronized Map<Long, Map<String, String>> exampleRows() {
+            if (exampleRows == null) {
+                exampleRows = new ConcurrentHashMap<>();
+            }
+            return exampleRows;
+        }
     }
 }
 
@@ -92,12 +92,14 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
     /**
      * key = feature URI; value = ScenarioContextParallel
      */
-    private final Map<URI, ScenarioContextParallel> localContexts = Collections.synchronizedMap(new HashMap<>());
+    private final Map<URI, ScenarioContextParallel> localContexts = new ConcurrentHashMap<>();
 
     private ScenarioContextParallel getContext(URI featureURI) {
-        synchronized (localContexts) {
-            return localContexts.computeIfAbsent(featureURI, uri -> new ScenarioContextParallel(featureURI));
+        ScenarioContextParallel context = localContexts.get(featureURI);
+        if (context != null) {
+            return context;
         }
+        return localContexts.computeIfAbsent(featureURI, uri -> new ScenarioContextParallel(featureURI));
     }
 
     /**
@@ -296,7 +298,7 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
                 if (astNode.node instanceof Scenario) {
                     List<Tag> tags = ((Scenario) astNode.node).getTags();
                     TestResult annotatedTestResult = ScenarioTagProcessor.processScenarioTags(tags, event.getTestCase().getUri());
-                    if (TaggedScenario.isManual(tags)) {
+                    if (TaggedScenario.isManual(tags) && annotatedTestResult != null) {
                         MANUAL_TEST_RESULTS_CACHE.put(testCase.getId(), annotatedTestResult);
                     }
                 }
@@ -313,7 +315,7 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
         }
     }
 
-    private final static Map<UUID, TestResult> MANUAL_TEST_RESULTS_CACHE = new HashMap<>();
+    private final static Map<UUID, TestResult> MANUAL_TEST_RESULTS_CACHE = new ConcurrentHashMap<>();
 
     private io.cucumber.messages.types.Rule getRuleForTestCase(TestSourcesModel.AstNode astNode) {
         Feature feature = getFeatureForTestCase(astNode);
@@ -410,8 +412,9 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
     }
 
     private Status eventStatusFor(TestCaseFinished event) {
-        if (MANUAL_TEST_RESULTS_CACHE.containsKey(event.getTestCase().getId())) {
-            switch (MANUAL_TEST_RESULTS_CACHE.get(event.getTestCase().getId())) {
+        TestResult manualTestResult = MANUAL_TEST_RESULTS_CACHE.remove(event.getTestCase().getId());
+        if (manualTestResult != null) {
+            switch (manualTestResult) {
                 case SUCCESS:
                     return Status.PASSED;
                 case ABORTED:
@@ -710,17 +713,11 @@ public class SerenityReporterParallel implements Plugin, ConcurrentEventListener
     }
 
     private Map<Long, Map<String, String>> exampleRows(String scenarioId, URI featurePath) {
-        if (getContext(featurePath).getExampleRows(scenarioId) == null) {
-            getContext(featurePath).setExampleRows(scenarioId, Collections.synchronizedMap(new HashMap<>()));
-        }
-        return getContext(featurePath).getExampleRows(scenarioId);
+        return getContext(featurePath).exampleRowsFor(scenarioId);
     }
 
     private Map<Long, List<Tag>> exampleTags(URI featurePath) {
-        if (getContext(featurePath).getExampleTags() == null) {
-            getContext(featurePath).setExampleTags(Collections.synchronizedMap(new HashMap<>()));
-        }
-        return getContext(featurePath).getExampleTags();
+        return getContext(featurePath).exampleTags();
     }
 
     private DataTable dataTableFrom(String scenarioOutline,
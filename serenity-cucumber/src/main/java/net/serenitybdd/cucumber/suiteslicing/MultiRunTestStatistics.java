@@ -10,15 +10,25 @@ import java.math.BigDecimal;
 import java.net.URI;
 import java.nio.file.*;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
+/**
+ * Aggregates the durations recorded for each scenario over several test runs.
+ * Results are indexed by feature and scenario, and the average durations are only computed once all the runs are loaded,
+ * so that looking up the weight of a scenario does not depend on the number of recorded scenarios.
+ */
 public class MultiRunTestStatistics implements TestStatistics {
 
-    private final List<TestScenarioResults> results = newArrayList();
+    private final Map<String, TestScenarioResults> results = new LinkedHashMap<>();
+
+    private List<TestScenarioResult> averageRecords;
+    private Map<String, BigDecimal> averageDurationsByScenario;
+    private BigDecimal averageDuration;
 
     static Logger LOGGER = LoggerFactory.getLogger(MultiRunTestStatistics.class);
 
@@ -54,31 +64,43 @@ public class MultiRunTestStatistics implements TestStatistics {
 
     @Override
     public BigDecimal scenarioWeightFor(String feature, String scenario) {
-        return records().stream()
-            .filter(record -> record.feature.equals(feature) && record.scenario.equals(scenario))
-            .map(TestScenarioResult::duration)
-            .findFirst()
-            .orElseGet(() -> average(feature, scenario));
+        BigDecimal weight = averageDurationsByScenario().get(TestScenarioResult.scenarioKeyFor(feature, scenario));
+        return (weight != null) ? weight : average(feature, scenario);
     }
 
     @Override
-    public List<TestScenarioResult> records() {
-        return results.stream().map(TestScenarioResults::average).collect(toList());
+    public synchronized List<TestScenarioResult> records() {
+        if (averageRecords == null) {
+            averageRecords = Collections.unmodifiableList(results.values().stream().map(TestScenarioResults::average).collect(toList()));
+        }
+        return averageRecords;
     }
 
-    private void addStatistics(TestStatistics statistics) {
-        statistics.records().forEach(record -> {
-            Optional<TestScenarioResults> existingResult = results.stream().filter(existing -> existing.scenarioKey.equals(record.scenarioKey)).findFirst();
-            if (existingResult.isPresent()) {
-                existingResult.get().addDuration(record.duration);
-            } else {
-                results.add(TestScenarioResults.create(record));
-            }
-        });
+    private synchronized Map<String, BigDecimal> averageDurationsByScenario() {
+        if (averageDurationsByScenario == null) {
+            averageDurationsByScenario = records().stream()
+                .collect(toMap(record -> record.scenarioKey, TestScenarioResult::duration, (first, second) -> first));
+        }
+        return averageDurationsByScenario;
+    }
+
+    private synchronized void addStatistics(TestStatistics statistics) {
+        statistics.records().forEach(
+            record -> results.merge(record.scenarioKey, TestScenarioResults.create(record), (existing, added) -> {
+                existing.addDuration(record.duration);
+                return existing;
+            })
+        );
+        averageRecords = null;
+        averageDurationsByScenario = null;
+        averageDuration = null;
     }
 
-    private BigDecimal averageDuration() {
-        return records().stream().map(TestScenarioResult::duration).collect(BigDecimalAverageCollector.create());
+    private synchronized BigDecimal averageDuration() {
+        if (averageDuration == null) {
+            averageDuration = records().stream().map(TestScenarioResult::duration).collect(BigDecimalAverageCollector.create());
+        }
+        return averageDuration;
     }
 
     private BigDecimal average(String feature, String scenario) {
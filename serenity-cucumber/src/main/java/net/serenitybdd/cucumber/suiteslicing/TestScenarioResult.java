@@ -22,6 +22,10 @@ public class TestScenarioResult {
             new BigDecimal(csvRecord.get(DURATION)));
     }
 
+    public static String scenarioKeyFor(String feature, String scenario) {
+        return feature + ":" + scenario;
+    }
+
     public BigDecimal duration() {
         return duration;
     }
@@ -29,7 +33,7 @@ public class TestScenarioResult {
     public TestScenarioResult(String feature, String scenario, BigDecimal duration) {
         this.feature = feature;
         this.scenario = scenario;
-        this.scenarioKey = feature + ":" + scenario;
+        this.scenarioKey = scenarioKeyFor(feature, scenario);
         this.duration = duration;
     }
 
@@ -10,6 +10,7 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
@@ -38,18 +39,34 @@ public class WeightedCucumberScenarios {
         return new SliceBuilder(sliceNumber, this);
     }
 
+    /**
+     * Splits the scenarios into slices of similar total weighting, using the longest-processing-time-first rule:
+     * the heaviest remaining scenario always goes into the slice with the lowest total weighting so far.
+     * The slices are kept in a priority queue ordered by their running totals, so slicing takes O(n log n) time
+     * for n scenarios, whatever the number of slices.
+     */
     public List<WeightedCucumberScenarios> sliceInto(int sliceCount) {
-        BigDecimal totalWeight = scenarios.stream().map(WeightedCucumberScenario::weighting).reduce(ZERO, BigDecimal::add);
-        BigDecimal averageWeightPerSlice = totalWeight.divide(new BigDecimal(sliceCount), 2, RoundingMode.HALF_UP);
-        LOGGER.debug("Total weighting for {} scenarios is {}, split across {} slices provides average weighting per slice of {}", scenarios.size(), totalWeight, sliceCount, averageWeightPerSlice);
+        BigDecimal averageWeightPerSlice = totalWeighting.divide(new BigDecimal(sliceCount), 2, RoundingMode.HALF_UP);
+        LOGGER.debug("Total weighting for {} scenarios is {}, split across {} slices provides average weighting per slice of {}", scenarios.size(), totalWeighting, sliceCount, averageWeightPerSlice);
 
-        List<List<WeightedCucumberScenario>> allScenarios = IntStream.rangeClosed(1, sliceCount).mapToObj(initialiseAs -> new ArrayList<WeightedCucumberScenario>()).collect(toList());
+        List<Slice> slices = IntStream.range(0, sliceCount).mapToObj(Slice::new).collect(toList());
+        PriorityQueue<Slice> lightestSliceFirst = new PriorityQueue<>(Math.max(1, sliceCount), byLowestSumOfDurationFirst());
+        lightestSliceFirst.addAll(slices);
 
         scenarios.stream()
             .sorted(bySlowestFirst().thenComparing(byFeaturePathAscending()))
-            .forEach(scenario -> allScenarios.stream().min(byLowestSumOfDurationFirst()).get().add(scenario));
-
-        return allScenarios.stream().map(WeightedCucumberScenarios::new).collect(toList());
+            .forEach(scenario -> {
+                Slice lightestSlice = lightestSliceFirst.poll();
+                lightestSlice.add(scenario);
+                lightestSliceFirst.add(lightestSlice);
+            });
+
+        if (LOGGER.isDebugEnabled() && !slices.isEmpty()) {
+            BigDecimal lightest = slices.stream().map(slice -> slice.totalWeighting).min(BigDecimal::compareTo).get();
+            BigDecimal heaviest = slices.stream().map(slice -> slice.totalWeighting).max(BigDecimal::compareTo).get();
+            LOGGER.debug("Slice weightings range from {} to {}", lightest, heaviest);
+        }
+        return slices.stream().map(slice -> new WeightedCucumberScenarios(slice.scenarios)).collect(toList());
     }
 
     public ScenarioFilter createFilterContainingScenariosIn(String featureName) {
@@ -99,9 +116,26 @@ public class WeightedCucumberScenarios {
         return (item1, item2) -> compare(item1.featurePath, item2.featurePath);
     }
 
-    private static Comparator<List<WeightedCucumberScenario>> byLowestSumOfDurationFirst() {
-        return (item1, item2) -> compare(item1.stream().map(WeightedCucumberScenario::weighting).reduce(ZERO, BigDecimal::add),
-                                         item2.stream().map(WeightedCucumberScenario::weighting).reduce(ZERO, BigDecimal::add));
+    /**
+     * Slices with the same weighting are filled in order, so that every batch and fork computes the same slices.
+     */
+    private static Comparator<Slice> byLowestSumOfDurationFirst() {
+        return Comparator.<Slice, BigDecimal>comparing(slice -> slice.totalWeighting).thenComparingInt(slice -> slice.index);
+    }
+
+    private static class Slice {
+        private final int index;
+        private final List<WeightedCucumberScenario> scenarios = new ArrayList<>();
+        private BigDecimal totalWeighting = ZERO;
+
+        private Slice(int index) {
+            this.index = index;
+        }
+
+        private void add(WeightedCucumberScenario scenario) {
+            scenarios.add(scenario);
+            totalWeighting = totalWeighting.add(scenario.weighting());
+        }
     }
 
     public int totalScenarioCount() {
@@ -0,0 +1,68 @@
+package net.serenitybdd.cucumber.outcomes.parallel
+
+import io.cucumber.core.plugin.ScenarioContextParallel
+import io.cucumber.plugin.event.TestCase
+import io.cucumber.plugin.event.TestStep
+import net.thucydides.model.domain.DataTable
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class WhenTrackingScenarioStateInParallel extends Specification {
+
+    static final int THREADS = 32
+    static final int SCENARIOS = 5000
+    static final int STEPS_PER_SCENARIO = 5
+
+    def context = new ScenarioContextParallel(URI.create("classpath:features/stress.feature"))
+    def executor = Executors.newFixedThreadPool(THREADS)
+
+    def cleanup() {
+        executor.shutdownNow()
+        executor.awaitTermination(10, TimeUnit.SECONDS)
+    }
+
+    def "each test case should see its own steps in order when thousands of scenarios run at the same time"() {
+        given:
+        def testCases = (1..SCENARIOS).collect { Stub(TestCase) { getId() >> UUID.randomUUID() } }
+        def steps = (1..STEPS_PER_SCENARIO).collect { Stub(TestStep) }
+        when:
+        def results = executor.invokeAll(testCases.withIndex().collect { testCase, index ->
+            { ->
+                def scenarioId = "stress;scenario-" + index
+                context.setCurrentScenario(scenarioId, scenarioId)
+                context.startNewExample(scenarioId)
+                steps.each { context.queueTestStep(testCase, it) }
+                def playedSteps = (1..STEPS_PER_SCENARIO).collect { context.nextTestStep(testCase) }
+                context.clearStepQueue(testCase)
+                return playedSteps == steps && context.getCurrentScenario(scenarioId) == scenarioId && context.examplesAreRunning(scenarioId)
+            } as Callable<Boolean>
+        })
+        then:
+        results.every { it.get() }
+    }
+
+    def "the examples of a scenario outline can finish on different threads"() {
+        given:
+        def scenarioId = "stress;outline"
+        def rows = (1..SCENARIOS).collect { [it] as List<Object> }
+        context.setTable(scenarioId, DataTable.withHeaders(["row"]).andRows(rows).build())
+        when:
+        executor.invokeAll((1..SCENARIOS).collect {
+            { -> context.decrementExampleCount(scenarioId) } as Callable<Integer>
+        })
+        then:
+        context.getExampleCount(scenarioId) == 0
+    }
+
+    def "example rows recorded from many threads should all be kept"() {
+        when:
+        executor.invokeAll((1..SCENARIOS).collect { line ->
+            { -> context.exampleRowsFor("stress;outline").put(line as Long, ["row": "$line".toString()]) } as Callable<Object>
+        })
+        then:
+        context.getExampleRows("stress;outline").size() == SCENARIOS
+    }
+}
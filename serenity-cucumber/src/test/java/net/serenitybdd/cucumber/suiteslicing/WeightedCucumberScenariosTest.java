@@ -3,10 +3,14 @@ package net.serenitybdd.cucumber.suiteslicing;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
@@ -34,4 +38,39 @@ public class WeightedCucumberScenariosTest {
         assertThat(oneScenario, is(fork1));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void slicesShouldBeFilledLongestScenarioFirst() {
+        List<WeightedCucumberScenario> scenarios = Arrays.asList(
+            scenarioWeighing("a.feature", 3),
+            scenarioWeighing("b.feature", 3),
+            scenarioWeighing("c.feature", 2),
+            scenarioWeighing("d.feature", 2),
+            scenarioWeighing("e.feature", 2));
+
+        List<WeightedCucumberScenarios> slices = new WeightedCucumberScenarios(scenarios).sliceInto(2);
+
+        assertThat(slices.get(0).totalWeighting, is(new BigDecimal("7")));
+        assertThat(slices.get(1).totalWeighting, is(new BigDecimal("5")));
+        assertThat(slices.get(0).scenarios.get(0).featurePath, is("a.feature"));
+        assertThat(slices.get(1).scenarios.get(0).featurePath, is("b.feature"));
+    }
+
+    @Test
+    public void largeSuitesShouldBeSlicedIntoEvenlyWeightedSlices() {
+        Random random = new Random(42);
+        List<WeightedCucumberScenario> scenarios = IntStream.range(0, 20000)
+            .mapToObj(i -> scenarioWeighing("feature-" + i + ".feature", 1 + random.nextInt(100)))
+            .collect(toList());
+
+        List<WeightedCucumberScenarios> slices = new WeightedCucumberScenarios(scenarios).sliceInto(16);
+
+        BigDecimal lightest = slices.stream().map(slice -> slice.totalWeighting).min(BigDecimal::compareTo).get();
+        BigDecimal heaviest = slices.stream().map(slice -> slice.totalWeighting).max(BigDecimal::compareTo).get();
+        assertThat(slices.stream().mapToInt(slice -> slice.scenarios.size()).sum(), is(20000));
+        assertThat(heaviest.subtract(lightest).compareTo(new BigDecimal("100")) <= 0, is(true));
+    }
+
+    private WeightedCucumberScenario scenarioWeighing(String featurePath, int weight) {
+        return new WeightedCucumberScenario(featurePath, featurePath, "scenario", new BigDecimal(weight), emptySet(), 1);
+    }
+}
@@ -3,6 +3,7 @@ package net.serenitybdd.plugins.jira;
 
 import net.serenitybdd.plugins.jira.domain.IssueComment;
 import net.serenitybdd.plugins.jira.model.IssueTracker;
+import net.serenitybdd.plugins.jira.model.IssueTrackerUpdateException;
 import net.serenitybdd.plugins.jira.model.NamedTestResult;
 import net.serenitybdd.plugins.jira.model.TestResultComment;
 import net.serenitybdd.plugins.jira.service.JIRAConfiguration;
@@ -23,6 +24,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static net.serenitybdd.plugins.jira.JiraPluginConfigurationOptions.*;
@@ -62,11 +67,49 @@ public class JiraUpdater {
         LOGGER.debug("WORKFLOW ACTIVE: {} ", workflow.isActive());
     }
 
+    /**
+     * Update the comments and workflow status of the given issues. The current state of the issues is prefetched
+     * in bulk, and the updates themselves are run on at most <i>jira.max.threads</i> threads.
+     */
     public void updateIssueStatus(Set<String> issues, final TestResultTally<TestOutcomeSummary> resultTally) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        prefetch(issues);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(getMaxJobs(), issues.size())));
+        try {
+            List<Future<?>> updates = issues.stream()
+                    .map(issue -> executorService.submit(() -> updateIssue(issue, resultTally.getTestOutcomesForIssue(issue))))
+                    .collect(Collectors.toList());
+            for (Future<?> update : updates) {
+                waitFor(update);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private void prefetch(Set<String> issues) {
+        try {
+            issueTracker.prefetch(issues);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not prefetch JIRA issues - issues will be loaded one at a time", e);
+        }
+    }
 
-        issues.parallelStream().forEach(
-                issue -> updateIssue(issue, resultTally.getTestOutcomesForIssue(issue))
-        );
+    private void waitFor(Future<?> update) {
+        try {
+            update.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IssueTrackerUpdateException("Interrupted while updating JIRA issues", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IssueTrackerUpdateException("Failed to update JIRA issue", e.getCause());
+        }
     }
 
     public boolean shouldUpdateIssues() {
@@ -131,15 +174,18 @@ public class JiraUpdater {
                 issueTracker.addComment(issueId, testResultComment.asText());
             }
         } else {
-            testResultComment = TestResultComment.fromText(existingComment.get().getBody())
+            TestResultComment currentComment = TestResultComment.fromText(existingComment.get().getBody());
+            testResultComment = currentComment
                     .withWikiRendering(isWikiRenderedActive())
                     .withUpdatedTestResults(newTestResults)
                     .withUpdatedReportUrl(linkToReport(testOutcomes))
                     .forTestsExecutedAt(LocalDateTime.now())
                     .withUpdatedTestRunNumber(testRunNumber);
 
-            IssueComment updatedComment = existingComment.get().withText(testResultComment.asText());
-            if (!dryRun()) {
+            if (testResultComment.hasSameContentAs(currentComment)) {
+                LOGGER.info("Test results for issue {} are unchanged - comment not updated", issueId);
+            } else if (!dryRun()) {
+                IssueComment updatedComment = existingComment.get().withText(testResultComment.asText());
                 issueTracker.updateComment(issueId, updatedComment);
             }
         }
@@ -47,12 +47,15 @@ public class JerseyJiraClient {
     private static final int REDIRECT_REQUEST = 302;
     private static final String DEFAULT_ISSUE_TYPE = "Bug";
     private static final int WITH_NO_BATCHES = 0;
+    private static final double NO_RATE_LIMIT = 0;
     private final String url;
     private final String username;
     private final String password;
     private final int batchSize;
     private final String project;
     private final List<String> customFields;
+    private final double maxRequestsPerSecond;
+    private volatile Client restClient;
     private Map<String, CustomField> customFieldsIndex;
     private Map<String, String> customFieldNameIndex;
     private String metadataIssueType;
@@ -81,6 +84,14 @@ public class JerseyJiraClient {
                             String project,
                             String metadataIssueType,
                             List<String> customFields) {
+        this(url, username, password, batchSize, project, metadataIssueType, customFields, NO_RATE_LIMIT);
+    }
+
+    public JerseyJiraClient(String url, String username, String password, int batchSize,
+                            String project,
+                            String metadataIssueType,
+                            List<String> customFields,
+                            double maxRequestsPerSecond) {
         this.url = url;
         this.username = username;
         this.password = password;
@@ -88,6 +99,7 @@ public class JerseyJiraClient {
         this.project = project;
         this.metadataIssueType = metadataIssueType;
         this.customFields = ImmutableList.copyOf(customFields);
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
         this.issueSummaryCache = CacheBuilder.newBuilder()
                 .maximumSize(1000)
                 .build(new FindByKeyLoader(this));
@@ -111,11 +123,18 @@ public class JerseyJiraClient {
     }
 
     public JerseyJiraClient usingCustomFields(List<String> customFields) {
-        return new JerseyJiraClient(url, username, password, batchSize, project, metadataIssueType, customFields);
+        return new JerseyJiraClient(url, username, password, batchSize, project, metadataIssueType, customFields, maxRequestsPerSecond);
     }
 
     public JerseyJiraClient usingMetadataIssueType(String metadataIssueType) {
-        return new JerseyJiraClient(url, username, password, batchSize, project, metadataIssueType, customFields);
+        return new JerseyJiraClient(url, username, password, batchSize, project, metadataIssueType, customFields, maxRequestsPerSecond);
+    }
+
+    /**
+     * Limit the number of requests per second sent to the JIRA server. A value of zero or less means no limit.
+     */
+    public JerseyJiraClient usingMaxRequestsPerSecond(double maxRequestsPerSecond) {
+        return new JerseyJiraClient(url, username, password, batchSize, project, metadataIssueType, customFields, maxRequestsPerSecond);
     }
 
     public List<IssueSummary> findByJQL(String query, LoadingStrategy loadingStrategy) throws JQLException {
@@ -511,11 +530,29 @@ public class JerseyJiraClient {
         }
     }
 
+    /**
+     * The REST client is created once and shared between requests, so that HTTP connections to the JIRA server
+     * can be reused rather than being opened for every call.
+     */
     public Client restClient() {
-        return ClientBuilder.newBuilder()
+        if (restClient == null) {
+            synchronized (this) {
+                if (restClient == null) {
+                    restClient = newRestClient();
+                }
+            }
+        }
+        return restClient;
+    }
+
+    private Client newRestClient() {
+        ClientBuilder clientBuilder = ClientBuilder.newBuilder()
                 .register(HttpAuthenticationFeature.basic(username, password))
-                .property(ClientProperties.FOLLOW_REDIRECTS, Boolean.TRUE)
-                .build();
+                .property(ClientProperties.FOLLOW_REDIRECTS, Boolean.TRUE);
+        if (maxRequestsPerSecond > 0) {
+            clientBuilder.register(new RateLimitingFilter(maxRequestsPerSecond));
+        }
+        return clientBuilder.build();
     }
 
     private String stringValueOf(JsonElement field) {
@@ -785,6 +822,68 @@ public class JerseyJiraClient {
         return comments;
     }
 
+    /**
+     * Load the status, comments and available transitions of a set of issues using JQL searches
+     * of up to {@link #getBatchSize()} issues each, rather than several requests per issue.
+     * Issues that cannot be found are simply not included in the result.
+     */
+    public Map<String, IssueSnapshot> findSnapshotsOf(Collection<String> issueKeys) throws ParseException {
+        Map<String, IssueSnapshot> snapshots = new HashMap<>();
+        for (List<String> batch : Lists.partition(new ArrayList<>(issueKeys), Math.max(batchSize, 1))) {
+            WebTarget target = buildWebTargetFor(REST_SEARCH)
+                    .queryParam("jql", "key in (" + String.join(",", batch) + ")")
+                    .queryParam("fields", "status,comment")
+                    .queryParam("expand", "transitions")
+                    .queryParam("validateQuery", "warn")
+                    .queryParam("maxResults", batch.size());
+            Response response = target.request().get();
+            checkValid(response);
+            JsonObject responseObject = new JsonParser().parse(response.readEntity(String.class)).getAsJsonObject();
+            JsonArray issueEntries = responseObject.getAsJsonArray("issues");
+            if (issueEntries != null) {
+                for (JsonElement issueEntry : issueEntries) {
+                    IssueSnapshot snapshot = convertToIssueSnapshot(issueEntry.getAsJsonObject());
+                    snapshots.put(snapshot.getKey(), snapshot);
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    private IssueSnapshot convertToIssueSnapshot(JsonObject issueObject) throws ParseException {
+        JsonObject fields = issueObject.getAsJsonObject("fields");
+        JsonObject issueStatus = fields.getAsJsonObject("status");
+        return new IssueSnapshot(stringValueOf(issueObject.get("key")),
+                stringValueOf(issueStatus.get("name")),
+                completeCommentListIn(fields.getAsJsonObject("comment")),
+                transitionsIn(issueObject.getAsJsonArray(IssueSummary.TRANSITIONS_KEY)));
+    }
+
+    private List<IssueComment> completeCommentListIn(JsonObject commentField) throws ParseException {
+        if (commentField == null) {
+            return null;
+        }
+        JsonArray commentsArray = commentField.getAsJsonArray(IssueSummary.COMMENTS_KEY);
+        if (commentField.has("total") && commentField.get("total").getAsInt() > commentsArray.size()) {
+            return null;
+        }
+        List<IssueComment> comments = new ArrayList<>();
+        for (int i = 0; i < commentsArray.size(); i++) {
+            comments.add(IssueComment.fromJsonString(commentsArray.get(i).getAsJsonObject().toString()));
+        }
+        return comments;
+    }
+
+    private List<IssueTransition> transitionsIn(JsonArray transitionsArray) throws ParseException {
+        List<IssueTransition> transitions = new ArrayList<>();
+        if (transitionsArray != null) {
+            for (int i = 0; i < transitionsArray.size(); i++) {
+                transitions.add(IssueTransition.fromJsonString(transitionsArray.get(i).getAsJsonObject().toString()));
+            }
+        }
+        return transitions;
+    }
+
     public List<IssueTransition> getAvailableTransitions(String issueKey) throws ParseException {
         List<IssueTransition> availableActions = new ArrayList<IssueTransition>();
         WebTarget target = buildWebTargetFor(String.format(GET_TRANSITIONS, issueKey));
@@ -0,0 +1,24 @@
+package net.serenitybdd.plugins.jira.client;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+/**
+ * Limits the number of requests per second sent to the JIRA server, so that large batches of issue updates
+ * do not trip the server-side throttling.
+ */
+public class RateLimitingFilter implements ClientRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitingFilter(double maxRequestsPerSecond) {
+        this.rateLimiter = RateLimiter.create(maxRequestsPerSecond);
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        rateLimiter.acquire();
+    }
+}
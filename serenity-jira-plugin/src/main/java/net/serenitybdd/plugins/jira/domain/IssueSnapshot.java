@@ -0,0 +1,45 @@
+package net.serenitybdd.plugins.jira.domain;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The status, comments and available transitions of an issue, as fetched in bulk before a round of issue updates.
+ * Comments are absent if JIRA did not return the complete comment list for the issue.
+ */
+public class IssueSnapshot {
+
+    private final String key;
+    private final String status;
+    private final List<IssueComment> comments;
+    private final List<IssueTransition> transitions;
+
+    public IssueSnapshot(String key, String status, List<IssueComment> comments, List<IssueTransition> transitions) {
+        this.key = key;
+        this.status = status;
+        this.comments = (comments == null) ? null : ImmutableList.copyOf(comments);
+        this.transitions = ImmutableList.copyOf(transitions);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Optional<List<IssueComment>> getComments() {
+        return Optional.ofNullable(comments);
+    }
+
+    public List<IssueTransition> getTransitions() {
+        return transitions;
+    }
+
+    public IssueSnapshot withoutComments() {
+        return new IssueSnapshot(key, status, null, transitions);
+    }
+}
@@ -3,6 +3,7 @@ package net.serenitybdd.plugins.jira.model;
 import net.serenitybdd.plugins.jira.domain.IssueComment;
 import net.serenitybdd.plugins.jira.service.JIRAConnection;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,4 +28,12 @@ public interface IssueTracker {
     public void doTransition(final String issueKey, final String status) throws IssueTrackerUpdateException;
     
     public JIRAConnection getJiraConnection();
+
+    /**
+     * Load the comments, status and available transitions of a set of issues in bulk, ahead of updating them.
+     * Implementations that support this should serve subsequent reads from the prefetched data where possible.
+     * @param issueKeys the keys of the issues that are about to be updated.
+     */
+    default void prefetch(final Collection<String> issueKeys) throws IssueTrackerUpdateException {
+    }
 }
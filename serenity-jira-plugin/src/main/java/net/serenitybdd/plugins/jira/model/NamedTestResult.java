@@ -2,6 +2,8 @@ package net.serenitybdd.plugins.jira.model;
 
 import net.thucydides.model.domain.TestResult;
 
+import java.util.Objects;
+
 public class NamedTestResult {
 
     private final String testName;
@@ -20,4 +22,17 @@ public class NamedTestResult {
     public TestResult getTestResult() {
         return testResult;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NamedTestResult that = (NamedTestResult) o;
+        return Objects.equals(testName, that.testName) && testResult == that.testResult;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(testName, testResult);
+    }
 }
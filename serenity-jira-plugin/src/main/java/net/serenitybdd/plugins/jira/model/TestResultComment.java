@@ -179,6 +179,16 @@ public class TestResultComment {
         return toString();
     }
 
+    /**
+     * Two comments have the same content if they refer to the same report and test run, and record the same
+     * test results. The time at which the tests were executed is not taken into account.
+     */
+    public boolean hasSameContentAs(TestResultComment otherComment) {
+        return Objects.equals(reportUrl, otherComment.reportUrl)
+                && Objects.equals(testRunNumber, otherComment.testRunNumber)
+                && Objects.equals(getNamedTestResults(), otherComment.getNamedTestResults());
+    }
+
     public String toString() {
         return comment(wikiRenderingActive).withTestRun(testRunNumber)
                 .withReportUrl(reportUrl)
@@ -16,4 +16,11 @@ public interface JIRAConfiguration {
     boolean isWikiRenderedActive();
 
     String getProject();
+
+    /**
+     * The maximum number of requests per second to send to the JIRA server, or zero for no limit.
+     */
+    default double getMaxRequestsPerSecond() {
+        return 0;
+    }
 }
@@ -13,7 +13,8 @@ public class JIRAConnection {
 
     public JIRAConnection(JIRAConfiguration configuration) {
         this.configuration = configuration;
-        this.jiraClient = new JerseyJiraClient(configuration.getJiraWebserviceUrl(), configuration.getJiraUser(), configuration.getJiraPassword(), configuration.getProject());
+        this.jiraClient = new JerseyJiraClient(configuration.getJiraWebserviceUrl(), configuration.getJiraUser(), configuration.getJiraPassword(), configuration.getProject())
+                .usingMaxRequestsPerSecond(configuration.getMaxRequestsPerSecond());
     }
 
     public JerseyJiraClient getRestJiraClient() {
@@ -3,6 +3,7 @@ package net.serenitybdd.plugins.jira.service;
 
 
 import net.serenitybdd.plugins.jira.domain.IssueComment;
+import net.serenitybdd.plugins.jira.domain.IssueSnapshot;
 import net.serenitybdd.plugins.jira.domain.IssueSummary;
 import net.serenitybdd.plugins.jira.domain.IssueTransition;
 import net.serenitybdd.plugins.jira.model.IssueTracker;
@@ -14,10 +15,12 @@ import org.slf4j.MarkerFactory;
 
 import java.io.IOException;
 import java.text.ParseException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Update comments in JIRA issues with links to Thucydides reports.
@@ -30,6 +33,7 @@ public class JiraIssueTracker implements IssueTracker {
     private final Logger logger;
     private final JIRAConnection jiraConnection;
     private final Marker warn = MarkerFactory.getMarker("WARN");
+    private final Map<String, IssueSnapshot> prefetchedIssues = new ConcurrentHashMap<>();
 
     
     public JiraIssueTracker(JIRAConfiguration jiraConfiguration) {
@@ -61,6 +65,24 @@ public class JiraIssueTracker implements IssueTracker {
      */
     public void addComment(final String issueKey, final String commentText) {
             jiraConnection.getRestJiraClient().addComment(issueKey,new IssueComment(commentText));
+            forgetPrefetchedCommentsFor(issueKey);
+    }
+
+    /**
+     * Load the status, comments and available transitions of the specified issues in a few bulk JQL queries.
+     * Prefetched values are used once, and discarded as soon as the corresponding issue is modified.
+     */
+    @Override
+    public void prefetch(Collection<String> issueKeys) throws IssueTrackerUpdateException {
+        try {
+            prefetchedIssues.putAll(jiraConnection.getRestJiraClient().findSnapshotsOf(issueKeys));
+        } catch (ParseException pe) {
+            throw new IssueTrackerUpdateException(pe.getMessage(), pe);
+        }
+    }
+
+    private void forgetPrefetchedCommentsFor(String issueKey) {
+        prefetchedIssues.computeIfPresent(issueKey, (key, snapshot) -> snapshot.withoutComments());
     }
 
 
@@ -89,6 +111,10 @@ public class JiraIssueTracker implements IssueTracker {
      * @throws IssueTrackerUpdateException if something wrong
      */
     public List<IssueComment> getCommentsFor(String issueKey) throws IssueTrackerUpdateException {
+        IssueSnapshot prefetchedIssue = prefetchedIssues.get(issueKey);
+        if (prefetchedIssue != null && prefetchedIssue.getComments().isPresent()) {
+            return prefetchedIssue.getComments().get();
+        }
         try {
             return jiraConnection.getRestJiraClient().getComments(issueKey);
         } catch (ParseException pe) {
@@ -98,6 +124,7 @@ public class JiraIssueTracker implements IssueTracker {
 
     public void updateComment(String issuekey,IssueComment issueComment) {
          jiraConnection.getRestJiraClient().updateComment(issuekey,issueComment);
+         forgetPrefetchedCommentsFor(issuekey);
     }
 
     /**
@@ -105,6 +132,10 @@ public class JiraIssueTracker implements IssueTracker {
      * Note that the status value depends on the issue workflow, so can be very variable.
      */
     public String getStatusFor(final String issueKey) throws IssueTrackerUpdateException {
+        IssueSnapshot prefetchedIssue = prefetchedIssues.get(issueKey);
+        if (prefetchedIssue != null) {
+            return prefetchedIssue.getStatus();
+        }
         Optional<IssueSummary> issue = jiraConnection.getRestJiraClient().loadByKey(issueKey);
         if(issue.isPresent()) {
             return issue.get().getStatus();
@@ -115,6 +146,11 @@ public class JiraIssueTracker implements IssueTracker {
     }
 
     public void doTransition(final String issueKey, final String workflowAction) throws IssueTrackerUpdateException {
+        IssueSnapshot prefetchedIssue = prefetchedIssues.remove(issueKey);
+        if (prefetchedIssue != null) {
+            doTransition(issueKey, workflowAction, prefetchedIssue.getTransitions());
+            return;
+        }
         try {
             Optional<IssueSummary> issue = jiraConnection.getRestJiraClient().loadByKey(issueKey);
             if(issue.isPresent()) {
@@ -132,9 +168,23 @@ public class JiraIssueTracker implements IssueTracker {
     }
 
 
+    private void doTransition(String issueKey, String workflowAction, List<IssueTransition> availableTransitions) {
+        try {
+            String actionId = indexByName(availableTransitions).get(workflowAction.toLowerCase());
+            if (actionId != null) {
+                jiraConnection.getRestJiraClient().progressWorkflowTransition(issueKey, actionId);
+            }
+        } catch (ParseException pe) {
+            throw new IssueTrackerUpdateException(pe.getMessage(),pe);
+        }
+    }
+
     private Map<String, String> getAvailableActions(final String issueKey) throws  ParseException {
+        return indexByName(jiraConnection.getRestJiraClient().getAvailableTransitions(issueKey));
+    }
+
+    private Map<String, String> indexByName(List<IssueTransition> actions) {
         Map<String, String> availableActionMap = new HashMap<String, String>();
-        List<IssueTransition> actions = jiraConnection.getRestJiraClient().getAvailableTransitions(issueKey);
         for(IssueTransition action : actions) {
             availableActionMap.put(action.getName().toLowerCase(), action.getId());
         }
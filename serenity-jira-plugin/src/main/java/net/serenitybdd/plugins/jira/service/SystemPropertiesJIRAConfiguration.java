@@ -21,6 +21,7 @@ public class SystemPropertiesJIRAConfiguration implements JIRAConfiguration {
     public static final String JIRA_USERNAME = "jira.username";
     public static final String JIRA_PASSWORD = "jira.password";
     public static final String JIRA_WIKI_RENDERER = "jira.wiki.renderer";
+    public static final String JIRA_MAX_REQUESTS_PER_SECOND = "jira.max.requests.per.second";
 
 
     private final Logger logger = LoggerFactory.getLogger(SystemPropertiesJIRAConfiguration.class);
@@ -76,6 +77,12 @@ public class SystemPropertiesJIRAConfiguration implements JIRAConfiguration {
         return getEnvironmentOrSystemProperty(JIRA_PROJECT);
     }
 
+    @Override
+    public double getMaxRequestsPerSecond() {
+        String maxRequestsPerSecond = getEnvironmentOrSystemProperty(JIRA_MAX_REQUESTS_PER_SECOND);
+        return (maxRequestsPerSecond == null) ? 0 : Double.parseDouble(maxRequestsPerSecond.trim());
+    }
+
     public String getJiraWebserviceUrl() {
         return environmentVariables.getProperty(JIRA_URL);
 
@@ -3,9 +3,12 @@ package net.serenitybdd.plugins.jira;
 import net.serenitybdd.annotations.*;
 import net.serenitybdd.plugins.jira.domain.IssueComment;
 import net.serenitybdd.plugins.jira.model.IssueTracker;
+import net.serenitybdd.plugins.jira.model.NamedTestResult;
+import net.serenitybdd.plugins.jira.model.TestResultComment;
 import net.serenitybdd.plugins.jira.service.NoSuchIssueException;
 import net.serenitybdd.plugins.jira.workflow.ClasspathWorkflowLoader;
 import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.TestOutcomeSummary;
 import net.thucydides.model.domain.TestResult;
 import net.thucydides.model.domain.TestStep;
 import net.thucydides.model.steps.ExecutedStepDescription;
@@ -249,6 +252,29 @@ public class WhenUpdatingCommentsInJIRA {
     }
 
 
+    @Test
+    public void should_not_update_existing_comments_if_the_test_results_have_not_changed() {
+
+        TestOutcomeSummary outcome = new TestOutcomeSummary(newTestOutcome("issue_123_should_be_fixed_now", TestResult.SUCCESS));
+        String unchangedComment = TestResultComment.comment(true)
+                .withResults(Arrays.asList(new NamedTestResult(outcome.getTitle(), TestResult.SUCCESS)))
+                .withReportUrl("http://my.server/myproject/thucydides/" + outcome.getReportName() + ".html")
+                .withTestRun("2012-01-17_15-39-03")
+                .asText();
+        List<IssueComment> existingComments = Arrays.asList(new IssueComment("",1L, unchangedComment, "bruce"));
+        when(issueTracker.getCommentsFor("MYPROJECT-123")).thenReturn(existingComments);
+
+        JiraStepListener listener = new JiraStepListener(issueTracker, environmentVariables, workflowLoader);
+        listener.testSuiteStarted(SampleTestSuite.class);
+        listener.testStarted("issue_123_should_be_fixed_now");
+        listener.testFinished(newTestOutcome("issue_123_should_be_fixed_now", TestResult.SUCCESS));
+        listener.testSuiteFinished();
+
+        verify(issueTracker, never()).updateComment(anyString(), any(IssueComment.class));
+        verify(issueTracker, never()).addComment(anyString(), anyString());
+    }
+
+
     @Test
     public void should_not_update_status_if_issue_does_not_exist() {
         when(issueTracker.getStatusFor("MYPROJECT-123"))
@@ -0,0 +1,124 @@
+package net.serenitybdd.plugins.jira.client;
+
+import com.sun.net.httpserver.HttpServer;
+import net.serenitybdd.plugins.jira.domain.IssueSnapshot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Runs the bulk issue prefetch against a local stub JIRA server.
+ */
+public class WhenPrefetchingIssuesFromJIRA {
+
+    private static final String AUTHOR =
+            "{\"self\":\"http://localhost/user/bruce\",\"accountId\":\"bruce\",\"displayName\":\"Bruce\",\"active\":true}";
+
+    private static final String SEARCH_RESULTS =
+            "{\"issues\":[" +
+            "  {\"key\":\"DEMO-1\",\"fields\":{\"status\":{\"name\":\"Open\"}," +
+            "     \"comment\":{\"total\":1,\"comments\":[" + comment("Serenity BDD Automated Acceptance Tests") + "]}}," +
+            "   \"transitions\":[{\"id\":\"5\",\"name\":\"Resolve Issue\"}]}," +
+            "  {\"key\":\"DEMO-2\",\"fields\":{\"status\":{\"name\":\"Closed\"}," +
+            "     \"comment\":{\"total\":3,\"comments\":[" + comment("a comment") + "]}}," +
+            "   \"transitions\":[{\"id\":\"3\",\"name\":\"Reopen Issue\"}]}" +
+            "]}";
+
+    private static String comment(String body) {
+        return "{\"self\":\"http://localhost/comment/1\",\"id\":\"1\",\"body\":\"" + body + "\"," +
+                "\"author\":" + AUTHOR + "," +
+                "\"updateAuthor\":" + AUTHOR + "," +
+                "\"created\":\"2015-06-29T10:10:43.947+0200\",\"updated\":\"2015-06-29T10:10:43.947+0200\"}";
+    }
+
+    private HttpServer stubJira;
+    private final List<String> receivedQueries = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void startStubJira() throws IOException {
+        stubJira = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubJira.createContext("/rest/api/latest/search", exchange -> {
+            receivedQueries.add(exchange.getRequestURI().getQuery());
+            byte[] response = SEARCH_RESULTS.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        stubJira.start();
+    }
+
+    @After
+    public void stopStubJira() {
+        stubJira.stop(0);
+    }
+
+    private String stubJiraUrl() {
+        return "http://localhost:" + stubJira.getAddress().getPort();
+    }
+
+    @Test
+    public void should_load_the_status_comments_and_transitions_of_several_issues_in_a_single_query() throws Exception {
+        JerseyJiraClient jiraClient = new JerseyJiraClient(stubJiraUrl(), "bruce", "batm0bile", "DEMO");
+
+        Map<String, IssueSnapshot> snapshots = jiraClient.findSnapshotsOf(Arrays.asList("DEMO-1", "DEMO-2"));
+
+        assertThat(receivedQueries, hasSize(1));
+        assertThat(receivedQueries.get(0), containsString("key in (DEMO-1,DEMO-2)"));
+        assertThat(snapshots.get("DEMO-1").getStatus(), is("Open"));
+        assertThat(snapshots.get("DEMO-1").getComments().get().get(0).getBody(), is("Serenity BDD Automated Acceptance Tests"));
+        assertThat(snapshots.get("DEMO-1").getTransitions().get(0).getName(), is("Resolve Issue"));
+    }
+
+    @Test
+    public void should_not_trust_incomplete_comment_lists() throws Exception {
+        JerseyJiraClient jiraClient = new JerseyJiraClient(stubJiraUrl(), "bruce", "batm0bile", "DEMO");
+
+        Map<String, IssueSnapshot> snapshots = jiraClient.findSnapshotsOf(Arrays.asList("DEMO-1", "DEMO-2"));
+
+        assertThat(snapshots.get("DEMO-2").getStatus(), is("Closed"));
+        assertThat(snapshots.get("DEMO-2").getComments().isPresent(), is(false));
+    }
+
+    @Test
+    public void should_query_issues_in_batches() throws Exception {
+        JerseyJiraClient jiraClient = new JerseyJiraClient(stubJiraUrl(), "bruce", "batm0bile", 2, "DEMO");
+
+        jiraClient.findSnapshotsOf(Arrays.asList("DEMO-1", "DEMO-2", "DEMO-3", "DEMO-4", "DEMO-5"));
+
+        assertThat(receivedQueries, hasSize(3));
+    }
+
+    @Test
+    public void should_reuse_the_same_rest_client_between_requests() {
+        JerseyJiraClient jiraClient = new JerseyJiraClient(stubJiraUrl(), "bruce", "batm0bile", "DEMO");
+
+        assertThat(jiraClient.restClient(), is(sameInstance(jiraClient.restClient())));
+    }
+
+    @Test
+    public void should_limit_the_number_of_requests_per_second_if_requested() throws Exception {
+        JerseyJiraClient jiraClient = new JerseyJiraClient(stubJiraUrl(), "bruce", "batm0bile", 1, "DEMO")
+                .usingMaxRequestsPerSecond(10);
+
+        long start = System.currentTimeMillis();
+        jiraClient.findSnapshotsOf(Arrays.asList("DEMO-1", "DEMO-2", "DEMO-3", "DEMO-4", "DEMO-5", "DEMO-6"));
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertThat(receivedQueries, hasSize(6));
+        assertThat(elapsed, greaterThanOrEqualTo(400L));
+    }
+}
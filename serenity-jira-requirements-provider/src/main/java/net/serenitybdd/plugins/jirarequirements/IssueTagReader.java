@@ -19,20 +19,32 @@ public class IssueTagReader {
     private final Logger logger = LoggerFactory.getLogger(IssueTagReader.class);
 
     private final List<Requirement> flattenedRequirements;
-    private final JerseyJiraClient jiraClient;
+    private final IssueLookup issueLookup;
     private final String projectKey;
     private final List<TestTag> tags = Lists.newArrayList();
 
+    /**
+     * Finds JIRA issues by key, either directly from JIRA or from a cache.
+     */
+    @FunctionalInterface
+    public interface IssueLookup {
+        Optional<IssueSummary> findByKey(String issueKey) throws JQLException;
+    }
+
     public IssueTagReader(JerseyJiraClient jiraClient, List<Requirement> flattenedRequirements, String projectKey) {
+        this(jiraClient::findByKey, flattenedRequirements, projectKey);
+    }
+
+    public IssueTagReader(IssueLookup issueLookup, List<Requirement> flattenedRequirements, String projectKey) {
         this.flattenedRequirements = flattenedRequirements;
-        this.jiraClient = jiraClient;
+        this.issueLookup = issueLookup;
         this.projectKey = projectKey;
     }
 
     public IssueTagReader addVersionTags(String issueKey) {
         String decodedIssueKey = decoded(issueKey);
         try {
-            java.util.Optional<IssueSummary> issue = jiraClient.findByKey(issueKey);
+            java.util.Optional<IssueSummary> issue = issueLookup.findByKey(issueKey);
             if (issue.isPresent()) {
                 addVersionTags(issue.get().getFixVersions());
             }
@@ -62,7 +74,7 @@ public class IssueTagReader {
         String decodedIssueKey = decoded(issueKey);
         java.util.Optional<IssueSummary> behaviourIssue = java.util.Optional.empty();
         try {
-            behaviourIssue = jiraClient.findByKey(decodedIssueKey);
+            behaviourIssue = issueLookup.findByKey(decodedIssueKey);
         } catch (JQLException e) {
             logger.warn("Could not read tags for issue " + decodedIssueKey, e);
         }
@@ -10,7 +10,22 @@ public enum JIRARequirementsConfiguration {
     JIRA_MAX_THREADS("jira.max.threads"),
 
     JIRA_ROOT_ISSUE_TYPE("jira.root.issue.type"),
-    JIRA_REQUIREMENT_LINKS("jira.requirement.links");
+    JIRA_REQUIREMENT_LINKS("jira.requirement.links"),
+
+    /**
+     * Keep the requirements loaded from JIRA on disk between runs, revalidating them with a single query per run.
+     */
+    JIRA_REQUIREMENTS_CACHE("jira.requirements.cache"),
+
+    /**
+     * Where the JIRA requirements cache is stored. Defaults to ~/.serenity/jira-requirements-cache.
+     */
+    JIRA_REQUIREMENTS_CACHE_DIRECTORY("jira.requirements.cache.directory"),
+
+    /**
+     * After how many minutes the JIRA requirements cache is discarded and rebuilt from scratch (24 hours by default).
+     */
+    JIRA_REQUIREMENTS_CACHE_MAX_AGE("jira.requirements.cache.max.age");
 
     private final String name;
 
@@ -23,6 +23,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.time.Duration;
 import java.util.*;
 
 
@@ -35,6 +37,7 @@ public class JIRARequirementsProvider implements RequirementsTagProvider {
     private final JerseyJiraClient jiraClient;
     private final String projectKey;
     private final EnvironmentVariables environmentVariables;
+    private final Optional<PersistentRequirementsCache> requirementsCache;
 
     private final String EPIC_LINK = "Epic Link";
 
@@ -57,6 +60,31 @@ public class JIRARequirementsProvider implements RequirementsTagProvider {
                 jiraConfiguration.getJiraUser(),
                 jiraConfiguration.getJiraPassword(),
                 projectKey).usingCustomFields(customFieldsDefinedIn(environmentVariables));
+        requirementsCache = requirementsCacheFor(jiraConfiguration);
+    }
+
+    private Optional<PersistentRequirementsCache> requirementsCacheFor(JIRAConfiguration jiraConfiguration) {
+        if (!environmentVariables.getPropertyAsBoolean(JIRARequirementsConfiguration.JIRA_REQUIREMENTS_CACHE.getName(), false)) {
+            return Optional.empty();
+        }
+        File defaultCacheDirectory = new File(new File(System.getProperty("user.home"), ".serenity"), "jira-requirements-cache");
+        String cacheDirectory = environmentVariables.getProperty(JIRARequirementsConfiguration.JIRA_REQUIREMENTS_CACHE_DIRECTORY.getName(),
+                                                                 defaultCacheDirectory.getPath());
+        int maxAgeInMinutes = environmentVariables.getPropertyAsInteger(JIRARequirementsConfiguration.JIRA_REQUIREMENTS_CACHE_MAX_AGE.getName(), 24 * 60);
+        return Optional.of(new PersistentRequirementsCache(new File(cacheDirectory),
+                                                           projectKey,
+                                                           configurationFingerprint(jiraConfiguration),
+                                                           Duration.ofMinutes(maxAgeInMinutes)));
+    }
+
+    /**
+     * Cached requirements are only valid for the JIRA server and requirement structure they were loaded with.
+     */
+    private String configurationFingerprint(JIRAConfiguration jiraConfiguration) {
+        return String.join("|", jiraConfiguration.getJiraUrl(),
+                                rootRequirementsJQL(),
+                                getRequirementsLinks().toString(),
+                                customFieldsDefinedIn(environmentVariables).toString());
     }
 
     private List<String> definedCustomFields() {
@@ -114,6 +142,7 @@ public class JIRARequirementsProvider implements RequirementsTagProvider {
                 rootRequirementIssues = Lists.newArrayList();
             }
             logger.debug("Loading root requirements done: " + rootRequirementIssues.size());
+            recordInCache(rootRequirementIssues);
 
             RequirementsLoader requirementsLoader = new ConcurrentRequirementsLoader(environmentVariables, this);
             requirements = requirementsLoader.loadFrom(rootRequirementIssues);
@@ -125,11 +154,40 @@ public class JIRARequirementsProvider implements RequirementsTagProvider {
     }
 
     private List<Requirement> persisted(List<Requirement> requirements) {
-        return requirements;
+        if (requirements != null || !requirementsCache.isPresent() || !providerActivated()) {
+            return requirements;
+        }
+        return revalidatedCache().flatMap(PersistentRequirementsCache::getRequirements).orElse(null);
     }
 
     private void persist(List<Requirement> requirements) {
-        // TODO: Implement me
+        revalidatedCache().ifPresent(cache -> cache.store(requirements));
+    }
+
+    private Optional<PersistentRequirementsCache> revalidatedCache() {
+        requirementsCache.ifPresent(cache -> cache.revalidateUsing(jiraClient));
+        return requirementsCache;
+    }
+
+    private void recordInCache(List<IssueSummary> issues) {
+        requirementsCache.ifPresent(cache -> cache.recordAll(issues));
+    }
+
+    /**
+     * Find an issue by key, using the persistent requirements cache if it is active.
+     */
+    Optional<IssueSummary> findIssueByKey(String issueKey) throws JQLException {
+        Optional<IssueSummary> cachedIssue = revalidatedCache().flatMap(cache -> cache.getIssue(issueKey));
+        if (cachedIssue.isPresent()) {
+            return cachedIssue;
+        }
+        Optional<IssueSummary> issue = jiraClient.findByKey(issueKey);
+        issue.ifPresent(this::recordInCache);
+        return issue;
+    }
+
+    private void recordInCache(IssueSummary issue) {
+        requirementsCache.ifPresent(cache -> cache.record(issue));
     }
 
     private boolean providerActivated() {
@@ -198,6 +256,7 @@ public class JIRARequirementsProvider implements RequirementsTagProvider {
             children = jiraClient.findByJQL(childIssuesJQL(parent, level), LoadingStrategy.LOAD_IN_SINGLE_QUERY);
 
             logger.debug("Loading child requirements for " + parent.getName() + " done: " + children.size());
+            recordInCache(children);
         } catch (JQLException e) {
             logger.warn("No children found for requirement " + parent, e);
             return NO_REQUIREMENTS;
@@ -246,7 +305,7 @@ public class JIRARequirementsProvider implements RequirementsTagProvider {
         List<String> issueKeys = testOutcome.getIssueKeys();
         if (!issueKeys.isEmpty() && providerActivated()) {
             try {
-                java.util.Optional<IssueSummary> parentIssue = jiraClient.findByKey(issueKeys.get(0));
+                java.util.Optional<IssueSummary> parentIssue = findIssueByKey(issueKeys.get(0));
                 if (parentIssue.isPresent()) {
                     logger.debug("Parent found: " + parentIssue.get());
                     return Optional.of(requirementFrom(parentIssue.get()));
@@ -301,7 +360,7 @@ public class JIRARequirementsProvider implements RequirementsTagProvider {
 
     private Collection<? extends TestTag> tagsFromIssue(String issueKey) {
         if (providerActivated()) {
-            IssueTagReader tagReader = new IssueTagReader(jiraClient, getFlattenedRequirements(), projectKey);
+            IssueTagReader tagReader = new IssueTagReader(this::findIssueByKey, getFlattenedRequirements(), projectKey);
             return tagReader.addIssueTags(issueKey)
                     .addRequirementTags(issueKey)
                     .addVersionTags(issueKey).getTags();
@@ -0,0 +1,200 @@
+package net.serenitybdd.plugins.jirarequirements;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import net.serenitybdd.plugins.jira.client.JerseyJiraClient;
+import net.serenitybdd.plugins.jira.client.LoadingStrategy;
+import net.serenitybdd.plugins.jira.domain.IssueSummary;
+import net.serenitybdd.plugins.jira.model.JQLException;
+import net.thucydides.model.requirements.FileSystemRequirementsStore;
+import net.thucydides.model.requirements.RequirementsStore;
+import net.thucydides.model.requirements.model.Requirement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the JIRA requirements tree and the issues it was built from on disk between runs.
+ * <p>
+ * The first time the cache is used in a run, it asks JIRA for the issues in the project that were updated since the
+ * last synchronisation, using a single relative-date JQL query. Updated issues replace their cached versions, and
+ * any update at all means that the requirements tree is rebuilt. The whole cache is discarded once it is older than
+ * the configured maximum age, so that deleted issues eventually disappear, or if the JIRA configuration changes.
+ */
+public class PersistentRequirementsCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistentRequirementsCache.class);
+
+    private final File cacheDirectory;
+    private final String projectKey;
+    private final String configurationFingerprint;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final RequirementsStore requirementsStore;
+    private final Gson gson = new Gson();
+
+    private boolean revalidated = false;
+    private boolean requirementsAreValid = false;
+    private long lastSync;
+    private final Map<String, IssueSummary> issues = new ConcurrentHashMap<>();
+
+    public PersistentRequirementsCache(File cacheDirectory,
+                                       String projectKey,
+                                       String configurationFingerprint,
+                                       Duration maxAge) {
+        this(cacheDirectory, projectKey, configurationFingerprint, maxAge, Clock.systemUTC());
+    }
+
+    PersistentRequirementsCache(File cacheDirectory,
+                                String projectKey,
+                                String configurationFingerprint,
+                                Duration maxAge,
+                                Clock clock) {
+        this.cacheDirectory = cacheDirectory;
+        this.projectKey = projectKey;
+        this.configurationFingerprint = configurationFingerprint;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.requirementsStore = new FileSystemRequirementsStore(cacheDirectory, projectKey + "-requirements.json");
+    }
+
+    /**
+     * Bring the cache up to date with the JIRA server. Only the first call in a run queries JIRA.
+     */
+    public synchronized void revalidateUsing(JerseyJiraClient jiraClient) {
+        if (revalidated) {
+            return;
+        }
+        revalidated = true;
+
+        long now = clock.millis();
+        Optional<CachedIssues> cachedIssues = readCachedIssues();
+        if (!cachedIssues.isPresent() || isTooOld(cachedIssues.get(), now)) {
+            LOGGER.debug("No usable JIRA requirements cache found for project {}", projectKey);
+            startAfresh(now);
+            return;
+        }
+
+        List<IssueSummary> updatedIssues;
+        try {
+            updatedIssues = jiraClient.findByJQL(issuesUpdatedSince(cachedIssues.get().lastSync, now), LoadingStrategy.LOAD_IN_BATCHES);
+        } catch (JQLException e) {
+            LOGGER.warn("Could not check the JIRA requirements cache for updated issues - the cache will be ignored", e);
+            startAfresh(now);
+            return;
+        }
+
+        issues.putAll(cachedIssues.get().issues);
+        updatedIssues.forEach(this::record);
+        requirementsAreValid = updatedIssues.isEmpty();
+        lastSync = now;
+        LOGGER.debug("{} issues updated in JIRA since the last synchronisation", updatedIssues.size());
+    }
+
+    private void startAfresh(long now) {
+        issues.clear();
+        requirementsAreValid = false;
+        lastSync = now;
+        requirementsStore.clear();
+    }
+
+    private boolean isTooOld(CachedIssues cachedIssues, long now) {
+        return !configurationFingerprint.equals(cachedIssues.fingerprint)
+                || now - cachedIssues.lastSync > maxAge.toMillis();
+    }
+
+    /**
+     * JQL relative dates are evaluated by the server, which avoids any time zone mismatch between the local clock
+     * and the JIRA user profile. One extra minute covers the rounding of the relative date.
+     */
+    private String issuesUpdatedSince(long lastSync, long now) {
+        long minutesSinceLastSync = Duration.ofMillis(now - lastSync).toMinutes() + 1;
+        return "project = " + projectKey + " and updated >= -" + minutesSinceLastSync + "m";
+    }
+
+    public Optional<List<Requirement>> getRequirements() {
+        if (!requirementsAreValid) {
+            return Optional.empty();
+        }
+        try {
+            return requirementsStore.read();
+        } catch (IOException | JsonParseException e) {
+            LOGGER.warn("Could not read the cached JIRA requirements", e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<IssueSummary> getIssue(String issueKey) {
+        return Optional.ofNullable(issues.get(issueKey));
+    }
+
+    public void record(IssueSummary issue) {
+        if (issue.getKey() != null) {
+            issues.put(issue.getKey(), issue);
+        }
+    }
+
+    public void recordAll(Collection<IssueSummary> issues) {
+        issues.forEach(this::record);
+    }
+
+    /**
+     * Write the requirements tree and the known issues to disk, ready for the next run.
+     */
+    public synchronized void store(List<Requirement> requirements) {
+        try {
+            Files.createDirectories(cacheDirectory.toPath());
+            requirementsStore.write(requirements);
+            writeCachedIssues(new CachedIssues(lastSync, configurationFingerprint, new HashMap<>(issues)));
+            requirementsAreValid = true;
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the JIRA requirements cache to " + cacheDirectory, e);
+        }
+    }
+
+    private File cachedIssuesFile() {
+        return new File(cacheDirectory, projectKey + "-issues.json");
+    }
+
+    private Optional<CachedIssues> readCachedIssues() {
+        File cachedIssuesFile = cachedIssuesFile();
+        if (!cachedIssuesFile.exists()) {
+            return Optional.empty();
+        }
+        try (Reader reader = new InputStreamReader(new FileInputStream(cachedIssuesFile), StandardCharsets.UTF_8)) {
+            CachedIssues cachedIssues = gson.fromJson(reader, CachedIssues.class);
+            if (cachedIssues == null || cachedIssues.issues == null) {
+                return Optional.empty();
+            }
+            return Optional.of(cachedIssues);
+        } catch (IOException | JsonParseException e) {
+            LOGGER.warn("Could not read the cached JIRA issues from " + cachedIssuesFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeCachedIssues(CachedIssues cachedIssues) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(cachedIssuesFile()), StandardCharsets.UTF_8)) {
+            gson.toJson(cachedIssues, writer);
+        }
+    }
+
+    private static class CachedIssues {
+        long lastSync;
+        String fingerprint;
+        Map<String, IssueSummary> issues;
+
+        CachedIssues(long lastSync, String fingerprint, Map<String, IssueSummary> issues) {
+            this.lastSync = lastSync;
+            this.fingerprint = fingerprint;
+            this.issues = issues;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package net.serenitybdd.plugins.jira
+
+import net.serenitybdd.plugins.jira.client.JerseyJiraClient
+import net.serenitybdd.plugins.jira.client.LoadingStrategy
+import net.serenitybdd.plugins.jira.domain.IssueSummary
+import net.serenitybdd.plugins.jirarequirements.PersistentRequirementsCache
+import net.thucydides.model.requirements.model.Requirement
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
+
+class WhenCachingRequirementsBetweenRuns extends Specification {
+
+    @TempDir
+    File cacheDirectory
+
+    def lastRun = Instant.parse("2024-05-01T10:00:00Z")
+    def nextRun = Instant.parse("2024-05-01T12:30:00Z")
+
+    def requirements = [Requirement.named("Manage accounts").withOptionalCardNumber("DEMO-1").withType("epic").withNarrative("")]
+    def epic = new IssueSummary(new URI("http://jira/DEMO-1"), 1L, "DEMO-1", "Manage accounts", "", [:], "epic", "Open")
+
+    def "cached requirements should be reused if no issues have been updated since the last run"() {
+        given:
+        populateCacheAt(lastRun)
+        def jira = new StubJiraClient(updatedIssues: [])
+        def cache = cacheAt(nextRun)
+        when:
+        cache.revalidateUsing(jira)
+        then:
+        cache.getRequirements().get()*.name == ["Manage accounts"]
+        cache.getIssue("DEMO-1").get().summary == "Manage accounts"
+        and:
+        jira.queries == ["project = DEMO and updated >= -151m"]
+    }
+
+    def "cached requirements should be discarded if any issues have been updated since the last run"() {
+        given:
+        populateCacheAt(lastRun)
+        def renamedEpic = new IssueSummary(new URI("http://jira/DEMO-1"), 1L, "DEMO-1", "Manage user accounts", "", [:], "epic", "Open")
+        def cache = cacheAt(nextRun)
+        when:
+        cache.revalidateUsing(new StubJiraClient(updatedIssues: [renamedEpic]))
+        then:
+        !cache.getRequirements().isPresent()
+        cache.getIssue("DEMO-1").get().summary == "Manage user accounts"
+    }
+
+    def "the cache should only query JIRA once per run"() {
+        given:
+        populateCacheAt(lastRun)
+        def jira = new StubJiraClient(updatedIssues: [])
+        def cache = cacheAt(nextRun)
+        when:
+        cache.revalidateUsing(jira)
+        cache.revalidateUsing(jira)
+        then:
+        jira.queries.size() == 1
+    }
+
+    def "caches older than the maximum age should be ignored without querying JIRA"() {
+        given:
+        populateCacheAt(lastRun)
+        def jira = new StubJiraClient(updatedIssues: [])
+        def cache = new PersistentRequirementsCache(cacheDirectory, "DEMO", "fingerprint", Duration.ofHours(1), clockAt(nextRun))
+        when:
+        cache.revalidateUsing(jira)
+        then:
+        !cache.getRequirements().isPresent()
+        !cache.getIssue("DEMO-1").isPresent()
+        jira.queries.isEmpty()
+    }
+
+    def "caches built with a different JIRA configuration should be ignored"() {
+        given:
+        populateCacheAt(lastRun)
+        def cache = new PersistentRequirementsCache(cacheDirectory, "DEMO", "another fingerprint", Duration.ofDays(1), clockAt(nextRun))
+        when:
+        cache.revalidateUsing(new StubJiraClient(updatedIssues: []))
+        then:
+        !cache.getRequirements().isPresent()
+    }
+
+    def populateCacheAt(Instant time) {
+        def cache = cacheAt(time)
+        cache.revalidateUsing(new StubJiraClient(updatedIssues: []))
+        cache.record(epic)
+        cache.store(requirements)
+    }
+
+    def cacheAt(Instant time) {
+        new PersistentRequirementsCache(cacheDirectory, "DEMO", "fingerprint", Duration.ofDays(1), clockAt(time))
+    }
+
+    def clockAt(Instant time) {
+        Clock.fixed(time, ZoneOffset.UTC)
+    }
+
+    static class StubJiraClient extends JerseyJiraClient {
+        List<IssueSummary> updatedIssues
+        List<String> queries = []
+
+        StubJiraClient() {
+            super("http://localhost", "", "", "DEMO")
+        }
+
+        @Override
+        List<IssueSummary> findByJQL(String query, LoadingStrategy loadingStrategy) {
+            queries << query
+            return updatedIssues
+        }
+    }
+}
@@ -35,10 +35,16 @@ class JsonSummaryReporter(val environmentVariables: EnvironmentVariables,
             ModelInfrastructure.getEnvironmentVariables()
         )
 
-        override fun generateReport(): Path {
+        /**
+         * The report filters the test outcomes into its own copy and writes to its own file, so it can be generated
+         * alongside other reports.
+         */
+        override fun canBeGeneratedConcurrently(): Boolean = true
 
-            // Fetch the test outcomes
-            val testOutcomes = testOutcomesIn(sourceDirectory).filteredByEnvironmentTags()
+        override fun generateReport(): Path = generateReportFrom(testOutcomesIn(sourceDirectory))
+
+        override fun generateReportFrom(loadedTestOutcomes: TestOutcomes): Path {
+            val testOutcomes = loadedTestOutcomes.filteredByEnvironmentTags()
 
             // Prepare the parameters
             val fields = templateFields(environmentVariables, testOutcomes)
@@ -2,6 +2,8 @@ package net.serenitybdd.reports.json
 
 import com.google.gson.JsonObject
 import com.google.gson.JsonParser
+import net.serenitybdd.reports.io.testOutcomesIn
+import net.thucydides.core.reports.ExtendedReports
 import net.thucydides.model.util.EnvironmentVariables
 import net.thucydides.model.environment.MockEnvironmentVariables
 import org.assertj.core.api.Assertions.assertThat
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.TestInstance
 import java.io.File
+import java.nio.file.Files
 import java.nio.file.Path
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -174,6 +177,28 @@ class WhenGeneratingAJsonSummaryReport {
                     "Pending scenarios")
         }
     }
+
+    @Nested
+    inner class ReportsGeneratedAlongsideOtherReports {
+
+        @Test
+        fun `can be generated at the same time as other reports`() {
+            assertThat(JsonSummaryReporter(environmentVariables).canBeGeneratedConcurrently()).isTrue()
+        }
+
+        @Test
+        fun `should be the same as a report generated on its own`() {
+            val testOutcomes = testOutcomesIn(TEST_OUTCOMES_WITH_MULTIPLE_RESULTS)
+            val outputDirectories = (1..4).map { Files.createTempDirectory("json-summary-report") }
+            val reporters = outputDirectories.map { JsonSummaryReporter(environmentVariables, TEST_OUTCOMES_WITH_MULTIPLE_RESULTS, it) }
+
+            val generatedReports = ExtendedReports.generateAll(reporters, testOutcomes)
+            val reportGeneratedOnItsOwn = reporters[0].generateReportFrom(testOutcomes).toFile().readText()
+
+            assertThat(generatedReports.map { it.parent }).isEqualTo(outputDirectories)
+            assertThat(generatedReports.map { it.toFile().readText() }).allMatch { it == reportGeneratedOnItsOwn }
+        }
+    }
 }
 
 
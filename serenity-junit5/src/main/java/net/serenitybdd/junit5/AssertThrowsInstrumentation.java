@@ -0,0 +1,39 @@
+package net.serenitybdd.junit5;
+
+import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Installs the ByteBuddy agent that lets Serenity know about the exceptions expected by Assertions.assertThrows().
+ * Attaching the agent is slow, so it is only done the first time a Serenity test class is run, rather than every time
+ * the JUnit 5 platform starts. The Assertions class may already be loaded by then, so it is retransformed.
+ */
+class AssertThrowsInstrumentation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssertThrowsInstrumentation.class);
+
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean(false);
+
+    static void install() {
+        if (INSTALLED.compareAndSet(false, true)) {
+            try {
+                new AgentBuilder.Default()
+                        .disableClassFormatChanges()
+                        .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                        .type(ElementMatchers.named("org.junit.jupiter.api.Assertions"))
+                        .transform((builder, typeDescription, classLoader, module, protectionDomain) ->
+                                builder.visit(Advice.to(AssertThrowsAdvice.class).on(ElementMatchers.named("assertThrows")))
+                        ).installOn(ByteBuddyAgent.install());
+            } catch (RuntimeException | LinkageError couldNotInstallAgent) {
+                LOGGER.warn("Could not instrument Assertions.assertThrows(): expected exceptions will not be reported ({})",
+                        couldNotInstallAgent.getMessage());
+            }
+        }
+    }
+}
@@ -1,11 +1,5 @@
 package net.serenitybdd.junit5;
 
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.agent.ByteBuddyAgent;
-import net.bytebuddy.agent.builder.AgentBuilder;
-import net.bytebuddy.asm.Advice;
-import net.bytebuddy.dynamic.loading.ClassReloadingStrategy;
-import net.bytebuddy.matcher.ElementMatchers;
 import net.serenitybdd.core.di.SerenityInfrastructure;
 import net.serenitybdd.junit5.utils.ClassUtil;
 import net.thucydides.model.configuration.SystemPropertiesConfiguration;
@@ -34,7 +28,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.lang.instrument.Instrumentation;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -50,16 +43,6 @@ public class SerenityTestExecutionListener implements TestExecutionListener {
 
     private static final Logger logger = LoggerFactory.getLogger(SerenityTestExecutionListener.class);
 
-    static {
-        Instrumentation inst = ByteBuddyAgent.install();
-        new AgentBuilder.Default()
-                .type(ElementMatchers.named("org.junit.jupiter.api.Assertions"))
-                .transform((builder, typeDescription, classLoader, module, protectionDomain) ->
-                        builder.method(ElementMatchers.named("assertThrows"))
-                                .intercept(Advice.to(AssertThrowsAdvice.class))
-                ).installOn(inst);
-    }
-
     private ReportService reportService;
 
     private SerenityTestExecutionSummary summary;
@@ -73,7 +56,17 @@ public class SerenityTestExecutionListener implements TestExecutionListener {
 
     private boolean isSerenityTest = false;
 
+    /**
+     * Installs the assertThrows() instrumentation, which is only needed once a Serenity test class is run.
+     */
+    private final Runnable instrumentation;
+
     public SerenityTestExecutionListener() {
+        this(AssertThrowsInstrumentation::install);
+    }
+
+    SerenityTestExecutionListener(Runnable instrumentation) {
+        this.instrumentation = instrumentation;
     }
 
     private static File getOutputDirectory() {
@@ -86,7 +79,10 @@ public class SerenityTestExecutionListener implements TestExecutionListener {
         this.summary = new SerenityTestExecutionSummary(testPlan);
         testPlan.getRoots().forEach(root -> {
             Set<TestIdentifier> children = testPlan.getChildren(root.getUniqueId());
-            children.stream().filter(this::isClassSource).filter(this::isASerenityTest).forEach(this::configureParameterizedTestDataFor);
+            children.stream().filter(this::isClassSource).filter(this::isASerenityTest).forEach(serenityTest -> {
+                instrumentation.run();
+                configureParameterizedTestDataFor(serenityTest);
+            });
         });
     }
 
@@ -233,6 +229,7 @@ public class SerenityTestExecutionListener implements TestExecutionListener {
                 logger.trace("-->Execution started but no SerenityClass " + testClass);
                 return;
             }
+            instrumentation.run();
             logger.trace("-->Execution started " + testIdentifier + "----" + testIdentifier.getDisplayName() + "--" + testIdentifier.getType() + "--" + testIdentifier.getSource());
             logger.trace("-->TestSuiteStarted " + testClass);
 
@@ -573,6 +570,14 @@ public class SerenityTestExecutionListener implements TestExecutionListener {
         expectedExceptions.add(exceptionClass);
     }
 
+    static boolean isExpectingException(Class exceptionClass) {
+        return expectedExceptions.contains(exceptionClass);
+    }
+
+    static void clearExpectedExceptions() {
+        expectedExceptions.clear();
+    }
+
     static boolean isSerenityTestClass(Class<?> testClass) {
         return classNestStructure(testClass).stream().flatMap(clazz -> Stream.of(clazz.getAnnotationsByType(ExtendWith.class))).anyMatch(annotation -> Arrays.asList(annotation.value()).contains(SerenityJUnit5Extension.class));
     }
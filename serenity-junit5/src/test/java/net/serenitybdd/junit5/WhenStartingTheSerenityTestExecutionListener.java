@@ -0,0 +1,115 @@
+package net.serenitybdd.junit5;
+
+import net.serenitybdd.junit5.samples.integration.JUnit5NestedExample;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+public class WhenStartingTheSerenityTestExecutionListener {
+
+    private final AtomicInteger instrumentationInstalls = new AtomicInteger();
+
+    private static TestPlan testPlanFor(Class<?> testClass) {
+        return LauncherFactory.create().discover(LauncherDiscoveryRequestBuilder.request().selectors(selectClass(testClass)).build());
+    }
+
+    @AfterEach
+    public void forgetExpectedExceptions() {
+        SerenityTestExecutionListener.clearExpectedExceptions();
+    }
+
+    @Test
+    public void should_not_instrument_assertions_when_no_serenity_tests_are_run() {
+        TestPlan plainTests = testPlanFor(WhenDetectingASerenityJUnit5TestClass.class);
+
+        new SerenityTestExecutionListener(instrumentationInstalls::incrementAndGet).testPlanExecutionStarted(plainTests);
+
+        assertThat(instrumentationInstalls.get(), is(0));
+    }
+
+    @Test
+    public void should_instrument_assertions_when_a_serenity_test_is_about_to_run() {
+        TestPlan serenityTests = testPlanFor(JUnit5NestedExample.class);
+
+        new SerenityTestExecutionListener(instrumentationInstalls::incrementAndGet).testPlanExecutionStarted(serenityTests);
+
+        assertThat(instrumentationInstalls.get(), is(1));
+    }
+
+    @Test
+    public void the_instrumentation_should_report_the_exceptions_expected_by_assert_throws() {
+        AssertThrowsInstrumentation.install();
+        AssertThrowsInstrumentation.install();
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            throw new UnsupportedOperationException();
+        });
+
+        assertThat(SerenityTestExecutionListener.isExpectingException(UnsupportedOperationException.class), is(true));
+    }
+
+    /**
+     * The listener runs in a class loader of its own, so that the check does not depend on whether other tests in
+     * the same JVM have already installed the agent.
+     */
+    @Test
+    public void should_not_load_or_attach_the_byte_buddy_agent_when_no_serenity_tests_are_run() throws Exception {
+        try (ClassRecordingClassLoader isolatedClassLoader = new ClassRecordingClassLoader(testClassPath())) {
+            Class<?> startingThePlan = isolatedClassLoader.loadClass(StartingAPlanWithoutSerenityTests.class.getName());
+
+            ((Runnable) startingThePlan.getDeclaredConstructor().newInstance()).run();
+
+            assertThat(isolatedClassLoader.loadedClasses, hasItem(SerenityTestExecutionListener.class.getName()));
+            assertThat(isolatedClassLoader.loadedClasses, not(hasItem("net.bytebuddy.agent.ByteBuddyAgent")));
+        }
+    }
+
+    public static class StartingAPlanWithoutSerenityTests implements Runnable {
+        @Override
+        public void run() {
+            new SerenityTestExecutionListener().testPlanExecutionStarted(testPlanFor(WhenDetectingASerenityJUnit5TestClass.class));
+        }
+    }
+
+    private static URL[] testClassPath() throws MalformedURLException {
+        List<URL> classPath = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            classPath.add(new File(entry).toURI().toURL());
+        }
+        return classPath.toArray(new URL[0]);
+    }
+
+    private static class ClassRecordingClassLoader extends URLClassLoader {
+        private final Set<String> loadedClasses = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        ClassRecordingClassLoader(URL[] classPath) {
+            super(classPath, ClassLoader.getPlatformClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            loadedClasses.add(name);
+            return super.loadClass(name, resolve);
+        }
+    }
+}
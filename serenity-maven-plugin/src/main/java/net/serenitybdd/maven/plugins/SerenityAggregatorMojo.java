@@ -7,8 +7,10 @@ import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.serenitybdd.core.di.SerenityInfrastructure;
 import net.thucydides.model.domain.TestResult;
+import net.thucydides.core.reports.ExtendedReport;
 import net.thucydides.core.reports.ExtendedReports;
 import net.thucydides.model.reports.ResultChecker;
+import net.thucydides.model.reports.TestOutcomeCache;
 import net.thucydides.model.reports.TestOutcomes;
 import net.thucydides.model.reports.UserStoryTestReporter;
 import net.thucydides.model.util.EnvironmentVariables;
@@ -206,10 +208,13 @@ public class SerenityAggregatorMojo extends AbstractMojo {
     }
 
     public void execute() throws MojoExecutionException, MojoFailureException {
+        // The HTML, custom and check reporters, and any later Serenity goals in this build, then share the loaded outcomes
+        TestOutcomeCache.shared().enableFor(session);
         prepareExecution();
 
         try {
-            TestResult testResult = generateHtmlStoryReports();
+            TestOutcomes outcomes = generateHtmlStoryReports();
+            TestResult testResult = new ResultChecker(outputDirectory).checkTestResults(outcomes);
             generateExtraReports();
             generateCustomReports();
             if (!ignoreFailedTests) {
@@ -260,7 +265,7 @@ public class SerenityAggregatorMojo extends AbstractMojo {
 
     }
 
-    private TestResult generateHtmlStoryReports() throws IOException {
+    private TestOutcomes generateHtmlStoryReports() throws IOException {
         getReporter().setProjectDirectory(projectDirectory.toFile().getPath());
         getReporter().setSourceDirectory(sourceDirectory);
         getReporter().setOutputDirectory(outputDirectory);
@@ -271,25 +276,32 @@ public class SerenityAggregatorMojo extends AbstractMojo {
         getReporter().setJiraPassword(jiraPassword);
         getReporter().setTags(tags);
         getReporter().setGenerateTestOutcomeReports();
-        TestOutcomes outcomes = getReporter().generateReportsForTestResultsFrom(sourceDirectory);
-        return new ResultChecker(outputDirectory).checkTestResults(outcomes);
+        return getReporter().generateReportsForTestResultsFrom(sourceDirectory);
     }
 
-    private void generateExtraReports() {
+    /**
+     * The extended reports get all of the test outcomes, as they were recorded, rather than the outcomes
+     * that were filtered and tagged for the HTML report. With the test outcome cache enabled, the outcome files
+     * are still only read once.
+     */
+    private void generateExtraReports() throws IOException {
 
         if (StringUtils.isEmpty(reports)) {
             return;
         }
         List<String> extendedReportTypes = Splitter.on(",").splitToList(reports);
-        ExtendedReports.named(extendedReportTypes).forEach(
+        List<ExtendedReport> extendedReports = ExtendedReports.named(extendedReportTypes);
+        extendedReports.forEach(
                 report -> {
                     report.setProjectDirectory(projectDirectory.toFile().getPath());
                     report.setSourceDirectory(sourceDirectory.toPath());
                     report.setOutputDirectory(outputDirectory.toPath());
-                    Path generatedReport = report.generateReport();
-                    LOGGER.info("  - {}: {}", report.getDescription(), generatedReport.toUri());
                 }
         );
+        List<Path> generatedReports = ExtendedReports.generateAllFrom(extendedReports, sourceDirectory.toPath());
+        for (int i = 0; i < extendedReports.size(); i++) {
+            LOGGER.info("  - {}: {}", extendedReports.get(i).getDescription(), generatedReports.get(i).toUri());
+        }
     }
 
     private File sourceOfTestResult() {
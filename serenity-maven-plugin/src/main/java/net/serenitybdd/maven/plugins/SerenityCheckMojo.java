@@ -3,6 +3,7 @@ package net.serenitybdd.maven.plugins;
 import net.serenitybdd.core.di.SerenityInfrastructure;
 import net.thucydides.model.domain.TestResult;
 import net.thucydides.model.reports.ResultChecker;
+import net.thucydides.model.reports.TestOutcomeCache;
 import net.thucydides.model.webdriver.Configuration;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.execution.MavenSession;
@@ -34,7 +35,7 @@ public class SerenityCheckMojo extends AbstractMojo {
     public String tags;
 
     @Parameter(defaultValue = "${session}")
-    private MavenSession session;
+    protected MavenSession session;
 
     @Parameter(defaultValue = "${project}")
     public MavenProject project;
@@ -59,6 +60,8 @@ public class SerenityCheckMojo extends AbstractMojo {
     public void execute() throws MojoExecutionException, MojoFailureException {
         getLog().info("Checking Serenity test results");
 
+        TestOutcomeCache.shared().enableFor(session);
+
         UpdatedClassLoader.withProjectClassesFrom(project);
 
         TestResult testResult = getResultChecker().checkTestResults();
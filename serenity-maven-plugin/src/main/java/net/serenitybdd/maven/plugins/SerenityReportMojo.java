@@ -5,7 +5,9 @@ import net.serenitybdd.core.Serenity;
 import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.serenitybdd.core.di.SerenityInfrastructure;
+import net.thucydides.core.reports.ExtendedReport;
 import net.thucydides.core.reports.ExtendedReports;
+import net.thucydides.model.reports.TestOutcomeCache;
 import net.thucydides.model.util.EnvironmentVariables;
 import net.thucydides.model.webdriver.Configuration;
 import org.apache.commons.lang3.StringUtils;
@@ -18,6 +20,7 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
@@ -130,23 +133,29 @@ public class SerenityReportMojo extends AbstractMojo {
     }
 
     public void execute() throws MojoExecutionException {
+        TestOutcomeCache.shared().enableFor(session);
         prepareExecution();
         generateExtraReports();
     }
 
-    private void generateExtraReports() {
+    private void generateExtraReports() throws MojoExecutionException {
 
         if (StringUtils.isEmpty(reports)) {
             return;
         }
         List<String> extendedReportTypes = Splitter.on(",").splitToList(reports);
-        ExtendedReports.named(extendedReportTypes).forEach(
+        List<ExtendedReport> extendedReports = ExtendedReports.named(extendedReportTypes);
+        extendedReports.forEach(
                 report -> {
                     report.setSourceDirectory(sourceDirectory.toPath());
                     report.setOutputDirectory(outputDirectory.toPath());
-                    Path generatedReport = report.generateReport();
                 }
         );
+        try {
+            ExtendedReports.generateAllFrom(extendedReports, sourceDirectory.toPath());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not load the Serenity test results from " + sourceDirectory, e);
+        }
     }
 
 }
@@ -0,0 +1,115 @@
+package net.serenitybdd.maven.plugins;
+
+import net.thucydides.core.reports.html.HtmlAggregateStoryReporter;
+import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.TestResult;
+import net.thucydides.model.reports.OutcomeFormat;
+import net.thucydides.model.reports.ResultChecker;
+import net.thucydides.model.reports.TestOutcomeCache;
+import net.thucydides.model.reports.TestOutcomeLoader;
+import net.thucydides.model.reports.json.JSONTestOutcomeReporter;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class WhenSharingLoadedOutcomesBetweenGoals {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    HtmlAggregateStoryReporter reporter;
+
+    @Mock
+    MavenProject project;
+
+    File outcomeDirectory;
+
+    static class SomeTestScenario {
+        void first_test() {}
+        void second_test() {}
+    }
+
+    @Before
+    public void storeSomeOutcomes() throws IOException {
+        MockitoAnnotations.initMocks(this);
+        outcomeDirectory = temporaryFolder.newFolder("serenity");
+        JSONTestOutcomeReporter jsonReporter = new JSONTestOutcomeReporter();
+        jsonReporter.setOutputDirectory(outcomeDirectory);
+        jsonReporter.generateReportFor(TestOutcome.forTest("first_test", SomeTestScenario.class).withResult(TestResult.SUCCESS));
+        jsonReporter.generateReportFor(TestOutcome.forTest("second_test", SomeTestScenario.class).withResult(TestResult.SUCCESS));
+
+        // Like the real reporter, the mocked one loads the outcomes it reports on
+        when(reporter.generateReportsForTestResultsFrom(any(File.class))).thenAnswer(
+                invocation -> TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.JSON).from(outcomeDirectory)
+        );
+        when(project.getBasedir()).thenReturn(new File("."));
+    }
+
+    @After
+    public void releaseTheCache() {
+        TestOutcomeCache.shared().disable();
+    }
+
+    @Test
+    public void the_check_goal_should_reuse_the_outcomes_loaded_by_the_aggregate_goal_in_the_same_session() throws Exception {
+        MavenSession session = sessionFor(project);
+        long filesReadBefore = TestOutcomeCache.shared().getOutcomeFilesRead();
+
+        aggregateGoalIn(session).execute();
+        checkGoalIn(session).execute();
+
+        assertThat(TestOutcomeCache.shared().getOutcomeFilesRead() - filesReadBefore).isEqualTo(2);
+    }
+
+    @Test
+    public void outcomes_loaded_in_an_earlier_session_should_be_read_again() throws Exception {
+        long filesReadBefore = TestOutcomeCache.shared().getOutcomeFilesRead();
+
+        aggregateGoalIn(sessionFor(project)).execute();
+        checkGoalIn(sessionFor(project)).execute();
+
+        assertThat(TestOutcomeCache.shared().getOutcomeFilesRead() - filesReadBefore).isEqualTo(4);
+    }
+
+    private MavenSession sessionFor(MavenProject project) {
+        MavenSession session = Mockito.mock(MavenSession.class);
+        when(session.getCurrentProject()).thenReturn(project);
+        return session;
+    }
+
+    private SerenityAggregatorMojo aggregateGoalIn(MavenSession session) {
+        SerenityAggregatorMojo aggregateGoal = new SerenityAggregatorMojo();
+        aggregateGoal.setOutputDirectory(outcomeDirectory);
+        aggregateGoal.setSourceDirectory(outcomeDirectory);
+        aggregateGoal.setReporter(reporter);
+        aggregateGoal.project = project;
+        aggregateGoal.session = session;
+        return aggregateGoal;
+    }
+
+    private SerenityCheckMojo checkGoalIn(MavenSession session) {
+        SerenityCheckMojo checkGoal = new SerenityCheckMojo() {
+            @Override
+            protected ResultChecker getResultChecker() {
+                return new ResultChecker(outcomeDirectory);
+            }
+        };
+        checkGoal.session = session;
+        return checkGoal;
+    }
+}
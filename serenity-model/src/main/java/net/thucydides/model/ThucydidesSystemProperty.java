@@ -1,10 +1,8 @@
 package net.thucydides.model;
 
-import net.serenitybdd.model.environment.EnvironmentSpecificConfiguration;
+import net.thucydides.model.util.ConfigurationSnapshot;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -363,6 +361,24 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_RESTART_BROWSER_FREQUENCY,
 
+    /**
+     * Set to true to notify step listeners that implement AsynchronousStepListener (such as the console logger)
+     * from a background thread, rather than on the test thread. Defaults to false.
+     */
+    SERENITY_STEP_LISTENERS_ASYNC,
+
+    /**
+     * The maximum number of events waiting to be delivered to the asynchronous step listeners of a test.
+     * Defaults to 1024.
+     */
+    SERENITY_STEP_LISTENERS_ASYNC_QUEUE_SIZE,
+
+    /**
+     * What to do when the asynchronous step listeners of a test fall too far behind: "block" (the default)
+     * makes the test wait until there is room in the queue, and "drop" discards the new events.
+     */
+    SERENITY_STEP_LISTENERS_ASYNC_WHEN_FULL,
+
     @Deprecated
     THUCYDIDES_RESTART_BROWSER_FOR_EACH,
 
@@ -372,6 +388,28 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_RESTART_BROWSER_FOR_EACH,
 
+    /**
+     * The number of idle browsers that Serenity keeps open so that they can be reused by later tests,
+     * instead of starting a new browser for each test. Browsers are cleaned up (cookies, web storage and extra windows)
+     * before they are reused. Defaults to 0, which disables the browser pool.
+     */
+    SERENITY_BROWSER_POOL_SIZE,
+
+    /**
+     * The number of tests a pooled browser can be used for before it is closed and replaced. Defaults to 50.
+     */
+    SERENITY_BROWSER_POOL_MAX_REUSE,
+
+    /**
+     * How long, in seconds, a browser can stay idle in the browser pool before it is closed. Defaults to 300.
+     */
+    SERENITY_BROWSER_POOL_MAX_IDLE,
+
+    /**
+     * The number of browsers to start in the background when the browser pool is first used. Defaults to 0.
+     */
+    SERENITY_BROWSER_POOL_WARMUP,
+
     @Deprecated
     THUCYDIDES_DIFFERENT_BROWSER_FOR_EACH_ACTOR,
 
@@ -998,6 +1036,12 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_DISABLE_REST_CALLS_AFTER_FAILURES,
 
+    /**
+     * The maximum size, in kilobytes, of the request and response bodies recorded in the reports for REST calls.
+     * Longer bodies are truncated. Bodies are recorded in full by default (or when this is set to 0).
+     */
+    SERENITY_REST_MAX_BODY_SIZE,
+
     /**
      * By default, Thucydides will read requirements from the directory structure that contains the stories.
      * When other tag and requirements plugins are used, such as the JIRA plugin, this can cause conflicting
@@ -1171,6 +1215,18 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_CONSOLE_COLORS,
 
+    /**
+     * Set to true to write the console logs from a single background thread, so that tests do not wait for the console.
+     * The logs are always written in full by the end of the test suite. Defaults to false.
+     */
+    SERENITY_CONSOLE_ASYNC,
+
+    /**
+     * Set to true to write one plain line per test result, without the test start headings or the ascii-art
+     * banners. Defaults to false.
+     */
+    SERENITY_CONSOLE_COMPACT,
+
     /**
      * Set to true to write the chronological number of each test as it is executed to the console
      */
@@ -1245,6 +1301,13 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_COMPRESS_SCREENSHOTS,
 
+    /**
+     * The deflate compression level, from 0 to 9, used to save screenshots that have been scaled down.
+     * Higher levels give smaller files but take longer to write.
+     * By default, the default level of the Java PNG encoder is used.
+     */
+    SERENITY_SCREENSHOT_PNG_COMPRESSION_LEVEL,
+
     /**
      * If set to true (the default value), Serenity will report on test duration in the test results.
      * This provides richer reports but takes more space, so you can turn it off if you prefer to save space.
@@ -1297,6 +1360,21 @@ public enum ThucydidesSystemProperty {
      */
     JSON_PRETTY_PRINTING,
 
+    /**
+     * Store each distinct failure stack trace only once, in the stacktraces sub-directory of the output directory,
+     * and refer to it from the JSON test outcomes. This saves space when many tests fail for the same reason,
+     * but the JSON test outcomes should then be read from the same directory.
+     * "true" or "false", turned off by default.
+     */
+    JSON_SHARED_STACK_TRACES,
+
+    /**
+     * Store the rows of example tables column by column in the JSON test outcomes, with each distinct value
+     * stored only once. This makes the JSON test outcomes of large data-driven tests much smaller and faster to load.
+     * Test outcomes are read in either form. "true" or "false", turned off by default.
+     */
+    JSON_COLUMNAR_DATA_TABLES,
+
     /**
      * What charset to use for JSON processing.
      * Defaults to UTF-8
@@ -1316,6 +1394,17 @@ public enum ThucydidesSystemProperty {
      */
     SIMPLIFIED_STACK_TRACES,
 
+    /**
+     * A comma-separated list of additional packages to remove from simplified stack traces,
+     * such as the packages of an in-house test framework.
+     */
+    SIMPLIFIED_STACK_TRACES_MASKED_PACKAGES,
+
+    /**
+     * The maximum number of frames to keep in simplified stack traces. By default, all the frames are kept.
+     */
+    SIMPLIFIED_STACK_TRACES_MAX_FRAMES,
+
     @Deprecated
     THUCYDIDES_DRY_RUN,
 
@@ -1665,6 +1754,20 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_REQUIREMENTS_CACHE_HEAP_SIZE,
 
+    /**
+     * Read the feature files and requirement directories of each level of the requirements hierarchy concurrently,
+     * using all of the available cores. The requirements tree is the same either way. Set to false to read them
+     * one at a time. True by default.
+     */
+    SERENITY_REQUIREMENTS_PARALLEL_LOADING,
+
+    /**
+     * A directory where the parsed definitions of Cucumber feature files are kept between runs. Each definition is
+     * stored under a fingerprint of the contents of the feature file, so a feature file is only parsed again once it
+     * has changed. Feature definitions are only kept in memory if this property is not set.
+     */
+    SERENITY_REQUIREMENTS_CACHE_DIRECTORY,
+
     /**
      * If set to true, automatically add a contextual tag to each test with the name of the operating system the test was run on.
      * False by default.
@@ -1687,8 +1790,6 @@ public enum ThucydidesSystemProperty {
 
     public static final String DEFAULT_HISTORY_DIRECTORY = "history";
 
-    private final Logger logger = LoggerFactory.getLogger(ThucydidesSystemProperty.class);
-
     ThucydidesSystemProperty(final String propertyName) {
         this.propertyName = propertyName;
     }
@@ -1722,14 +1823,6 @@ public enum ThucydidesSystemProperty {
         return from(environmentVariables, null);
     }
 
-    private Optional<String> legacyPropertyValueIfPresentIn(EnvironmentVariables environmentVariables) {
-        String legacyValue = environmentVariables.getProperty(withLegacyPrefix(getPropertyName()));
-        if (StringUtils.isNotEmpty(legacyValue)) {
-            logger.warn("Legacy property format detected for {}, please use the serenity.* format instead.", getPropertyName());
-        }
-        return Optional.ofNullable(legacyValue);
-    }
-
     private String withLegacyPrefix(String propertyName) {
         return propertyName.replace("serenity.", "thucydides.");
     }
@@ -1749,19 +1842,8 @@ public enum ThucydidesSystemProperty {
     }
 
     public String from(EnvironmentVariables environmentVariables, String defaultValue) {
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-//                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
-
-        if (isDefined(newPropertyValue)) {
-            return newPropertyValue.get();
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? legacyValue.get() : defaultValue;
-        }
-    }
-
-    private boolean isDefined(Optional<String> newPropertyValue) {
-        return newPropertyValue.isPresent() && StringUtils.isNotEmpty(newPropertyValue.get());
+        String value = configuredValueIn(environmentVariables);
+        return (value != null) ? value : defaultValue;
     }
 
     public int integerFrom(EnvironmentVariables environmentVariables) {
@@ -1769,25 +1851,13 @@ public enum ThucydidesSystemProperty {
     }
 
     public int integerFrom(EnvironmentVariables environmentVariables, int defaultValue) {
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-
-        if (isDefined(newPropertyValue)) {
-            return Integer.parseInt(newPropertyValue.get().trim());
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? Integer.parseInt(legacyValue.get().trim()) : defaultValue;
-        }
+        String value = configuredValueIn(environmentVariables);
+        return (value != null) ? Integer.parseInt(value.trim()) : defaultValue;
     }
 
     public long longFrom(EnvironmentVariables environmentVariables, long defaultValue) {
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-
-        if (isDefined(newPropertyValue)) {
-            return Integer.parseInt(newPropertyValue.get().trim());
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? Integer.parseInt(legacyValue.get().trim()) : defaultValue;
-        }
+        String value = configuredValueIn(environmentVariables);
+        return (value != null) ? Integer.parseInt(value.trim()) : defaultValue;
     }
 
     public Boolean booleanFrom(EnvironmentVariables environmentVariables) {
@@ -1798,19 +1868,22 @@ public enum ThucydidesSystemProperty {
         if (environmentVariables == null) {
             return defaultValue;
         }
-
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-
-        if (isDefined(newPropertyValue)) {
-            return Boolean.valueOf(newPropertyValue.get().trim());
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? Boolean.valueOf(legacyValue.get().trim()) : defaultValue;
-        }
+        String value = configuredValueIn(environmentVariables);
+        return (value != null) ? Boolean.valueOf(value.trim()) : defaultValue;
     }
 
-    private Optional<String> optionalPropertyValueDefinedIn(EnvironmentVariables environmentVariables) {
-        return EnvironmentSpecificConfiguration.from(environmentVariables).getOptionalProperty(withSerenityPrefix(getPropertyName()));
+    /**
+     * The value of this property (or of its legacy equivalent), or null if it is not defined or is empty.
+     * Values are read from the configuration snapshot of the environment variables, so that the environment-specific
+     * and legacy property names only need to be checked once. Other implementations, such as mocks, return no
+     * snapshot, in which case the property is resolved every time.
+     */
+    private String configuredValueIn(EnvironmentVariables environmentVariables) {
+        ConfigurationSnapshot snapshot = environmentVariables.configurationSnapshot();
+        if (snapshot == null) {
+            return ConfigurationSnapshot.uncachedValueOf(this, environmentVariables);
+        }
+        return snapshot.valueOf(this, environmentVariables);
     }
 
     public boolean isDefinedIn(EnvironmentVariables environmentVariables) {
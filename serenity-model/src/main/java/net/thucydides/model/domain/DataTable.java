@@ -388,11 +388,19 @@ public class DataTable {
     }
 
     private Collection<DataTableRow> rowsReferencedIn(DataSetDescriptor tableDescriptor) {
-        List<DataTableRow> referencedRows = new ArrayList<>();
-        for (int row = tableDescriptor.getStartRow(); row <= tableDescriptor.getLastRow(); row++) {
-            referencedRows.add(rows.get(row));
-        }
-        return referencedRows;
+        return rows.subList(tableDescriptor.getStartRow(), tableDescriptor.getLastRow() + 1);
+    }
+
+    /**
+     * A copy of this table with different rows, used when the rows are stored separately from the rest of the table.
+     */
+    public DataTable withRows(List<DataTableRow> rows) {
+        return new DataTable(headers,
+                new CopyOnWriteArrayList<>(rows),
+                predefinedRows,
+                scenarioOutline,
+                dataSetDescriptors,
+                new AtomicInteger(0));
     }
 
     public Optional<Integer> getResultRowWithLineNumber(int lineNumber) {
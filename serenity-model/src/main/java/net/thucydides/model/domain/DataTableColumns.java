@@ -0,0 +1,118 @@
+package net.thucydides.model.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rows of a data table stored column by column, with each distinct value stored only once.
+ * Large example tables tend to repeat the same few values in each column, so this form is much smaller than
+ * a list of rows, both in the JSON reports and in memory once the rows are restored, as restored rows share
+ * the same value objects.
+ */
+public class DataTableColumns {
+
+    private static final int NO_VALUE = -1;
+
+    /**
+     * Each distinct value that appears in the table
+     */
+    private final List<Object> values;
+
+    /**
+     * For each column, the position in the list of values of the value in each row,
+     * or -1 when a row has fewer values than the table has columns
+     */
+    private final int[][] columns;
+
+    private final long[] lineNumbers;
+    private final TestResult[] results;
+
+    private DataTableColumns(List<Object> values, int[][] columns, long[] lineNumbers, TestResult[] results) {
+        this.values = values;
+        this.columns = columns;
+        this.lineNumbers = lineNumbers;
+        this.results = results;
+    }
+
+    public static DataTableColumns of(DataTable table) {
+        List<DataTableRow> rows = table.getRows();
+        int columnCount = 0;
+        for (DataTableRow row : rows) {
+            columnCount = Math.max(columnCount, row.getValueCount());
+        }
+
+        List<Object> values = new ArrayList<>();
+        Map<Object, Integer> valuePositions = new HashMap<>();
+        int[][] columns = new int[columnCount][rows.size()];
+        long[] lineNumbers = new long[rows.size()];
+        TestResult[] results = new TestResult[rows.size()];
+
+        for (int row = 0; row < rows.size(); row++) {
+            DataTableRow dataTableRow = rows.get(row);
+            List<?> rowValues = dataTableRow.getValues();
+            for (int column = 0; column < columnCount; column++) {
+                columns[column][row] = (column < rowValues.size())
+                        ? valuePositions.computeIfAbsent(rowValues.get(column), value -> addTo(values, value))
+                        : NO_VALUE;
+            }
+            lineNumbers[row] = dataTableRow.getLineNumber();
+            results[row] = dataTableRow.getResult();
+        }
+        return new DataTableColumns(values, columns, lineNumbers, results);
+    }
+
+    private static int addTo(List<Object> values, Object value) {
+        values.add(value);
+        return values.size() - 1;
+    }
+
+    public int getRowCount() {
+        return (lineNumbers == null) ? 0 : lineNumbers.length;
+    }
+
+    public List<DataTableRow> toRows() {
+        List<DataTableRow> rows = new ArrayList<>(getRowCount());
+        for (int row = 0; row < getRowCount(); row++) {
+            rows.add(new DataTableRow(valuesInRow(row), lineNumbers[row], resultInRow(row)));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns a copy of the given table, which was read without its rows, with the rows stored in these columns.
+     */
+    public DataTable restoreRowsOf(DataTable table) {
+        return table.withRows(toRows());
+    }
+
+    private List<Object> valuesInRow(int row) {
+        List<Object> rowValues = new ArrayList<>(columnCount());
+        for (int column = 0; column < columnCount(); column++) {
+            int valuePosition = columns[column][row];
+            if (valuePosition == NO_VALUE) {
+                break;
+            }
+            rowValues.add(values.get(valuePosition));
+        }
+        return rowValues;
+    }
+
+    private TestResult resultInRow(int row) {
+        return (results == null || results[row] == null) ? TestResult.UNDEFINED : results[row];
+    }
+
+    private int columnCount() {
+        return (columns == null) ? 0 : columns.length;
+    }
+
+    @Override
+    public String toString() {
+        return "DataTableColumns{" +
+                "values=" + values +
+                ", columns=" + Arrays.deepToString(columns) +
+                '}';
+    }
+}
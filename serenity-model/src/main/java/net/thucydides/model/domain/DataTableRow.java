@@ -28,6 +28,10 @@ public class DataTableRow {
         return (values == null) ? Collections.emptyList() : new ArrayList<>(values);
     }
 
+    public int getValueCount() {
+        return (values == null) ? 0 : values.size();
+    }
+
     public List<String> getStringValues() {
 
         return getValues().stream().map(
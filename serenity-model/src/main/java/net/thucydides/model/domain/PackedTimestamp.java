@@ -0,0 +1,59 @@
+package net.thucydides.model.domain;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * A point in time, stored as a single object holding the instant and the time zone.
+ * A ZonedDateTime is made up of four objects, which adds up when a large test suite records the start time of
+ * every step, so steps keep their start time in this form and only create a ZonedDateTime when they are asked for it.
+ * Time zones are shared between timestamps, as each one read from a JSON report would otherwise be a separate copy.
+ */
+public final class PackedTimestamp {
+
+    private static final Interner<ZoneId> ZONES = Interners.newWeakInterner();
+
+    private final long epochSecond;
+    private final int nanos;
+    private final ZoneId zone;
+
+    private PackedTimestamp(long epochSecond, int nanos, ZoneId zone) {
+        this.epochSecond = epochSecond;
+        this.nanos = nanos;
+        this.zone = zone;
+    }
+
+    public static PackedTimestamp of(ZonedDateTime time) {
+        if (time == null) {
+            return null;
+        }
+        return new PackedTimestamp(time.toEpochSecond(), time.getNano(), ZONES.intern(time.getZone()));
+    }
+
+    public ZonedDateTime toZonedDateTime() {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nanos), zone);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PackedTimestamp)) return false;
+        PackedTimestamp that = (PackedTimestamp) o;
+        return epochSecond == that.epochSecond && nanos == that.nanos && zone.equals(that.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(epochSecond, nanos, zone);
+    }
+
+    @Override
+    public String toString() {
+        return toZonedDateTime().toString();
+    }
+}
@@ -41,7 +41,10 @@ public class RequirementCache {
         return requirements;
     }
 
-    public void indexRequirements(Map<PathElements, Requirement> requirementsByPath) {
+    /**
+     * Each level of a file system requirements hierarchy indexes its own requirements, possibly at the same time.
+     */
+    public synchronized void indexRequirements(Map<PathElements, Requirement> requirementsByPath) {
         requirementsByPath.forEach(
                 (path, requirement) -> requirementsPathIndex.put(requirement.getPath(), requirement)
         );
@@ -72,7 +72,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  *
  * @author johnsmart
  */
-public class TestOutcome {
+public class TestOutcome implements Cloneable {
 
     private static final String ISSUES = "issues";
     private static final String NEW_LINE = System.getProperty("line.separator");
@@ -275,6 +275,12 @@ public class TestOutcome {
     private transient List<TestStep> flattenedSteps = null;
     private transient List<TestStep> leafSteps = null;
 
+    /**
+     * The overall result, once the outcome has been frozen with freezeResult().
+     */
+    private transient TestResult frozenResult;
+    private transient FailureClassnameResult failureClassnameResult;
+
     /**
      * Scenario outline text.
      */
@@ -286,7 +292,6 @@ public class TestOutcome {
     private Double durationInSeconds;
 
     private TestOutcome() {
-        groupStack = new Stack<>();
         this.additionalIssues = new ArrayList<>();
         this.additionalVersions = new ArrayList<>();
         this.actors = new CopyOnWriteArrayList<>();
@@ -295,7 +300,6 @@ public class TestOutcome {
         this.flagProvider = ModelInfrastructure.getFlagProvider();
         this.qualifier = Optional.empty();
         this.context = null;
-        this.groupStack = new Stack<>();
     }
 
     /**
@@ -423,6 +427,7 @@ public class TestOutcome {
 
     public TestOutcome setToManual() {
         this.manual = true;
+        resultChanged();
         addTag(TestTag.withName("manual").andType("tag"));
         return this;
     }
@@ -544,6 +549,21 @@ public class TestOutcome {
                 this.testOutlineName);
     }
 
+    /**
+     * A copy of this outcome with its own set of tags, sharing its steps and other details.
+     * The reports add tags (such as the duration and requirement tags) to the outcomes they load,
+     * so outcomes that are kept and handed out more than once are copied this way first.
+     */
+    public TestOutcome withIndependentTags() {
+        try {
+            TestOutcome copy = (TestOutcome) super.clone();
+            copy.tags = (tags == null) ? null : new HashSet<>(tags);
+            return copy;
+        } catch (CloneNotSupportedException cloningIsSupported) {
+            throw new IllegalStateException(cloningIsSupported);
+        }
+    }
+
     protected TestOutcome(final ZonedDateTime startTime,
                           final long duration,
                           final String title,
@@ -859,6 +879,7 @@ public class TestOutcome {
         for (TestStep step : testSteps) {
             step.setResult(result);
         }
+        resultChanged();
     }
 
     public void addDataFrom(DataTable newDataTable) {
@@ -870,6 +891,7 @@ public class TestOutcome {
 
     public void clearForcedResult() {
         annotatedResult = null;
+        resultChanged();
     }
 
     public void setDriver(String driver) {
@@ -896,6 +918,7 @@ public class TestOutcome {
         testFailureClassname = null;
         testFailureMessage = null;
         annotatedResult = null;
+        resultChanged();
     }
 
     private StepResetBuilder resetFailingStepsIn(TestStep step) {
@@ -920,6 +943,7 @@ public class TestOutcome {
 
     public void updateOverallResults() {
         updateOverallResultsFor(testSteps);
+        resultChanged();
     }
 
     private void updateOverallResultsFor(List<TestStep> testSteps) {
@@ -1488,7 +1512,14 @@ public class TestOutcome {
         if (result != null) {
             return result;
         }
+        TestResult frozen = frozenResult;
+        if (frozen != null) {
+            return frozen;
+        }
+        return calculateResult();
+    }
 
+    private TestResult calculateResult() {
         if (isManual() && (annotatedResult != null)) {
             return annotatedResult;
         }
@@ -1507,16 +1538,57 @@ public class TestOutcome {
     }
 
     private TestResult testResultFromFailureClassname() {
-        if (StringUtils.isNotEmpty(testFailureClassname)) {
-            try {
-                return new FailureAnalysis().resultFor(Class.forName(testFailureClassname));
-            } catch (ReflectiveOperationException e) {
-                return HeuristicTestResult.from(testFailureClassname);
+        String failureClassname = testFailureClassname;
+        if (StringUtils.isNotEmpty(failureClassname)) {
+            FailureClassnameResult analysedFailure = failureClassnameResult;
+            if (analysedFailure == null || !analysedFailure.classname.equals(failureClassname)) {
+                analysedFailure = new FailureClassnameResult(failureClassname, testResultFromFailureClass(failureClassname));
+                failureClassnameResult = analysedFailure;
             }
+            return analysedFailure.result;
         }
         return TestResult.UNDEFINED;
     }
 
+    private TestResult testResultFromFailureClass(String failureClassname) {
+        try {
+            return new FailureAnalysis().resultFor(Class.forName(failureClassname));
+        } catch (ReflectiveOperationException e) {
+            return HeuristicTestResult.from(failureClassname);
+        }
+    }
+
+    /**
+     * The result of the failure class is looked up once, rather than loading the class each time the result is needed.
+     */
+    private static class FailureClassnameResult {
+        private final String classname;
+        private final TestResult result;
+
+        private FailureClassnameResult(String classname, TestResult result) {
+            this.classname = classname;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Remember the overall result of this outcome and of its steps, so that it is not recalculated each time a report
+     * needs it. This is meant for outcomes that will not change any more, such as those loaded for aggregate reports.
+     * Recording steps or changing the result of this outcome recalculates the result, but steps modified directly
+     * after the outcome has been frozen will not be taken into account.
+     */
+    public TestOutcome freezeResult() {
+        synchronized (testSteps) {
+            testSteps.forEach(TestStep::freezeResult);
+        }
+        frozenResult = calculateResult();
+        return this;
+    }
+
+    private void resultChanged() {
+        frozenResult = null;
+    }
+
     public TestOutcome recordSteps(final List<TestStep> steps) {
         for (TestStep step : steps) {
             recordStep(step);
@@ -1541,6 +1613,7 @@ public class TestOutcome {
      */
     public TestOutcome recordStep(final TestStep step) {
         Preconditions.checkNotNull(step.getDescription(), "The test step description was not defined.");
+        resultChanged();
         if (inGroup()) {
             getCurrentStepGroup().addChildStep(step);
             renumberTestSteps();
@@ -1560,6 +1633,7 @@ public class TestOutcome {
     private void setTestSteps(List<TestStep> steps) {
         this.testSteps = steps;
         this.flattenedSteps = null;
+        resultChanged();
         // renumberTestSteps(testSteps);
     }
 
@@ -1695,6 +1769,7 @@ public class TestOutcome {
     }
 
     public void determineTestFailureCause(Throwable cause) {
+        resultChanged();
         // Find any previous failing steps (which can happen for soft assertions)
         List<FailureCause> stepFailureCauses = getLatestFlattenedTestSteps().stream()
                 .map(TestStep::getException)
@@ -1751,11 +1826,12 @@ public class TestOutcome {
     }
 
     private String stackTraceSourceFrom(FailureCause rootCause) {
-        if (rootCause.getStackTrace().length == 0) {
+        List<StackTraceElement> stackTrace = rootCause.getStackTraceFrames();
+        if (stackTrace.isEmpty()) {
             return "";
         }
 
-        return rootCause.getStackTrace()[0].getFileName();
+        return stackTrace.get(0).getFileName();
     }
 
     private void noTestFailureIsDefined() {
@@ -1763,9 +1839,11 @@ public class TestOutcome {
         this.testFailureClassname = "";
         this.testFailureMessage = "";
         this.testFailureSummary = "";
+        resultChanged();
     }
 
     public void appendTestFailure(TestFailureCause failureCause) {
+        resultChanged();
         if (!failureCause.isDefined()) {
             noTestFailureIsDefined();
             return;
@@ -1877,21 +1955,25 @@ public class TestOutcome {
         if (this.annotatedResult != TestResult.PENDING) {
             this.annotatedResult = (this.annotatedResult == null) ?
                     annotatedResult : TestResultComparison.overallResultFor(this.annotatedResult, annotatedResult);
+            resultChanged();
         }
     }
 
     public void overrideAnnotatedResult(final TestResult annotatedResult) {
         this.annotatedResult = annotatedResult;
         this.result = annotatedResult;
+        resultChanged();
     }
 
     public void setResult(final TestResult annotatedResult) {
         this.annotatedResult = annotatedResult;
+        resultChanged();
     }
 
     public void overrideResult(final TestResult result) {
         this.result = result;
         this.annotatedResult = result;
+        resultChanged();
     }
 
     public TestOutcome withResult(final TestResult annotatedResult) {
@@ -3144,6 +3226,7 @@ public class TestOutcome {
         this.testSteps = updatedSteps;
         this.flattenedSteps = null;
         this.leafSteps = null;
+        resultChanged();
     }
 
     private boolean someStepsDoNotMatch(Predicate<TestStep> condition) {
@@ -41,8 +41,8 @@ public class TestStep implements Cloneable {
     private int number;
     private String description;
     private long duration;
-    private ZonedDateTime startTime;
-    private List<ScreenshotAndHtmlSource> screenshots = new ArrayList<>();
+    private PackedTimestamp startTime;
+    private List<ScreenshotAndHtmlSource> screenshots = Collections.emptyList();
     private FailureCause exception;
     private TestResult result;
     private RestQuery restQuery;
@@ -61,10 +61,13 @@ public class TestStep implements Cloneable {
     public final static Predicate<TestStep> SKIPPED_TESTSTEPS = testStep -> testStep.getResult() == TestResult.SKIPPED;
 
 
-    private List<TestStep> children = new ArrayList<>();
+    /**
+     * Most steps have no children or screenshots, so these lists are only created when the first element is added.
+     */
+    private List<TestStep> children = Collections.emptyList();
 
     public TestStep() {
-        startTime = ModelInfrastructure.getClock().getCurrentTime();
+        startTime = PackedTimestamp.of(ModelInfrastructure.getClock().getCurrentTime());
     }
 
     protected void setNumber(int number) {
@@ -88,9 +91,24 @@ public class TestStep implements Cloneable {
     }
 
     protected List<TestStep> children() {
+        return mutableChildren();
+    }
+
+    private List<TestStep> mutableChildren() {
+        if (!(children instanceof ArrayList)) {
+            children = new ArrayList<>(children);
+        }
+        frozenResult = null;
         return children;
     }
 
+    private List<ScreenshotAndHtmlSource> mutableScreenshots() {
+        if (!(screenshots instanceof ArrayList)) {
+            screenshots = new ArrayList<>(screenshots);
+        }
+        return screenshots;
+    }
+
     public int renumberFrom(int count) {
         this.number = count++;
         if (!children.isEmpty()) {
@@ -111,6 +129,7 @@ public class TestStep implements Cloneable {
     }
 
     public void updateOverallResult() {
+        frozenResult = null;
         if (result != null) {
             if (getResultFromChildren().overrides(result)) {
                 result = null;
@@ -145,7 +164,7 @@ public class TestStep implements Cloneable {
     }
 
     public void setStartTime(ZonedDateTime startTime) {
-        this.startTime = startTime;
+        this.startTime = PackedTimestamp.of(startTime);
     }
 
     public static class TestStepBuilder {
@@ -180,7 +199,7 @@ public class TestStep implements Cloneable {
 
     public TestStep(final ZonedDateTime startTime, final String description) {
         this();
-        this.startTime = startTime;
+        this.startTime = PackedTimestamp.of(startTime);
         this.description = description;
         this.level = 0;
     }
@@ -207,7 +226,7 @@ public class TestStep implements Cloneable {
 
     public TestStep startingAt(ZonedDateTime time) {
         TestStep newTestStep = copyOfThisTestStep();
-        newTestStep.startTime = time;
+        newTestStep.startTime = PackedTimestamp.of(time);
         return newTestStep;
     }
 
@@ -238,7 +257,7 @@ public class TestStep implements Cloneable {
             setDuration(0);
         } else {
             setDuration(
-                    ChronoUnit.MILLIS.between(startTime, time)
+                    ChronoUnit.MILLIS.between(getStartTime(), time)
             );
         }
     }
@@ -445,9 +464,18 @@ public class TestStep implements Cloneable {
      */
     public void setResult(final TestResult result) {
         this.result = result;
+        this.frozenResult = null;
     }
 
     public TestResult getResult() {
+        TestResult frozen = frozenResult;
+        if (frozen != null) {
+            return frozen;
+        }
+        return calculateResult();
+    }
+
+    private TestResult calculateResult() {
         if (isManual()) {
             return getResultFromThisStep();
         }
@@ -460,6 +488,24 @@ public class TestStep implements Cloneable {
 
     private TestResult overallResult;
 
+    /**
+     * The result of this step, once it has been frozen along with the test outcome it belongs to.
+     */
+    private transient TestResult frozenResult;
+
+    /**
+     * Remember the result of this step and of its children, for steps that will not change any more.
+     * Changing the result of this step or adding a child recalculates it.
+     */
+    void freezeResult() {
+        for (TestStep child : children) {
+            if (child != null) {
+                child.freezeResult();
+            }
+        }
+        frozenResult = calculateResult();
+    }
+
     public TestResult getOverallResult() {
         if (overallResult == null) {
             overallResult = getResult();
@@ -473,6 +519,7 @@ public class TestStep implements Cloneable {
 
     public TestStep asManual() {
         manual = true;
+        frozenResult = null;
         return this;
     }
 
@@ -493,7 +540,7 @@ public class TestStep implements Cloneable {
 
     private List<TestResult> getChildResults() {
         List<TestResult> childResults = new ArrayList<>();
-        for (TestStep step : getChildren()) {
+        for (TestStep step : children) {
             if (step != null) {
                 TestResult stepResult = step.getResult();
                 if (stepResult != null) {
@@ -646,7 +693,7 @@ public class TestStep implements Cloneable {
     }
 
     public TestStep addChildStep(final TestStep step) {
-        children.add(step.withLevel(level + 1));
+        mutableChildren().add(step.withLevel(level + 1));
         return this;
     }
 
@@ -676,7 +723,7 @@ public class TestStep implements Cloneable {
 
     public TestStep addScreenshot(ScreenshotAndHtmlSource screenshotAndHtmlSource) {
         if (thisIsANew(screenshotAndHtmlSource)) {
-            screenshots.add(screenshotAndHtmlSource);
+            mutableScreenshots().add(screenshotAndHtmlSource);
         }
         return this;
     }
@@ -691,11 +738,11 @@ public class TestStep implements Cloneable {
     }
 
     public ZonedDateTime getStartTime() {
-        return startTime;
+        return (startTime == null) ? null : startTime.toZonedDateTime();
     }
 
     public ZonedDateTime getEndTime() {
-        return startTime.plus(duration, ChronoUnit.MILLIS);
+        return getStartTime().plus(duration, ChronoUnit.MILLIS);
     }
 
     public int getActualScreenshotCount() {
@@ -716,7 +763,7 @@ public class TestStep implements Cloneable {
     }
 
     public void removeScreenshot(int index) {
-        screenshots.remove(index);
+        mutableScreenshots().remove(index);
     }
 
     public TestStep withReportData(ReportData reportData) {
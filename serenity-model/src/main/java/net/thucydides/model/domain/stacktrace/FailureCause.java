@@ -11,6 +11,7 @@ import net.thucydides.model.util.NameConverter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,7 +44,7 @@ public class FailureCause {
     public FailureCause(Throwable cause) {
         this.errorType = exceptionClassName(cause);
         this.message = cause.getMessage();
-        this.stackTrace = cause.getStackTrace();
+        this.stackTrace = StackTraces.intern(cause.getStackTrace());
         this.originalCause = cause;
         this.rootCause = rootCauseOf(cause);
     }
@@ -64,7 +65,7 @@ public class FailureCause {
     public FailureCause(Throwable cause, String exceptionClassName, String message, StackTraceElement[] stackTrace) {
         this.errorType = exceptionClassName;
         this.message = message;
-        this.stackTrace = stackTrace;
+        this.stackTrace = StackTraces.intern(stackTrace);
         this.originalCause = cause;
         this.rootCause = rootCauseOf(cause);
     }
@@ -80,7 +81,7 @@ public class FailureCause {
     public FailureCause(String errorType, String message, StackTraceElement[] stackTrace) {
         this.errorType = errorType;
         this.message = parseErrorMessage(message);
-        this.stackTrace = (stackTrace == null) ? null : Arrays.copyOf(stackTrace,stackTrace.length);
+        this.stackTrace = StackTraces.intern(stackTrace);
     }
 
     private String parseErrorMessage(String message) {
@@ -134,8 +135,16 @@ public class FailureCause {
         return Arrays.copyOf(stackTrace, stackTrace.length);
     }
 
+    /**
+     * The stack trace frames, without copying them.
+     * Stack traces are shared between failures with the same stack trace, so the list cannot be modified.
+     */
+    public List<StackTraceElement> getStackTraceFrames() {
+        return (stackTrace == null) ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(stackTrace));
+    }
+
     public void setStackTrace(StackTraceElement[] stackTrace) {
-        this.stackTrace = Arrays.copyOf(stackTrace,stackTrace.length);
+        this.stackTrace = StackTraces.intern(stackTrace);
     }
 
     public Class<? extends Throwable> exceptionClass() {
@@ -1,5 +1,6 @@
 package net.thucydides.model.domain.stacktrace;
 
+import com.google.common.base.Splitter;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.util.EnvironmentVariables;
 
@@ -8,6 +9,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static net.thucydides.model.ThucydidesSystemProperty.SIMPLIFIED_STACK_TRACES;
+import static net.thucydides.model.ThucydidesSystemProperty.SIMPLIFIED_STACK_TRACES_MASKED_PACKAGES;
+import static net.thucydides.model.ThucydidesSystemProperty.SIMPLIFIED_STACK_TRACES_MAX_FRAMES;
 
 /**
  * Created by john on 30/01/15.
@@ -71,16 +74,29 @@ public class StackTraceSanitizer {
     }
 
     private StackTraceElement[] simplifiedStackTrace(StackTraceElement[] stackTrace) {
+        List<String> additionalMaskedPackages = additionalMaskedPackages();
+        int maxFrames = SIMPLIFIED_STACK_TRACES_MAX_FRAMES.integerFrom(environmentVariables, 0);
+        if (maxFrames <= 0) {
+            maxFrames = Integer.MAX_VALUE;
+        }
         List<StackTraceElement> cleanStackTrace = new ArrayList<>();
         for(StackTraceElement element : stackTrace) {
-            if (shouldDisplayInStackTrace(element)) {
+            if (cleanStackTrace.size() >= maxFrames) {
+                break;
+            }
+            if (shouldDisplayInStackTrace(element, additionalMaskedPackages)) {
                 cleanStackTrace.add(element);
             }
         }
         return cleanStackTrace.toArray(new StackTraceElement[0]);
     }
 
-    private boolean shouldDisplayInStackTrace(StackTraceElement element) {
+    private List<String> additionalMaskedPackages() {
+        String maskedPackages = SIMPLIFIED_STACK_TRACES_MASKED_PACKAGES.from(environmentVariables, "");
+        return Splitter.on(",").trimResults().omitEmptyStrings().splitToList(maskedPackages);
+    }
+
+    private boolean shouldDisplayInStackTrace(StackTraceElement element, List<String> additionalMaskedPackages) {
         if (element.getClassName().contains("$")) {
             return false;
         }
@@ -89,6 +105,11 @@ public class StackTraceSanitizer {
                 return false;
             }
         }
+        for(String maskedPackage : additionalMaskedPackages) {
+            if (element.getClassName().startsWith(maskedPackage)) {
+                return false;
+            }
+        }
         return true;
     }
 
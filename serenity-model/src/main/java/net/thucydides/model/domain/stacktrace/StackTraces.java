@@ -0,0 +1,70 @@
+package net.thucydides.model.domain.stacktrace;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Keeps a single copy of each distinct stack trace, so that the failures of tests that fail for the same reason
+ * share it rather than each holding their own. Stack traces are identified by a fingerprint of their frames,
+ * and are forgotten once no failure refers to them any more.
+ * Shared stack traces must never be modified.
+ */
+public class StackTraces {
+
+    private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+    private static final Interner<StackTraceElement> FRAMES = Interners.newWeakInterner();
+
+    private static final Cache<HashCode, StackTraceElement[]> TRACES = CacheBuilder.newBuilder().weakValues().build();
+
+    public static StackTraceElement[] intern(StackTraceElement[] stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        if (stackTrace.length == 0) {
+            return NO_FRAMES;
+        }
+        HashCode fingerprint = fingerprintOf(stackTrace);
+        StackTraceElement[] sharedStackTrace = TRACES.getIfPresent(fingerprint);
+        if (sharedStackTrace == null) {
+            StackTraceElement[] newStackTrace = internedFramesOf(stackTrace);
+            sharedStackTrace = TRACES.asMap().putIfAbsent(fingerprint, newStackTrace);
+            if (sharedStackTrace == null) {
+                return newStackTrace;
+            }
+        }
+        // Two different stack traces with the same fingerprint are very unlikely, but should not be mixed up
+        return Arrays.equals(sharedStackTrace, stackTrace) ? sharedStackTrace : internedFramesOf(stackTrace);
+    }
+
+    private static HashCode fingerprintOf(StackTraceElement[] stackTrace) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (StackTraceElement frame : stackTrace) {
+            if (frame == null) {
+                hasher.putInt(-1);
+                continue;
+            }
+            hasher.putString(String.valueOf(frame.getClassName()), StandardCharsets.UTF_8)
+                  .putString(String.valueOf(frame.getMethodName()), StandardCharsets.UTF_8)
+                  .putString(String.valueOf(frame.getFileName()), StandardCharsets.UTF_8)
+                  .putInt(frame.getLineNumber());
+        }
+        return hasher.hash();
+    }
+
+    private static StackTraceElement[] internedFramesOf(StackTraceElement[] stackTrace) {
+        StackTraceElement[] frames = new StackTraceElement[stackTrace.length];
+        for (int i = 0; i < stackTrace.length; i++) {
+            frames[i] = (stackTrace[i] == null) ? null : FRAMES.intern(stackTrace[i]);
+        }
+        return frames;
+    }
+}
@@ -2,6 +2,7 @@ package net.thucydides.model.environment;
 
 import com.typesafe.config.Config;
 import net.serenitybdd.model.environment.ConfiguredEnvironment;
+import net.thucydides.model.util.ConfigurationSnapshot;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
 
@@ -12,6 +13,7 @@ public class MockEnvironmentVariables implements EnvironmentVariables {
 
     private Map<String, String> properties = new HashMap<>();
     private Map<String, String> values = new HashMap<>();
+    private ConfigurationSnapshot configurationSnapshot;
 
     public MockEnvironmentVariables() {
         this.properties.put("user.home", System.getProperty("user.home"));
@@ -118,15 +120,18 @@ public class MockEnvironmentVariables implements EnvironmentVariables {
 
     public void setProperty(String name, String value) {
         properties.put(name, value);
+        configurationSnapshot = null;
     }
 
     public void setProperties(Map<String, String> newProperties) {
         properties.putAll(newProperties);
+        configurationSnapshot = null;
     }
 
 
     public void clearProperty(String name) {
         properties.remove(name);
+        configurationSnapshot = null;
     }
 
     public EnvironmentVariables copy() {
@@ -206,11 +211,20 @@ public class MockEnvironmentVariables implements EnvironmentVariables {
 
     @Override
     public Map<String, String> properties() {
-        return properties;
+        return Collections.unmodifiableMap(properties);
     }
 
     public void setValue(String name, String value) {
         values.put(name, value);
+        configurationSnapshot = null;
+    }
+
+    @Override
+    public ConfigurationSnapshot configurationSnapshot() {
+        if (configurationSnapshot == null) {
+            configurationSnapshot = new ConfigurationSnapshot();
+        }
+        return configurationSnapshot;
     }
 
 }
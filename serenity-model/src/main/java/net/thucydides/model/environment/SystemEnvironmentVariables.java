@@ -2,6 +2,7 @@ package net.thucydides.model.environment;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import net.thucydides.model.util.ConfigurationSnapshot;
 import net.thucydides.model.util.EnvironmentVariables;
 import net.thucydides.model.util.LocalPreferences;
 import net.thucydides.model.util.PropertiesLocalPreferences;
@@ -24,6 +25,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
     private final Map<String, String> systemValues = new ConcurrentHashMap<>();
     private volatile Config config;
     private volatile boolean configLoaded = false;
+    private volatile ConfigurationSnapshot configurationSnapshot;
 
     private static EnvironmentVariables CACHED_ENVIRONMENT_VARIABLES;
 
@@ -53,6 +55,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
     private void clearConfig() {
         this.config = null;
         this.configLoaded = false;
+        this.configurationSnapshot = null;
     }
 
     public EnvironmentVariables copy() {
@@ -81,6 +84,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
 
     public void setConfig(Config typesafeConfig) {
         this.config = typesafeConfig.resolve();
+        this.configurationSnapshot = null;
     }
 
     public SystemEnvironmentVariables(Map<String, String> propertyValues, Map<String, String> systemValues) {
@@ -231,12 +235,14 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
     public void setProperty(String name, String value) {
         propertySetLock.lock();
         properties.put(name, value);
+        configurationSnapshot = null;
         propertySetLock.unlock();
     }
 
     public void setProperties(Map<String, String> properties) {
         propertySetLock.lock();
         this.properties.putAll(properties);
+        configurationSnapshot = null;
         propertySetLock.unlock();
     }
 
@@ -244,6 +250,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
     public void clearProperty(String name) {
         propertySetLock.lock();
         properties.remove(name);
+        configurationSnapshot = null;
         propertySetLock.unlock();
     }
 
@@ -281,6 +288,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
     private SystemEnvironmentVariables withEmptyConfig() {
         this.config = null;
         this.configLoaded = false;
+        this.configurationSnapshot = null;
         return this;
     }
 
@@ -329,7 +337,17 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
 
     @Override
     public Map<String, String> properties() {
-        return properties;
+        return Collections.unmodifiableMap(properties);
+    }
+
+    @Override
+    public ConfigurationSnapshot configurationSnapshot() {
+        ConfigurationSnapshot snapshot = configurationSnapshot;
+        if (snapshot == null) {
+            snapshot = new ConfigurationSnapshot();
+            configurationSnapshot = snapshot;
+        }
+        return snapshot;
     }
 
     public static class EnvironmentUpdater {
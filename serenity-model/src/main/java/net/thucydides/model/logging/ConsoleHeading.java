@@ -4,10 +4,13 @@ import net.serenitybdd.model.collect.NewList;
 import net.thucydides.model.util.EnvironmentVariables;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_CONSOLE_COMPACT;
+
 public class ConsoleHeading {
 
     private static Map<ConsoleEvent, List<String>> HEADINGS = new HashMap<>();
@@ -110,15 +113,26 @@ public class ConsoleHeading {
 
     private final ConsoleHeadingStyle headingStyle;
 
+    /**
+     * The text that goes before and after the description in each banner only depends on the event and the heading
+     * style, so it is rendered once rather than for every test.
+     */
+    private final Map<ConsoleEvent, String> bannerPrefixes = new EnumMap<>(ConsoleEvent.class);
+    private final Map<ConsoleEvent, String> bannerSuffixes = new EnumMap<>(ConsoleEvent.class);
+
     public ConsoleHeading(EnvironmentVariables environmentVariables) {
-        this.headingStyle = ConsoleHeadingStyle.definedIn(environmentVariables);
+        this.headingStyle = SERENITY_CONSOLE_COMPACT.booleanFrom(environmentVariables, false)
+                ? ConsoleHeadingStyle.NONE : ConsoleHeadingStyle.definedIn(environmentVariables);
+        for (ConsoleEvent consoleEvent : HEADINGS.keySet()) {
+            String heading = headingFor(consoleEvent);
+            bannerPrefixes.put(consoleEvent, heading + eventPrefix(consoleEvent.getTitle()));
+            bannerSuffixes.put(consoleEvent, underline(heading));
+        }
     }
 
 
     public String bannerFor(ConsoleEvent consoleEvent, String description) {
-        String heading = headingFor(consoleEvent);
-        String eventPrefix = eventPrefix(consoleEvent.getTitle());
-        return heading + eventPrefix + description + underline(heading);
+        return bannerPrefixes.get(consoleEvent) + description + bannerSuffixes.get(consoleEvent);
     }
 
     private String headingFor(ConsoleEvent consoleEvent) {
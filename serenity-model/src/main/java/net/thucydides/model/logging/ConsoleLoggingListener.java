@@ -8,6 +8,7 @@ import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.domain.TestResult;
 import net.thucydides.model.domain.failures.FailureAnalysis;
 import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
+import net.thucydides.model.steps.AsynchronousStepListener;
 import net.thucydides.model.steps.ExecutedStepDescription;
 import net.thucydides.model.steps.StepFailure;
 import net.thucydides.model.steps.StepListenerAdapter;
@@ -18,13 +19,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_CONSOLE_ASYNC;
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_CONSOLE_COMPACT;
 import static net.thucydides.model.logging.ConsoleEvent.*;
 
-public class ConsoleLoggingListener extends StepListenerAdapter {
+public class ConsoleLoggingListener extends StepListenerAdapter implements AsynchronousStepListener {
 
     public static final String SERENITY_BIG_BANNER =
             "\n\n-------------------------------------------------------------------------------------\n" +
@@ -62,12 +67,16 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
             SERENITY_SMALL_BANNER,
             SERENITY_BIG_BANNER);
 
+    private static final Duration CONSOLE_FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
     private final Logger logger;
     private final EnvironmentVariables environmentVariables;
     private final ConsoleHeadingStyle bannerStyle;
     private final FailureAnalysis analysis;
     private final ConsoleHeading consoleHeading;
     private final ConsoleColors colored;
+    private final boolean asynchronous;
+    private final boolean compact;
 
     private ExecutedStepDescription currentStep;
     private final Set<ExecutedStepDescription> flaggedSteps = new HashSet<>();
@@ -80,7 +89,9 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         this.environmentVariables = environmentVariables;
         this.analysis = new FailureAnalysis(environmentVariables);
         this.consoleHeading = new ConsoleHeading(environmentVariables);
-        this.bannerStyle = ConsoleHeadingStyle.bannerStyleDefinedIn(environmentVariables);
+        this.compact = SERENITY_CONSOLE_COMPACT.booleanFrom(environmentVariables, false);
+        this.asynchronous = SERENITY_CONSOLE_ASYNC.booleanFrom(environmentVariables, false);
+        this.bannerStyle = compact ? ConsoleHeadingStyle.NONE : ConsoleHeadingStyle.bannerStyleDefinedIn(environmentVariables);
         this.colored = new ConsoleColors(environmentVariables);
         logBanner();
     }
@@ -93,9 +104,48 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         return logger;
     }
 
+    /**
+     * Messages are always rendered on the calling thread; in asynchronous mode, only writing them to the logger
+     * is left to the console writer thread.
+     */
+    private void log(Consumer<Logger> message) {
+        Logger target = getLogger();
+        if (asynchronous) {
+            ConsoleWriter.shared().write(() -> message.accept(target));
+        } else {
+            message.accept(target);
+        }
+    }
+
+    private void info(String message) {
+        log(target -> target.info(message));
+    }
+
+    private void info(String format, Object argument) {
+        log(target -> target.info(format, argument));
+    }
+
+    private void info(String format, Object firstArgument, Object secondArgument) {
+        log(target -> target.info(format, firstArgument, secondArgument));
+    }
+
+    private void error(String message) {
+        log(target -> target.error(message));
+    }
+
+    private void debug(String format, Object argument) {
+        log(target -> target.debug(format, argument));
+    }
+
+    private void flushConsole() {
+        if (asynchronous && !ConsoleWriter.shared().flush(CONSOLE_FLUSH_TIMEOUT)) {
+            getLogger().warn("Some console messages could not be written in time");
+        }
+    }
+
     private void logBanner() {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().info(bannerHeading());
+            info(bannerHeading());
         }
     }
 
@@ -109,20 +159,20 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     public void testSuiteStarted(Class<?> storyClass) {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info("Test Suite Started: " + NameConverter.humanize(storyClass.getSimpleName()));
+            info("Test Suite Started: " + NameConverter.humanize(storyClass.getSimpleName()));
         }
     }
 
     public void testSuiteStarted(Class<?> storyClass, String testCaseName) {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info("Test Suite Started: " + testCaseName);
+            info("Test Suite Started: " + testCaseName);
         }
     }
 
 
     public void testSuiteStarted(Story story) {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info("Test Suite Started: " + NameConverter.humanize(story.getName()));
+            info("Test Suite Started: " + NameConverter.humanize(story.getName()));
         }
     }
 
@@ -130,15 +180,15 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         flaggedSteps.clear();
         reportedOutcomes.clear();
         nestedSteps.clear();
-        if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(consoleHeading.bannerFor(TEST_STARTED, description));
+        if (!compact && loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
+            info(consoleHeading.bannerFor(TEST_STARTED, description));
         }
     }
 
     @Override
     public void testStarted(String description, String id) {
-        if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(consoleHeading.bannerFor(TEST_STARTED, description + "(" + id + ")"));
+        if (!compact && loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
+            info(consoleHeading.bannerFor(TEST_STARTED, description + "(" + id + ")"));
         }
     }
 
@@ -215,7 +265,8 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
             String message = consoleHeading.bannerFor(ConsoleEvent.forTestResult(result.getResult()),
                     result.getTitle() + " (manual test)");
 
-            coloredLogs().get(result.getResult()).accept(getLogger(), message);
+            BiConsumer<Logger, String> coloredLog = coloredLogs().get(result.getResult());
+            log(target -> coloredLog.accept(target, message));
 
             logRelatedIssues(result);
         }
@@ -223,7 +274,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     private void logFailure(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().error(colored.red(consoleHeading.bannerFor(TEST_FAILED, result.getTitle())));
+            error(colored.red(consoleHeading.bannerFor(TEST_FAILED, result.getTitle())));
             logRelatedIssues(result);
             logFailureCause(result);
         }
@@ -231,7 +282,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     private void logError(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().error(colored.red(consoleHeading.bannerFor(TEST_ERROR, result.getTitle())));
+            error(colored.red(consoleHeading.bannerFor(TEST_ERROR, result.getTitle())));
             logRelatedIssues(result);
             logFailureCause(result);
 
@@ -240,7 +291,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     private void logCompromised(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().error(colored.red(consoleHeading.bannerFor(TEST_COMPROMISED, result.getTitle())));
+            error(colored.red(consoleHeading.bannerFor(TEST_COMPROMISED, result.getTitle())));
             logRelatedIssues(result);
             logFailureCause(result);
         }
@@ -248,7 +299,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     private void logRelatedIssues(TestOutcome result) {
         Joiner joiner = Joiner.on(",");
-        getLogger().debug("RELATED ISSUES: {}", joiner.join(result.getIssueKeys()));
+        debug("RELATED ISSUES: {}", joiner.join(result.getIssueKeys()));
 
     }
 
@@ -256,27 +307,27 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         if (result.getNestedTestFailureCause() != null) {
             if (result.getFailingStep().isPresent()) {
                 String failingStep = result.getFailingStep().get().unrendered().getDescription();
-                getLogger().error(colored.red("    Test failed at step: " + failingStep));
+                error(colored.red("    Test failed at step: " + failingStep));
             }
-            getLogger().error(colored.red("    " + result.getNestedTestFailureCause().getShortenedMessage()));
+            error(colored.red("    " + result.getNestedTestFailureCause().getShortenedMessage()));
         }
     }
 
     private void logPending(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.SUMMARY)) {
-            getLogger().info(colored.cyan(consoleHeading.bannerFor(TEST_PENDING, result.getTitle())));
+            info(colored.cyan(consoleHeading.bannerFor(TEST_PENDING, result.getTitle())));
         }
     }
 
     private void logSkipped(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.SUMMARY)) {
-            getLogger().info(colored.yellow(consoleHeading.bannerFor(TEST_SKIPPED, result.getTitle())));
+            info(colored.yellow(consoleHeading.bannerFor(TEST_SKIPPED, result.getTitle())));
         }
     }
 
     private void logSuccess(TestOutcome result) {
         if (loggingLevelIsAtLeast(LoggingLevel.SUMMARY)) {
-            getLogger().info(colored.green(consoleHeading.bannerFor(TEST_PASSED, result.getTitle())));
+            info(colored.green(consoleHeading.bannerFor(TEST_PASSED, result.getTitle())));
         }
     }
 
@@ -286,7 +337,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE)) {
             String indent = indentation(nestedSteps.size());// StringUtils.repeat("  ", nestedSteps.size());
          //   System.out.println(withTimestamp(colored.green(indent + description.getTitle())));
-            getLogger().info(colored.green(indent + description.getTitle()));
+            info(colored.green(indent + description.getTitle()));
         }
     }
 
@@ -329,7 +380,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE)) {
             String errorMessage = (failure.getException() != null) ? failure.getException().toString() : failure.getMessage();
             String failureType = analysis.resultFor(failure.getException()).name();
-            getLogger().info(colored.red("STEP {}: {}"), failureType, errorMessage);
+            info(colored.red("STEP {}: {}"), failureType, errorMessage);
         }
     }
 
@@ -352,7 +403,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     public void stepIgnored() {
         stepOut();
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE) && (!flaggedSteps.contains(currentStep))) {
-            getLogger().info(colored.yellow("      -> STEP IGNORED"));
+            info(colored.yellow("      -> STEP IGNORED"));
             flaggedSteps.add(currentStep);
         }
     }
@@ -360,7 +411,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     public void stepPending() {
         stepOut();
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE) && (!flaggedSteps.contains(currentStep))) {
-            getLogger().info(colored.cyan("      -> STEP IS PENDING"));
+            info(colored.cyan("      -> STEP IS PENDING"));
             flaggedSteps.add(currentStep);
         }
     }
@@ -369,7 +420,7 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
     public void stepPending(String message) {
         stepOut();
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE) && (!flaggedSteps.contains(currentStep))) {
-            getLogger().info(colored.cyan("      -> PENDING STEP ({})"), message);
+            info(colored.cyan("      -> PENDING STEP ({})"), message);
             flaggedSteps.add(currentStep);
         }
     }
@@ -377,35 +428,41 @@ public class ConsoleLoggingListener extends StepListenerAdapter {
 
     public void testIgnored() {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(colored.yellow("      -> TEST IGNORED"));
+            info(colored.yellow("      -> TEST IGNORED"));
         }
     }
 
     @Override
     public void testSkipped() {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(colored.yellow("      -> TEST SKIPPED"));
+            info(colored.yellow("      -> TEST SKIPPED"));
         }
     }
 
     @Override
     public void testAborted() {
         if (loggingLevelIsAtLeast(LoggingLevel.NORMAL)) {
-            getLogger().info(colored.yellow("      -> TEST ABORTED"));
+            info(colored.yellow("      -> TEST ABORTED"));
         }
     }
 
     @Override
     public void assumptionViolated(String message) {
         if (loggingLevelIsAtLeast(LoggingLevel.QUIET)) {
-            getLogger().error(colored.red("      -> ASSUMPTION VIOLATED: " + message));
+            error(colored.red("      -> ASSUMPTION VIOLATED: " + message));
         }
     }
 
+    @Override
+    public void testSuiteFinished() {
+        flushConsole();
+    }
+
     @Override
     public void testRunFinished() {
         if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE)) {
-            getLogger().info("FINISHING TEST RUN");
+            info("FINISHING TEST RUN");
         }
+        flushConsole();
     }
 }
@@ -0,0 +1,110 @@
+package net.thucydides.model.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes console messages from a single background thread, so that tests do not wait for a slow console.
+ * Messages are written in the order in which they were sent, taking as many waiting messages as possible at a time.
+ */
+class ConsoleWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConsoleWriter.class);
+
+    private static final int QUEUE_SIZE = 8192;
+    private static final int BATCH_SIZE = 256;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final BlockingQueue<Runnable> messages = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final AtomicLong sentMessages = new AtomicLong();
+    private long writtenMessages;
+
+    private static class SharedWriter {
+        private static final ConsoleWriter INSTANCE = startWriter();
+    }
+
+    static ConsoleWriter shared() {
+        return SharedWriter.INSTANCE;
+    }
+
+    private static ConsoleWriter startWriter() {
+        ConsoleWriter writer = new ConsoleWriter();
+        Thread writerThread = new Thread(writer::writeMessages, "serenity-console-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.flush(SHUTDOWN_TIMEOUT)));
+        return writer;
+    }
+
+    void write(Runnable message) {
+        sentMessages.incrementAndGet();
+        try {
+            // If the console falls far behind, the tests wait for it rather than filling up the memory
+            messages.put(message);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            writeEach(List.of(message));
+        }
+    }
+
+    /**
+     * Waits until every message sent so far has been written, or until the timeout expires.
+     *
+     * @return true if all of the messages were written in time
+     */
+    synchronized boolean flush(Duration timeout) {
+        long expectedMessages = sentMessages.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (writtenMessages < expectedMessages) {
+            long remainingTime = deadline - System.nanoTime();
+            if (remainingTime <= 0) {
+                return false;
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remainingTime);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeMessages() {
+        List<Runnable> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(messages.take());
+            } catch (InterruptedException interrupted) {
+                return;
+            }
+            messages.drainTo(batch, BATCH_SIZE - 1);
+            writeEach(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeEach(List<Runnable> batch) {
+        for (Runnable message : batch) {
+            try {
+                message.run();
+            } catch (RuntimeException couldNotWrite) {
+                LOGGER.debug("Could not write console message", couldNotWrite);
+            }
+        }
+        markAsWritten(batch.size());
+    }
+
+    private synchronized void markAsWritten(int messageCount) {
+        writtenMessages += messageCount;
+        notifyAll();
+    }
+}
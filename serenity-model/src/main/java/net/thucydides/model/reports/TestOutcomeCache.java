@@ -0,0 +1,134 @@
+package net.thucydides.model.reports;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.thucydides.model.domain.TestOutcome;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the test outcomes loaded by the {@link TestOutcomeLoader}, so that tools which load the same outcomes
+ * several times in the same JVM (such as the aggregate, check and custom reporters of a Maven build) only read
+ * each outcome file once. A cached outcome is only reused while its file keeps the same modification time and size.
+ * Reports add tags to the outcomes they load, so each caller gets its own copy of the outcome
+ * (see {@link TestOutcome#withIndependentTags()}), and the cached outcome stays as it was read.
+ * The cache is off unless it is explicitly enabled. It is usually enabled for a scope, such as a Maven session,
+ * so that all of the goals run in that scope share the loaded outcomes, and the outcomes of an earlier scope are
+ * discarded when a new one starts. The outcomes are only softly held, so they can still be reclaimed if memory runs low.
+ */
+public class TestOutcomeCache {
+
+    private static final TestOutcomeCache SHARED_CACHE = new TestOutcomeCache();
+
+    private final Cache<Path, CachedOutcome> outcomes = CacheBuilder.newBuilder().softValues().build();
+    private final AtomicLong outcomeFilesRead = new AtomicLong();
+    private volatile boolean enabled;
+    private WeakReference<Object> scope = new WeakReference<>(null);
+
+    @FunctionalInterface
+    interface OutcomeSource {
+        Optional<TestOutcome> loadFrom(File sourceFile) throws Exception;
+    }
+
+    public static TestOutcomeCache shared() {
+        return SHARED_CACHE;
+    }
+
+    public void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Enable the cache for the given scope. Outcomes cached for a different scope are discarded first.
+     * Only a weak reference to the scope is kept, so that a finished scope (and its outcomes) can be reclaimed
+     * by a long-lived JVM.
+     */
+    public synchronized void enableFor(Object scope) {
+        if (this.scope.get() != scope) {
+            outcomes.invalidateAll();
+            this.scope = new WeakReference<>(scope);
+        }
+        enabled = true;
+    }
+
+    public synchronized void disable() {
+        enabled = false;
+        scope = new WeakReference<>(null);
+        outcomes.invalidateAll();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The number of outcome files that have been read, rather than taken from the cache, while the cache was enabled.
+     */
+    public long getOutcomeFilesRead() {
+        return outcomeFilesRead.get();
+    }
+
+    Optional<TestOutcome> outcomeIn(File sourceFile, OutcomeSource source) throws Exception {
+        if (!enabled) {
+            return source.loadFrom(sourceFile);
+        }
+        Path path = sourceFile.toPath().toAbsolutePath().normalize();
+        // The version is read before the file, so that a file updated while it is read is read again next time
+        FileVersion version = FileVersion.of(path);
+        CachedOutcome cachedOutcome = outcomes.getIfPresent(path);
+        if (cachedOutcome != null && cachedOutcome.version.equals(version)) {
+            return cachedOutcome.outcome.map(TestOutcome::withIndependentTags);
+        }
+        Optional<TestOutcome> outcome = source.loadFrom(sourceFile);
+        outcomeFilesRead.incrementAndGet();
+        outcomes.put(path, new CachedOutcome(version, outcome));
+        return outcome.map(TestOutcome::withIndependentTags);
+    }
+
+    private static class CachedOutcome {
+        private final FileVersion version;
+        private final Optional<TestOutcome> outcome;
+
+        CachedOutcome(FileVersion version, Optional<TestOutcome> outcome) {
+            this.version = version;
+            this.outcome = outcome;
+        }
+    }
+
+    private static class FileVersion {
+        private final FileTime lastModifiedTime;
+        private final long size;
+
+        private FileVersion(FileTime lastModifiedTime, long size) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        static FileVersion of(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileVersion(attributes.lastModifiedTime(), attributes.size());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FileVersion that = (FileVersion) o;
+            return size == that.size && Objects.equals(lastModifiedTime, that.lastModifiedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModifiedTime, size);
+        }
+    }
+}
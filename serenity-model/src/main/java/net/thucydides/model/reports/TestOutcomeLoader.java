@@ -90,6 +90,25 @@ public class TestOutcomeLoader {
 
     }
 
+    /**
+     * Load the test outcomes from a given directory one file at a time, as the returned stream is consumed, so that
+     * a report that only needs to see each outcome once never holds all of them in memory.
+     * Unlike {@link #loadFrom(File)}, the outcomes are not sorted. The stream should be closed once it has been used.
+     *
+     * @param reportDirectory An existing directory that contains the test outcomes in JSON format.
+     * @throws ReportLoadingFailedError Thrown if the specified directory was invalid.
+     */
+    public Stream<TestOutcome> streamFrom(final File reportDirectory) throws ReportLoadingFailedError {
+        try {
+            final AcceptanceTestLoader testOutcomeReporter = getOutcomeReporter();
+            return allOutcomeFilesFrom(reportDirectory)
+                    .map(sourceFile -> new TestOutcomeLoaderCallable(testOutcomeReporter, sourceFile.toFile()).load())
+                    .flatMap(Optional::stream);
+        } catch (IOException e) {
+            throw new ReportLoadingFailedError("Can not load reports for some reason", e);
+        }
+    }
+
     private final static List<? extends OutcomeAugmenter> AUGMENTERS = NewList.of(
             new FlagsAugmenter()
     );
@@ -106,12 +125,19 @@ public class TestOutcomeLoader {
 
         @Override
         public List<TestOutcome> call() throws Exception {
-            java.util.Optional<TestOutcome> loadedTestOutcome = testOutcomeReporter.loadReportFrom(sourceFile);
+            return loadOutcome().map(Collections::singletonList).orElse(Collections.emptyList());
+        }
 
-            return loadedTestOutcome.map(Collections::singleton).orElse(Collections.emptySet())
-                    .stream()
-                    .map(this::augmented)
-                    .collect(Collectors.toList());
+        java.util.Optional<TestOutcome> load() {
+            try {
+                return loadOutcome();
+            } catch (Exception e) {
+                throw new ReportLoadingFailedError("Could not load test outcome from " + sourceFile, e);
+            }
+        }
+
+        private java.util.Optional<TestOutcome> loadOutcome() throws Exception {
+            return TestOutcomeCache.shared().outcomeIn(sourceFile, file -> testOutcomeReporter.loadReportFrom(file).map(this::augmented));
         }
 
         private TestOutcome augmented(final TestOutcome testOutcome) {
@@ -119,7 +145,8 @@ public class TestOutcomeLoader {
             AUGMENTERS.forEach(
                     augmenter -> augmenter.augment(testOutcome)
             );
-            return testOutcome;
+            // Loaded outcomes are only read from now on, so their results can be calculated once and for all
+            return testOutcome.freezeResult();
         }
     }
 
@@ -10,7 +10,6 @@ import net.thucydides.model.domain.flags.Flag;
 import net.thucydides.model.domain.flags.FlagCounts;
 import net.thucydides.model.domain.formatters.TestCoverageFormatter;
 import net.thucydides.model.requirements.RequirementsService;
-import net.thucydides.model.requirements.RequirementsTree;
 import net.thucydides.model.requirements.model.Requirement;
 import net.thucydides.model.steps.TestSourceType;
 import net.thucydides.model.tags.OutcomeTagFilter;
@@ -417,24 +416,15 @@ public class TestOutcomes {
     }
 
     public TestOutcomes forRequirement(Requirement requirement) {
+        return indexedByRequirement().forRequirement(requirement);
+    }
 
-        Set<TestOutcome> testOutcomesForThisRequirement = new HashSet<>();
-
-        for (Requirement childRequirement : RequirementsTree.forRequirement(requirement).asFlattenedList()) {
-            testOutcomesForThisRequirement.addAll(
-                    withTag(childRequirement.asTag()).getOutcomes()
-            );
-            if (childRequirement.getCardNumber() != null) {
-                testOutcomesForThisRequirement.addAll(
-                        withCardNumber(childRequirement.getCardNumber()).getOutcomes()
-                );
-            }
-        }
-
-        return TestOutcomes.of(testOutcomesForThisRequirement)
-                .withLabel(requirement.getDisplayName())
-                .withTestTag(requirement.asTag())
-                .withRootOutcomes(getRootOutcomes());
+    /**
+     * Index these outcomes by tag and issue, to look up the outcomes of many requirements
+     * without going through all of the outcomes for each one.
+     */
+    public TestOutcomesByRequirement indexedByRequirement() {
+        return new TestOutcomesByRequirement(this);
     }
 
     public TestTag getTestTag() {
@@ -765,7 +755,7 @@ public class TestOutcomes {
                 .withRootOutcomes(getRootOutcomes());
     }
 
-    private TestOutcomes withTestTag(TestTag tag) {
+    TestOutcomes withTestTag(TestTag tag) {
         return new TestOutcomes(this.outcomes,label, tag);
     }
 
@@ -799,7 +789,7 @@ public class TestOutcomes {
         return tags.stream().anyMatch(tag -> hasMatchingTag(outcome, tag));
     }
 
-    private boolean hasMatchingTag(TestOutcome outcome, TestTag tag) {
+    boolean hasMatchingTag(TestOutcome outcome, TestTag tag) {
         Optional<Boolean> cachedMatch = TestTagCache.hasMatchingTag(outcome, tag);
 
         if (cachedMatch.isPresent()) {
@@ -0,0 +1,115 @@
+package net.thucydides.model.reports;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import net.thucydides.model.domain.TestOutcome;
+import net.thucydides.model.domain.TestTag;
+import net.thucydides.model.requirements.RequirementsTree;
+import net.thucydides.model.requirements.model.Requirement;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the test outcomes of requirements using an index of the tags and issues of a set of test outcomes, built in a
+ * single pass over the outcomes. Looking up a requirement only checks the outcomes whose tags could match it,
+ * rather than every outcome in the set.
+ * <p>
+ * The index reflects the tags that the outcomes had when it was built.
+ */
+public class TestOutcomesByRequirement {
+
+    private static final Pattern LAST_DOTTED_PART = Pattern.compile(".*?([^.]+)$");
+
+    private final TestOutcomes testOutcomes;
+    private final Map<String, List<TestOutcome>> outcomesByTag = new HashMap<>();
+
+    /**
+     * Reading the issues of a test outcome can mean loading its test class, so the issues are only indexed
+     * when a requirement with a card number is first looked up.
+     */
+    private final Supplier<Map<String, List<TestOutcome>>> outcomesByIssue = Suppliers.memoize(this::indexIssues);
+
+    TestOutcomesByRequirement(TestOutcomes testOutcomes) {
+        this.testOutcomes = testOutcomes;
+        for (TestOutcome outcome : testOutcomes.getOutcomes()) {
+            Set<String> tagKeys = new HashSet<>();
+            for (TestTag tag : outcome.getAllTags()) {
+                tagKeys.add(keyFor(tag.normalisedType(), tag.normalisedName()));
+                tagKeys.add(keyFor(tag.normalisedType(), lastDottedPartOf(tag.normalisedName())));
+            }
+            for (String tagKey : tagKeys) {
+                outcomesByTag.computeIfAbsent(tagKey, key -> new ArrayList<>()).add(outcome);
+            }
+        }
+    }
+
+    private Map<String, List<TestOutcome>> indexIssues() {
+        Map<String, List<TestOutcome>> outcomesWithIssue = new HashMap<>();
+        for (TestOutcome outcome : testOutcomes.getOutcomes()) {
+            for (String issue : new HashSet<>(outcome.getIssues())) {
+                outcomesWithIssue.computeIfAbsent(issue, key -> new ArrayList<>()).add(outcome);
+            }
+        }
+        return outcomesWithIssue;
+    }
+
+    /**
+     * The outcomes of the tests for a requirement or any of its child requirements,
+     * as returned by {@link TestOutcomes#forRequirement(Requirement)}.
+     */
+    public TestOutcomes forRequirement(Requirement requirement) {
+        Set<TestOutcome> testOutcomesForThisRequirement = new HashSet<>();
+
+        for (Requirement childRequirement : RequirementsTree.forRequirement(requirement).asFlattenedList()) {
+            testOutcomesForThisRequirement.addAll(outcomesWithTag(childRequirement.asTag()));
+            if (childRequirement.getCardNumber() != null) {
+                testOutcomesForThisRequirement.addAll(
+                        outcomesWithTag(TestTag.withName(childRequirement.getCardNumber()).andType("issue"))
+                );
+            }
+        }
+
+        return TestOutcomes.of(testOutcomesForThisRequirement)
+                .withLabel(requirement.getDisplayName())
+                .withTestTag(requirement.asTag())
+                .withRootOutcomes(testOutcomes.getRootOutcomes());
+    }
+
+    private List<TestOutcome> outcomesWithTag(TestTag tag) {
+        List<TestOutcome> matching = new ArrayList<>();
+        for (TestOutcome outcome : candidateOutcomesFor(tag)) {
+            if (testOutcomes.hasMatchingTag(outcome, tag)) {
+                matching.add(outcome.withDataRowsfilteredbyTag(tag));
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * The outcomes with a tag that is the same as this one, or a more general form of it (see
+     * {@link TestTag#isAsOrMoreSpecificThan(TestTag)}): a tag whose last dotted part is this tag's name,
+     * or a tag named after the end of this tag's path.
+     */
+    private Collection<TestOutcome> candidateOutcomesFor(TestTag tag) {
+        if (tag.getType().equalsIgnoreCase("issue")) {
+            return outcomesByIssue.get().getOrDefault(tag.getName(), Collections.emptyList());
+        }
+        Set<TestOutcome> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        String name = tag.normalisedName();
+        candidates.addAll(outcomesByTag.getOrDefault(keyFor(tag.normalisedType(), name), Collections.emptyList()));
+        for (int slash = name.indexOf('/'); slash >= 0; slash = name.indexOf('/', slash + 1)) {
+            candidates.addAll(outcomesByTag.getOrDefault(keyFor(tag.normalisedType(), name.substring(slash + 1)),
+                    Collections.emptyList()));
+        }
+        return candidates;
+    }
+
+    private static String lastDottedPartOf(String name) {
+        return LAST_DOTTED_PART.matcher(name).replaceFirst("$1");
+    }
+
+    private static String keyFor(String type, String name) {
+        return type + ":" + name;
+    }
+}
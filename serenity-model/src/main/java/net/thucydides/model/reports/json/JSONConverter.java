@@ -11,4 +11,18 @@ public interface JSONConverter {
     java.util.Optional<TestOutcome> fromJson(InputStream inputStream) throws IOException;
     java.util.Optional<TestOutcome> fromJson(Reader in);
     void toJson(TestOutcome storedTestOutcome, OutputStream outputStream) throws IOException;
+
+    /**
+     * Read a test outcome whose stack traces may be stored separately.
+     */
+    default java.util.Optional<TestOutcome> fromJson(Reader in, SharedStackTraces sharedStackTraces) {
+        return fromJson(in);
+    }
+
+    /**
+     * Write a test outcome, storing its stack traces separately so that identical stack traces are only stored once.
+     */
+    default void toJson(TestOutcome storedTestOutcome, OutputStream outputStream, SharedStackTraces sharedStackTraces) throws IOException {
+        toJson(storedTestOutcome, outputStream);
+    }
 }
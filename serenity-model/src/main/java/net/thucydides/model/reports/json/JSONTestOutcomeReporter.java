@@ -18,6 +18,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class JSONTestOutcomeReporter implements AcceptanceTestReporter, AcceptanceTestLoader {
 
@@ -32,6 +33,10 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
 
     private final String encoding;
 
+    private final boolean storeSharedStackTraces;
+
+    private final Map<File, SharedStackTraces> sharedStackTraces = new ConcurrentHashMap<>();
+
     @Override
     public String getName() {
         return "json";
@@ -41,6 +46,7 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
 
     public JSONTestOutcomeReporter() {
         encoding = ThucydidesSystemProperty.SERENITY_REPORT_ENCODING.from(environmentVariables, StandardCharsets.UTF_8.name());
+        storeSharedStackTraces = ThucydidesSystemProperty.JSON_SHARED_STACK_TRACES.booleanFrom(environmentVariables, false);
         jsonConverter = ModelInfrastructure.getJsonConverter();
     }
 
@@ -55,7 +61,11 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
         LOGGER.debug("Generating JSON report for {} to file {})", testOutcome.getTitle(), report.getAbsolutePath());
 
         try(OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(report))){
-            jsonConverter.toJson(storedTestOutcome, outputStream);
+            if (storeSharedStackTraces) {
+                jsonConverter.toJson(storedTestOutcome, outputStream, sharedStackTracesIn(getOutputDirectory()));
+            } else {
+                jsonConverter.toJson(storedTestOutcome, outputStream);
+            }
             outputStream.flush();
         }
 
@@ -102,7 +112,11 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
         if (!reportFile.getName().toLowerCase().endsWith(".json")) {
             return Optional.empty();
         }
+        File reportDirectory = reportFile.getAbsoluteFile().getParentFile();
         try (BufferedReader in = new BufferedReader(new InputStreamReader(Files.newInputStream(reportFile.toPath()), encoding))) {
+            if (SharedStackTraces.existIn(reportDirectory)) {
+                return jsonConverter.fromJson(in, sharedStackTracesIn(reportDirectory));
+            }
             return jsonConverter.fromJson(in);
         } catch (Throwable e) {
             LOGGER.debug("This file was not a valid JSON Serenity test report: " + reportFile.getName()
@@ -111,6 +125,10 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
         }
     }
 
+    private SharedStackTraces sharedStackTracesIn(File directory) {
+        return sharedStackTraces.computeIfAbsent(directory.getAbsoluteFile(), SharedStackTraces::new);
+    }
+
     @Override
     public List<TestOutcome> loadReportsFrom(final Path outputDirectory) {
         return loadReportsFrom(outputDirectory.toFile());
@@ -0,0 +1,134 @@
+package net.thucydides.model.reports.json;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Stores the failure stack traces of JSON test outcomes in a directory of their own, one file per distinct
+ * stack trace, so that a stack trace shared by many failing tests is only stored once.
+ * In the JSON test outcomes, each stack trace is replaced by a reference to the file that contains it.
+ */
+public class SharedStackTraces {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedStackTraces.class);
+
+    public static final String DIRECTORY_NAME = "stacktraces";
+
+    private static final String STACK_TRACE = "stackTrace";
+    private static final String STACK_TRACE_REFERENCE = "stackTraceRef";
+    private static final Pattern VALID_REFERENCE = Pattern.compile("[0-9a-f]+");
+
+    private final Path directory;
+    private final Map<String, JsonArray> loadedStackTraces = new ConcurrentHashMap<>();
+
+    public SharedStackTraces(File outputDirectory) {
+        this.directory = outputDirectory.toPath().resolve(DIRECTORY_NAME);
+    }
+
+    public static boolean existIn(File outputDirectory) {
+        return new File(outputDirectory, DIRECTORY_NAME).isDirectory();
+    }
+
+    /**
+     * Replaces the stack traces in a JSON test outcome with references, storing the ones that are not stored yet.
+     */
+    public void share(JsonElement json) throws IOException {
+        if (json.isJsonObject()) {
+            JsonObject object = json.getAsJsonObject();
+            JsonElement stackTrace = object.get(STACK_TRACE);
+            if (stackTrace != null && stackTrace.isJsonArray() && stackTrace.getAsJsonArray().size() > 0) {
+                object.remove(STACK_TRACE);
+                object.addProperty(STACK_TRACE_REFERENCE, store(stackTrace.getAsJsonArray()));
+            }
+            for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+                share(member.getValue());
+            }
+        } else if (json.isJsonArray()) {
+            for (JsonElement element : json.getAsJsonArray()) {
+                share(element);
+            }
+        }
+    }
+
+    /**
+     * Puts the stored stack traces back in place of the references in a JSON test outcome.
+     * Each stored stack trace is only read once.
+     */
+    public void restore(JsonElement json) {
+        if (json.isJsonObject()) {
+            JsonObject object = json.getAsJsonObject();
+            JsonElement reference = object.remove(STACK_TRACE_REFERENCE);
+            if (reference != null && reference.isJsonPrimitive()) {
+                object.add(STACK_TRACE, stackTraceCalled(reference.getAsString()));
+            }
+            for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+                if (!STACK_TRACE.equals(member.getKey())) {
+                    restore(member.getValue());
+                }
+            }
+        } else if (json.isJsonArray()) {
+            for (JsonElement element : json.getAsJsonArray()) {
+                restore(element);
+            }
+        }
+    }
+
+    private String store(JsonArray stackTrace) throws IOException {
+        String storedStackTrace = stackTrace.toString();
+        String reference = Hashing.murmur3_128().hashString(storedStackTrace, StandardCharsets.UTF_8).toString();
+        Path stackTraceFile = stackTraceFileFor(reference);
+        if (!Files.exists(stackTraceFile)) {
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, reference, ".tmp");
+            Files.write(temporaryFile, storedStackTrace.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temporaryFile, stackTraceFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException couldNotMove) {
+                // Another test may have stored the same stack trace in the meantime
+                Files.deleteIfExists(temporaryFile);
+                if (!Files.exists(stackTraceFile)) {
+                    throw couldNotMove;
+                }
+            }
+        }
+        return reference;
+    }
+
+    private JsonArray stackTraceCalled(String reference) {
+        if (!VALID_REFERENCE.matcher(reference).matches()) {
+            LOGGER.warn("Ignoring invalid stack trace reference {}", reference);
+            return new JsonArray();
+        }
+        return loadedStackTraces.computeIfAbsent(reference, this::load);
+    }
+
+    private JsonArray load(String reference) {
+        Path stackTraceFile = stackTraceFileFor(reference);
+        try (Reader reader = Files.newBufferedReader(stackTraceFile, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonArray();
+        } catch (IOException | RuntimeException couldNotRead) {
+            LOGGER.warn("Could not read the stack trace stored in {} ({})", stackTraceFile, couldNotRead.getMessage());
+            return new JsonArray();
+        }
+    }
+
+    private Path stackTraceFileFor(String reference) {
+        return directory.resolve(reference + ".json");
+    }
+}
@@ -0,0 +1,231 @@
+package net.thucydides.model.reports.json.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.thucydides.model.domain.DataTable;
+import net.thucydides.model.domain.DataTableColumns;
+import net.thucydides.model.domain.DataTableRow;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Optionally writes the rows of data tables column by column (see {@link DataTableColumns}) rather than row by row.
+ * Data tables are read in either form, so reports written before the columnar form was turned on can still be read.
+ * The rows of a table are streamed in both directions: only the other, much smaller, fields of a table are held
+ * as a JSON tree while it is read.
+ */
+public class DataTableTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final String ROWS = "rows";
+    private static final String COLUMNS = "columns";
+
+    private final boolean writeColumns;
+
+    public DataTableTypeAdapterFactory(boolean writeColumns) {
+        this.writeColumns = writeColumns;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (type.getRawType() != DataTable.class) {
+            return null;
+        }
+        TypeAdapter<DataTable> tableAdapter = gson.getDelegateAdapter(this, TypeToken.get(DataTable.class));
+        TypeAdapter<DataTableColumns> columnsAdapter = gson.getAdapter(DataTableColumns.class);
+        TypeAdapter<List<DataTableRow>> rowsAdapter = gson.getAdapter(new TypeToken<List<DataTableRow>>() {});
+        TypeAdapter<JsonElement> jsonAdapter = gson.getAdapter(JsonElement.class);
+
+        return (TypeAdapter<T>) new TypeAdapter<DataTable>() {
+            @Override
+            public void write(JsonWriter out, DataTable table) throws IOException {
+                if (!writeColumns || table.getRows().isEmpty()) {
+                    tableAdapter.write(out, table);
+                    return;
+                }
+                // Empty row lists are left out of the JSON, so the columns take the place of the rows
+                tableAdapter.write(new ColumnsAppendingWriter(out, DataTableColumns.of(table), columnsAdapter),
+                                   table.withRows(Collections.emptyList()));
+            }
+
+            @Override
+            public DataTable read(JsonReader in) throws IOException {
+                if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                    return tableAdapter.read(in);
+                }
+                JsonObject otherFields = new JsonObject();
+                List<DataTableRow> rows = null;
+                DataTableColumns columns = null;
+
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    if (ROWS.equals(name)) {
+                        rows = rowsAdapter.read(in);
+                    } else if (COLUMNS.equals(name)) {
+                        columns = columnsAdapter.read(in);
+                    } else {
+                        otherFields.add(name, jsonAdapter.read(in));
+                    }
+                }
+                in.endObject();
+
+                DataTable table = tableAdapter.fromJsonTree(otherFields);
+                if (columns != null) {
+                    return columns.restoreRowsOf(table);
+                }
+                return table.withRows((rows == null) ? Collections.emptyList() : rows);
+            }
+        }.nullSafe();
+    }
+
+    /**
+     * Passes everything written for a table straight through to the underlying writer, adding the columns of the
+     * table just before the table itself is closed.
+     */
+    private static class ColumnsAppendingWriter extends JsonWriter {
+
+        private static final Writer UNWRITABLE_WRITER = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int counter) {
+                throw new AssertionError();
+            }
+
+            @Override
+            public void flush() {
+                throw new AssertionError();
+            }
+
+            @Override
+            public void close() {
+                throw new AssertionError();
+            }
+        };
+
+        private final JsonWriter out;
+        private final DataTableColumns columns;
+        private final TypeAdapter<DataTableColumns> columnsAdapter;
+        private int depth = 0;
+
+        ColumnsAppendingWriter(JsonWriter out, DataTableColumns columns, TypeAdapter<DataTableColumns> columnsAdapter) {
+            super(UNWRITABLE_WRITER);
+            this.out = out;
+            this.columns = columns;
+            this.columnsAdapter = columnsAdapter;
+            setLenient(out.isLenient());
+            setHtmlSafe(out.isHtmlSafe());
+            setSerializeNulls(out.getSerializeNulls());
+        }
+
+        @Override
+        public JsonWriter beginObject() throws IOException {
+            depth++;
+            out.beginObject();
+            return this;
+        }
+
+        @Override
+        public JsonWriter endObject() throws IOException {
+            if (--depth == 0) {
+                out.name(COLUMNS);
+                columnsAdapter.write(out, columns);
+            }
+            out.endObject();
+            return this;
+        }
+
+        @Override
+        public JsonWriter beginArray() throws IOException {
+            depth++;
+            out.beginArray();
+            return this;
+        }
+
+        @Override
+        public JsonWriter endArray() throws IOException {
+            depth--;
+            out.endArray();
+            return this;
+        }
+
+        @Override
+        public JsonWriter name(String name) throws IOException {
+            out.name(name);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(String value) throws IOException {
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter jsonValue(String value) throws IOException {
+            out.jsonValue(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter nullValue() throws IOException {
+            out.nullValue();
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(boolean value) throws IOException {
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(Boolean value) throws IOException {
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(float value) throws IOException {
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(double value) throws IOException {
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(long value) throws IOException {
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(Number value) throws IOException {
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+            // The underlying writer belongs to the caller
+        }
+    }
+}
@@ -2,12 +2,16 @@ package net.thucydides.model.reports.json.gson;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 
 import net.thucydides.model.ThucydidesSystemProperty;
+import net.thucydides.model.domain.PackedTimestamp;
 import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.domain.flags.Flag;
 import net.thucydides.model.reports.json.AScenarioHasNoNameException;
 import net.thucydides.model.reports.json.JSONConverter;
+import net.thucydides.model.reports.json.SharedStackTraces;
 import net.thucydides.model.util.EnvironmentVariables;
 
 import java.io.*;
@@ -31,15 +35,27 @@ public class GsonJSONConverter implements JSONConverter {
 
     
     public GsonJSONConverter(EnvironmentVariables environmentVariables) {
+        this(environmentVariables, useColumnarDataTablesIn(environmentVariables));
+    }
+
+    /**
+     * @param columnarDataTables write data tables column by column rather than row by row. Only Serenity reads the
+     *                           columnar form, so JSON read by other tools should be written row by row.
+     */
+    public GsonJSONConverter(EnvironmentVariables environmentVariables, boolean columnarDataTables) {
         this.environmentVariables = environmentVariables;
         encoding = ThucydidesSystemProperty.SERENITY_REPORT_ENCODING.from(environmentVariables, StandardCharsets.UTF_8.name());
         GsonBuilder gsonBuilder = new GsonBuilder()
                 .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
+                .registerTypeAdapterFactory(new DataTableTypeAdapterFactory(columnarDataTables))
+                .registerTypeAdapter(String.class, new InterningStringAdapter())
                 .registerTypeHierarchyAdapter(Collection.class, new CollectionAdapter())
                 .registerTypeAdapter(Flag.class, new InterfaceAdapter<Flag>())
                 .registerTypeAdapter(StackTraceElement.class, new StackTraceElementSerializer())
                 .registerTypeAdapter(StackTraceElement.class, new StackTraceElementDeserializer())
+                .registerTypeAdapter(StackTraceElement[].class, new InterningStackTraceDeserializer())
                 .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeAdapter())
+                .registerTypeAdapter(PackedTimestamp.class, new PackedTimestampAdapter())
                 .registerTypeAdapter(File.class, new FileSerializer())
                 .registerTypeAdapter(File.class, new FileDeserializer())
                 .registerTypeAdapter(Class.class, new ClassTypeAdapter());
@@ -57,6 +73,14 @@ public class GsonJSONConverter implements JSONConverter {
         return isValid(testOutcome) ? java.util.Optional.of(testOutcome) : java.util.Optional.empty();
     }
 
+    @Override
+    public java.util.Optional<TestOutcome> fromJson(Reader jsonReader, SharedStackTraces sharedStackTraces) {
+        JsonElement json = JsonParser.parseReader(jsonReader);
+        sharedStackTraces.restore(json);
+        TestOutcome testOutcome = gson.fromJson(json, TestOutcome.class);
+        return isValid(testOutcome) ? java.util.Optional.of(testOutcome) : java.util.Optional.empty();
+    }
+
     private boolean isValid(TestOutcome testOutcome) {
         if (testOutcome == null || isEmpty(testOutcome.getId())) {
             return false;
@@ -80,6 +104,20 @@ public class GsonJSONConverter implements JSONConverter {
         }
     }
 
+    @Override
+    public void toJson(TestOutcome testOutcome, OutputStream outputStream, SharedStackTraces sharedStackTraces) throws IOException {
+        testOutcome.calculateDynamicFieldValues();
+        JsonElement json = gson.toJsonTree(testOutcome);
+        sharedStackTraces.share(json);
+        try (Writer out = new OutputStreamWriter(outputStream, encoding)) {
+            gson.toJson(json, out);
+        }
+    }
+
+    private static boolean useColumnarDataTablesIn(EnvironmentVariables environmentVariables) {
+        return ThucydidesSystemProperty.JSON_COLUMNAR_DATA_TABLES.booleanFrom(environmentVariables, false);
+    }
+
     private boolean usePrettyPrinting() {
         return Boolean.parseBoolean(ThucydidesSystemProperty.JSON_PRETTY_PRINTING.from(environmentVariables, "false"));
     }
@@ -0,0 +1,25 @@
+package net.thucydides.model.reports.json.gson;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import net.thucydides.model.domain.stacktrace.StackTraces;
+
+import java.lang.reflect.Type;
+
+/**
+ * Reads stack traces so that identical stack traces from different test outcomes share the same frames in memory.
+ */
+public class InterningStackTraceDeserializer implements JsonDeserializer<StackTraceElement[]> {
+    @Override
+    public StackTraceElement[] deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
+        JsonArray frames = json.getAsJsonArray();
+        StackTraceElement[] stackTrace = new StackTraceElement[frames.size()];
+        for (int i = 0; i < stackTrace.length; i++) {
+            stackTrace[i] = context.deserialize(frames.get(i), StackTraceElement.class);
+        }
+        return StackTraces.intern(stackTrace);
+    }
+}
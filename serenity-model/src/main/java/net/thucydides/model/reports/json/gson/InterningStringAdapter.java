@@ -0,0 +1,42 @@
+package net.thucydides.model.reports.json.gson;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Reads JSON strings so that short values repeated across test outcomes (tag names and types, step descriptions,
+ * error types, result names and so on) share a single String instance, rather than one copy per outcome.
+ * Long values such as stack traces and data table contents are rarely repeated, so they are not interned.
+ */
+public class InterningStringAdapter extends TypeAdapter<String> {
+
+    private static final int MAX_INTERNED_LENGTH = 256;
+
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+    @Override
+    public void write(JsonWriter out, String value) throws IOException {
+        out.value(value);
+    }
+
+    @Override
+    public String read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String value = (token == JsonToken.BOOLEAN) ? Boolean.toString(in.nextBoolean()) : in.nextString();
+        return intern(value);
+    }
+
+    static String intern(String value) {
+        return (value.length() <= MAX_INTERNED_LENGTH) ? STRINGS.intern(value) : value;
+    }
+}
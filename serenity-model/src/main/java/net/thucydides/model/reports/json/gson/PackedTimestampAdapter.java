@@ -0,0 +1,26 @@
+package net.thucydides.model.reports.json.gson;
+
+import com.google.gson.*;
+import net.thucydides.model.domain.PackedTimestamp;
+
+import java.lang.reflect.Type;
+import java.time.ZonedDateTime;
+
+/**
+ * Packed timestamps are written in the same form as a ZonedDateTime, so the JSON reports do not depend on how
+ * the timestamps are held in memory.
+ */
+public class PackedTimestampAdapter implements JsonDeserializer<PackedTimestamp>, JsonSerializer<PackedTimestamp> {
+
+    private final ZonedDateTimeAdapter zonedDateTimeAdapter = new ZonedDateTimeAdapter();
+
+    @Override
+    public PackedTimestamp deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
+        return PackedTimestamp.of(zonedDateTimeAdapter.deserialize(json, ZonedDateTime.class, context));
+    }
+
+    @Override
+    public JsonElement serialize(PackedTimestamp src, Type typeOfSrc, JsonSerializationContext context) {
+        return zonedDateTimeAdapter.serialize(src.toZonedDateTime(), ZonedDateTime.class, context);
+    }
+}
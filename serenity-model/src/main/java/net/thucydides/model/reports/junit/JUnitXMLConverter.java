@@ -127,7 +127,7 @@ public class JUnitXMLConverter {
         StringBuilder printedStackTrace = new StringBuilder();
         printedStackTrace.append(nestedTestFailureCause.getMessage());
         printedStackTrace.append(System.lineSeparator());
-        for(StackTraceElement element : nestedTestFailureCause.getStackTrace()) {
+        for(StackTraceElement element : nestedTestFailureCause.getStackTraceFrames()) {
             printedStackTrace.append(element.toString());
             printedStackTrace.append(System.lineSeparator());
         }
@@ -8,10 +8,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_REQUIREMENT_TYPES;
 import static net.thucydides.model.requirements.SpecFileFilters.cucumberFeatureFiles;
@@ -27,12 +27,15 @@ public class DefaultCapabilityTypes {
     private SearchForFilesOfType jbehaveFileMatcher;
     private SearchForFilesOfType javascriptSpecMatcher;
 
-    private Map<String, List<String>> requirementsCache = new HashMap<>();
+    /**
+     * Requirements can be read from several threads at once, so the requirement types are cached in a concurrent map.
+     */
+    private final Map<String, List<String>> requirementsCache = new ConcurrentHashMap<>();
     public static DefaultCapabilityTypes instance() {
         return INSTANCE;
     }
 
-    public void clear() {
+    public synchronized void clear() {
         requirementsCache.clear();
         defaultCapabilityTypes = null;
         jbehaveFileMatcher = null;
@@ -41,17 +44,11 @@ public class DefaultCapabilityTypes {
     }
 
     public List<String> getRequirementTypes(EnvironmentVariables environmentVariables, Optional<Path> root) {
-        if (requirementsCache.containsKey(key(environmentVariables,root))) {
-            return requirementsCache.get(key(environmentVariables,root));
-        } else {
-            synchronized (requirementsCache) {
-                List<String> requriementTypes = configuredRequirementTypes(environmentVariables).orElse(getDefaultCapabilityTypes(root));
-                requirementsCache.put(key(environmentVariables, root), requriementTypes);
-                return requriementTypes;
-            }
-        }
+        return requirementsCache.computeIfAbsent(key(environmentVariables, root),
+                key -> configuredRequirementTypes(environmentVariables).orElseGet(() -> getDefaultCapabilityTypes(root)));
     }
-    public List<String> getDefaultCapabilityTypes(Optional<Path> root) {
+
+    public synchronized List<String> getDefaultCapabilityTypes(Optional<Path> root) {
         if (defaultCapabilityTypes == null) {
             if (jbehaveFilesExist(root)) {
                 defaultCapabilityTypes = jbehaveCapabilityTypes(root);
@@ -17,6 +17,7 @@ import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.domain.TestTag;
 import net.thucydides.model.requirements.model.*;
 import net.thucydides.model.requirements.model.cucumber.CucumberParser;
+import net.thucydides.model.requirements.model.cucumber.FeatureDefinitionCache;
 import net.thucydides.model.requirements.model.cucumber.InvalidFeatureFileException;
 import net.thucydides.model.util.EnvironmentVariables;
 import net.thucydides.model.util.Inflector;
@@ -34,6 +35,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -68,6 +70,10 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     private final RequirementsConfiguration requirementsConfiguration;
     private volatile List<Requirement> requirements;
 
+    private final boolean loadInParallel
+            = ThucydidesSystemProperty.SERENITY_REQUIREMENTS_PARALLEL_LOADING.booleanFrom(environmentVariables, true);
+    private final FeatureDefinitionCache featureDefinitions = new FeatureDefinitionCache(environmentVariables);
+
     public FileSystemRequirementsTagProvider(EnvironmentVariables environmentVariables) {
         this(environmentVariables,
                 RootDirectory.definedIn(environmentVariables).featuresOrStoriesRootDirectory().orElse(defaultFeatureDirectory()).toString());
@@ -155,7 +161,8 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
                 if (requirements == null) { // double-checked locking
                     List<Requirement> loadedRequirements = getRootDirectoryPaths()
                             .stream()
-                            .flatMap(this::capabilitiesAndStoriesIn)
+                            .map(this::capabilitiesAndStoriesIn)
+                            .flatMap(List::stream)
                             .sorted()
                             .collect(Collectors.toList());
                     if (addParents) {
@@ -179,17 +186,27 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         return index;
     }
 
-    private Stream<Requirement> capabilitiesAndStoriesIn(String path) {
+    /**
+     * The requirements in each directory are collected here rather than flat-mapped by the caller,
+     * as the contents of a flat-mapped stream are always read sequentially.
+     * Collecting keeps the directories and files in the order they were listed, even when they are read in parallel.
+     */
+    private List<Requirement> capabilitiesAndStoriesIn(String path) {
         File rootDirectory = new File(path);
 
         if (! rootDirectory.exists()) {
-            return NO_REQUIREMENTS.stream();
+            return NO_REQUIREMENTS;
         }
 
         return Stream.concat(
             loadCapabilitiesFrom(rootDirectory.listFiles(thatAreFeatureDirectories())),
             loadStoriesFrom(rootDirectory.listFiles(thatAreStories()))
-        );
+        ).collect(Collectors.toList());
+    }
+
+    private Stream<File> requirementSources(File[] files) {
+        Stream<File> sources = Arrays.stream(files);
+        return (loadInParallel && files.length > 1) ? sources.parallel() : sources;
     }
 
     private int maxDirectoryDepthIn(Set<String> directoryPaths) {
@@ -545,12 +562,12 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private Stream<Requirement> loadCapabilitiesFrom(File[] requirementDirectories) {
-        return Arrays.stream(requirementDirectories).map(this::readRequirementFrom);
+        return requirementSources(requirementDirectories).map(this::readRequirementFrom);
     }
 
 
     private Stream<Requirement> loadStoriesFrom(File[] storyFiles) {
-        return Arrays.stream(storyFiles)
+        return requirementSources(storyFiles)
                 .map(this::readRequirementsFromStoryOrFeatureFile)
                 .filter(Optional::isPresent)
                 .map(Optional::get);
@@ -596,7 +613,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         );
     }
 
-    private final Set<File> invalidFeatureFiles = new HashSet<>();
+    private final Set<File> invalidFeatureFiles = ConcurrentHashMap.newKeySet();
 
     public Optional<Requirement> readRequirementsFromStoryOrFeatureFile(File storyFile) {
         storyFile = normalised(storyFile);
@@ -671,7 +688,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         String explicitLocale = readLocaleFromFeatureFile(storyFile);
         CucumberParser parser = (explicitLocale != null) ?
                 new CucumberParser(explicitLocale, environmentVariables) : new CucumberParser(environmentVariables);
-        return parser.loadFeatureDefinition(storyFile);
+        return featureDefinitions.loadFeatureDefinition(storyFile, parser);
     }
 
     private String readLocaleFromFeatureFile(File storyFile) {
@@ -141,4 +141,24 @@ public class RequirementDefinition {
         return Optional.ofNullable(ruleBackgrounds.get(ruleName));
     }
 
+    /**
+     * A copy of this definition, with its own tags, scenarios and backgrounds, that can be changed without changing this one.
+     */
+    public RequirementDefinition copy() {
+        Map<String, Collection<TestTag>> copiedScenarioTags = new HashMap<>();
+        if (scenarioTags != null) {
+            scenarioTags.forEach((scenario, scenarioTagList) -> copiedScenarioTags.put(scenario, new ArrayList<>(scenarioTagList)));
+        }
+        RequirementDefinition copy = new RequirementDefinition(title, id, cardNumber,
+                (versionNumbers == null) ? new ArrayList<>() : new ArrayList<>(versionNumbers),
+                type,
+                text,
+                (tags == null) ? new ArrayList<>() : new ArrayList<>(tags),
+                (scenarios == null) ? new ArrayList<>() : new ArrayList<>(scenarios),
+                copiedScenarioTags);
+        copy.background = background;
+        copy.ruleBackgrounds = (ruleBackgrounds == null) ? new HashMap<>() : new HashMap<>(ruleBackgrounds);
+        return copy;
+    }
+
 }
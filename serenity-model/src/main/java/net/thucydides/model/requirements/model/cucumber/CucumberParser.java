@@ -58,6 +58,14 @@ public class CucumberParser {
         this.encoding = ThucydidesSystemProperty.FEATURE_FILE_ENCODING.from(environmentVariables, Charset.defaultCharset().name());
     }
 
+    String getLocale() {
+        return locale;
+    }
+
+    String getEncoding() {
+        return encoding;
+    }
+
     public Optional<AnnotatedFeature> loadFeature(File featureFile) {
         LOGGER.debug("Loading feature {}", featureFile.toString());
         if (featureFile == null || !featureFile.exists()) {
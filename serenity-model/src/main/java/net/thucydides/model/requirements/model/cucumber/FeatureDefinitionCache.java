@@ -0,0 +1,134 @@
+package net.thucydides.model.requirements.model.cucumber;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.thucydides.model.reports.json.gson.OptionalTypeAdapter;
+import net.thucydides.model.requirements.model.RequirementDefinition;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_REQUIREMENTS_CACHE_DIRECTORY;
+
+/**
+ * Keeps the requirement definitions parsed from Cucumber feature files, keyed by a fingerprint of the contents of
+ * each feature file and of the language and encoding it is read with. An unchanged feature file is only parsed once
+ * per JVM, and, if a cache directory is configured, only once for as long as it stays unchanged between runs.
+ * Feature files can be read concurrently. The cached definitions are never handed out: each caller gets its own copy.
+ */
+public class FeatureDefinitionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeatureDefinitionCache.class);
+
+    /**
+     * Changing how feature definitions are parsed or stored should change this version, so that definitions stored
+     * by earlier versions are ignored.
+     */
+    private static final String CACHE_VERSION = "1";
+
+    private static final Cache<String, Optional<RequirementDefinition>> PARSED_DEFINITIONS
+            = CacheBuilder.newBuilder().softValues().build();
+
+    private final Optional<Path> cacheDirectory;
+    private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY).create();
+
+    public FeatureDefinitionCache(EnvironmentVariables environmentVariables) {
+        this.cacheDirectory = Optional.ofNullable(SERENITY_REQUIREMENTS_CACHE_DIRECTORY.from(environmentVariables))
+                                      .map(Paths::get);
+    }
+
+    public Optional<RequirementDefinition> loadFeatureDefinition(File featureFile, CucumberParser parser) {
+        Optional<String> fingerprint = fingerprintOf(featureFile, parser);
+        if (!fingerprint.isPresent()) {
+            return parser.loadFeatureDefinition(featureFile);
+        }
+        Optional<RequirementDefinition> definition = PARSED_DEFINITIONS.getIfPresent(fingerprint.get());
+        if (definition == null) {
+            definition = storedDefinitionFor(fingerprint.get());
+            if (!definition.isPresent()) {
+                definition = parser.loadFeatureDefinition(featureFile);
+                definition.ifPresent(parsedDefinition -> store(fingerprint.get(), parsedDefinition));
+            }
+            PARSED_DEFINITIONS.put(fingerprint.get(), definition);
+        }
+        return definition.map(RequirementDefinition::copy);
+    }
+
+    private Optional<String> fingerprintOf(File featureFile, CucumberParser parser) {
+        try {
+            return Optional.of(Hashing.murmur3_128().newHasher()
+                    .putString(CACHE_VERSION, StandardCharsets.UTF_8)
+                    .putString(parser.getLocale(), StandardCharsets.UTF_8)
+                    .putString(parser.getEncoding(), StandardCharsets.UTF_8)
+                    .putBytes(Files.readAllBytes(featureFile.toPath()))
+                    .hash()
+                    .toString());
+        } catch (IOException | RuntimeException couldNotRead) {
+            LOGGER.debug("Could not fingerprint feature file {} ({})", featureFile, couldNotRead.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<RequirementDefinition> storedDefinitionFor(String fingerprint) {
+        if (!cacheDirectory.isPresent()) {
+            return Optional.empty();
+        }
+        Path definitionFile = definitionFileFor(fingerprint);
+        if (!Files.exists(definitionFile)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(definitionFile, StandardCharsets.UTF_8)) {
+            return Optional.ofNullable(gson.fromJson(reader, RequirementDefinition.class));
+        } catch (IOException | RuntimeException couldNotRead) {
+            LOGGER.warn("Could not read the feature definition stored in {} ({})", definitionFile, couldNotRead.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String fingerprint, RequirementDefinition definition) {
+        if (!cacheDirectory.isPresent()) {
+            return;
+        }
+        Path definitionFile = definitionFileFor(fingerprint);
+        try {
+            Files.createDirectories(cacheDirectory.get());
+            Path temporaryFile = Files.createTempFile(cacheDirectory.get(), fingerprint, ".tmp");
+            Files.write(temporaryFile, gson.toJson(definition).getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temporaryFile, definitionFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException couldNotMove) {
+                // Another build may have stored the same feature definition in the meantime
+                Files.deleteIfExists(temporaryFile);
+                if (!Files.exists(definitionFile)) {
+                    throw couldNotMove;
+                }
+            }
+        } catch (IOException | RuntimeException couldNotWrite) {
+            LOGGER.warn("Could not store the feature definition in {} ({})", definitionFile, couldNotWrite.getMessage());
+        }
+    }
+
+    private Path definitionFileFor(String fingerprint) {
+        return cacheDirectory.get().resolve(fingerprint + ".json");
+    }
+
+    /**
+     * Forget the feature definitions parsed in this JVM. Definitions stored in the cache directory are kept.
+     */
+    public static void clear() {
+        PARSED_DEFINITIONS.invalidateAll();
+    }
+}
@@ -1,6 +1,7 @@
 package net.thucydides.model.requirements.reports;
 
-import com.google.common.collect.Streams;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import net.serenitybdd.model.environment.EnvironmentSpecificConfiguration;
 import net.thucydides.model.ThucydidesSystemProperty;
 import net.thucydides.model.domain.*;
@@ -8,6 +9,7 @@ import net.thucydides.model.issues.IssueTracking;
 
 import net.thucydides.model.releases.ReleaseManager;
 import net.thucydides.model.reports.TestOutcomes;
+import net.thucydides.model.reports.TestOutcomesByRequirement;
 import net.thucydides.model.reports.html.ReportNameProvider;
 import net.thucydides.model.reports.html.RequirementsFilter;
 import net.thucydides.model.requirements.ExcludedUnrelatedRequirementTypes;
@@ -18,7 +20,6 @@ import net.thucydides.model.util.EnvironmentVariables;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static java.util.Collections.singletonList;
 import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_EXCLUDE_UNRELATED_REQUIREMENTS_OF_TYPE;
@@ -45,6 +46,15 @@ public class RequirementsOutcomes {
 
     private final Map<String, Integer> totalCountCache = new ConcurrentHashMap<>();
 
+    private volatile RequirementsOutcomesIndex index;
+
+    /**
+     * The test outcomes of every requirement in the tree are looked up in an index built in one pass over the
+     * test outcomes, rather than by going through all the test outcomes for each requirement.
+     */
+    private final Supplier<TestOutcomesByRequirement> testOutcomesByRequirement
+            = Suppliers.memoize(() -> testOutcomes.indexedByRequirement());
+
     public RequirementsOutcomes(List<Requirement> requirements,
                                 TestOutcomes testOutcomes,
                                 IssueTracking issueTracking,
@@ -88,7 +98,7 @@ public class RequirementsOutcomes {
     }
 
     public RequirementOutcome requirementOutcomeFor(Requirement requirement) {
-        TestOutcomes outcomesForRequirement = testOutcomes.forRequirement(requirement);
+        TestOutcomes outcomesForRequirement = testOutcomesFor(requirement);
 
         long requirementsWithoutTests = countRequirementsWithoutTestsIn(requirement);
         long estimatedUnimplementedTests = requirementsWithoutTests * estimatedTestsPerRequirement();
@@ -136,7 +146,7 @@ public class RequirementsOutcomes {
 
     private long countRequirementsWithoutTestsIn(Requirement rootRequirement) {
         return getFlattenedRequirements(rootRequirement).stream()
-                .filter(requirement -> testOutcomes.forRequirement(requirement).getTotal() == 0)
+                .filter(requirement -> testOutcomesFor(requirement).getTotal() == 0)
                 .count();
     }
 
@@ -152,6 +162,19 @@ public class RequirementsOutcomes {
         return cachedTotal("FlattenedRequirementCount", requirementCount);
     }
 
+    private RequirementsOutcomesIndex index() {
+        RequirementsOutcomesIndex currentIndex = index;
+        if (currentIndex == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = new RequirementsOutcomesIndex(requirementOutcomes);
+                }
+                currentIndex = index;
+            }
+        }
+        return currentIndex;
+    }
+
     private int cachedTotal(String key, int total) {
         totalCountCache.put(key, total);
         return total;
@@ -227,10 +250,7 @@ public class RequirementsOutcomes {
     }
 
     public List<String> getTypes() {
-        return getAllRequirementsStream()
-                .map(Requirement::getType)
-                .distinct()
-                .collect(Collectors.toList());
+        return new ArrayList<>(index().getRequirementTypes());
     }
 
     private String typeOfFirstChildPresent() {
@@ -262,17 +282,7 @@ public class RequirementsOutcomes {
     }
 
     public int getCompletedRequirementsCount() {
-        if (totalIsCachedFor("CompletedRequirementsCount")) {
-            return cachedTotalOf("CompletedRequirementsCount");
-        }
-
-        int completedRequirements = 0;
-        for (RequirementOutcome requirementOutcome : requirementOutcomes) {
-            if (requirementOutcome.isComplete()) {
-                completedRequirements++;
-            }
-        }
-        return cachedTotal("CompletedRequirementsCount", completedRequirements);
+        return index().getCompletedRequirementsCount();
     }
 
     public int getUnsuccessfulRequirementsCount() {
@@ -280,120 +290,35 @@ public class RequirementsOutcomes {
     }
 
     public int getErrorRequirementsCount() {
-        if (totalIsCachedFor("ErrorRequirementsCount")) {
-            return cachedTotalOf("ErrorRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isError)
-                .count();
-
-        return cachedTotal("ErrorRequirementsCount", matchingRequirements);
+        return index().getErrorRequirementsCount();
     }
 
     public int getFailingRequirementsCount() {
-        if (totalIsCachedFor("FailingRequirementsCount")) {
-            return cachedTotalOf("FailingRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isFailure)
-                .count();
-
-        return cachedTotal("FailingRequirementsCount", matchingRequirements);
+        return index().getFailingRequirementsCount();
     }
 
     public int getPendingRequirementsCount() {
-        if (totalIsCachedFor("PendingRequirementsCount")) {
-            return cachedTotalOf("PendingRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isPending)
-                .count();
-
-        return cachedTotal("PendingRequirementsCount", matchingRequirements);
+        return index().getPendingRequirementsCount();
     }
 
     public int getCompromisedRequirementsCount() {
-        if (totalIsCachedFor("CompromisedRequirementsCount")) {
-            return cachedTotalOf("CompromisedRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isCompromised)
-                .count();
-
-        return cachedTotal("CompromisedRequirementsCount", matchingRequirements);
+        return index().getCompromisedRequirementsCount();
     }
 
     public int getIgnoredRequirementsCount() {
-        if (totalIsCachedFor("IgnoredRequirementsCount")) {
-            return cachedTotalOf("IgnoredRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isIgnored)
-                .count();
-
-
-        return cachedTotal("IgnoredRequirementsCount", matchingRequirements);
+        return index().getIgnoredRequirementsCount();
     }
 
     public int getSkippedRequirementsCount() {
-        if (totalIsCachedFor("SkippedRequirementsCount")) {
-            return cachedTotalOf("SkippedRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isSkipped)
-                .count();
-
-
-        return cachedTotal("SkippedRequirementsCount", matchingRequirements);
+        return index().getSkippedRequirementsCount();
     }
 
     public int getRequirementsWithoutTestsCount() {
-        if (totalIsCachedFor("RequirementsWithoutTestsCount")) {
-            return cachedTotalOf("RequirementsWithoutTestsCount");
-        }
-
-        int requirementsWithNoTests = 0;
-        for (Requirement requirement : getTopLevelRequirements()) {
-            if (!testsRecordedFor(requirement) && !isPending(requirement)) {
-                requirementsWithNoTests++;
-            }
-        }
-        return cachedTotal("IgnoredRequirementsCount", requirementsWithNoTests);
-    }
-
-    private boolean isPending(Requirement requirement) {
-        return requirementOutcomes.stream().anyMatch(req -> req.getRequirement().equals(requirement) && req.isPending());
-    }
-
-    private boolean testsRecordedFor(Requirement requirement) {
-        return requirementOutcomes.stream().anyMatch(req -> req.getRequirement().equals(requirement) && req.getTestCount() > 0);
-    }
-
-    private Stream<Requirement> getAllRequirementsStream() {
-        return requirementOutcomes.stream().flatMap(
-                outcome -> flattenedRequirementsOf(outcome.getRequirement())
-        );
-    }
-
-    private List<Requirement> getTopLevelRequirements() {
-        return requirementOutcomes.stream().map(RequirementOutcome::getRequirement).collect(Collectors.toList());
+        return index().getRequirementsWithoutTestsCount();
     }
 
     public long getTotalRequirements() {
-        return getAllRequirementsStream().count();
-    }
-
-    private Stream<Requirement> flattenedRequirementsOf(Requirement requirement) {
-        return Streams.concat(
-                Stream.of(requirement),
-                requirement.getChildren().stream().flatMap(this::flattenedRequirementsOf)
-        );
+        return index().getFlattenedRequirements().size();
     }
 
     private void addFlattenedRequirements(Requirement requirement, List<Requirement> allRequirements) {
@@ -405,14 +330,14 @@ public class RequirementsOutcomes {
 
     public List<RequirementOutcome> getFlattenedRequirementOutcomes() {
         if (flattenedRequirementOutcomes == null) {
-            flattenedRequirementOutcomes = getFlattenedRequirementOutcomes(requirementOutcomes);
+            flattenedRequirementOutcomes = outcomesFor(index().getFlattenedRequirements());
         }
         return flattenedRequirementOutcomes;
     }
 
     public List<RequirementOutcome> getLeafRequirementOutcomes() {
         if (leafRequirementOutcomes == null) {
-            leafRequirementOutcomes = getLeafRequirementOutcomes(getFlattenedRequirementOutcomes(requirementOutcomes));
+            leafRequirementOutcomes = getLeafRequirementOutcomes(getFlattenedRequirementOutcomes());
         }
         return leafRequirementOutcomes;
     }
@@ -430,13 +355,15 @@ public class RequirementsOutcomes {
         }
 
         // Now find the RequirementOutcome for each requirement in the list.
-        List<RequirementOutcome> flattenedOutcomes = new ArrayList<>();
-        for (Requirement requirement : allRequirements) {
-            RequirementOutcome requirementOutcome = getRequirementOutcomes(requirement);
-            flattenedOutcomes.add(requirementOutcome);
-        }
+        return outcomesFor(allRequirements);
+    }
 
-        return flattenedOutcomes;
+    private List<RequirementOutcome> outcomesFor(List<Requirement> requirements) {
+        List<RequirementOutcome> outcomes = new ArrayList<>(requirements.size());
+        for (Requirement requirement : requirements) {
+            outcomes.add(getRequirementOutcomes(requirement));
+        }
+        return outcomes;
     }
 
     public List<RequirementOutcome> getFlattenedRequirementOutcomesOld(List<RequirementOutcome> outcomes) {
@@ -472,10 +399,14 @@ public class RequirementsOutcomes {
     }
 
     RequirementOutcome getRequirementOutcomes(Requirement requirement) {
-        TestOutcomes testOutcomesForRequirement = testOutcomes.forRequirement(requirement);
+        TestOutcomes testOutcomesForRequirement = testOutcomesFor(requirement);
         return new RequirementOutcome(requirement, testOutcomesForRequirement, issueTracking);
     }
 
+    private TestOutcomes testOutcomesFor(Requirement requirement) {
+        return testOutcomesByRequirement.get().forRequirement(requirement);
+    }
+
     private RequirementOutcome getRequirementOutcomes(Requirement requirement, RequirementOutcome requirementOutcome) {
         TestOutcomes testOutcomesForChildRequirement = requirementOutcome.getTestOutcomes().forRequirement(requirement);
         RequirementsOutcomes childOutcomes = new RequirementsOutcomes(singletonList(requirement), testOutcomesForChildRequirement, issueTracking,
@@ -592,7 +523,7 @@ public class RequirementsOutcomes {
     }
 
     private boolean testsExistFor(Requirement requirement) {
-        return !getTestOutcomes().forRequirement(requirement).getOutcomes().isEmpty();
+        return !testOutcomesFor(requirement).getOutcomes().isEmpty();
     }
 
     private List<TestOutcome> outcomesForRelease(List<? extends TestOutcome> outcomes,
@@ -668,6 +599,6 @@ public class RequirementsOutcomes {
     }
 
     public Optional<RequirementOutcome> getOutcomeFor(Requirement requirement) {
-        return requirementOutcomes.stream().filter(requirementOutcome -> requirementOutcome.getRequirement().equals(requirement)).findFirst();
+        return index().outcomeFor(requirement);
     }
 }
@@ -0,0 +1,148 @@
+package net.thucydides.model.requirements.reports;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import net.thucydides.model.requirements.model.Requirement;
+
+import java.util.*;
+
+/**
+ * Looks up the outcome of each top-level requirement in a {@link RequirementsOutcomes}, and counts the requirements
+ * of each status, each in a single pass over the requirement outcomes or the requirement tree.
+ * Built once per set of requirement outcomes, so that report pages do not scan the whole list for every query.
+ */
+class RequirementsOutcomesIndex {
+
+    private final Map<Requirement, RequirementOutcome> outcomesByRequirement;
+    private final List<Requirement> flattenedRequirements;
+    private final List<String> requirementTypes;
+
+    /**
+     * Working out the status of a requirement means going through its test outcomes, so the statuses are only
+     * counted when a report first asks for one of them.
+     */
+    private final Supplier<StatusCounts> statusCounts;
+
+    RequirementsOutcomesIndex(List<RequirementOutcome> requirementOutcomes) {
+        Map<Requirement, RequirementOutcome> outcomes = new HashMap<>();
+        for (RequirementOutcome requirementOutcome : requirementOutcomes) {
+            outcomes.putIfAbsent(requirementOutcome.getRequirement(), requirementOutcome);
+        }
+        this.outcomesByRequirement = outcomes;
+        this.flattenedRequirements = flattenedRequirementsOf(requirementOutcomes);
+        this.requirementTypes = distinctTypesOf(flattenedRequirements);
+        this.statusCounts = Suppliers.memoize(() -> new StatusCounts(requirementOutcomes));
+    }
+
+    private static class StatusCounts {
+        private int completed;
+        private int error;
+        private int failing;
+        private int pending;
+        private int compromised;
+        private int ignored;
+        private int skipped;
+        private int withoutTests;
+
+        StatusCounts(List<RequirementOutcome> requirementOutcomes) {
+            Set<Requirement> testedRequirements = new HashSet<>();
+            Set<Requirement> pendingRequirements = new HashSet<>();
+
+            for (RequirementOutcome requirementOutcome : requirementOutcomes) {
+                Requirement requirement = requirementOutcome.getRequirement();
+                if (requirementOutcome.getTestCount() > 0) {
+                    testedRequirements.add(requirement);
+                }
+                if (requirementOutcome.isPending()) {
+                    pending++;
+                    pendingRequirements.add(requirement);
+                }
+                if (requirementOutcome.isComplete()) completed++;
+                if (requirementOutcome.isError()) error++;
+                if (requirementOutcome.isFailure()) failing++;
+                if (requirementOutcome.isCompromised()) compromised++;
+                if (requirementOutcome.isIgnored()) ignored++;
+                if (requirementOutcome.isSkipped()) skipped++;
+            }
+
+            for (RequirementOutcome requirementOutcome : requirementOutcomes) {
+                Requirement requirement = requirementOutcome.getRequirement();
+                if (!testedRequirements.contains(requirement) && !pendingRequirements.contains(requirement)) {
+                    withoutTests++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Each requirement in the tree, in depth-first order, walked without recursion so deep trees are safe.
+     */
+    private static List<Requirement> flattenedRequirementsOf(List<RequirementOutcome> requirementOutcomes) {
+        List<Requirement> requirements = new ArrayList<>();
+        Deque<Requirement> requirementsToVisit = new ArrayDeque<>();
+        for (int i = requirementOutcomes.size() - 1; i >= 0; i--) {
+            requirementsToVisit.push(requirementOutcomes.get(i).getRequirement());
+        }
+        while (!requirementsToVisit.isEmpty()) {
+            Requirement requirement = requirementsToVisit.pop();
+            requirements.add(requirement);
+            List<Requirement> children = requirement.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                requirementsToVisit.push(children.get(i));
+            }
+        }
+        return Collections.unmodifiableList(requirements);
+    }
+
+    private static List<String> distinctTypesOf(List<Requirement> requirements) {
+        Set<String> types = new LinkedHashSet<>();
+        for (Requirement requirement : requirements) {
+            types.add(requirement.getType());
+        }
+        return Collections.unmodifiableList(new ArrayList<>(types));
+    }
+
+    Optional<RequirementOutcome> outcomeFor(Requirement requirement) {
+        return Optional.ofNullable(outcomesByRequirement.get(requirement));
+    }
+
+    List<Requirement> getFlattenedRequirements() {
+        return flattenedRequirements;
+    }
+
+    List<String> getRequirementTypes() {
+        return requirementTypes;
+    }
+
+    int getCompletedRequirementsCount() {
+        return statusCounts.get().completed;
+    }
+
+    int getErrorRequirementsCount() {
+        return statusCounts.get().error;
+    }
+
+    int getFailingRequirementsCount() {
+        return statusCounts.get().failing;
+    }
+
+    int getPendingRequirementsCount() {
+        return statusCounts.get().pending;
+    }
+
+    int getCompromisedRequirementsCount() {
+        return statusCounts.get().compromised;
+    }
+
+    int getIgnoredRequirementsCount() {
+        return statusCounts.get().ignored;
+    }
+
+    int getSkippedRequirementsCount() {
+        return statusCounts.get().skipped;
+    }
+
+    int getRequirementsWithoutTestsCount() {
+        return statusCounts.get().withoutTests;
+    }
+}
@@ -0,0 +1,13 @@
+package net.thucydides.model.steps;
+
+/**
+ * A step listener that does not need to be notified on the test thread.
+ * When the serenity.step.listeners.async property is set to true, these listeners receive their events in order,
+ * but from a background dispatcher thread, so that a slow listener does not slow down the test steps.
+ * All the events of a test are delivered before the test is reported as finished.
+ * <p>
+ * Events can be delivered after the test has moved on, so asynchronous listeners should not rely on the state
+ * of the test thread (thread-local sessions, the current WebDriver instance and so on) when they handle an event.
+ */
+public interface AsynchronousStepListener extends StepListener {
+}
@@ -0,0 +1,65 @@
+package net.thucydides.model.util;
+
+import net.serenitybdd.model.environment.EnvironmentSpecificConfiguration;
+import net.thucydides.model.ThucydidesSystemProperty;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The resolved values of the Serenity system properties for a given set of environment variables.
+ * <p>
+ * Resolving a property means checking the environment-specific configuration and the legacy 'thucydides.' form of
+ * the property name, which is too costly to do each time a property is read on a per-step or per-screenshot path.
+ * A snapshot resolves each property the first time it is read, and then simply returns the value stored at the
+ * property's position. Environment variable implementations discard their snapshot whenever a property changes.
+ * Other implementations, such as test doubles, cannot say when their values change, so their properties are resolved
+ * each time they are read.
+ */
+public final class ConfigurationSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationSnapshot.class);
+
+    private static final ThucydidesSystemProperty[] PROPERTIES = ThucydidesSystemProperty.values();
+
+    private static final String NO_VALUE = new String("");
+
+    private final AtomicReferenceArray<String> values = new AtomicReferenceArray<>(PROPERTIES.length);
+
+    /**
+     * The configured value of a property, resolved without a snapshot, or null if it is not defined or is empty.
+     */
+    public static String uncachedValueOf(ThucydidesSystemProperty property, EnvironmentVariables environmentVariables) {
+        String value = resolve(property, environmentVariables);
+        return (value == NO_VALUE) ? null : value;
+    }
+
+    /**
+     * The configured value of a property, or null if it is not defined or is empty.
+     */
+    public String valueOf(ThucydidesSystemProperty property, EnvironmentVariables environmentVariables) {
+        String value = values.get(property.ordinal());
+        if (value == null) {
+            value = resolve(property, environmentVariables);
+            values.set(property.ordinal(), value);
+        }
+        return (value == NO_VALUE) ? null : value;
+    }
+
+    private static String resolve(ThucydidesSystemProperty property, EnvironmentVariables environmentVariables) {
+        String value = EnvironmentSpecificConfiguration.from(environmentVariables)
+                .getOptionalProperty(property.preferredName())
+                .orElse(null);
+        if (StringUtils.isNotEmpty(value)) {
+            return value;
+        }
+        String legacyValue = environmentVariables.getProperty(property.legacyNames().get(0));
+        if (StringUtils.isNotEmpty(legacyValue)) {
+            LOGGER.warn("Legacy property format detected for {}, please use the serenity.* format instead.", property.getPropertyName());
+            return legacyValue;
+        }
+        return NO_VALUE;
+    }
+}
@@ -94,5 +94,18 @@ public interface EnvironmentVariables {
                 .splitToList(getProperty("environment", ""));
     }
 
+    /**
+     * The properties defined in these environment variables. The map cannot be modified: use setProperty() instead,
+     * so that the resolved property values are kept up to date.
+     */
     Map<String, String> properties();
+
+    /**
+     * The resolved values of the Serenity system properties defined in these environment variables.
+     * Implementations that keep a snapshot must discard it whenever a property changes. By default there is no
+     * snapshot, and properties are resolved each time they are read.
+     */
+    default ConfigurationSnapshot configurationSnapshot() {
+        return null;
+    }
 }
@@ -44,6 +44,8 @@ public class PropertiesLocalPreferences implements LocalPreferences {
      */
     private Path configurationFilePath;
 
+    private EnvironmentVariables environmentVariables;
+
     public PropertiesLocalPreferences(Map<String, String> properties) {
         this.currentProperties = properties;
         this.homeDirectory = new File(System.getProperty("user.home"));
@@ -61,8 +63,13 @@ public class PropertiesLocalPreferences implements LocalPreferences {
         this.configurationFilePath = configurationFilePath;
     }
 
+    /**
+     * Preferences loaded from the local files are set through the environment variables themselves, so that the
+     * resolved property values are kept up to date.
+     */
     public PropertiesLocalPreferences(EnvironmentVariables environmentVariables) {
         this(environmentVariables.properties());
+        this.environmentVariables = environmentVariables;
     }
 
     public File getHomeDirectory() {
@@ -195,7 +202,11 @@ public class PropertiesLocalPreferences implements LocalPreferences {
 
             if (isEmpty(currentPropertyValue) && isNotEmpty(localPropertyValue) && !propertyName.equals("//") && !propertyName.equals("#")) {
                 LOGGER.trace("{} = {}",propertyName, localPropertyValue);
-                currentProperties.put(propertyName, localPropertyValue);
+                if (environmentVariables != null) {
+                    environmentVariables.setProperty(propertyName, localPropertyValue);
+                } else {
+                    currentProperties.put(propertyName, localPropertyValue);
+                }
             }
         }
     }
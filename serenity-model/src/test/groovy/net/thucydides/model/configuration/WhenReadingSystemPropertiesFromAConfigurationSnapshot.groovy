@@ -0,0 +1,90 @@
+package net.thucydides.model.configuration
+
+import net.thucydides.model.environment.MockEnvironmentVariables
+import net.thucydides.model.environment.SystemEnvironmentVariables
+import net.thucydides.model.util.EnvironmentVariables
+import spock.lang.Specification
+
+import static net.thucydides.model.ThucydidesSystemProperty.*
+
+class WhenReadingSystemPropertiesFromAConfigurationSnapshot extends Specification {
+
+    def environmentVariables = new MockEnvironmentVariables()
+
+    def "property values should reflect later changes to the environment variables"() {
+        given:
+        environmentVariables.setProperty("serenity.take.screenshots", "FOR_FAILURES")
+        expect:
+        THUCYDIDES_TAKE_SCREENSHOTS.from(environmentVariables) == "FOR_FAILURES"
+        when:
+        environmentVariables.setProperty("serenity.take.screenshots", "AFTER_EACH_STEP")
+        then:
+        THUCYDIDES_TAKE_SCREENSHOTS.from(environmentVariables) == "AFTER_EACH_STEP"
+        when:
+        environmentVariables.clearProperty("serenity.take.screenshots")
+        then:
+        THUCYDIDES_TAKE_SCREENSHOTS.from(environmentVariables, "DEFAULT") == "DEFAULT"
+    }
+
+    def "typed values should be read from the snapshot"() {
+        given:
+        environmentVariables.setProperty("serenity.step.delay", " 250 ")
+        environmentVariables.setProperty("serenity.verbose.steps", "true")
+        expect:
+        THUCYDIDES_STEP_DELAY.integerFrom(environmentVariables, 0) == 250
+        THUCYDIDES_VERBOSE_STEPS.booleanFrom(environmentVariables, false)
+        !THUCYDIDES_DRY_RUN.booleanFrom(environmentVariables, false)
+    }
+
+    def "legacy property names should still be recognised"() {
+        given:
+        environmentVariables.setProperty("thucydides.step.delay", "100")
+        expect:
+        THUCYDIDES_STEP_DELAY.integerFrom(environmentVariables, 0) == 100
+    }
+
+    def "environment-specific values should be used when an environment is active"() {
+        given:
+        environmentVariables.setProperty("environment", "staging")
+        environmentVariables.setProperty("environments.staging.serenity.step.delay", "500")
+        expect:
+        THUCYDIDES_STEP_DELAY.integerFrom(environmentVariables, 0) == 500
+    }
+
+    def "empty values should be treated as undefined"() {
+        given:
+        environmentVariables.setProperty("serenity.step.delay", "")
+        expect:
+        THUCYDIDES_STEP_DELAY.integerFrom(environmentVariables, 42) == 42
+    }
+
+    def "mocked environment variables without a snapshot should be read every time"() {
+        given:
+        def stepDelay = "250"
+        def mockedEnvironmentVariables = Mock(EnvironmentVariables) {
+            getPropertiesWithPrefix(_) >> new Properties()
+            getProperty("serenity.step.delay") >> { stepDelay }
+        }
+        expect:
+        mockedEnvironmentVariables.configurationSnapshot() == null
+        THUCYDIDES_STEP_DELAY.integerFrom(mockedEnvironmentVariables, 0) == 250
+        when:
+        stepDelay = "500"
+        then:
+        THUCYDIDES_STEP_DELAY.integerFrom(mockedEnvironmentVariables, 0) == 500
+    }
+
+    def "properties should only be changed through the environment variables"() {
+        given:
+        environmentVariables.setProperty("serenity.step.delay", "250")
+        when:
+        environmentVariables.properties().put("serenity.step.delay", "500")
+        then:
+        thrown(UnsupportedOperationException)
+        THUCYDIDES_STEP_DELAY.integerFrom(environmentVariables, 0) == 250
+        when:
+        SystemEnvironmentVariables.createEnvironmentVariables().properties().put("serenity.step.delay", "500")
+        then:
+        thrown(UnsupportedOperationException)
+    }
+}
@@ -83,4 +83,28 @@ class WhenDeterminingTheRootCauseOfAnError extends Specification {
             'sun.reflect.NativeMethodAccessorImpl'              | "false"              | 1
     }
 
+    def "Should remove additional packages from simplified stack traces"() {
+        given:
+            def environmentVars = new MockEnvironmentVariables();
+            environmentVars.setProperty("simplified.stack.traces.masked.packages","com.acme.framework, com.acme.support")
+            def stackTrace = [new StackTraceElement('com.acme.tests.CheckoutTest', 'someMethod','CheckoutTest.java', 100),
+                              new StackTraceElement('com.acme.framework.Runner', 'someMethod','Runner.java', 100),
+                              new StackTraceElement('com.acme.support.Helper', 'someMethod','Helper.java', 100)] as StackTraceElement[]
+        when:
+            def filter = new StackTraceSanitizer(environmentVars,stackTrace)
+        then:
+            filter.sanitizedStackTrace*.className == ['com.acme.tests.CheckoutTest']
+    }
+
+    def "Should keep no more than the configured number of frames in simplified stack traces"() {
+        given:
+            def environmentVars = new MockEnvironmentVariables();
+            environmentVars.setProperty("simplified.stack.traces.max.frames","2")
+            def stackTrace = (1..5).collect { new StackTraceElement("com.acme.tests.Test$it", 'someMethod','Test.java', it) } as StackTraceElement[]
+        when:
+            def filter = new StackTraceSanitizer(environmentVars,stackTrace)
+        then:
+            filter.sanitizedStackTrace*.className == ['com.acme.tests.Test1', 'com.acme.tests.Test2']
+    }
+
 }
@@ -0,0 +1,98 @@
+package net.thucydides.model.domain
+
+import spock.lang.Specification
+
+class WhenFreezingTestOutcomeResults extends Specification {
+
+    class SomeTest {}
+
+    static class CountingStep extends TestStep {
+        int resultCalculations
+
+        CountingStep(String description, TestResult result) {
+            super(description)
+            setResult(result)
+        }
+
+        @Override
+        TestResult getResult() {
+            resultCalculations++
+            return super.getResult()
+        }
+    }
+
+    def "should not recalculate the result of a frozen outcome"() {
+        given:
+        def child = new CountingStep("child step", TestResult.FAILURE)
+        def group = TestStep.forStepCalled("group step")
+        group.addChildStep(child)
+        def outcome = TestOutcome.forTest("test", SomeTest).recordStep(group)
+
+        when:
+        outcome.freezeResult()
+        def calculationsWhenFrozen = child.resultCalculations
+        1000.times {
+            outcome.getResult()
+            outcome.getTestSteps().each { it.getResult() }
+        }
+
+        then:
+        outcome.result == TestResult.FAILURE
+        group.result == TestResult.FAILURE
+        child.resultCalculations == calculationsWhenFrozen
+    }
+
+    def "should recalculate the result when a step is recorded after the outcome was frozen"() {
+        given:
+        def outcome = TestOutcome.forTest("test", SomeTest)
+                .recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+                .freezeResult()
+
+        when:
+        outcome.recordStep(TestStep.forStepCalled("step 2").withResult(TestResult.ERROR))
+
+        then:
+        outcome.result == TestResult.ERROR
+    }
+
+    def "should recalculate the result when the outcome result is changed after it was frozen"() {
+        given:
+        def outcome = TestOutcome.forTest("test", SomeTest)
+                .recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+                .freezeResult()
+
+        when:
+        outcome.setAnnotatedResult(TestResult.PENDING)
+
+        then:
+        outcome.result == TestResult.PENDING
+    }
+
+    def "should recalculate the result of a frozen step when its own result is changed"() {
+        given:
+        def step = TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS)
+        TestOutcome.forTest("test", SomeTest).recordStep(step).freezeResult()
+
+        when:
+        step.setResult(TestResult.FAILURE)
+
+        then:
+        step.result == TestResult.FAILURE
+    }
+
+    def "should only analyse the failure class once"() {
+        given:
+        def outcome = TestOutcome.forTest("test", SomeTest)
+                .recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+        outcome.determineTestFailureCause(new AssertionError("Oh no"))
+
+        when:
+        def firstResult = outcome.getResult()
+        def cachedAnalysis = outcome.@failureClassnameResult
+
+        then:
+        firstResult == TestResult.FAILURE
+        outcome.getResult() == firstResult
+        outcome.@failureClassnameResult.is(cachedAnalysis)
+    }
+}
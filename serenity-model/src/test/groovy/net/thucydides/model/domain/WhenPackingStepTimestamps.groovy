@@ -0,0 +1,67 @@
+package net.thucydides.model.domain
+
+import spock.lang.Specification
+
+import java.lang.management.ManagementFactory
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class WhenPackingStepTimestamps extends Specification {
+
+    static final ZonedDateTime START_TIME = ZonedDateTime.of(2024, 3, 31, 1, 30, 15, 123456789, ZoneId.of("Europe/Paris"))
+
+    def "should restore the original time"() {
+        expect:
+        PackedTimestamp.of(time).toZonedDateTime() == time
+
+        where:
+        time << [START_TIME,
+                 START_TIME.plusHours(1),
+                 START_TIME.withZoneSameInstant(ZoneId.of("UTC")),
+                 START_TIME.toOffsetDateTime().toZonedDateTime()]
+    }
+
+    def "steps should keep their start time"() {
+        when:
+        def step = TestStep.forStepCalled("a step").withResult(TestResult.SUCCESS).startingAt(START_TIME)
+        step.setDuration(1500)
+
+        then:
+        step.startTime == START_TIME
+        step.endTime == START_TIME.plusNanos(1_500_000_000)
+    }
+
+    def "timestamps read separately should share their time zone"() {
+        when:
+        def first = PackedTimestamp.of(ZonedDateTime.parse(START_TIME.toString()))
+        def second = PackedTimestamp.of(ZonedDateTime.parse(START_TIME.plusMinutes(1).toString()))
+
+        then:
+        first.@zone.is(second.@zone)
+    }
+
+    def "packed timestamps should retain much less heap than the equivalent ZonedDateTime values"() {
+        given:
+        def timestamps = (0..<100_000).collect { START_TIME.plusSeconds(it).toString() }
+
+        when:
+        def heapUsedByZonedDateTimes = retainedHeapOf { timestamps.collect { ZonedDateTime.parse(it) } }
+        def heapUsedByPackedTimestamps = retainedHeapOf { timestamps.collect { PackedTimestamp.of(ZonedDateTime.parse(it)) } }
+
+        then:
+        heapUsedByPackedTimestamps < heapUsedByZonedDateTimes / 2
+    }
+
+    private static long retainedHeapOf(Closure<List> createValues) {
+        long heapUsedBefore = heapUsedAfterGarbageCollection()
+        List values = createValues()
+        long heapUsedAfter = heapUsedAfterGarbageCollection()
+        assert values.size() > 0
+        return heapUsedAfter - heapUsedBefore
+    }
+
+    private static long heapUsedAfterGarbageCollection() {
+        3.times { System.gc() }
+        return ManagementFactory.memoryMXBean.heapMemoryUsage.used
+    }
+}
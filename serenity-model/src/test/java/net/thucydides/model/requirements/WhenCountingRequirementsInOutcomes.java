@@ -1,8 +1,12 @@
 package net.thucydides.model.requirements;
 
+import net.thucydides.model.domain.TestOutcome;
 import net.thucydides.model.domain.TestResult;
+import net.thucydides.model.domain.TestTag;
 import net.thucydides.model.domain.TestType;
 import net.thucydides.model.reports.TestOutcomeLoader;
+import net.thucydides.model.reports.TestOutcomes;
+import net.thucydides.model.reports.TestOutcomesByRequirement;
 import net.thucydides.model.requirements.model.Requirement;
 import net.thucydides.model.requirements.reports.RequirementOutcome;
 import net.thucydides.model.requirements.reports.RequirementsOutcomes;
@@ -13,6 +17,9 @@ import org.junit.Test;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -96,4 +103,67 @@ public class WhenCountingRequirementsInOutcomes {
             assertThat(requirementsOutcome.getRequirementsWithoutTestsCount(), equalTo(0L));
         }
     }
+
+    @Test
+    public void should_find_the_outcome_of_each_top_level_requirement() throws IOException {
+
+        FileSystemRequirements fileSystemRequirements = new FileSystemRequirements(featuresDirectory.getPath());
+
+        RequirementsOutcomes outcomes = fileSystemRequirements.getRequirementsOutcomeFactory().buildRequirementsOutcomesFrom(TestOutcomeLoader.testOutcomesIn(outcomeDirectory));
+
+        for(RequirementOutcome requirementOutcome : outcomes.getRequirementOutcomes()) {
+            assertThat(outcomes.getOutcomeFor(requirementOutcome.getRequirement()).get(), sameInstance(requirementOutcome));
+        }
+        assertThat(outcomes.getTotalRequirements(), is((long) outcomes.getFlattenedRequirementOutcomes().size()));
+        assertThat(outcomes.getTypes(), hasItem(outcomes.getType()));
+    }
+
+    @Test
+    public void should_count_the_requirements_with_each_status_in_the_same_way_as_the_requirement_outcomes() throws IOException {
+
+        FileSystemRequirements fileSystemRequirements = new FileSystemRequirements(featuresDirectory.getPath());
+
+        RequirementsOutcomes outcomes = fileSystemRequirements.getRequirementsOutcomeFactory().buildRequirementsOutcomesFrom(TestOutcomeLoader.testOutcomesIn(outcomeDirectory));
+
+        assertThat(outcomes.getCompletedRequirementsCount(), is(countOf(outcomes, RequirementOutcome::isComplete)));
+        assertThat(outcomes.getFailingRequirementsCount(), is(countOf(outcomes, RequirementOutcome::isFailure)));
+        assertThat(outcomes.getErrorRequirementsCount(), is(countOf(outcomes, RequirementOutcome::isError)));
+        assertThat(outcomes.getPendingRequirementsCount(), is(countOf(outcomes, RequirementOutcome::isPending)));
+        assertThat(outcomes.getIgnoredRequirementsCount(), is(countOf(outcomes, RequirementOutcome::isIgnored)));
+        assertThat(outcomes.getSkippedRequirementsCount(), is(countOf(outcomes, RequirementOutcome::isSkipped)));
+        assertThat(outcomes.getRequirementsWithoutTestsCount(), is(countOf(outcomes, outcome -> outcome.getTestCount() == 0 && !outcome.isPending())));
+    }
+
+    @Test
+    public void should_find_the_same_test_outcomes_for_each_requirement_in_the_index_as_in_the_full_list() throws IOException {
+
+        FileSystemRequirements fileSystemRequirements = new FileSystemRequirements(featuresDirectory.getPath());
+
+        RequirementsOutcomes outcomes = fileSystemRequirements.getRequirementsOutcomeFactory().buildRequirementsOutcomesFrom(TestOutcomeLoader.testOutcomesIn(outcomeDirectory));
+        TestOutcomes testOutcomes = outcomes.getTestOutcomes();
+        TestOutcomesByRequirement testOutcomesByRequirement = testOutcomes.indexedByRequirement();
+
+        for (RequirementOutcome requirementOutcome : outcomes.getFlattenedRequirementOutcomes()) {
+            Requirement requirement = requirementOutcome.getRequirement();
+            assertThat(idsOf(testOutcomesByRequirement.forRequirement(requirement)), equalTo(idsOfOutcomesTaggedWith(requirement, testOutcomes)));
+        }
+    }
+
+    private Set<String> idsOf(TestOutcomes testOutcomes) {
+        return testOutcomes.getOutcomes().stream().map(TestOutcome::getId).collect(Collectors.toSet());
+    }
+
+    private Set<String> idsOfOutcomesTaggedWith(Requirement requirement, TestOutcomes testOutcomes) {
+        Set<TestTag> requirementTags = RequirementsTree.forRequirement(requirement).asFlattenedList().stream()
+                .map(Requirement::asTag)
+                .collect(Collectors.toSet());
+        return testOutcomes.getOutcomes().stream()
+                .filter(outcome -> requirementTags.stream().anyMatch(tag -> outcome.hasTag(tag) || outcome.hasAMoreGeneralFormOfTag(tag)))
+                .map(TestOutcome::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private int countOf(RequirementsOutcomes outcomes, Predicate<RequirementOutcome> status) {
+        return (int) outcomes.getRequirementOutcomes().stream().filter(status).count();
+    }
 }
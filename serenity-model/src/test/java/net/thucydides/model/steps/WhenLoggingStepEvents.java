@@ -10,10 +10,17 @@ import net.thucydides.model.util.EnvironmentVariables;
 import net.thucydides.model.environment.MockEnvironmentVariables;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.slf4j.Logger;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 
 public class WhenLoggingStepEvents {
@@ -270,6 +277,61 @@ public class WhenLoggingStepEvents {
         verify(logger).info(contains("PENDING STEP ({})"), eq("for some reason"));
     }
 
+    @Test
+    public void should_write_all_of_the_console_logs_by_the_end_of_the_test_suite_in_asynchronous_mode() {
+        environmentVariables.setProperty("serenity.console.async", "true");
+        Logger asyncLogger = mock(Logger.class);
+        Set<String> writingThreads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> writingThreads.add(Thread.currentThread().getName())).when(asyncLogger).info(anyString());
+        ConsoleLoggingListener asyncListener = new ConsoleLoggingListener(environmentVariables, asyncLogger);
+
+        asyncListener.testSuiteStarted(SomeTestClass.class);
+        asyncListener.testStarted("some_test");
+        asyncListener.testFinished(successfulTestOutcome());
+        asyncListener.testSuiteFinished();
+
+        InOrder inOrder = inOrder(asyncLogger);
+        inOrder.verify(asyncLogger).info(contains(ConsoleLoggingListener.SERENITY_BIG_BANNER));
+        inOrder.verify(asyncLogger).info(contains("Test Suite Started: Some test class"));
+        inOrder.verify(asyncLogger).info(contains(consoleHeading.bannerFor(ConsoleEvent.TEST_STARTED, "some_test")));
+        inOrder.verify(asyncLogger).info(contains(consoleHeading.bannerFor(ConsoleEvent.TEST_PASSED, "Some test")));
+        assertThat(writingThreads, is(Collections.singleton("serenity-console-writer")));
+    }
+
+    @Test
+    public void should_only_log_test_results_in_plain_text_in_compact_mode() {
+        environmentVariables.setProperty("serenity.console.compact", "true");
+        Logger compactLogger = mock(Logger.class);
+        ConsoleLoggingListener compactListener = new ConsoleLoggingListener(environmentVariables, compactLogger);
+
+        compactListener.testStarted("some_test");
+        compactListener.testFinished(successfulTestOutcome());
+
+        verify(compactLogger).info(contains(ConsoleLoggingListener.SERENITY_NONE_BANNER));
+        verify(compactLogger, never()).info(contains("some_test"));
+        verify(compactLogger).info(contains("Test Passed: Some test"));
+        verify(compactLogger, never()).info(contains("_____"));
+    }
+
+    @Test
+    public void should_render_the_description_between_the_heading_and_the_underline_of_a_banner() {
+        environmentVariables.setProperty("serenity.console.headings", "normal");
+        ConsoleHeading normalHeading = new ConsoleHeading(environmentVariables);
+
+        assertThat(normalHeading.bannerFor(ConsoleEvent.TEST_PASSED, "Some test"),
+                is("- TEST PASSED\nSome test\n-------------"));
+        assertThat(normalHeading.bannerFor(ConsoleEvent.TEST_PASSED, "Another test"),
+                is("- TEST PASSED\nAnother test\n-------------"));
+    }
+
+    @Test
+    public void should_render_a_banner_as_a_single_line_without_headings() {
+        environmentVariables.setProperty("serenity.console.headings", "none");
+        ConsoleHeading plainHeading = new ConsoleHeading(environmentVariables);
+
+        assertThat(plainHeading.bannerFor(ConsoleEvent.TEST_PASSED, "Some test"), is("Test Passed: Some test"));
+    }
+
     private TestOutcome pendingTestOutcome() {
         TestOutcome testOutcome = TestOutcome.forTest("some_test", SomeTestClass.class);
         testOutcome.recordStep(TestStepFactory.forAPendingTestStepCalled("do_something"));
@@ -2,8 +2,11 @@ package net.serenitybdd.reports.navigator
 
 import net.serenitybdd.model.di.ModelInfrastructure
 import net.serenitybdd.model.environment.EnvironmentSpecificConfiguration
-import net.serenitybdd.reports.io.testOutcomesIn
 import net.thucydides.core.reports.ExtendedReport
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.reports.OutcomeFormat
+import net.thucydides.model.reports.TestOutcomeLoader
+import net.thucydides.model.reports.TestOutcomes
 import net.thucydides.model.util.EnvironmentVariables
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream
@@ -49,10 +52,21 @@ class GenerateReport(
     this.outputDirectory = outputDirectory
   }
 
-  override fun generateReport(): Path {
+  /**
+   * Each outcome is loaded from the source directory only when it is written to the report, and can then be
+   * discarded, so the outcomes never all need to be in memory at the same time.
+   */
+  override fun generateReport(): Path =
+      TestOutcomeLoader(environmentVariables).forFormat(OutcomeFormat.JSON).streamFrom(sourceDirectory.toFile()).use {
+        generateReportFrom(it.iterator().asSequence())
+      }
+
+  override fun generateReportFrom(testOutcomes: TestOutcomes): Path = generateReportFrom(testOutcomes.outcomes.asSequence())
+
+  private fun generateReportFrom(testOutcomes: Sequence<TestOutcome>): Path {
     val tmpDir = Files.createTempDirectory("serenity")
     extractArchive(tmpDir)
-    fillTemplateAndWriteToReportDirectory(tmpDir)
+    fillTemplateAndWriteToReportDirectory(tmpDir, testOutcomes)
     copyAllOtherNavigatorResources(tmpDir)
     if (!tmpDir.toFile().deleteRecursively()) {
       logging.error("could not delete $tmpDir")
@@ -81,7 +95,7 @@ class GenerateReport(
     }
   }
 
-  private fun fillTemplateAndWriteToReportDirectory(templateDirectory: Path) {
+  private fun fillTemplateAndWriteToReportDirectory(templateDirectory: Path, testOutcomes: Sequence<TestOutcome>) {
     val indexHtml = templateDirectory.resolve("index.html")
     val lines = Files.lines(indexHtml).collect(Collectors.toList())
 
@@ -94,24 +108,28 @@ class GenerateReport(
 
     val navigatorRoot = outputDirectory.resolve("navigator")
     navigatorRoot.toFile().mkdirs()
-    val writer = FileWriter(navigatorRoot.resolve("index.html").toFile())
-    writer.write(split[0])
-    writer.write("<script type=\"text/javascript\">window.outcomes=[")
-
-    // Fetch the test outcomes
-    val testOutcomes = testOutcomesIn(sourceDirectory)
-    testOutcomes.outcomes
-        .map { it.toJson() }
-        .joinToString(",")
-        .let { writer.write(it) }
-
-    writer.write("];</script>")
-    writer.write(split[1])
-
-    writer.flush()
-    writer.close()
+
+    val outcomeShards = OutcomeShards(navigatorRoot.resolve(OUTCOMES_DIRECTORY), maxShardSizeIn(environmentVariables),
+                                      environmentVariables = environmentVariables)
+    val shards = outcomeShards.write(testOutcomes)
+
+    // The navigator scripts read the outcomes as soon as they run, so the outcome loader adds them once it is done
+    val navigatorScripts = NAVIGATOR_SCRIPT.findAll(split[1]).map { "\"${it.groupValues[1]}\"" }.toList()
+
+    FileWriter(navigatorRoot.resolve("index.html").toFile()).use { writer ->
+      writer.write(split[0])
+      writer.write("<script type=\"text/javascript\">")
+      writer.write("window.outcomeIndex=${outcomeShards.indexOf(shards)};")
+      writer.write("window.navigatorScripts=[${navigatorScripts.joinToString(",")}];")
+      writer.write(outcomeLoader())
+      writer.write("</script>")
+      writer.write(split[1].replace(NAVIGATOR_SCRIPT, ""))
+    }
   }
 
+  private fun outcomeLoader(): String =
+      this.javaClass.getResourceAsStream("outcome-loader.js")!!.use { IOUtils.toString(it, Charsets.UTF_8) }
+
   private fun extractArchive(outputDir: Path) {
     try {
       val i = TarArchiveInputStream(
@@ -150,6 +168,10 @@ class GenerateReport(
 
   companion object {
     val logging: Log = LogFactory.getLog(GenerateReport::class.java)
+
+    const val OUTCOMES_DIRECTORY = "outcomes"
+
+    private val NAVIGATOR_SCRIPT = Regex("<script src=\"([^\"]+)\"></script>")
   }
 
 }
@@ -157,3 +179,5 @@ class GenerateReport(
 fun outputDirectoryDefinedIn(environmentVariables: EnvironmentVariables): Path = ReportNavigator.outputDirectory().configuredIn(environmentVariables)
 
 fun sourceDirectoryDefinedIn(environmentVariables: EnvironmentVariables): Path = ReportNavigator.outputDirectory().configuredIn(environmentVariables)
+
+fun maxShardSizeIn(environmentVariables: EnvironmentVariables): Long = ReportNavigator.shardSize().configuredIn(environmentVariables) * 1024L
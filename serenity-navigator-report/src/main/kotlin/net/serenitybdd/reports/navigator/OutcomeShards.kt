@@ -0,0 +1,115 @@
+package net.serenitybdd.reports.navigator
+
+import net.serenitybdd.model.di.ModelInfrastructure
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.reports.json.gson.GsonJSONConverter
+import net.thucydides.model.util.EnvironmentVariables
+import org.apache.commons.io.output.CloseShieldOutputStream
+import org.apache.commons.io.output.CountingOutputStream
+import java.io.BufferedOutputStream
+import java.io.OutputStream
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Streams the JSON form of each test outcome straight to disk, in a series of script files (shards) that each add
+ * their outcomes to `window.outcomes`. A new shard is started once the current one reaches the maximum shard size,
+ * so neither the report generation nor the browser ever has to handle a single huge file.
+ * A small `index.json` file lists the shards and the number of outcomes in each one; the report page embeds the same
+ * index and loads the shards from it once the page itself has loaded.
+ * Data tables are always written row by row, as the navigator does not read the columnar form.
+ */
+class OutcomeShards(private val shardDirectory: Path,
+                    private val maxShardSize: Long = DEFAULT_MAX_SHARD_SIZE,
+                    private val maxOutcomesPerShard: Int = MAX_OUTCOMES_PER_SHARD,
+                    environmentVariables: EnvironmentVariables = ModelInfrastructure.getEnvironmentVariables()) {
+
+    private val jsonConverter = GsonJSONConverter(environmentVariables, false)
+
+    fun write(outcomes: Iterable<TestOutcome>): List<Shard> = write(outcomes.asSequence())
+
+    /**
+     * Outcomes are read from the sequence one at a time, so they can be loaded lazily as they are written.
+     */
+    fun write(outcomes: Sequence<TestOutcome>): List<Shard> {
+        Files.createDirectories(shardDirectory)
+        removeShardsFromPreviousRuns()
+        val shards = mutableListOf<Shard>()
+        var shard: ShardWriter? = null
+        try {
+            for (outcome in outcomes) {
+                if (shard != null && shard.isFull()) {
+                    shards.add(shard.close())
+                    shard = null
+                }
+                val currentShard = shard ?: ShardWriter(shardDirectory.resolve(shardName(shards.size)))
+                currentShard.write(outcome)
+                shard = currentShard
+            }
+        } finally {
+            shard?.let { shards.add(it.close()) }
+        }
+        Files.write(shardDirectory.resolve("index.json"), indexOf(shards).toByteArray(Charsets.UTF_8))
+        return shards
+    }
+
+    private fun removeShardsFromPreviousRuns() {
+        Files.newDirectoryStream(shardDirectory, "outcomes-*.js").use { previousShards ->
+            previousShards.forEach { Files.delete(it) }
+        }
+    }
+
+    private fun shardName(index: Int) = "outcomes-%04d.js".format(index)
+
+    /**
+     * The JSON index of a set of shards, as written to `index.json`.
+     */
+    fun indexOf(shards: List<Shard>): String {
+        val shardEntries = shards.joinToString(",") { """{"file":"${it.file}","outcomes":${it.outcomes}}""" }
+        return """{"outcomes":${shards.sumOf { it.outcomes }},"shards":[$shardEntries]}"""
+    }
+
+    private inner class ShardWriter(private val file: Path) {
+        private val output = CountingOutputStream(BufferedOutputStream(Files.newOutputStream(file)))
+        private var outcomeCount = 0
+
+        init {
+            output.write(SHARD_START)
+        }
+
+        fun isFull() = output.byteCount >= maxShardSize || outcomeCount >= maxOutcomesPerShard
+
+        fun write(outcome: TestOutcome) {
+            if (outcomeCount > 0) {
+                output.write(SEPARATOR)
+            }
+            jsonConverter.toJson(outcome, keepOpen(output))
+            outcomeCount++
+        }
+
+        fun close(): Shard {
+            output.use { it.write(SHARD_END) }
+            return Shard(file.fileName.toString(), outcomeCount)
+        }
+    }
+
+    /**
+     * The JSON converter closes the stream it writes to.
+     */
+    private fun keepOpen(outputStream: OutputStream): OutputStream = CloseShieldOutputStream(outputStream)
+
+    data class Shard(val file: String, val outcomes: Int)
+
+    companion object {
+        const val DEFAULT_MAX_SHARD_SIZE = 4L * 1024 * 1024
+
+        /**
+         * Keeps each shard well under the number of arguments a browser accepts in a single function call.
+         */
+        const val MAX_OUTCOMES_PER_SHARD = 5000
+
+        private val SHARD_START = "window.outcomes.push(".toByteArray(Charsets.UTF_8)
+        private val SEPARATOR = ",\n".toByteArray(Charsets.UTF_8)
+        private val SHARD_END = ");\n".toByteArray(Charsets.UTF_8)
+    }
+}
@@ -14,5 +14,12 @@ sealed class ReportNavigator {
 
     companion object {
         fun outputDirectory(): ReportProperty<Path> = ConfiguredOutputDirectoryProperty()
+
+        /**
+         * The maximum size of each file of test outcomes, in kilobytes (default 4096)
+         */
+        fun shardSize(): ReportProperty<Int> = IntReportProperty("serenity.navigator.shard.size", DEFAULT_SHARD_SIZE_IN_KB)
+
+        const val DEFAULT_SHARD_SIZE_IN_KB = 4096
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Loads the test outcomes listed in window.outcomeIndex into window.outcomes, then starts the navigator.
+ * The navigator reads all of the outcomes when it starts, so its scripts are only added once every shard is loaded.
+ * Shards are fetched in the background and parsed as JSON when the report is served over HTTP. Browsers do not
+ * allow fetch() on pages opened straight from disk, so there the shards are added as scripts instead.
+ */
+(function () {
+    var SHARD_START = "window.outcomes.push(";
+    var SHARD_END = ");\n";
+
+    window.outcomes = [];
+
+    function fetchShard(shard) {
+        return fetch("outcomes/" + shard.file).then(function (response) {
+            if (!response.ok) {
+                throw new Error("Could not load " + shard.file + ": " + response.status);
+            }
+            return response.text();
+        }).then(function (shardScript) {
+            return JSON.parse("[" + shardScript.substring(SHARD_START.length, shardScript.length - SHARD_END.length) + "]");
+        });
+    }
+
+    function fetchShards() {
+        return Promise.all(window.outcomeIndex.shards.map(fetchShard)).then(function (shards) {
+            shards.forEach(function (outcomes) {
+                for (var i = 0; i < outcomes.length; i++) {
+                    window.outcomes.push(outcomes[i]);
+                }
+            });
+        });
+    }
+
+    function addScript(src) {
+        return new Promise(function (resolve, reject) {
+            var script = document.createElement("script");
+            script.src = src;
+            script.async = false;
+            script.onload = resolve;
+            script.onerror = reject;
+            document.body.appendChild(script);
+        });
+    }
+
+    function addShardsAsScripts() {
+        return Promise.all(window.outcomeIndex.shards.map(function (shard) {
+            return addScript("outcomes/" + shard.file);
+        }));
+    }
+
+    function documentIsReady() {
+        return new Promise(function (resolve) {
+            if (document.readyState === "loading") {
+                document.addEventListener("DOMContentLoaded", resolve);
+            } else {
+                resolve();
+            }
+        });
+    }
+
+    function startNavigator() {
+        window.navigatorScripts.forEach(addScript);
+    }
+
+    var outcomesLoaded = (window.fetch && location.protocol !== "file:")
+        ? fetchShards().catch(addShardsAsScripts)
+        : addShardsAsScripts();
+
+    Promise.all([outcomesLoaded, documentIsReady()]).then(startNavigator);
+})();
@@ -2,11 +2,18 @@ package net.serenitybdd.reports.navigator
 
 import net.thucydides.model.util.EnvironmentVariables
 import net.thucydides.model.environment.MockEnvironmentVariables
+import net.thucydides.model.domain.DataTable
+import net.thucydides.model.domain.DataTableRow
+import net.thucydides.model.domain.Story
+import net.thucydides.model.domain.TestOutcome
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.TestInstance
+import net.thucydides.model.reports.OutcomeFormat
+import net.thucydides.model.reports.TestOutcomeLoader
 import java.io.File
+import java.nio.file.Files
 import java.nio.file.Path
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -38,8 +45,75 @@ class WhenGeneratingFromAReportNavigatorTemplate {
         }
 
         @Test
-        fun `should contain outcomes`() {
-            assertThat(reportContents).contains("window.outcomes=[{")
+        fun `should only embed the index of the outcome files`() {
+            assertThat(reportContents).contains("""window.outcomeIndex={"outcomes":2,"shards":[{"file":"outcomes-0000.js","outcomes":2}]};""")
+            assertThat(reportContents).doesNotContain("src=\"outcomes/")
+            assertThat(reportContents).contains("fetch(\"outcomes/\" + shard.file)")
+        }
+
+        @Test
+        fun `should only start the navigator once the outcomes are loaded`() {
+            assertThat(reportContents).contains("window.navigatorScripts=[\"./static/js/2.cae90c51.chunk.js\",\"./static/js/main.564ef671.chunk.js\"];")
+            assertThat(reportContents).doesNotContain("<script src=")
+        }
+
+        @Test
+        fun `should write the outcomes to disk as scripts`() {
+            val shard = generatedReport.parent.resolve("outcomes").resolve("outcomes-0000.js").toFile().readText()
+            assertThat(shard).startsWith("window.outcomes.push({")
+            assertThat(shard).endsWith(");\n")
+        }
+
+        @Test
+        fun `should list the outcome files in an index`() {
+            val index = generatedReport.parent.resolve("outcomes").resolve("index.json").toFile().readText()
+            assertThat(index).isEqualTo("""{"outcomes":2,"shards":[{"file":"outcomes-0000.js","outcomes":2}]}""")
+        }
+    }
+
+    @Nested
+    inner class WithSmallShards {
+
+        @Test
+        fun `should split the outcomes across several files`() {
+            val shardDirectory = Files.createTempDirectory("shards")
+            val outcomes = TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.JSON).from(outcomesDir.toFile()).outcomes
+
+            val shards = OutcomeShards(shardDirectory, maxShardSize = 1).write(outcomes)
+
+            assertThat(shards.map { it.file }).containsExactly("outcomes-0000.js", "outcomes-0001.js")
+            assertThat(shards.map { it.outcomes }).containsExactly(1, 1)
+        }
+
+        @Test
+        fun `should write each outcome before reading the next one`() {
+            val shardDirectory = Files.createTempDirectory("shards")
+            val outcomes = TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.JSON).from(outcomesDir.toFile()).outcomes
+            val shardsWrittenBeforeEachOutcomeWasRead = mutableListOf<Long>()
+            val lazilyReadOutcomes = outcomes.asSequence().onEach {
+                shardsWrittenBeforeEachOutcomeWasRead.add(Files.list(shardDirectory).use { files ->
+                    files.filter { file -> file.fileName.toString().startsWith("outcomes-") }.count()
+                })
+            }
+
+            OutcomeShards(shardDirectory).write(lazilyReadOutcomes)
+
+            assertThat(shardsWrittenBeforeEachOutcomeWasRead).containsExactly(0L, 1L)
+        }
+
+        @Test
+        fun `should write data tables row by row even when the JSON outcomes store them column by column`() {
+            val shardDirectory = Files.createTempDirectory("shards")
+            val columnarEnvironment = MockEnvironmentVariables()
+            columnarEnvironment.setProperty("json.columnar.data.tables", "true")
+            val outcome = TestOutcome.forTestInStory("a data driven test", Story.called("a story"))
+            outcome.useExamplesFrom(DataTable.withHeaders(listOf("city")).andRowData(listOf(DataTableRow(listOf("Paris")))).build())
+
+            OutcomeShards(shardDirectory, environmentVariables = columnarEnvironment).write(listOf(outcome))
+
+            val shard = shardDirectory.resolve("outcomes-0000.js").toFile().readText()
+            assertThat(shard).contains("\"rows\"")
+            assertThat(shard).doesNotContain("\"columns\"")
         }
     }
 
@@ -434,7 +434,7 @@
                                 </#if>
                                 <#if restQuery.content?has_content>
                                     <h4>Content Body</h4>
-                                    <pre>${(formatter.renderText(restQuery.content))!}</pre>
+                                    <pre>${(formatter.renderBody(restQuery.content, restQuery.contentType!""))!}</pre>
                                 </#if>
                                 <#if restQuery.requestCookies?has_content>
                                     <h4>Request Cookies</h4>
@@ -446,7 +446,7 @@
                                 </#if>
                                 <h4>Response Body</h4>
                                 <#if restQuery.responseHeaders?has_content>
-                                    <pre>${formatter.renderText(restQuery.responseBody)}</pre>
+                                    <pre>${formatter.renderResponseBody(restQuery.responseBody, restQuery.responseHeaders!"")}</pre>
                                 </#if>
                                 <#if restQuery.responseCookies?has_content && (!(restQuery.requestCookies?has_content) || restQuery.responseCookies!=restQuery.requestCookies)>
                                     <h4>Response Cookies</h4>
@@ -1,5 +1,7 @@
 package net.thucydides.core.reports;
 
+import net.thucydides.model.reports.TestOutcomes;
+
 import java.nio.file.Path;
 
 public interface ExtendedReport {
@@ -9,4 +11,21 @@ public interface ExtendedReport {
     void setOutputDirectory(Path outputDirectory);
     Path generateReport();
     default void setProjectDirectory(String path) {};
+
+    /**
+     * Generate the report from test outcomes that have already been loaded, e.g. by the aggregate report.
+     * Reports that do not override this method load the test outcomes from the source directory themselves.
+     */
+    default Path generateReportFrom(TestOutcomes testOutcomes) {
+        return generateReport();
+    }
+
+    /**
+     * Reports that only read the test outcomes they are given, without changing them or relying on their lazily
+     * calculated values being computed by a single thread, can return true to be generated at the same time as
+     * other such reports. Other reports are generated one at a time.
+     */
+    default boolean canBeGeneratedConcurrently() {
+        return false;
+    }
 }
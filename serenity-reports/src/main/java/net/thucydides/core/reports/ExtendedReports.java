@@ -1,11 +1,23 @@
 package net.thucydides.core.reports;
 
+import net.thucydides.model.reports.NumberOfThreads;
+import net.thucydides.model.reports.OutcomeFormat;
+import net.thucydides.model.reports.TestOutcomeLoader;
+import net.thucydides.model.reports.TestOutcomes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 public class ExtendedReports {
@@ -25,6 +37,76 @@ public class ExtendedReports {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Loads the JSON test outcomes in the source directory once, and generates each of the reports from them.
+     * The reports get all of the test outcomes, as they were recorded, just as if they had loaded them themselves.
+     */
+    public static List<Path> generateAllFrom(List<ExtendedReport> reports, Path sourceDirectory) throws IOException {
+        if (reports.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return generateAll(reports, TestOutcomeLoader.loadTestOutcomes().inFormat(OutcomeFormat.JSON).from(sourceDirectory.toFile()));
+    }
+
+    /**
+     * Generates each of the reports from the same set of test outcomes, rather than having each report load and
+     * parse the JSON results again. Reports are generated one at a time, apart from the reports that declare that
+     * they can be generated concurrently, which are then generated together.
+     * The generated reports are returned in the same order as the reports.
+     */
+    public static List<Path> generateAll(List<ExtendedReport> reports, TestOutcomes testOutcomes) {
+        Map<ExtendedReport, Path> reportPaths = new LinkedHashMap<>();
+        List<ExtendedReport> concurrentReports = new ArrayList<>();
+        for (ExtendedReport report : reports) {
+            if (report.canBeGeneratedConcurrently()) {
+                concurrentReports.add(report);
+            } else {
+                reportPaths.put(report, report.generateReportFrom(testOutcomes));
+            }
+        }
+        reportPaths.putAll(generateConcurrently(concurrentReports, testOutcomes));
+
+        List<Path> generatedReports = new ArrayList<>();
+        for (ExtendedReport report : reports) {
+            generatedReports.add(reportPaths.get(report));
+        }
+        return generatedReports;
+    }
+
+    private static Map<ExtendedReport, Path> generateConcurrently(List<ExtendedReport> reports, TestOutcomes testOutcomes) {
+        Map<ExtendedReport, Path> reportPaths = new LinkedHashMap<>();
+        if (reports.isEmpty()) {
+            return reportPaths;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(reports.size(), NumberOfThreads.forIOOperations()));
+        try {
+            Map<ExtendedReport, Future<Path>> generatedReports = new LinkedHashMap<>();
+            reports.forEach(
+                    report -> generatedReports.put(report, executorService.submit(() -> report.generateReportFrom(testOutcomes)))
+            );
+            for (Map.Entry<ExtendedReport, Future<Path>> generatedReport : generatedReports.entrySet()) {
+                reportPaths.put(generatedReport.getKey(), waitFor(generatedReport.getValue()));
+            }
+            return reportPaths;
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static Path waitFor(Future<Path> generatedReport) {
+        try {
+            return generatedReport.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating extended reports", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to generate extended report", e.getCause());
+        }
+    }
+
     private static void ensureAllReportsExistForReportNames(List<String> reportNames) {
 
         List<String> knownReports = getReports().stream().map(ExtendedReport::getName).collect(Collectors.toList());
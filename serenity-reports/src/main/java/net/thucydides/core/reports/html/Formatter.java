@@ -147,6 +147,24 @@ public class Formatter {
                 .replaceAll(TAB, FOUR_SPACES);
     }
 
+    /**
+     * Render a request or response body recorded for a REST call, pretty-printing JSON, XML and HTML content.
+     */
+    public String renderBody(String body) {
+        return renderText(PrettyPrintedBody.of(body));
+    }
+
+    public String renderBody(String body, String contentType) {
+        return renderText(PrettyPrintedBody.of(body, contentType));
+    }
+
+    /**
+     * Render a response body recorded for a REST call, using the content type found in the response headers.
+     */
+    public String renderResponseBody(String body, String responseHeaders) {
+        return renderText(PrettyPrintedBody.ofResponse(body, responseHeaders));
+    }
+
     public String renderHeaders(String text) {
         if (text == null) {
             return "";
@@ -0,0 +1,173 @@
+package net.thucydides.core.reports.html;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.ErrorListener;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Formats the JSON, XML and HTML bodies recorded for REST calls when the report is rendered.
+ * JSON is recognised from the body itself; markup is treated as HTML or XML depending on the content type if it is known,
+ * or on how the body starts otherwise.
+ * Bodies that cannot be parsed, for example because they were truncated when they were recorded, are left as they are,
+ * without the XML parser reporting the errors on the console.
+ */
+class PrettyPrintedBody {
+
+    private static final Gson PRETTY_PRINTER = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private static final Pattern CONTENT_TYPE_HEADER = Pattern.compile("^\\s*content-type\\s*[:=]\\s*(.+)$",
+                                                                       Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+
+    static String of(String body) {
+        return of(body, null);
+    }
+
+    static String of(String body, String contentType) {
+        if (body == null) {
+            return null;
+        }
+        String trimmedBody = body.trim();
+        if (trimmedBody.startsWith("{") || trimmedBody.startsWith("[")) {
+            return prettyJson(trimmedBody, body);
+        }
+        if (trimmedBody.startsWith("<")) {
+            return isHtml(trimmedBody, contentType) ? prettyHtml(trimmedBody) : prettyXml(trimmedBody, body);
+        }
+        return body;
+    }
+
+    /**
+     * Formats a response body using the content type recorded in the response headers, if there is one.
+     */
+    static String ofResponse(String body, String responseHeaders) {
+        return of(body, contentTypeIn(responseHeaders));
+    }
+
+    static String contentTypeIn(String headers) {
+        if (headers == null) {
+            return null;
+        }
+        Matcher contentType = CONTENT_TYPE_HEADER.matcher(headers);
+        return contentType.find() ? contentType.group(1).trim() : null;
+    }
+
+    private static boolean isHtml(String markup, String contentType) {
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("html")) {
+            return true;
+        }
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("xml")) {
+            return false;
+        }
+        String start = markup.substring(0, Math.min(markup.length(), 14)).toLowerCase(Locale.ROOT);
+        return start.startsWith("<!doctype html") || start.startsWith("<html");
+    }
+
+    private static String prettyJson(String json, String body) {
+        try {
+            JsonElement element = JsonParser.parseString(json);
+            return PRETTY_PRINTER.toJson(element);
+        } catch (JsonParseException | IllegalStateException notJson) {
+            return body;
+        }
+    }
+
+    private static String prettyXml(String xml, String body) {
+        try {
+            TransformerFactory factory = TransformerFactory.newInstance();
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+            factory.setErrorListener(SILENTLY);
+            Transformer transformer = factory.newTransformer();
+            transformer.setErrorListener(SILENTLY);
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
+            StringWriter prettyXml = new StringWriter();
+            transformer.transform(new SAXSource(silentXmlReader(), new InputSource(new StringReader(xml))),
+                                  new StreamResult(prettyXml));
+            return prettyXml.toString();
+        } catch (TransformerException | SAXException | ParserConfigurationException | IllegalArgumentException notXml) {
+            return body;
+        }
+    }
+
+    /**
+     * The default XML parser error handler prints "[Fatal Error]" messages to stderr before the error is thrown.
+     */
+    private static XMLReader silentXmlReader() throws ParserConfigurationException, SAXException {
+        SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+        parserFactory.setNamespaceAware(true);
+        parserFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        XMLReader reader = parserFactory.newSAXParser().getXMLReader();
+        reader.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        reader.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        reader.setErrorHandler(SILENTLY);
+        return reader;
+    }
+
+    private static final SilentErrors SILENTLY = new SilentErrors();
+
+    /**
+     * Turns XML errors into exceptions, without logging them.
+     */
+    private static class SilentErrors implements ErrorListener, ErrorHandler {
+        @Override
+        public void warning(TransformerException exception) {
+        }
+
+        @Override
+        public void error(TransformerException exception) throws TransformerException {
+            throw exception;
+        }
+
+        @Override
+        public void fatalError(TransformerException exception) throws TransformerException {
+            throw exception;
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+        }
+
+        @Override
+        public void error(SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+    }
+
+    private static String prettyHtml(String html) {
+        Document document = Jsoup.parse(html);
+        document.outputSettings().prettyPrint(true).indentAmount(2);
+        return document.outerHtml();
+    }
+}
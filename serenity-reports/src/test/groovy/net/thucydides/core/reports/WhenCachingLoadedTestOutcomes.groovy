@@ -0,0 +1,85 @@
+package net.thucydides.core.reports
+
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.domain.TestResult
+import net.thucydides.model.domain.TestTag
+import net.thucydides.model.reports.OutcomeFormat
+import net.thucydides.model.reports.TestOutcomeCache
+import net.thucydides.model.reports.TestOutcomeLoader
+import net.thucydides.model.reports.json.JSONTestOutcomeReporter
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.attribute.FileTime
+
+class WhenCachingLoadedTestOutcomes extends Specification {
+
+    File outputDirectory
+    File report
+    def loader = new TestOutcomeLoader().forFormat(OutcomeFormat.JSON)
+
+    class SomeTestScenario {
+        void a_simple_test_case() {}
+    }
+
+    def setup() {
+        outputDirectory = Files.createTempDirectory("cached-outcomes").toFile()
+        outputDirectory.deleteOnExit()
+        report = storedOutcome(TestStepFactory.forASuccessfulTestStepCalled("step 1"))
+    }
+
+    def cleanup() {
+        TestOutcomeCache.shared().disable()
+    }
+
+    File storedOutcome(def step) {
+        def outcome = TestOutcome.forTest("a_simple_test_case", SomeTestScenario)
+        outcome.recordStep(step)
+        def reporter = new JSONTestOutcomeReporter()
+        reporter.setOutputDirectory(outputDirectory)
+        return reporter.generateReportFor(outcome)
+    }
+
+    def "should read the outcome files each time they are loaded by default"() {
+        when:
+        def firstOutcome = loader.loadFrom(outputDirectory)[0]
+        def secondOutcome = loader.loadFrom(outputDirectory)[0]
+        then:
+        !firstOutcome.userStory.is(secondOutcome.userStory)
+    }
+
+    def "should only read each outcome file once when the cache is enabled"() {
+        given:
+        TestOutcomeCache.shared().enable()
+        when:
+        def firstOutcome = loader.loadFrom(outputDirectory)[0]
+        def secondOutcome = new TestOutcomeLoader().forFormat(OutcomeFormat.JSON).loadFrom(outputDirectory)[0]
+        then:
+        firstOutcome.userStory.is(secondOutcome.userStory)
+    }
+
+    def "should give each caller its own copy of a cached outcome's tags"() {
+        given:
+        TestOutcomeCache.shared().enable()
+        def firstOutcome = loader.loadFrom(outputDirectory)[0]
+        when:
+        firstOutcome.addTag(TestTag.withName("Under 1 second").andType("Duration"))
+        def secondOutcome = loader.loadFrom(outputDirectory)[0]
+        then:
+        firstOutcome.tags.contains(TestTag.withName("Under 1 second").andType("Duration"))
+        !secondOutcome.tags.contains(TestTag.withName("Under 1 second").andType("Duration"))
+    }
+
+    def "should read outcome files again when they have changed"() {
+        given:
+        TestOutcomeCache.shared().enable()
+        def firstOutcome = loader.loadFrom(outputDirectory)[0]
+        when:
+        storedOutcome(TestStepFactory.forABrokenTestStepCalled("step 1", new AssertionError("Oh no")))
+        Files.setLastModifiedTime(report.toPath(), FileTime.fromMillis(report.lastModified() + 1000))
+        def secondOutcome = loader.loadFrom(outputDirectory)[0]
+        then:
+        firstOutcome.result == TestResult.SUCCESS
+        secondOutcome.result == TestResult.FAILURE
+    }
+}
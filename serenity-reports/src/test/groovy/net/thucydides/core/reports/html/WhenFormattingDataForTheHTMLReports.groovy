@@ -43,6 +43,58 @@ class WhenFormattingDataForTheHTMLReports extends Specification {
         "https://jsonplaceholder.typicode.com?foo=1&ugrave=2" | "https://jsonplaceholder.typicode.com?foo=1&amp;ugrave=2"
     }
 
+    def "should pretty-print recorded JSON bodies when the report is rendered"() {
+        expect:
+        def formatter = new Formatter()
+        formatter.renderBody('{"id":1,"tags":["a"]}') == formatter.renderText('{\n  "id": 1,\n  "tags": [\n    "a"\n  ]\n}')
+    }
+
+    def "should render truncated or invalid JSON bodies as they were recorded"() {
+        expect:
+        def formatter = new Formatter()
+        formatter.renderBody('{"id":1,"na\n... [truncated: 20 more bytes]') == formatter.renderText('{"id":1,"na\n... [truncated: 20 more bytes]')
+    }
+
+    def "should pretty-print recorded XML bodies that have no XML declaration"() {
+        expect:
+        def formatter = new Formatter()
+        formatter.renderBody('<order><id>1</id></order>', "application/xml").contains("<br>  &lt;id&gt;1&lt;/id&gt;")
+    }
+
+    def "should pretty-print recorded HTML bodies"() {
+        expect:
+        def formatter = new Formatter()
+        formatter.renderBody(body, contentType).contains("<br>  &lt;body&gt;")
+        where:
+        body                                                    | contentType
+        '<html><head></head><body><p>Hi</p></body></html>'      | "text/html; charset=UTF-8"
+        '<!DOCTYPE html><html><body><p>Hi<br></p></body></html>' | ""
+    }
+
+    def "should format response bodies using the content type from the response headers"() {
+        expect:
+        def formatter = new Formatter()
+        formatter.renderResponseBody('<p>Hi</p>', "Server: test\nContent-Type: text/html; charset=UTF-8\n").contains("<br>  &lt;body&gt;")
+    }
+
+    def "should render markup that is not XML as it was recorded without reporting parser errors"() {
+        given:
+        def formatter = new Formatter()
+        def standardError = System.err
+        def errorOutput = new ByteArrayOutputStream()
+        System.setErr(new PrintStream(errorOutput))
+        when:
+        def renderedBody
+        try {
+            renderedBody = formatter.renderBody('<order><id>1</order>', "application/xml")
+        } finally {
+            System.setErr(standardError)
+        }
+        then:
+        renderedBody == formatter.renderText('<order><id>1</order>')
+        errorOutput.size() == 0
+    }
+
     @Unroll
     def "should render story titles with foreign characters"() {
         expect:
@@ -0,0 +1,90 @@
+package net.thucydides.core.reports.json
+
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.domain.TestResult
+import net.thucydides.model.environment.MockEnvironmentVariables
+import net.thucydides.model.reports.json.JSONTestOutcomeReporter
+import net.thucydides.model.reports.json.SharedStackTraces
+import net.thucydides.model.reports.json.gson.GsonJSONConverter
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class WhenStoringSharedStackTraces extends Specification {
+
+    File outputDirectory
+    def converter = new GsonJSONConverter(new MockEnvironmentVariables())
+
+    def setup() {
+        outputDirectory = Files.createTempDirectory("shared-stack-traces").toFile()
+        outputDirectory.deleteOnExit()
+    }
+
+    class SomeTestScenario {
+        void a_failing_test() {}
+        void another_failing_test() {}
+    }
+
+    static AssertionError failureWithStackTrace() {
+        def failure = new AssertionError("Oh no")
+        failure.setStackTrace([new StackTraceElement("com.acme.CheckoutTest", "shouldPay", "CheckoutTest.java", 42),
+                               new StackTraceElement("com.acme.CheckoutSteps", "pay", "CheckoutSteps.java", 17)] as StackTraceElement[])
+        return failure
+    }
+
+    def failingOutcome(String testName) {
+        def outcome = TestOutcome.forTest(testName, SomeTestScenario)
+        outcome.setAnnotatedResult(TestResult.FAILURE)
+        outcome.determineTestFailureCause(failureWithStackTrace())
+        return outcome
+    }
+
+    File store(TestOutcome outcome) {
+        def report = new File(outputDirectory, outcome.name + ".json")
+        report.withOutputStream { converter.toJson(outcome, it, new SharedStackTraces(outputDirectory)) }
+        return report
+    }
+
+    def "should store identical stack traces only once"() {
+        when:
+        def firstReport = store(failingOutcome("a_failing_test"))
+        def secondReport = store(failingOutcome("another_failing_test"))
+
+        then:
+        new File(outputDirectory, SharedStackTraces.DIRECTORY_NAME).listFiles().length == 1
+        and:
+        !firstReport.text.contains("com.acme.CheckoutTest")
+        firstReport.text.contains("stackTraceRef")
+        !secondReport.text.contains("com.acme.CheckoutTest")
+    }
+
+    def "should restore shared stack traces when the outcomes are loaded"() {
+        given:
+        def firstReport = store(failingOutcome("a_failing_test"))
+        def secondReport = store(failingOutcome("another_failing_test"))
+        def loader = new JSONTestOutcomeReporter()
+
+        when:
+        def firstOutcome = loader.loadReportFrom(firstReport).get()
+        def secondOutcome = loader.loadReportFrom(secondReport).get()
+
+        then:
+        firstOutcome.testFailureCause.stackTraceFrames*.fileName == ["CheckoutTest.java", "CheckoutSteps.java"]
+        firstOutcome.testFailureCause.stackTraceFrames[0].lineNumber == 42
+        and:
+        firstOutcome.testFailureCause.@stackTrace.is(secondOutcome.testFailureCause.@stackTrace)
+    }
+
+    def "should read outcomes whose stack trace file is missing"() {
+        given:
+        def report = store(failingOutcome("a_failing_test"))
+        new File(outputDirectory, SharedStackTraces.DIRECTORY_NAME).listFiles().each { it.delete() }
+
+        when:
+        def outcome = new JSONTestOutcomeReporter().loadReportFrom(report).get()
+
+        then:
+        outcome.result == TestResult.FAILURE
+        outcome.testFailureCause.stackTraceFrames.isEmpty()
+    }
+}
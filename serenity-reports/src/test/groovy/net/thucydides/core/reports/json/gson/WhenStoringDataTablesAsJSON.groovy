@@ -2,6 +2,9 @@ package net.thucydides.core.reports.json.gson
 
 import net.thucydides.model.domain.DataTable
 import net.thucydides.model.domain.DataTableRow
+import net.thucydides.model.domain.Story
+import net.thucydides.model.domain.TestOutcome
+import net.thucydides.model.domain.TestResult
 import net.thucydides.model.environment.MockEnvironmentVariables
 import net.thucydides.model.reports.json.gson.GsonJSONConverter
 import org.joda.time.DateTime
@@ -9,6 +12,8 @@ import org.joda.time.LocalDateTime
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.lang.management.ManagementFactory
+
 class WhenStoringDataTablesAsJSON extends Specification {
 
     private static final DateTime FIRST_OF_JANUARY = new LocalDateTime(2013, 1, 1, 0, 0, 0, 0).toDateTime()
@@ -45,4 +50,99 @@ class WhenStoringDataTablesAsJSON extends Specification {
         table.rows[1].stringValues == ["4.0","five","6.0"]
     }
 
+    def columnarConverter() {
+        def environmentVariables = new MockEnvironmentVariables()
+        environmentVariables.setProperty("json.columnar.data.tables", "true")
+        return new GsonJSONConverter(environmentVariables)
+    }
+
+    def "should read and write a data table column by column"() {
+        given:
+        def row1 = new DataTableRow([1, "two", 3.0], 10, TestResult.SUCCESS)
+        def row2 = new DataTableRow([4, "two", 6.0], 11, TestResult.FAILURE)
+        def row3 = new DataTableRow([1, "seven"], 12, TestResult.SUCCESS)
+        def dataTable = new DataTable(["a", "b", "c"], [row1, row2, row3])
+        def columnarGson = columnarConverter().gson
+        when:
+        def renderedJson = columnarGson.toJson(dataTable)
+        and:
+        def table = columnarGson.fromJson(renderedJson, DataTable)
+        then:
+        renderedJson.contains("columns")
+        !renderedJson.contains("\"rows\"")
+        and:
+        table.headers == ["a", "b", "c"]
+        table.rows*.stringValues == [["1.0", "two", "3.0"], ["4.0", "two", "6.0"], ["1.0", "seven"]]
+        table.rows*.lineNumber == [10L, 11L, 12L]
+        table.rows*.result == [TestResult.SUCCESS, TestResult.FAILURE, TestResult.SUCCESS]
+    }
+
+    def "should share repeated values between the rows of a data table read column by column"() {
+        given:
+        def dataTable = new DataTable(["city", "country"], [new DataTableRow(["Paris", "France"]), new DataTableRow(["Lyon", "France"])])
+        def columnarGson = columnarConverter().gson
+        when:
+        def table = columnarGson.fromJson(columnarGson.toJson(dataTable), DataTable)
+        then:
+        table.rows[0].values[1].is(table.rows[1].values[1])
+    }
+
+    def "should read data tables stored row by row when writing them column by column"() {
+        given:
+        def dataTable = new DataTable(["a", "b", "c"], [new DataTableRow([1, "two", 3.0]), new DataTableRow([4, "five", 6.0])])
+        def renderedJson = converter.gson.toJson(dataTable)
+        when:
+        def table = columnarConverter().gson.fromJson(renderedJson, DataTable)
+        then:
+        table.rows[0].stringValues == ["1.0", "two", "3.0"]
+        table.rows[1].stringValues == ["4.0", "five", "6.0"]
+    }
+
+    def "should store large example tables in less space and memory column by column, without loading more slowly"() {
+        given:
+        def rows = (0..<10_000).collect { row ->
+            new DataTableRow(["user-${row % 50}".toString(), ["FR", "UK", "DE", "US"][row % 4], (row % 7).toString(), "expected outcome"],
+                    row + 10, TestResult.SUCCESS)
+        }
+        def outcome = TestOutcome.forTestInStory("a data driven test", Story.called("a story"))
+        outcome.useExamplesFrom(new DataTable(["user", "country", "quantity", "outcome"], rows))
+        def columnarJsonConverter = columnarConverter()
+        when:
+        def rowByRow = new ByteArrayOutputStream()
+        converter.toJson(outcome, rowByRow)
+        def columnByColumn = new ByteArrayOutputStream()
+        columnarJsonConverter.toJson(outcome, columnByColumn)
+        then:
+        columnByColumn.size() < rowByRow.size() / 2
+        and:
+        def loadedOutcome = converter.fromJson(new ByteArrayInputStream(columnByColumn.toByteArray())).get()
+        loadedOutcome.dataTable.rows.size() == 10_000
+        loadedOutcome.dataTable.rows[1234].stringValues == ["user-34", "UK", "2", "expected outcome"]
+        loadedOutcome.dataTable.rows[1234].lineNumber == 1244L
+        and:
+        fastestLoadTimeOf(columnByColumn.toByteArray()) <= fastestLoadTimeOf(rowByRow.toByteArray()) * 1.5
+        and:
+        retainedHeapOf(columnByColumn.toByteArray()) < retainedHeapOf(rowByRow.toByteArray()) / 2
+    }
+
+    def fastestLoadTimeOf(byte[] json) {
+        (1..5).collect {
+            def start = System.nanoTime()
+            converter.fromJson(new ByteArrayInputStream(json)).get()
+            System.nanoTime() - start
+        }.min()
+    }
+
+    def retainedHeapOf(byte[] json) {
+        def heapUsedBefore = heapUsedAfterGarbageCollection()
+        def loadedOutcomes = (1..5).collect { converter.fromJson(new ByteArrayInputStream(json)).get() }
+        def heapUsedAfter = heapUsedAfterGarbageCollection()
+        assert loadedOutcomes.size() == 5
+        return heapUsedAfter - heapUsedBefore
+    }
+
+    def heapUsedAfterGarbageCollection() {
+        3.times { System.gc() }
+        return ManagementFactory.memoryMXBean.heapMemoryUsage.used
+    }
 }
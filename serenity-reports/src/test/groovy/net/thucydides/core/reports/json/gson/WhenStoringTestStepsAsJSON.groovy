@@ -141,4 +141,37 @@ line 3
         step.equals(parentStep)
         step.getChildren().size() == 2
     }
+
+    def "should share repeated strings and empty lists between steps read from JSON"() {
+        given:
+        def firstJson = converter.gson.toJson(TestStep.forStepCalled("a repeated step").withResult(TestResult.SUCCESS)
+                .startingAt(FIRST_OF_JANUARY))
+        def secondJson = converter.gson.toJson(TestStep.forStepCalled("a repeated step").withResult(TestResult.SUCCESS)
+                .startingAt(FIRST_OF_JANUARY))
+
+        when:
+        def firstStep = converter.gson.fromJson(firstJson, TestStep)
+        def secondStep = converter.gson.fromJson(secondJson, TestStep)
+
+        then:
+        firstStep.description.is(secondStep.description)
+        and:
+        firstStep.@children.is(secondStep.@children)
+        firstStep.@screenshots.is(secondStep.@screenshots)
+    }
+
+    def "should not intern long strings"() {
+        given:
+        def longDescription = "x" * 1000
+        def json = converter.gson.toJson(TestStep.forStepCalled(longDescription).withResult(TestResult.SUCCESS)
+                .startingAt(FIRST_OF_JANUARY))
+
+        when:
+        def firstStep = converter.gson.fromJson(json, TestStep)
+        def secondStep = converter.gson.fromJson(json, TestStep)
+
+        then:
+        firstStep.description == secondStep.description
+        !firstStep.description.is(secondStep.description)
+    }
 }
@@ -0,0 +1,91 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.model.reports.TestOutcomes;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.*;
+
+public class WhenGeneratingExtendedReports {
+
+    @Test
+    public void all_the_reports_should_be_generated_from_the_same_test_outcomes() {
+        TestOutcomes testOutcomes = TestOutcomes.withNoResults();
+        ExtendedReport firstReport = mock(ExtendedReport.class);
+        ExtendedReport secondReport = mock(ExtendedReport.class);
+        when(firstReport.generateReportFrom(testOutcomes)).thenReturn(Paths.get("first.html"));
+        when(secondReport.generateReportFrom(testOutcomes)).thenReturn(Paths.get("second.html"));
+
+        List<Path> generatedReports = ExtendedReports.generateAll(Arrays.asList(firstReport, secondReport), testOutcomes);
+
+        assertThat(generatedReports, contains(Paths.get("first.html"), Paths.get("second.html")));
+        verify(firstReport, never()).generateReport();
+        verify(secondReport, never()).generateReport();
+    }
+
+    @Test
+    public void reports_should_be_generated_on_the_calling_thread_unless_they_can_be_generated_concurrently() {
+        TestOutcomes testOutcomes = TestOutcomes.withNoResults();
+        AtomicReference<Thread> concurrentReportThread = new AtomicReference<>();
+        AtomicReference<Thread> sequentialReportThread = new AtomicReference<>();
+        ExtendedReport concurrentReport = mock(ExtendedReport.class);
+        ExtendedReport sequentialReport = mock(ExtendedReport.class);
+        when(concurrentReport.canBeGeneratedConcurrently()).thenReturn(true);
+        when(concurrentReport.generateReportFrom(testOutcomes)).thenAnswer(invocation -> {
+            concurrentReportThread.set(Thread.currentThread());
+            return Paths.get("concurrent.html");
+        });
+        when(sequentialReport.generateReportFrom(testOutcomes)).thenAnswer(invocation -> {
+            sequentialReportThread.set(Thread.currentThread());
+            return Paths.get("sequential.html");
+        });
+
+        List<Path> generatedReports = ExtendedReports.generateAll(Arrays.asList(concurrentReport, sequentialReport), testOutcomes);
+
+        assertThat(generatedReports, contains(Paths.get("concurrent.html"), Paths.get("sequential.html")));
+        assertThat(sequentialReportThread.get(), is(Thread.currentThread()));
+        assertThat(concurrentReportThread.get(), is(not(Thread.currentThread())));
+    }
+
+    @Test
+    public void reports_that_can_be_generated_concurrently_should_be_generated_at_the_same_time() {
+        TestOutcomes testOutcomes = TestOutcomes.withNoResults();
+        CyclicBarrier allReportsStarted = new CyclicBarrier(2);
+        ExtendedReport firstReport = reportWaitingFor(allReportsStarted, testOutcomes, Paths.get("first.html"));
+        ExtendedReport secondReport = reportWaitingFor(allReportsStarted, testOutcomes, Paths.get("second.html"));
+
+        List<Path> generatedReports = ExtendedReports.generateAll(Arrays.asList(firstReport, secondReport), testOutcomes);
+
+        assertThat(generatedReports, contains(Paths.get("first.html"), Paths.get("second.html")));
+    }
+
+    private ExtendedReport reportWaitingFor(CyclicBarrier allReportsStarted, TestOutcomes testOutcomes, Path generatedReport) {
+        ExtendedReport report = mock(ExtendedReport.class);
+        when(report.canBeGeneratedConcurrently()).thenReturn(true);
+        when(report.generateReportFrom(testOutcomes)).thenAnswer(invocation -> {
+            allReportsStarted.await(10, TimeUnit.SECONDS);
+            return generatedReport;
+        });
+        return report;
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void report_failures_should_be_propagated() {
+        TestOutcomes testOutcomes = TestOutcomes.withNoResults();
+        ExtendedReport failingReport = mock(ExtendedReport.class);
+        when(failingReport.generateReportFrom(testOutcomes)).thenThrow(new IllegalStateException("Report failed"));
+
+        ExtendedReports.generateAll(Arrays.asList(failingReport), testOutcomes);
+    }
+}
@@ -1,34 +1,50 @@
 package net.serenitybdd.rest.filters;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.util.regex.Pattern.MULTILINE;
 
 public class BlacklistFilter {
-    private final Set<String> blacklistedHeaders;
+
+    private static final int MAX_CACHED_FILTERS = 64;
+    private static final Map<Set<String>, BlacklistFilter> FILTERS = new ConcurrentHashMap<>();
+
+    private final Pattern blacklistedHeaderEntry;
 
     public BlacklistFilter(Set<String> blacklistedHeaders) {
-        this.blacklistedHeaders = blacklistedHeaders;
+        this.blacklistedHeaderEntry = blacklistedHeaders.isEmpty() ? null : matcherFor(blacklistedHeaders);
     }
 
-    public String filter(String headers) {
-        StringBuilder filteredHeaders = new StringBuilder();
-        for(String headerEntry : headers.split("\n")) {
-            if (isBlacklisted(headerEntry.trim())) {
-                filteredHeaders.append(masked(headerEntry)).append("\n");
-            } else {
-                filteredHeaders.append(headerEntry).append("\n");
+    /**
+     * Blacklist filters are immutable, so the same filter can be shared by every request using the same blacklist.
+     */
+    public static BlacklistFilter forHeaders(Set<String> blacklistedHeaders) {
+        BlacklistFilter filter = FILTERS.get(blacklistedHeaders);
+        if (filter == null) {
+            if (FILTERS.size() >= MAX_CACHED_FILTERS) {
+                FILTERS.clear();
             }
+            filter = new BlacklistFilter(blacklistedHeaders);
+            FILTERS.put(Set.copyOf(blacklistedHeaders), filter);
         }
-        return filteredHeaders.toString().trim();
+        return filter;
     }
 
-    private String masked(String headerEntry) {
-        int headerSize = headerEntry.indexOf("=");
-        return headerEntry.substring(0, headerSize + 1) + "****";
+    private static Pattern matcherFor(Set<String> blacklistedHeaders) {
+        String headerNames = blacklistedHeaders.stream()
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        return Pattern.compile("^([ \\t]*(?:" + headerNames + ")=).*$", MULTILINE);
     }
 
-    private boolean isBlacklisted(String headerEntry) {
-        return blacklistedHeaders.stream().anyMatch(
-                header -> headerEntry.startsWith(header + "=")
-        );
+    public String filter(String headers) {
+        if (blacklistedHeaderEntry == null) {
+            return headers.trim();
+        }
+        return blacklistedHeaderEntry.matcher(headers).replaceAll("$1****").trim();
     }
 }
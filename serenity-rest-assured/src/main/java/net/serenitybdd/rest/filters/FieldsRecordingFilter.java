@@ -7,12 +7,7 @@ import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.response.Response;
 import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.FilterableResponseSpecification;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.PrintStream;
-import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
+import net.serenitybdd.rest.utils.RecordingBuffer;
 
 /**
  * User: YamStranger
@@ -32,26 +27,13 @@ public class FieldsRecordingFilter implements Filter {
     @Override
     public Response filter(final FilterableRequestSpecification requestSpec,
                            final FilterableResponseSpecification responseSpec, final FilterContext ctx) {
-
-        BlacklistFilter blacklistFilter = new BlacklistFilter(requestSpec.getConfig().getLogConfig().blacklistedHeaders());
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream();
-             PrintStream recordingStream = new PrintStream(output, true, StandardCharsets.UTF_8.toString())) {
-            final RequestLoggingFilter filter = new RequestLoggingFilter(this.logDetail, shouldPrettyPrint, recordingStream);
-            final Response response = filter.filter(requestSpec, responseSpec, ctx);
-            recordingStream.flush();
-            this.recorded = new String(output.toByteArray(), StandardCharsets.UTF_8);
-            this.recorded = this.recorded.replaceAll("^(" +
-                    "(Proxy:)|(Body:)|(Cookies:)|(Headers:)|(Multiparts:)|(Request path:)" +
-                    ")\\s*\\n*", "");
-            this.recorded = this.recorded.replaceAll("^(<none>)", "");
-            this.recorded = blacklistFilter.filter(this.recorded);
-            this.recorded = this.recorded.replaceAll("\n$", "");
-            return response;
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException("Incorrect implementation, should be used correct charset", e);
-        } catch (IOException e) {
-            throw new RuntimeException("Some exception during recording fields", e);
-        }
+        // Each request gets its own buffer, so that requests sent concurrently through this filter are recorded separately
+        final RecordingBuffer buffer = new RecordingBuffer();
+        final RequestLoggingFilter loggingFilter = new RequestLoggingFilter(this.logDetail, shouldPrettyPrint, buffer.stream());
+        final Response response = loggingFilter.filter(requestSpec, responseSpec, ctx);
+        this.recorded = BlacklistFilter.forHeaders(requestSpec.getConfig().getLogConfig().blacklistedHeaders())
+                .filter(buffer.recorded());
+        return response;
     }
 
     public LogDetail logDetail() {
@@ -0,0 +1,76 @@
+package net.serenitybdd.rest.utils;
+
+import io.restassured.response.Response;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.util.EnvironmentVariables;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static net.thucydides.model.ThucydidesSystemProperty.SERENITY_REST_MAX_BODY_SIZE;
+
+/**
+ * Records request and response bodies as they were sent. Bodies are recorded in full unless a maximum size is
+ * configured with serenity.rest.max.body.size, in which case longer bodies are truncated.
+ * Bodies are formatted for display when the reports are generated.
+ */
+public class RecordedBody {
+
+    private static final int NO_MAXIMUM_BODY_SIZE = 0;
+    private static final Pattern CHARSET = Pattern.compile("charset\\s*=\\s*\"?([^;\"\\s]+)", Pattern.CASE_INSENSITIVE);
+
+    private final int maxBodySize;
+
+    public RecordedBody(int maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    public static RecordedBody configuredIn(EnvironmentVariables environmentVariables) {
+        return new RecordedBody(SERENITY_REST_MAX_BODY_SIZE.integerFrom(environmentVariables, NO_MAXIMUM_BODY_SIZE) * 1024);
+    }
+
+    public static RecordedBody fromCurrentConfiguration() {
+        return configuredIn(SystemEnvironmentVariables.currentEnvironmentVariables());
+    }
+
+    /**
+     * Only the first bytes of a response that is too large are decoded.
+     */
+    public String of(Response response) {
+        if (maxBodySize <= 0) {
+            return response.asString();
+        }
+        byte[] body = response.asByteArray();
+        if (body == null || body.length <= maxBodySize) {
+            return response.asString();
+        }
+        return new String(body, 0, maxBodySize, charsetOf(response.contentType())) + truncationNoteFor(body.length, "bytes");
+    }
+
+    public String of(String body) {
+        if (maxBodySize <= 0 || body == null || body.length() <= maxBodySize) {
+            return body;
+        }
+        return body.substring(0, maxBodySize) + truncationNoteFor(body.length(), "characters");
+    }
+
+    private String truncationNoteFor(int fullSize, String unit) {
+        return "\n... [truncated: " + (fullSize - maxBodySize) + " more " + unit + "]";
+    }
+
+    private static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            Matcher charset = CHARSET.matcher(contentType);
+            if (charset.find()) {
+                try {
+                    return Charset.forName(charset.group(1));
+                } catch (IllegalArgumentException unsupportedCharset) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
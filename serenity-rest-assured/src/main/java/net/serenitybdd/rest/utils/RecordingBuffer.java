@@ -0,0 +1,69 @@
+package net.serenitybdd.rest.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * A buffer for the output of the RestAssured request and response printers for a single request.
+ * <p>
+ * The buffer is reset after each recording, so the different parts of a request or response can be recorded one after
+ * the other. Buffers that grew beyond {@link #MAX_RETAINED_CAPACITY} while recording a large body are discarded rather
+ * than kept for the next part. Instances are not thread-safe, so each request should use its own buffer.
+ */
+public class RecordingBuffer {
+
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final int INITIAL_CAPACITY = 512;
+
+    private static final Pattern SECTION_TITLE = Pattern.compile("^(" +
+            "(Proxy:)|(Body:)|(Cookies:)|(Headers:)|(Multiparts:)|(Request path:)" +
+            ")\\s*\\n*");
+    private static final String NONE = "<none>";
+
+    private ByteArrayOutputStream output;
+    private PrintStream stream;
+
+    public RecordingBuffer() {
+        allocate();
+    }
+
+    private void allocate() {
+        output = new ByteArrayOutputStream(INITIAL_CAPACITY);
+        stream = new PrintStream(output, true, StandardCharsets.UTF_8);
+    }
+
+    public PrintStream stream() {
+        return stream;
+    }
+
+    /**
+     * Return the text written since the last recording, without the section title added by the RestAssured printers,
+     * and reset the buffer.
+     */
+    public String recorded() {
+        stream.flush();
+        String recorded = output.toString(StandardCharsets.UTF_8);
+        if (output.size() > MAX_RETAINED_CAPACITY) {
+            allocate();
+        } else {
+            output.reset();
+        }
+        return withoutSectionTitle(recorded);
+    }
+
+    static String withoutSectionTitle(String recorded) {
+        if (recorded.isEmpty()) {
+            return recorded;
+        }
+        String cleaned = SECTION_TITLE.matcher(recorded).replaceFirst("");
+        if (cleaned.startsWith(NONE)) {
+            cleaned = cleaned.substring(NONE.length());
+        }
+        if (cleaned.endsWith("\n")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 1);
+        }
+        return cleaned;
+    }
+}
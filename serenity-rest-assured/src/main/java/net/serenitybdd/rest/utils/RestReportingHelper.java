@@ -3,9 +3,7 @@ package net.serenitybdd.rest.utils;
 import io.restassured.filter.Filter;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
-import io.restassured.internal.support.Prettifier;
 import io.restassured.response.Response;
-import io.restassured.response.ResponseOptions;
 import net.serenitybdd.core.Serenity;
 import net.serenitybdd.model.rest.RestMethod;
 import net.serenitybdd.model.rest.RestQuery;
@@ -63,7 +61,7 @@ public class RestReportingHelper {
                 withContentType(String.valueOf(
                                 ContentType.fromContentType(spec.getContentType()))
                 ).
-                withContent(firstNonNull(values.get(LogDetail.BODY), "")).
+                withContent(RecordedBody.fromCurrentConfiguration().of(firstNonNull(values.get(LogDetail.BODY), ""))).
                 withRequestCookies(firstNonNull(values.get(LogDetail.COOKIES), "")).
                 withRequestHeaders(firstNonNull(values.get(LogDetail.HEADERS), ""));
         return query;
@@ -78,10 +76,7 @@ public class RestReportingHelper {
                 LogDetail.HEADERS, LogDetail.COOKIES);
         final Map<LogDetail, String> values = helper.print(response);
         if (shouldRecordResponseBodyFor(response)) {
-            String renderedBody = new Prettifier().getPrettifiedBodyIfPossible(
-                    (ResponseOptions) response.getBody(), response.getBody());
-
-            restQuery = restQuery.withResponse(renderedBody.isEmpty() ? response.asString() : renderedBody);
+            restQuery = restQuery.withResponse(RecordedBody.fromCurrentConfiguration().of(response));
         }
         restQuery = restQuery.withStatusCode(response.getStatusCode())
                 .withResponseHeaders(firstNonNull(values.get(LogDetail.HEADERS), ""))
@@ -4,11 +4,6 @@ import io.restassured.filter.log.LogDetail;
 import io.restassured.internal.print.ResponsePrinter;
 import io.restassured.response.Response;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.PrintStream;
-import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -34,31 +29,16 @@ public class RestResponseRecordingHelper {
     }
 
     public Map<LogDetail, String> print(final Response response) {
-        Map<LogDetail, String> result = new HashMap();
+        Map<LogDetail, String> result = new HashMap<>();
         if (response != null) {
-            try (ByteArrayOutputStream output = new ByteArrayOutputStream();
-                 PrintStream recordingStream = new PrintStream(output, true, StandardCharsets.UTF_8.toString())) {
-                for (final LogDetail detail : logDetail) {
-                    try {
-                        ResponsePrinter.print(response, response.getBody(), recordingStream, detail, shouldPrettyPrint, blackListedHeaders);
-                    } catch (NullPointerException e) {
-                        //can be thrown if some field like cookies or headers are empty
-                    }
-                    recordingStream.flush();
-                    String recorded = new String(output.toByteArray(), StandardCharsets.UTF_8);
-                    output.reset();
-                    recorded = recorded.replaceAll("^(" +
-                            "(Proxy:)|(Body:)|(Cookies:)|(Headers:)|(Multiparts:)|(Request path:)" +
-                            ")\\s*\\n*", "");
-                    recorded = recorded.replaceAll("^(<none>)", "");
-                    recorded = recorded.replaceAll("\n$", "");
-                    result.put(detail, recorded);
-
+            RecordingBuffer buffer = new RecordingBuffer();
+            for (final LogDetail detail : logDetail) {
+                try {
+                    ResponsePrinter.print(response, response.getBody(), buffer.stream(), detail, shouldPrettyPrint, blackListedHeaders);
+                } catch (NullPointerException e) {
+                    //can be thrown if some field like cookies or headers are empty
                 }
-            } catch (UnsupportedEncodingException e) {
-                throw new RuntimeException("Incorrect implementation, should be used correct charset", e);
-            } catch (IOException e) {
-                throw new RuntimeException("Some exception during recording fields", e);
+                result.put(detail, buffer.recorded());
             }
         }
         return result;
@@ -104,7 +104,7 @@ public class RestSpecificationFactory {
         RequestSpecificationDecorated instrumentedResponse  = requestSpecificationDecoratedFactory.create((delegate));
         final List<Filter> filters = new LinkedList<>();
         for (final LogDetail logDetail : Arrays.asList(HEADERS, COOKIES, BODY, PARAMS, METHOD, URI)) {
-            filters.add(new FieldsRecordingFilter(true, logDetail));
+            filters.add(new FieldsRecordingFilter(false, logDetail));
         }
         if (RestExecutionHelper.restCallsAreDisabled()) {
             filters.add(new UpdatingContextFilter(SendRequestFilter.class));
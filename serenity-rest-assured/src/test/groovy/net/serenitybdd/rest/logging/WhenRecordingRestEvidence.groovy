@@ -0,0 +1,62 @@
+package net.serenitybdd.rest.logging
+
+import net.serenitybdd.rest.filters.BlacklistFilter
+import net.serenitybdd.rest.utils.RecordedBody
+import net.serenitybdd.rest.utils.RecordingBuffer
+import spock.lang.Specification
+
+class WhenRecordingRestEvidence extends Specification {
+
+    def "should mask blacklisted headers"() {
+        given:
+        def filter = new BlacklistFilter(["Authorization", "X-Api-Key"] as Set)
+        expect:
+        filter.filter("Accept=*/*\n\tAuthorization=Bearer secret\nX-Api-Key=12345\nX-Api-Key-Id=7\n") ==
+                "Accept=*/*\n\tAuthorization=****\nX-Api-Key=****\nX-Api-Key-Id=7"
+    }
+
+    def "should treat blacklisted header names literally"() {
+        given:
+        def filter = new BlacklistFilter(["X.Token"] as Set)
+        expect:
+        filter.filter("X-Token=abc\nX.Token=def") == "X-Token=abc\nX.Token=****"
+    }
+
+    def "should share blacklist filters between requests with the same blacklist"() {
+        expect:
+        BlacklistFilter.forHeaders(["Authorization"] as Set).is(BlacklistFilter.forHeaders(new HashSet(["Authorization"])))
+    }
+
+    def "should remove the section titles written by the RestAssured printers"() {
+        given:
+        def buffer = new RecordingBuffer()
+        when:
+        buffer.stream().print(printed)
+        then:
+        buffer.recorded() == recorded
+        where:
+        printed                          | recorded
+        "Body:\n{\"id\":1}\n"            | "{\"id\":1}"
+        "Headers:\t\tAccept=*/*\n"       | "Accept=*/*"
+        "Cookies:\t\t<none>\n"           | ""
+        "Request URI:\thttp://localhost" | "Request URI:\thttp://localhost"
+    }
+
+    def "should reset the buffer after each recording"() {
+        given:
+        def buffer = new RecordingBuffer()
+        when:
+        buffer.stream().print("Body:\nfirst\n")
+        buffer.recorded()
+        buffer.stream().print("Body:\nsecond\n")
+        then:
+        buffer.recorded() == "second"
+    }
+
+    def "should truncate bodies larger than the configured maximum size"() {
+        expect:
+        new RecordedBody(4).of("0123456789") == "0123\n... [truncated: 6 more characters]"
+        new RecordedBody(10).of("0123456789") == "0123456789"
+        new RecordedBody(0).of("0123456789") == "0123456789"
+    }
+}
@@ -6,8 +6,11 @@ import net.serenitybdd.core.pages.WebElementFacade;
 import net.serenitybdd.core.pages.WebElementFacadeImpl;
 import net.serenitybdd.core.selectors.Selectors;
 import net.thucydides.core.steps.StepEventBus;
+import net.serenitybdd.screenplay.waits.Polling;
+import net.serenitybdd.screenplay.waits.PollingResult;
 import net.thucydides.core.webdriver.exceptions.ElementNotFoundAfterTimeoutError;
 import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 
@@ -20,29 +23,37 @@ import static java.util.Arrays.stream;
 public class MultiXPathOrCssTarget extends SearchableTarget {
 
     private final String[] cssOrXPathSelectors;
+    private volatile Optional<By> combinedSelector;
 
     public MultiXPathOrCssTarget(String targetElementName, Optional<IFrame> iFrame, Optional<Duration> timeout, String... cssOrXPathSelectors) {
         super(targetElementName, iFrame, timeout);
         this.cssOrXPathSelectors = cssOrXPathSelectors;
+        this.combinedSelector = Selectors.combinedXPathOrCssSelector(cssOrXPathSelectors);
     }
 
     public WebElementFacade resolveFor(PageObject page) {
         Duration effectiveTimeout = timeout.orElse(page.getImplicitWaitTimeout());
 
-        Optional<WebElementFacade> resolvedElement = findFirstMatching(page, cssOrXPathSelectors);
-        if (resolvedElement.isPresent()) {
-            return resolvedElement.get();
-        } else {
-            long maxTimeAllowed = effectiveTimeout.toMillis();
-            long timeStarted = System.currentTimeMillis();
-            while (System.currentTimeMillis() - timeStarted < maxTimeAllowed) {
-                resolvedElement = findFirstMatching(page, cssOrXPathSelectors);
-                if (resolvedElement.isPresent()) {
-                    return resolvedElement.get();
-                }
-            }
+        PollingResult<WebElementFacade> resolvedElement = Polling.configured().until(getName(), effectiveTimeout,
+                () -> anyElementIsPresentOn(page) ? findFirstMatching(page, cssOrXPathSelectors) : Optional.empty());
+
+        return resolvedElement.getValue().orElseThrow(() -> notifyUnfoundElement(effectiveTimeout.toMillis()));
+    }
+
+    /**
+     * Checks for all the selectors in a single query where possible, so that each attempt made while waiting
+     * for an element to appear only needs one call to the browser.
+     */
+    private boolean anyElementIsPresentOn(PageObject page) {
+        if (!combinedSelector.isPresent()) {
+            return true;
+        }
+        try {
+            return !page.withTimeoutOf(Duration.ZERO).findAll(combinedSelector.get()).isEmpty();
+        } catch (InvalidSelectorException combinedSelectorRejected) {
+            combinedSelector = Optional.empty();
+            return true;
         }
-        throw notifyUnfoundElement(effectiveTimeout.toMillis());
     }
 
     private ElementNotFoundAfterTimeoutError notifyUnfoundElement(long timeoutInMillis) {
@@ -110,22 +121,12 @@ public class MultiXPathOrCssTarget extends SearchableTarget {
     }
 
     public ListOfWebElementFacades resolveAllFor(PageObject page) {
-        List<WebElementFacade> resolvedElements =  findAllMatching(page, cssOrXPathSelectors);
-
-        if (timeout.isPresent()) {
-            if (resolvedElements.isEmpty()) {
-                return new ListOfWebElementFacades(resolvedElements);
-            } else {
-                Duration effectiveTimeout = timeout.orElse(page.getImplicitWaitTimeout());
-                long maxTimeAllowed = effectiveTimeout.toMillis();
-                long timeStarted = System.currentTimeMillis();
-                while (System.currentTimeMillis() - timeStarted < maxTimeAllowed) {
-                    resolvedElements = findAllMatching(page, cssOrXPathSelectors);
-                    if (!resolvedElements.isEmpty()) {
-                        return new ListOfWebElementFacades(resolvedElements);
-                    }
-                }
-            }
+        List<WebElementFacade> resolvedElements = findAllMatching(page, cssOrXPathSelectors);
+
+        if (resolvedElements.isEmpty() && timeout.isPresent()) {
+            resolvedElements = Polling.configured().until(getName(), timeout.get(),
+                    () -> Optional.of(findAllMatching(page, cssOrXPathSelectors)).filter(elements -> !elements.isEmpty())
+            ).getValue().orElse(resolvedElements);
         }
         return new ListOfWebElementFacades(resolvedElements);
     }
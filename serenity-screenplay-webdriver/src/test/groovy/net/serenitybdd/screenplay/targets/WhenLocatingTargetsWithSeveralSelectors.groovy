@@ -0,0 +1,99 @@
+package net.serenitybdd.screenplay.targets
+
+import net.serenitybdd.core.pages.PageObject
+import net.serenitybdd.core.pages.RenderedPageObjectView
+import net.serenitybdd.core.pages.WebElementFacade
+import net.thucydides.core.webdriver.exceptions.ElementNotFoundAfterTimeoutError
+import org.openqa.selenium.By
+import org.openqa.selenium.InvalidSelectorException
+import spock.lang.Specification
+
+import java.time.Duration
+
+import static org.mockito.Mockito.mock
+import static org.mockito.Mockito.mockingDetails
+import static org.mockito.Mockito.when
+
+class WhenLocatingTargetsWithSeveralSelectors extends Specification {
+
+    PageObject page = mock(PageObject)
+    RenderedPageObjectView pageWithNoWait = mock(RenderedPageObjectView)
+    WebElementFacade basket = mock(WebElementFacade)
+
+    def setup() {
+        when(page.withTimeoutOf(Duration.ZERO)).thenReturn(pageWithNoWait)
+    }
+
+    def "should check for all of the CSS selectors in a single query while waiting for an element"() {
+        given:
+        def target = Target.the("basket").locatedByFirstMatching("#basket", ".basket").waitingForNoMoreThan(Duration.ofSeconds(5))
+        when(pageWithNoWait.findAll(By.cssSelector("#basket, .basket"))).thenReturn([], [], [basket])
+        when(pageWithNoWait.findAll(".basket")).thenReturn([basket])
+        when:
+        def resolvedElement = target.resolveFor(page)
+        then:
+        resolvedElement == basket
+        queriesFor(By.cssSelector("#basket, .basket")) == 3
+        queriesFor("#basket") == 1
+        queriesFor(".basket") == 1
+    }
+
+    def "should check for all of the XPath selectors in a single union query"() {
+        given:
+        def target = Target.the("basket").locatedByFirstMatching("//div[@id='basket']", "//div[@class='basket']")
+                                          .waitingForNoMoreThan(Duration.ofSeconds(5))
+        when(pageWithNoWait.findAll(By.xpath("(//div[@id='basket']) | (//div[@class='basket'])"))).thenReturn([basket])
+        when(pageWithNoWait.findAll("//div[@id='basket']")).thenReturn([basket])
+        when:
+        def resolvedElement = target.resolveFor(page)
+        then:
+        resolvedElement == basket
+        queriesFor(By.xpath("(//div[@id='basket']) | (//div[@class='basket'])")) == 1
+    }
+
+    def "should check each selector in turn when CSS and XPath selectors are mixed"() {
+        given:
+        def target = Target.the("basket").locatedByFirstMatching("#basket", "//div[@class='basket']")
+                                          .waitingForNoMoreThan(Duration.ofSeconds(5))
+        when(pageWithNoWait.findAll("//div[@class='basket']")).thenReturn([basket])
+        when:
+        def resolvedElement = target.resolveFor(page)
+        then:
+        resolvedElement == basket
+        queriesForAnyLocator() == 0
+        queriesFor("#basket") == 1
+    }
+
+    def "should check each selector in turn once the browser rejects the combined selector"() {
+        given:
+        def target = Target.the("basket").locatedByFirstMatching("#basket", ".basket").waitingForNoMoreThan(Duration.ofSeconds(5))
+        when(pageWithNoWait.findAll(By.cssSelector("#basket, .basket"))).thenThrow(new InvalidSelectorException("not supported"))
+        when(pageWithNoWait.findAll(".basket")).thenReturn([], [basket])
+        when:
+        def resolvedElement = target.resolveFor(page)
+        then:
+        resolvedElement == basket
+        queriesFor(By.cssSelector("#basket, .basket")) == 1
+        queriesFor(".basket") == 2
+    }
+
+    def "should only query each selector once an element is present"() {
+        given:
+        def target = Target.the("basket").locatedByFirstMatching("#basket", ".basket").waitingForNoMoreThan(Duration.ofMillis(200))
+        when:
+        target.resolveFor(page)
+        then:
+        thrown(ElementNotFoundAfterTimeoutError)
+        queriesFor(By.cssSelector("#basket, .basket")) > 1
+        queriesFor("#basket") == 0
+        queriesFor(".basket") == 0
+    }
+
+    private int queriesFor(Object selector) {
+        mockingDetails(pageWithNoWait).invocations.count { it.method.name == "findAll" && it.arguments[0] == selector }
+    }
+
+    private int queriesForAnyLocator() {
+        mockingDetails(pageWithNoWait).invocations.count { it.method.name == "findAll" && it.arguments[0] instanceof By }
+    }
+}
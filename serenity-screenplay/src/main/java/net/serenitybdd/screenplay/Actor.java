@@ -10,7 +10,6 @@ import net.serenitybdd.markers.IsHidden;
 import net.serenitybdd.screenplay.events.*;
 import net.serenitybdd.screenplay.facts.Fact;
 import net.serenitybdd.screenplay.facts.FactLifecycleListener;
-import net.serenitybdd.annotations.Pending;
 import net.serenitybdd.annotations.Step;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.screenshots.ScreenshotAndHtmlSource;
@@ -24,7 +23,6 @@ import net.thucydides.model.util.EnvironmentVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Method;
 import java.util.*;
 
 import static net.serenitybdd.screenplay.Actor.ErrorHandlingMode.IGNORE_EXCEPTIONS;
@@ -305,17 +303,7 @@ public class Actor implements PerformsTasks, SkipNested, Agent {
     }
 
     private <T extends Performable> boolean isPending(T todo) {
-        Method performAs = getPerformAsForClass(todo.getClass().getSuperclass()).orElse(getPerformAsForClass(todo.getClass()).orElse(null));
-
-        return (performAs != null) && (performAs.getAnnotation(Pending.class) != null);
-    }
-
-    private Optional<Method> getPerformAsForClass(Class taskClass) {
-        try {
-            return Optional.of(taskClass.getMethod("performAs", Actor.class));
-        } catch (NoSuchMethodException e) {
-            return Optional.empty();
-        }
+        return ScreenplayMetadata.of(todo.getClass()).isPending();
     }
 
     private boolean pendingOrIgnore(Throwable exception) {
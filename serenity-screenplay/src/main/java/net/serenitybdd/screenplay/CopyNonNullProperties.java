@@ -5,8 +5,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import static java.lang.reflect.Modifier.*;
-
 class CopyNonNullProperties {
     private Object source;
 
@@ -19,13 +17,9 @@ class CopyNonNullProperties {
     }
 
     public void to(Object target) {
-        getFields(source.getClass())
-                .stream()
-                .filter(field -> !field.isSynthetic())
-                .filter(field -> !isStatic(field.getModifiers()))
-                .forEach(
-                        field -> copyFieldValue(field, source, target)
-                );
+        for (Field field : ScreenplayMetadata.of(source.getClass()).getCopyableFields()) {
+            copyFieldValue(field, source, target);
+        }
     }
 
     public static List<Field> getFields(Class<?> clazz) {
@@ -40,7 +34,6 @@ class CopyNonNullProperties {
 
     private void copyFieldValue(Field field, Object source, Object target) {
         try {
-            field.setAccessible(true);
             Object sourceValue = field.get(source);
             if (sourceValue != null) {
                 field.set(target, sourceValue);
@@ -1,18 +1,27 @@
 package net.serenitybdd.screenplay;
 
 import net.serenitybdd.model.environment.ConfiguredEnvironment;
-import net.serenitybdd.model.time.Stopwatch;
 import net.serenitybdd.markers.CanBeSilent;
+import net.serenitybdd.screenplay.waits.Polling;
+import net.serenitybdd.screenplay.waits.PollingResult;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Arrays.asList;
 import static net.serenitybdd.screenplay.Actor.ErrorHandlingMode.IGNORE_EXCEPTIONS;
 
 public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
+
+    /**
+     * @deprecated The pause between attempts now comes from the configured {@link Polling} settings.
+     */
+    @Deprecated
     public static final int A_SHORT_PERIOD_BETWEEN_TRIES = 100;
+
     private final Consequence<T> consequenceThatMightTakeSomeTime;
     private final long timeoutInMilliseconds;
     private final boolean isSilent;
@@ -50,43 +59,38 @@ public class EventualConsequence<T> implements Consequence<T>, CanBeSilent {
 
     @Override
     public void evaluateFor(Actor actor) {
-        Stopwatch stopwatch = new Stopwatch();
-
-        stopwatch.start();
-        do {
-            try {
-                performSetupActionsAs(actor);
-                consequenceThatMightTakeSomeTime.evaluateFor(actor);
-                return;
-            } catch (AssertionError assertionError) {
-                if (!shouldIgnoreException(assertionError)) {
-                    caughtAssertionError = assertionError;
-                }
-            } catch (RuntimeException runtimeException) {
-                if (!shouldIgnoreException(runtimeException)) {
-                    caughtRuntimeException = runtimeException;
-                }
-            } catch (Throwable exception) {
-                if (!shouldIgnoreException(exception)) {
-                    throw exception;
-                }
-            }
-            pauseBeforeNextAttempt();
-        } while (stopwatch.lapTime() < timeoutInMilliseconds);
-
-        throwAnyCaughtErrors();
-    }
+        PollingResult<Boolean> result = Polling.configured().until(toString(),
+                Duration.ofMillis(timeoutInMilliseconds),
+                () -> attemptToEvaluateFor(actor));
 
-    private boolean shouldIgnoreException(Throwable exception) {
-        return exceptionsToIgnore.contains(exception.getClass());
+        if (!result.getValue().isPresent()) {
+            throwAnyCaughtErrors();
+        }
     }
 
-    private void pauseBeforeNextAttempt() {
+    private Optional<Boolean> attemptToEvaluateFor(Actor actor) {
         try {
-            Thread.sleep(A_SHORT_PERIOD_BETWEEN_TRIES);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+            performSetupActionsAs(actor);
+            consequenceThatMightTakeSomeTime.evaluateFor(actor);
+            return Optional.of(true);
+        } catch (AssertionError assertionError) {
+            if (!shouldIgnoreException(assertionError)) {
+                caughtAssertionError = assertionError;
+            }
+        } catch (RuntimeException runtimeException) {
+            if (!shouldIgnoreException(runtimeException)) {
+                caughtRuntimeException = runtimeException;
+            }
+        } catch (Throwable exception) {
+            if (!shouldIgnoreException(exception)) {
+                throw exception;
+            }
         }
+        return Optional.empty();
+    }
+
+    private boolean shouldIgnoreException(Throwable exception) {
+        return exceptionsToIgnore.contains(exception.getClass());
     }
 
     private void throwAnyCaughtErrors() {
@@ -2,21 +2,31 @@ package net.serenitybdd.screenplay;
 
 import net.thucydides.model.util.NameConverter;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class HumanReadableTaskName {
 
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final Map<String, String> HUMANIZED_NAMES = new ConcurrentHashMap<>();
+
+    /**
+     * The name of the first method in the call stack outside of Serenity, usually the method that created the task.
+     */
     public static String forCurrentMethod() {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        int businessIndex = 1;
-        for(int methodIndex = 1; methodIndex < stackTrace.length; methodIndex++) {
-            if (!stackTrace[methodIndex].getClassName().startsWith("net.serenitybdd")) {
-                businessIndex = methodIndex;
-                break;
-            }
+        StackWalker.StackFrame businessFrame = STACK_WALKER.walk(
+                frames -> frames.filter(frame -> !frame.getClassName().startsWith("net.serenitybdd"))
+                        .findFirst()
+                        .orElse(null));
+        if (businessFrame == null) {
+            return humanized(HumanReadableTaskName.class.getName(), "forCurrentMethod");
         }
-        String className = Thread.currentThread().getStackTrace()[businessIndex].getClassName();
-        String methodName = Thread.currentThread().getStackTrace()[businessIndex].getMethodName();
+        return humanized(businessFrame.getClassName(), businessFrame.getMethodName());
+    }
+
+    private static String humanized(String className, String methodName) {
         int lastDot = className.lastIndexOf(".");
-        String simpleClassName = (lastDot == -1) ? className : className.substring(className.lastIndexOf(".") + 1);
-        return NameConverter.humanize(simpleClassName + "_" + methodName);
+        String simpleClassName = (lastDot == -1) ? className : className.substring(lastDot + 1);
+        return HUMANIZED_NAMES.computeIfAbsent(simpleClassName + "_" + methodName, NameConverter::humanize);
     }
 }
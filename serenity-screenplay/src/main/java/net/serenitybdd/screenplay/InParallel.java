@@ -1,5 +1,7 @@
 package net.serenitybdd.screenplay;
 
+import net.serenitybdd.core.parallel.TaskExecutors;
+import net.serenitybdd.core.parallel.TestExecutionContext;
 import net.serenitybdd.model.exceptions.SerenityManagedException;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.domain.TestStep;
@@ -11,14 +13,16 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.stream;
 
 /**
- * Run a series of Performable tasks in parallel with different actors
+ * Run a series of Performable tasks in parallel with different actors.
+ * The tasks run on virtual threads when the JVM supports them, or on platform threads otherwise
+ * (or if 'screenplay.parallel.virtual.threads' is false). In both cases, at most 'screenplay.max.parallel.tasks'
+ * tasks run at the same time.
  */
 public class InParallel {
 
@@ -63,10 +67,13 @@ public class InParallel {
     }
 
     public void perform(String stepName, Runnable... tasks) {
+        ExecutorService executorService = TaskExecutors.newTaskExecutor(
+                environmentVariables.getPropertyAsBoolean("screenplay.parallel.virtual.threads", true),
+                environmentVariables.getPropertyAsInteger("screenplay.max.parallel.tasks", 16));
         try {
             StepEventBus.getParallelEventBus().registerAgents(cast);
-            ExecutorService executorService = Executors.newFixedThreadPool(environmentVariables.getPropertyAsInteger("screenplay.max.parallel.tasks", 16));
-            List<Future<?>> futures = stream(tasks).map( task -> executorService.submit(task)).collect(Collectors.toList());
+            TestExecutionContext context = TestExecutionContext.ofCurrentTest();
+            List<Future<?>> futures = stream(tasks).map(task -> executorService.submit(context.propagateTo(task))).collect(Collectors.toList());
 
             futures.forEach(future -> {
                 try {
@@ -81,6 +88,7 @@ public class InParallel {
                 }
             });
         } finally {
+            executorService.shutdown();
             StepEventBus.getParallelEventBus().mergeActivitiesToDefaultStepListener(stepName, cast);
             StepEventBus.getParallelEventBus().dropAgents(cast);
             firstFailingStep().ifPresent(
@@ -4,14 +4,6 @@ import net.serenitybdd.core.steps.Instrumented;
 import net.thucydides.model.environment.SystemEnvironmentVariables;
 import net.thucydides.model.util.EnvironmentVariables;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-
-import static java.util.Arrays.stream;
 import static net.thucydides.model.ThucydidesSystemProperty.MANUAL_TASK_INSTRUMENTATION;
 
 public class InstrumentedTask {
@@ -28,26 +20,7 @@ public class InstrumentedTask {
     }
 
     static <T extends Performable> boolean shouldInstrument(T task) {
-        Optional<Method> performAs = stream(task.getClass().getMethods())
-                .filter(method -> method.getName().equals("performAs"))
-                .findFirst();
-
-        return performAs.isPresent() && defaultConstructorPresentFor(task.getClass());
-    }
-
-    private static boolean defaultConstructorPresentFor(Class<? extends Performable> taskClass) {
-
-        return findAllConstructorsIn(taskClass).stream()
-                         .anyMatch( constructor -> constructor.getParameterCount() == 0 );
-    }
-
-    private static List<Constructor<?>> findAllConstructorsIn(Class<? extends Performable> taskClass) {
-        List<Constructor<?>> allConstructors = new ArrayList<>();
-
-        allConstructors.addAll(Arrays.asList(taskClass.getConstructors()));
-        allConstructors.addAll(Arrays.asList(taskClass.getDeclaredConstructors()));
-
-        return allConstructors;
+        return ScreenplayMetadata.of(task.getClass()).canBeInstrumented();
     }
 
     private static Performable instrumentedCopyOf(Performable task, Class taskClass) {
@@ -68,7 +41,7 @@ public class InstrumentedTask {
     static boolean isInstrumented(Performable task) {
 
         try {
-            return task.getClass().getSimpleName().contains("ByteBuddy");
+            return ScreenplayMetadata.of(task.getClass()).isInstrumented();
         } catch(NullPointerException ignore) {
             throw new TaskInstantiationException("Your Task class must have a public constructor.");
         }
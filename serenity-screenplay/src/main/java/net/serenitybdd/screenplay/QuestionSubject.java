@@ -1,14 +1,9 @@
 package net.serenitybdd.screenplay;
 
 import net.serenitybdd.screenplay.annotations.AnnotatedTitle;
-import net.serenitybdd.screenplay.annotations.Subject;
 
-import java.lang.reflect.Method;
 import java.util.Optional;
 
-import static net.thucydides.model.util.NameConverter.humanize;
-import static org.apache.commons.lang3.StringUtils.lowerCase;
-
 public class QuestionSubject<T> {
 
     private final Class<? extends Question> questionClass;
@@ -29,45 +24,8 @@ public class QuestionSubject<T> {
     }
 
     private Optional<String> annotatedSubject() {
-        if (annotationOnMethodOf(questionClass).isPresent()) {
-            return java.util.Optional.of(annotationOnMethodOf(questionClass)).get();
-        }
-        return annotatedSubjectFromClass(questionClass);
-    }
-
-    private Optional<String> annotatedSubjectFromClass(Class<?> questionClass) {
-        if (questionClass.getAnnotation(Subject.class) != null) {
-            return java.util.Optional.of(annotationOnClass(questionClass)).get();
-        }
-
-        if (questionClass.getSuperclass() != null) {
-            return annotatedSubjectFromClass(questionClass.getSuperclass());
-        }
-
-        return Optional.empty();
-    }
-
-    private Optional<String> annotationOnMethodOf(Class<? extends Question> questionClass) {
-        try {
-            Method answeredBy = questionClass.getMethod("answeredBy", Actor.class);
-            if (answeredBy.getAnnotation(Subject.class) != null) {
-                String annotatedTitle = answeredBy.getAnnotation(Subject.class).value();
-                annotatedTitle = AnnotatedTitle.injectFieldsInto(annotatedTitle).using(question);
-                return Optional.of(annotatedTitle);
-            }
-        } catch (NoSuchMethodException e) {
-            return Optional.empty();
-        }
-        return Optional.empty();
-    }
-
-    private Optional<String> annotationOnClass(Class<?> questionClass) {
-        if (questionClass.getAnnotation(Subject.class) != null) {
-            String annotatedTitle = questionClass.getAnnotation(Subject.class).value();
-            annotatedTitle = AnnotatedTitle.injectFieldsInto(annotatedTitle).using(question);
-            return Optional.of(annotatedTitle);
-        }
-        return Optional.empty();
+        return ScreenplayMetadata.of(questionClass).getSubjectTemplate()
+                .map(annotatedTitle -> AnnotatedTitle.injectFieldsInto(annotatedTitle).using(question));
     }
 
     private Optional<String> subjectFromQuestionInterface() {
@@ -76,9 +34,9 @@ public class QuestionSubject<T> {
     }
 
     public String subject() {
-        return subjectFromQuestionInterface().orElse(
-                annotatedSubject().orElse(
-                        lowerCase(humanize(questionClass.getSimpleName()))));
+        return subjectFromQuestionInterface()
+                .orElseGet(() -> annotatedSubject()
+                        .orElseGet(() -> ScreenplayMetadata.of(questionClass).getDefaultSubject()));
     }
 
 }
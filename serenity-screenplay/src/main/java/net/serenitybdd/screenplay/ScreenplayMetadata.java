@@ -0,0 +1,153 @@
+package net.serenitybdd.screenplay;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import net.serenitybdd.annotations.Pending;
+import net.serenitybdd.screenplay.annotations.Subject;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static net.thucydides.model.util.NameConverter.humanize;
+import static org.apache.commons.lang3.StringUtils.lowerCase;
+
+/**
+ * What the Screenplay classes need to know about a task or question class, read once per class using reflection.
+ * <p>
+ * Actors perform the same task and question classes many times in a test suite, so the registry keeps this
+ * information for the lifetime of each class, and performing, instrumenting or describing a task or a question
+ * no longer needs to look through its methods, constructors or annotations.
+ */
+class ScreenplayMetadata {
+
+    private static final ClassValue<ScreenplayMetadata> METADATA = new ClassValue<ScreenplayMetadata>() {
+        @Override
+        protected ScreenplayMetadata computeValue(Class<?> type) {
+            return new ScreenplayMetadata(type);
+        }
+    };
+
+    private final boolean instrumented;
+    private final boolean hasPerformAsMethod;
+    private final boolean hasDefaultConstructor;
+    private final boolean pending;
+    private final Optional<String> subjectTemplate;
+    private final String defaultSubject;
+    private final Supplier<List<Field>> copyableFields;
+
+    private ScreenplayMetadata(Class<?> type) {
+        this.instrumented = type.getSimpleName().contains("ByteBuddy");
+        this.hasPerformAsMethod = Arrays.stream(type.getMethods()).anyMatch(method -> method.getName().equals("performAs"));
+        this.hasDefaultConstructor = hasDefaultConstructor(type);
+        this.pending = isPending(type);
+        this.subjectTemplate = Optional.ofNullable(subjectOnMethodOf(type).orElse(subjectOnClass(type).orElse(null)));
+        this.defaultSubject = lowerCase(humanize(type.getSimpleName()));
+        this.copyableFields = Suppliers.memoize(() -> copyableFieldsOf(type));
+    }
+
+    static ScreenplayMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    private static boolean hasDefaultConstructor(Class<?> type) {
+        List<Constructor<?>> allConstructors = new ArrayList<>();
+        allConstructors.addAll(Arrays.asList(type.getConstructors()));
+        allConstructors.addAll(Arrays.asList(type.getDeclaredConstructors()));
+        return allConstructors.stream().anyMatch(constructor -> constructor.getParameterCount() == 0);
+    }
+
+    /**
+     * The performAs() method of the parent class is checked first, so that instrumented subclasses
+     * inherit the annotations of the original task class.
+     */
+    private static boolean isPending(Class<?> type) {
+        Optional<Method> performAs = performAsMethodIn(type.getSuperclass());
+        if (!performAs.isPresent()) {
+            performAs = performAsMethodIn(type);
+        }
+        return performAs.map(method -> method.getAnnotation(Pending.class) != null).orElse(false);
+    }
+
+    private static Optional<Method> performAsMethodIn(Class<?> type) {
+        if (type == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(type.getMethod("performAs", Actor.class));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> subjectOnMethodOf(Class<?> type) {
+        try {
+            Subject subject = type.getMethod("answeredBy", Actor.class).getAnnotation(Subject.class);
+            return (subject != null) ? Optional.of(subject.value()) : Optional.empty();
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> subjectOnClass(Class<?> type) {
+        for (Class<?> classToInspect = type; classToInspect != null; classToInspect = classToInspect.getSuperclass()) {
+            Subject subject = classToInspect.getAnnotation(Subject.class);
+            if (subject != null) {
+                return Optional.of(subject.value());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static List<Field> copyableFieldsOf(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> classToInspect = type; classToInspect != null; classToInspect = classToInspect.getSuperclass()) {
+            for (Field field : classToInspect.getDeclaredFields()) {
+                if (!field.isSynthetic() && !isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    boolean isInstrumented() {
+        return instrumented;
+    }
+
+    /**
+     * Only classes with a performAs() method and a default constructor can be instrumented.
+     */
+    boolean canBeInstrumented() {
+        return hasPerformAsMethod && hasDefaultConstructor;
+    }
+
+    boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * The text of the @Subject annotation, on the answeredBy() method or on the class, before any field is injected.
+     */
+    Optional<String> getSubjectTemplate() {
+        return subjectTemplate;
+    }
+
+    String getDefaultSubject() {
+        return defaultSubject;
+    }
+
+    /**
+     * The non-static fields of the class and its parents, made accessible.
+     */
+    List<Field> getCopyableFields() {
+        return copyableFields.get();
+    }
+}
@@ -3,9 +3,10 @@ package net.serenitybdd.screenplay;
 import net.serenitybdd.markers.CanBeSilent;
 import net.serenitybdd.markers.IsSilent;
 
-import static java.util.Arrays.asList;
-
 public class SilentTasks {
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
     public static boolean isSilent(Performable task) {
         if (task instanceof IsSilent) {
             return true;
@@ -17,9 +18,10 @@ public class SilentTasks {
         return false;
     }
 
+    /**
+     * The stack is walked lazily, and only until the first performSilently() call is found.
+     */
     public static boolean isNestedInSilentTask() {
-        return asList(new Exception().getStackTrace())
-                .stream()
-                .anyMatch(element -> element.getMethodName().equals("performSilently"));
+        return STACK_WALKER.walk(frames -> frames.anyMatch(frame -> frame.getMethodName().equals("performSilently")));
     }
 }
@@ -13,6 +13,13 @@ public class AnnotatedTitle {
         return new AnnotatedTitle(text);
     }
 
+    private static final ClassValue<Set<Field>> FIELDS = new ClassValue<Set<Field>>() {
+        @Override
+        protected Set<Field> computeValue(Class<?> type) {
+            return Fields.of(type).allFields();
+        }
+    };
+
     private final String text;
 
 
@@ -21,7 +28,10 @@ public class AnnotatedTitle {
     }
 
     public String using(Object question) {
-        Set<Field> fields = Fields.of(Uninstrumented.versionOf(question.getClass())).allFields();
+        if (!text.contains("#")) {
+            return text;
+        }
+        Set<Field> fields = FIELDS.get(Uninstrumented.versionOf(question.getClass()));
         String updatedText = text;
         for(Field field : fields) {
             String fieldName = fieldVariableFor(field.getName());
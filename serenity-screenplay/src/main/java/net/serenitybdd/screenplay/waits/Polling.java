@@ -0,0 +1,107 @@
+package net.serenitybdd.screenplay.waits;
+
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Repeatedly tries to obtain a value until it is available or a timeout expires, sleeping between attempts.
+ * The pause between attempts starts short and grows by a backoff factor up to a maximum interval, so quick
+ * conditions are detected quickly while long waits make few calls to the browser and use almost no CPU.
+ * <p>
+ * The pauses can be configured with the following properties:
+ * <ul>
+ *     <li>serenity.polling.initial.interval: the first pause, in milliseconds (default 50)</li>
+ *     <li>serenity.polling.max.interval: the longest pause, in milliseconds (default 500)</li>
+ *     <li>serenity.polling.backoff.factor: how much the pause grows after each attempt (default 1.5)</li>
+ * </ul>
+ */
+public class Polling {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Polling.class);
+
+    public static final long DEFAULT_INITIAL_INTERVAL_IN_MILLIS = 50;
+    public static final long DEFAULT_MAX_INTERVAL_IN_MILLIS = 500;
+    public static final double DEFAULT_BACKOFF_FACTOR = 1.5;
+
+    private final long initialIntervalInMillis;
+    private final long maxIntervalInMillis;
+    private final double backoffFactor;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+
+    public Polling(Duration initialInterval, Duration maxInterval, double backoffFactor) {
+        this(initialInterval, maxInterval, backoffFactor, System::currentTimeMillis, Thread::sleep);
+    }
+
+    Polling(Duration initialInterval, Duration maxInterval, double backoffFactor, LongSupplier clock, Sleeper sleeper) {
+        this.initialIntervalInMillis = Math.max(1, initialInterval.toMillis());
+        this.maxIntervalInMillis = Math.max(this.initialIntervalInMillis, maxInterval.toMillis());
+        this.backoffFactor = Math.max(1.0, backoffFactor);
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    public static Polling configured() {
+        return configuredIn(SystemEnvironmentVariables.currentEnvironmentVariables());
+    }
+
+    public static Polling configuredIn(EnvironmentVariables environmentVariables) {
+        return new Polling(
+                Duration.ofMillis(environmentVariables.getPropertyAsInteger("serenity.polling.initial.interval", (int) DEFAULT_INITIAL_INTERVAL_IN_MILLIS)),
+                Duration.ofMillis(environmentVariables.getPropertyAsInteger("serenity.polling.max.interval", (int) DEFAULT_MAX_INTERVAL_IN_MILLIS)),
+                Double.parseDouble(environmentVariables.getProperty("serenity.polling.backoff.factor", Double.toString(DEFAULT_BACKOFF_FACTOR))));
+    }
+
+    /**
+     * Try to obtain a value until it is present or the timeout expires. There is always at least one attempt.
+     *
+     * @param description what is being waited for, used in the debug log
+     */
+    public <T> PollingResult<T> until(String description, Duration timeout, Supplier<Optional<T>> attempt) {
+        long startTime = clock.getAsLong();
+        long deadline = startTime + timeout.toMillis();
+        long interval = initialIntervalInMillis;
+        int attempts = 0;
+
+        Optional<T> value;
+        while (true) {
+            attempts++;
+            value = attempt.get();
+            long now = clock.getAsLong();
+            if (value.isPresent() || now >= deadline) {
+                break;
+            }
+            if (!pause(Math.min(interval, deadline - now))) {
+                break;
+            }
+            interval = Math.min(maxIntervalInMillis, (long) (interval * backoffFactor));
+        }
+
+        PollingResult<T> result = new PollingResult<>(value, attempts, Duration.ofMillis(clock.getAsLong() - startTime));
+        LOGGER.debug("Waited {} ms for {} ({} attempts, {})",
+                result.getElapsedTime().toMillis(), description, attempts, value.isPresent() ? "found" : "not found");
+        return result;
+    }
+
+    private boolean pause(long millis) {
+        try {
+            sleeper.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
@@ -0,0 +1,31 @@
+package net.serenitybdd.screenplay.waits;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The outcome of a {@link Polling} wait: the value that was found, if any, and what it cost to find it.
+ */
+public class PollingResult<T> {
+    private final Optional<T> value;
+    private final int attempts;
+    private final Duration elapsedTime;
+
+    PollingResult(Optional<T> value, int attempts, Duration elapsedTime) {
+        this.value = value;
+        this.attempts = attempts;
+        this.elapsedTime = elapsedTime;
+    }
+
+    public Optional<T> getValue() {
+        return value;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Duration getElapsedTime() {
+        return elapsedTime;
+    }
+}
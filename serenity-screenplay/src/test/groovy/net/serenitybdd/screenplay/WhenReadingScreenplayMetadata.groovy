@@ -0,0 +1,58 @@
+package net.serenitybdd.screenplay
+
+import net.serenitybdd.annotations.Pending
+import net.serenitybdd.screenplay.annotations.Subject
+import spock.lang.Specification
+
+class WhenReadingScreenplayMetadata extends Specification {
+
+    static class PendingTask implements Performable {
+        @Pending
+        @Override
+        <T extends Actor> void performAs(T actor) {}
+    }
+
+    static class TaskWithoutDefaultConstructor implements Performable {
+        TaskWithoutDefaultConstructor(String food) {}
+
+        @Override
+        <T extends Actor> void performAs(T actor) {}
+    }
+
+    @Subject("the price of #item")
+    static class ThePrice implements Question<Integer> {
+        String item = "an apple"
+
+        Integer answeredBy(Actor actor) { 1 }
+    }
+
+    def "metadata should be read once per class"() {
+        expect:
+        ScreenplayMetadata.of(EatsAnApple).is(ScreenplayMetadata.of(EatsAnApple))
+    }
+
+    def "should know if a task is pending"() {
+        expect:
+        ScreenplayMetadata.of(PendingTask).isPending()
+        !ScreenplayMetadata.of(EatsAnApple).isPending()
+    }
+
+    def "only tasks with a default constructor can be instrumented"() {
+        expect:
+        ScreenplayMetadata.of(EatsAnApple).canBeInstrumented()
+        !ScreenplayMetadata.of(TaskWithoutDefaultConstructor).canBeInstrumented()
+        !ScreenplayMetadata.of(EatsAnApple).isInstrumented()
+    }
+
+    def "should keep the subject annotation of a question until fields are injected"() {
+        expect:
+        ScreenplayMetadata.of(ThePrice).subjectTemplate.get() == "the price of #item"
+        QuestionSubject.fromClass(ThePrice).andQuestion(new ThePrice()).subject() == "the price of an apple"
+    }
+
+    def "questions without a subject annotation should be described by their class name"() {
+        expect:
+        ScreenplayMetadata.of(EatsAnApple).defaultSubject == "eats an apple"
+    }
+
+}
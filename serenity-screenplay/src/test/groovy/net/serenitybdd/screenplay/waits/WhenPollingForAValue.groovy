@@ -0,0 +1,53 @@
+package net.serenitybdd.screenplay.waits
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+class WhenPollingForAValue extends Specification {
+
+    def currentTime = 0L
+    def pauses = []
+
+    def polling = new Polling(Duration.ofMillis(100), Duration.ofMillis(400), 2.0,
+            { currentTime },
+            { long millis -> pauses << millis; currentTime += millis } as Polling.Sleeper)
+
+    def "should return as soon as the value is available"() {
+        given:
+        def attemptsBeforeSuccess = 3
+        when:
+        def result = polling.until("a value", Duration.ofSeconds(5), {
+            (--attemptsBeforeSuccess == 0) ? Optional.of("found it") : Optional.empty()
+        })
+        then:
+        result.value.get() == "found it"
+        result.attempts == 3
+        result.elapsedTime == Duration.ofMillis(300)
+    }
+
+    def "should back off between attempts up to the maximum interval"() {
+        when:
+        polling.until("a value that never appears", Duration.ofMillis(1500), { Optional.empty() })
+        then:
+        pauses == [100L, 200L, 400L, 400L, 400L]
+    }
+
+    def "should never wait longer than the timeout"() {
+        when:
+        def result = polling.until("a value that never appears", Duration.ofMillis(250), { Optional.empty() })
+        then:
+        !result.value.isPresent()
+        pauses == [100L, 150L]
+        result.elapsedTime == Duration.ofMillis(250)
+    }
+
+    def "should try at least once even with no timeout"() {
+        when:
+        def result = polling.until("an immediate value", Duration.ZERO, { Optional.of(42) })
+        then:
+        result.value.get() == 42
+        result.attempts == 1
+        pauses.isEmpty()
+    }
+}
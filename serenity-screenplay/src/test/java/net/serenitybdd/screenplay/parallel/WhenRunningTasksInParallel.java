@@ -178,6 +178,29 @@ public class WhenRunningTasksInParallel {
         assertThat(testSteps()).containsExactly("Actor A", "Actor A does something", "Actor B", "Actor B does another thing");
     }
 
+    @Test
+    public void parallelTasksShouldReportTheirStepsThroughTheEventBusOfTheTest() {
+
+        StepEventBus testEventBus = StepEventBus.getEventBus();
+        List<StepEventBus> taskEventBuses = Collections.synchronizedList(new ArrayList<>());
+        Actor actorA = Actor.named("Actor A");
+        Actor actorB = Actor.named("Actor B");
+
+        InParallel.theActors(actorA, actorB).perform(
+                () -> {
+                    taskEventBuses.add(StepEventBus.getEventBus());
+                    actorA.attemptsTo(doSomething());
+                },
+                () -> {
+                    taskEventBuses.add(StepEventBus.getEventBus());
+                    actorB.attemptsTo(doAnotherThing());
+                }
+        );
+
+        assertThat(taskEventBuses).hasSize(2).containsOnly(testEventBus);
+        assertThat(testSteps()).containsExactly("Actor A", "Actor A does something", "Actor B", "Actor B does another thing");
+    }
+
     @Test
     public void parallelStreamsOfSingleActionsShouldResultInSeparateStepsInTheRightOrder() {
 
@@ -0,0 +1,106 @@
+package net.serenitybdd.screenplay.waits;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenPollingForAValue {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Long> pauses = new ArrayList<>();
+
+    private Polling pollingWith(long initialInterval, long maxInterval, double backoffFactor) {
+        return new Polling(Duration.ofMillis(initialInterval), Duration.ofMillis(maxInterval), backoffFactor,
+                now::get,
+                millis -> {
+                    pauses.add(millis);
+                    now.addAndGet(millis);
+                });
+    }
+
+    private static Optional<String> foundOnAttempt(int attempt, AtomicInteger attempts) {
+        return (attempts.incrementAndGet() >= attempt) ? Optional.of("found") : Optional.empty();
+    }
+
+    @AfterEach
+    public void clearInterruptedStatus() {
+        Thread.interrupted();
+    }
+
+    @Test
+    public void should_stop_as_soon_as_the_value_is_found() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        PollingResult<String> result = pollingWith(50, 500, 1.5).until("a value", Duration.ofSeconds(10),
+                () -> foundOnAttempt(3, attempts));
+
+        assertThat(result.getValue()).contains("found");
+        assertThat(result.getAttempts()).isEqualTo(3);
+        assertThat(pauses).containsExactly(50L, 75L);
+        assertThat(result.getElapsedTime()).isEqualTo(Duration.ofMillis(125));
+    }
+
+    @Test
+    public void pauses_should_grow_until_they_reach_the_maximum_interval() {
+        PollingResult<String> result = pollingWith(10, 40, 2.0).until("a value", Duration.ofMillis(200),
+                Optional::empty);
+
+        assertThat(result.getValue()).isEmpty();
+        assertThat(pauses).startsWith(10L, 20L, 40L, 40L);
+        assertThat(pauses).allMatch(pause -> pause <= 40L);
+        assertThat(result.getElapsedTime()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    public void the_last_pause_should_not_go_past_the_timeout() {
+        PollingResult<String> result = pollingWith(100, 500, 1.5).until("a value", Duration.ofMillis(250),
+                Optional::empty);
+
+        assertThat(pauses).containsExactly(100L, 150L);
+        assertThat(result.getAttempts()).isEqualTo(3);
+        assertThat(result.getElapsedTime()).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    public void should_always_make_at_least_one_attempt() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        PollingResult<String> result = pollingWith(50, 500, 1.5).until("a value", Duration.ZERO,
+                () -> foundOnAttempt(1, attempts));
+
+        assertThat(result.getValue()).contains("found");
+        assertThat(result.getAttempts()).isEqualTo(1);
+        assertThat(pauses).isEmpty();
+    }
+
+    @Test
+    public void should_stop_waiting_when_the_thread_is_interrupted() {
+        Polling polling = new Polling(Duration.ofMillis(50), Duration.ofMillis(500), 1.5, now::get,
+                millis -> {
+                    throw new InterruptedException();
+                });
+
+        PollingResult<String> result = polling.until("a value", Duration.ofSeconds(10), Optional::empty);
+
+        assertThat(result.getValue()).isEmpty();
+        assertThat(result.getAttempts()).isEqualTo(1);
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    }
+
+    @Test
+    public void intervals_and_backoff_factor_should_never_shrink_the_pauses() {
+        PollingResult<String> result = pollingWith(0, 0, 0.5).until("a value", Duration.ofMillis(5),
+                Optional::empty);
+
+        assertThat(pauses).containsOnly(1L);
+        assertThat(result.getAttempts()).isEqualTo(6);
+    }
+}
@@ -37,9 +37,16 @@ class SinglePageHtmlReporter(
         this.outputDirectory = outputDirectory
     }
 
-    override fun generateReport(): Path {
-        // Fetch the test outcomes
-        val testOutcomes = testOutcomesIn(sourceDirectory).filteredByEnvironmentTags()
+    /**
+     * The report filters the test outcomes into its own copy and writes to its own file, so it can be generated
+     * alongside other reports.
+     */
+    override fun canBeGeneratedConcurrently(): Boolean = true
+
+    override fun generateReport(): Path = generateReportFrom(testOutcomesIn(sourceDirectory))
+
+    override fun generateReportFrom(loadedTestOutcomes: TestOutcomes): Path {
+        val testOutcomes = loadedTestOutcomes.filteredByEnvironmentTags()
 
         // Prepare the parameters
         val fields = templateFields(environmentVariables, testOutcomes)